@@ -0,0 +1,78 @@
+package com.ryuqq.observability.integration.gateway;
+
+import com.ryuqq.observability.webflux.http.DataBufferBodyCapture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DataBufferBodyCapture 테스트.
+ *
+ * <p>청크 단위로 지나가는 본문을 한도까지만 복사하고 한 번에 디코딩하는지 검증합니다.</p>
+ */
+class DataBufferBodyCaptureTest {
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    @DisplayName("청크 경계에 걸친 멀티바이트 문자도 깨지지 않고 디코딩된다")
+    void shouldDecodeMultiByteCharacterSplitAcrossChunks() {
+        byte[] bytes = "{\"name\":\"홍길동\"}".getBytes(StandardCharsets.UTF_8);
+        DataBufferBodyCapture capture = new DataBufferBodyCapture(1000, StandardCharsets.UTF_8);
+
+        // "홍"(3바이트) 중간에서 청크를 나눔
+        capture.capture(wrap(Arrays.copyOfRange(bytes, 0, 10)));
+        capture.capture(wrap(Arrays.copyOfRange(bytes, 10, bytes.length)));
+
+        assertThat(capture.decode()).isEqualTo("{\"name\":\"홍길동\"}");
+        assertThat(capture.isTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("한도 이후의 바이트는 복사하지 않고 전체 길이만 센다")
+    void shouldStopCopyingAtLimit() {
+        DataBufferBodyCapture capture = new DataBufferBodyCapture(4, StandardCharsets.UTF_8);
+
+        assertThat(capture.capture(wrap("abc".getBytes(StandardCharsets.UTF_8)))).isEqualTo(3);
+        assertThat(capture.capture(wrap("def".getBytes(StandardCharsets.UTF_8)))).isEqualTo(1);
+        assertThat(capture.capture(wrap("ghi".getBytes(StandardCharsets.UTF_8)))).isZero();
+
+        assertThat(capture.decode()).isEqualTo("abcd");
+        assertThat(capture.getCapturedLength()).isEqualTo(4);
+        assertThat(capture.getTotalBytes()).isEqualTo(9);
+        assertThat(capture.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("한도에서 잘린 멀티바이트 문자는 대체 문자 없이 버린다")
+    void shouldDropIncompleteTrailingCharacterWhenTruncated() {
+        byte[] bytes = "ab한글".getBytes(StandardCharsets.UTF_8);
+        DataBufferBodyCapture capture = new DataBufferBodyCapture(4, StandardCharsets.UTF_8);
+
+        capture.capture(wrap(bytes));
+
+        assertThat(capture.decode()).isEqualTo("ab");
+    }
+
+    @Test
+    @DisplayName("버퍼의 읽기 위치를 바꾸지 않는다")
+    void shouldNotConsumeBuffer() {
+        DataBuffer buffer = wrap("payload".getBytes(StandardCharsets.UTF_8));
+        DataBufferBodyCapture capture = new DataBufferBodyCapture(1000, StandardCharsets.UTF_8);
+
+        capture.capture(buffer);
+
+        assertThat(buffer.readPosition()).isZero();
+        assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("payload");
+    }
+
+    private DataBuffer wrap(byte[] bytes) {
+        return bufferFactory.wrap(bytes);
+    }
+}
@@ -0,0 +1,132 @@
+package com.ryuqq.observability.integration.gateway;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.webflux.config.ReactiveHttpLoggingProperties;
+import com.ryuqq.observability.webflux.config.ReactiveHttpLoggingProperties.LogMode;
+import com.ryuqq.observability.webflux.http.ReactiveHttpLoggingFilter;
+import com.ryuqq.observability.webflux.http.ReactivePathNormalizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter 비동기 로깅 스냅샷 테스트.
+ *
+ * <p>처리 스레드가 로그를 출력하기 전에 교환 객체가 바뀌어도, 완료 시점에 이벤트 루프 스레드에서
+ * 확정한 상태 코드와 클라이언트 IP로 로그를 남기는지 검증합니다.</p>
+ */
+class ReactiveHttpLoggingAsyncSnapshotTest {
+
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private ReactiveHttpLoggingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpLogger.detachAppender(appender);
+        if (filter != null) {
+            filter.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("통합 모드 로그는 완료 시점의 상태 코드와 클라이언트 IP를 사용한다")
+    void shouldLogCombinedSnapshotTakenOnCompletion() {
+        filter = asyncFilter(LogMode.COMBINED);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/test/users/1").header("X-Forwarded-For", "10.0.0.1"));
+
+        runWhileWorkerIsBusy(exchange);
+
+        ILoggingEvent access = awaitEvent("HTTP Access: GET /test/users/1");
+        assertThat(access.getFormattedMessage()).contains("status=200");
+        assertThat(access.getMarkerList().get(0).toString())
+                .contains("http_status=200")
+                .contains("10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("기본 모드 응답 로그는 완료 시점의 상태 코드를 사용한다")
+    void shouldLogSplitSnapshotTakenOnCompletion() {
+        filter = asyncFilter(LogMode.SPLIT);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test/users/1"));
+
+        runWhileWorkerIsBusy(exchange);
+
+        ILoggingEvent response = awaitEvent("HTTP Response: GET /test/users/1");
+        assertThat(response.getFormattedMessage()).contains("status=200");
+    }
+
+    /**
+     * 처리 스레드를 붙잡아 둔 채 요청을 완료하고, 로그가 출력되기 전에 응답 상태를 바꾼 뒤 처리 스레드를 풀어줍니다.
+     */
+    private void runWhileWorkerIsBusy(MockServerWebExchange exchange) {
+        CountDownLatch release = new CountDownLatch(1);
+        filter.getAsyncDispatcher().dispatch(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        WebFilterChain chain = ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        };
+        filter.filter(exchange, chain).block();
+
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        release.countDown();
+    }
+
+    private static ReactiveHttpLoggingFilter asyncFilter(LogMode logMode) {
+        ReactiveHttpLoggingProperties properties = new ReactiveHttpLoggingProperties();
+        properties.setLogMode(logMode);
+        properties.getAsync().setEnabled(true);
+        return new ReactiveHttpLoggingFilter(properties, new ReactivePathNormalizer(), new LogMasker());
+    }
+
+    /**
+     * 전용 스레드가 로그를 출력할 때까지 기다립니다.
+     */
+    private ILoggingEvent awaitEvent(String prefix) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ILoggingEvent event : appender.list) {
+                if (event.getFormattedMessage().startsWith(prefix)) {
+                    return event;
+                }
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError(prefix + " log not emitted");
+    }
+}
@@ -0,0 +1,123 @@
+package com.ryuqq.observability.integration.gateway;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter 비동기 로깅 테스트.
+ *
+ * <p>요청/응답 로그를 이벤트 루프가 아닌 전용 스레드에서 출력하고, 이벤트 루프의 MDC를 그대로 옮기는지 검증합니다.</p>
+ *
+ * <p>버퍼 메트릭은 MeterRegistry 빈 유무로 결정되므로, 자동 설정을 {@code @Import}하지 않고
+ * 테스트 설정의 빈이 등록된 뒤에 자동 설정으로 평가되게 합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-http.enabled=true",
+                "observability.reactive-http.async.enabled=true",
+                "observability.reactive-http.async.queue-capacity=1024"
+        }
+)
+class ReactiveHttpLoggingAsyncTest {
+
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("요청/응답 로그를 전용 스레드에서 요청의 TraceId와 함께 출력한다")
+    void shouldEmitOnDedicatedThreadWithMdc() {
+        webTestClient.get().uri("/test/users/123")
+                .header("X-Trace-Id", "async-trace-id")
+                .exchange()
+                .expectStatus().isOk();
+
+        ILoggingEvent response = awaitEvent("HTTP Response");
+
+        assertThat(response.getThreadName()).isEqualTo("observability-reactive-http-log");
+        assertThat(response.getMDCPropertyMap()).containsEntry("traceId", "async-trace-id");
+        assertThat(appender.list)
+                .filteredOn(event -> event.getFormattedMessage().startsWith("HTTP Request: GET /test/users/123"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getThreadName()).isEqualTo("observability-reactive-http-log"));
+    }
+
+    @Test
+    @DisplayName("버퍼 제출/버림 건수를 메트릭으로 노출한다")
+    void shouldExposeDispatcherMetrics() {
+        webTestClient.get().uri("/test/health").exchange().expectStatus().isOk();
+        awaitEvent("HTTP Response");
+
+        assertThat(meterRegistry.get("observability.log.async.dispatched")
+                .tag("component", "reactive-http")
+                .functionCounter().count()).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.get("observability.log.async.dropped")
+                .tag("component", "reactive-http")
+                .functionCounter().count()).isZero();
+        assertThat(meterRegistry.get("observability.log.async.queue.capacity")
+                .gauge().value()).isEqualTo(1024);
+    }
+
+    /**
+     * 전용 스레드가 로그를 출력할 때까지 기다립니다.
+     */
+    private ILoggingEvent awaitEvent(String prefix) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ILoggingEvent event : appender.list) {
+                if (event.getFormattedMessage().startsWith(prefix)) {
+                    return event;
+                }
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError(prefix + " log not emitted");
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ryuqq.observability.integration.gateway;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ryuqq.observability.webflux.config.WebFluxHttpLoggingAutoConfiguration;
+import com.ryuqq.observability.webflux.config.WebFluxTraceAutoConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter 통합 로그 모드 테스트.
+ *
+ * <p>요청마다 "HTTP Access" 한 줄만 출력하고, 처리 중 임계값을 넘긴 요청만 요청 로그를 먼저 출력하는지 검증합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-http.enabled=true",
+                "observability.reactive-http.log-mode=combined",
+                "observability.reactive-http.in-flight-threshold-ms=1000"
+        }
+)
+@Import({WebFluxTraceAutoConfiguration.class, WebFluxHttpLoggingAutoConfiguration.class})
+class ReactiveHttpLoggingCombinedModeTest {
+
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("요청마다 요청/응답 정보를 담은 한 줄만 출력한다")
+    void shouldEmitSingleLinePerExchange() {
+        webTestClient.get().uri("/test/users/123?expand=true").exchange().expectStatus().isOk();
+
+        assertThat(messages()).singleElement()
+                .satisfies(message -> assertThat(message)
+                        .startsWith("HTTP Access: GET /test/users/123?expand=true | status=200"));
+    }
+
+    @Test
+    @DisplayName("에러 응답도 한 줄로 출력한다")
+    void shouldEmitSingleLineForErrors() {
+        webTestClient.get().uri("/test/error/bad-request").exchange().expectStatus().isBadRequest();
+
+        assertThat(messages()).singleElement()
+                .satisfies(message -> assertThat(message)
+                        .startsWith("HTTP Access: GET /test/error/bad-request | status=400"));
+    }
+
+    @Test
+    @DisplayName("처리 중 임계값을 넘긴 요청은 요청 로그를 먼저 출력한다")
+    void shouldEmitInFlightRequestLogForLongRequests() {
+        webTestClient.get().uri("/test/slow?delayMs=1500").exchange().expectStatus().isOk();
+
+        assertThat(messages()).satisfiesExactly(
+                message -> assertThat(message).isEqualTo("HTTP Request: GET /test/slow | in-flight>=1000ms"),
+                message -> assertThat(message).startsWith("HTTP Access: GET /test/slow?delayMs=1500 | status=200"));
+    }
+
+    /**
+     * 응답 수신과 서버의 완료 로그 출력 사이의 경합을 피하기 위해 "HTTP Access" 로그를 기다립니다.
+     */
+    private List<String> messages() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline
+                && appender.list.stream().noneMatch(event -> event.getFormattedMessage().startsWith("HTTP Access"))) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return appender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .toList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.ryuqq.observability.integration.gateway;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ryuqq.observability.webflux.config.WebFluxHttpLoggingAutoConfiguration;
+import com.ryuqq.observability.webflux.config.WebFluxTraceAutoConfiguration;
+import com.ryuqq.observability.webflux.http.ReactiveHttpLoggingFilter;
+import com.ryuqq.observability.webflux.http.ReactiveObservabilityFilter;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveObservabilityFilter (통합 필터) 테스트.
+ *
+ * <p>{@code fused=true}이면 TraceId 필터와 로깅 필터 대신 하나의 필터만 등록되고,
+ * TraceId 전파와 접근 로깅이 분리된 구성과 같게 동작하는지 검증합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-trace.enabled=true",
+                "observability.reactive-http.enabled=true",
+                "observability.reactive-http.fused=true",
+                "observability.reactive-http.log-request-body=true"
+        }
+)
+@Import({WebFluxTraceAutoConfiguration.class, WebFluxHttpLoggingAutoConfiguration.class})
+class ReactiveHttpLoggingFusedFilterTest {
+
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("통합 필터만 등록되고 개별 필터는 등록되지 않는다")
+    void shouldRegisterOnlyFusedFilter() {
+        assertThat(applicationContext.getBeansOfType(ReactiveObservabilityFilter.class)).hasSize(1);
+        assertThat(applicationContext.getBeansOfType(ReactiveTraceIdFilter.class)).isEmpty();
+        assertThat(applicationContext.getBeansOfType(ReactiveHttpLoggingFilter.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전달된 TraceId가 Context, MDC, 응답 헤더, 접근 로그에 모두 전파된다")
+    void shouldPropagateTraceIdAndLogAccess() {
+        webTestClient.get().uri("/test/trace")
+                .header("X-Trace-Id", "fused-trace-id")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Trace-Id", "fused-trace-id")
+                .expectBody()
+                .jsonPath("$.traceId").isEqualTo("fused-trace-id")
+                .jsonPath("$.mdcTraceId").isEqualTo("fused-trace-id")
+                .jsonPath("$.serviceName").isEqualTo("test-gateway")
+                .jsonPath("$.spanId").value(spanId -> assertThat(spanId).isNotEqualTo("null"));
+
+        ILoggingEvent response = awaitEvent("HTTP Response: GET /test/trace");
+
+        assertThat(response.getMDCPropertyMap()).containsEntry("traceId", "fused-trace-id");
+    }
+
+    @Test
+    @DisplayName("TraceId 헤더 변경과 본문 캡처를 함께 적용해도 요청 본문이 그대로 전달된다")
+    void shouldKeepRequestBodyWithHeaderMutation() {
+        webTestClient.post().uri("/test/echo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"message\":\"hello\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("X-Trace-Id")
+                .expectBody()
+                .jsonPath("$.received.message").isEqualTo("hello");
+    }
+
+    /**
+     * 응답 로그는 응답 전송 완료 후 출력되므로 기다립니다.
+     */
+    private ILoggingEvent awaitEvent(String prefix) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ILoggingEvent event : appender.list) {
+                if (event.getFormattedMessage().startsWith(prefix)) {
+                    return event;
+                }
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError(prefix + " log not emitted");
+    }
+}
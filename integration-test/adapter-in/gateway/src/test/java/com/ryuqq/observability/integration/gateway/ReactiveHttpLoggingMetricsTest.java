@@ -0,0 +1,97 @@
+package com.ryuqq.observability.integration.gateway;
+
+import com.ryuqq.observability.core.metrics.HttpMetricsRecorder;
+import com.ryuqq.observability.webflux.metrics.ReactiveMicrometerHttpMetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter RED 메트릭 통합 테스트.
+ *
+ * <p>접근 로그를 모두 샘플링으로 버려도 요청 수/에러 수/지연 시간 메트릭은 모든 요청을 기록하는지 검증합니다.</p>
+ *
+ * <p>메트릭 설정은 MeterRegistry 빈 유무로 결정되므로, 자동 설정을 {@code @Import}하지 않고
+ * 테스트 설정의 빈이 등록된 뒤에 자동 설정으로 평가되게 합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-http.enabled=true",
+                "observability.reactive-http.sampling.enabled=true",
+                "observability.reactive-http.sampling.default-rate=0.0",
+                "observability.reactive-http.sampling.always-log-errors=false",
+                "observability.reactive-http.metrics.enabled=true"
+        }
+)
+class ReactiveHttpLoggingMetricsTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HttpMetricsRecorder metricsRecorder;
+
+    @Test
+    @DisplayName("샘플링으로 버려진 요청도 정규화 경로 태그로 메트릭에 기록한다")
+    void shouldRecordAllRequestsByRoute() {
+        assertThat(metricsRecorder).isInstanceOf(ReactiveMicrometerHttpMetricsRecorder.class);
+
+        webTestClient.get().uri("/test/users/123").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/test/users/456").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/test/error/server-error").exchange().expectStatus().is5xxServerError();
+
+        assertThat(await(() -> timerCount("/test/users/{id}", "2xx"), 2)).isEqualTo(2);
+        assertThat(await(() -> timerCount("/test/error/server-error", "5xx"), 1)).isEqualTo(1);
+        assertThat(meterRegistry.get("observability.http.server.errors")
+                .tag("route", "/test/error/server-error")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private long timerCount(String route, String status) {
+        Timer timer = meterRegistry.find("observability.http.server.requests")
+                .tags("method", "GET", "route", route, "status", status)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    /**
+     * 응답 수신과 서버의 완료 처리 사이의 경합을 피하기 위해 기대한 건수가 기록될 때까지 기다립니다.
+     */
+    private static long await(Supplier<Long> count, long expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (count.get() < expected && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return count.get();
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
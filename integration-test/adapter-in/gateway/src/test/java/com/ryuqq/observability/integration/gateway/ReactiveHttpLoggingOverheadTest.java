@@ -0,0 +1,85 @@
+package com.ryuqq.observability.integration.gateway;
+
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter 자체 오버헤드 메트릭 통합 테스트.
+ *
+ * <p>필터가 경로 정규화/마커 생성/로거 호출에 쓴 시간을 누적하고 Micrometer로 노출하는지 검증합니다.</p>
+ *
+ * <p>메트릭 설정은 MeterRegistry 빈 유무로 결정되므로, 자동 설정을 {@code @Import}하지 않고
+ * 테스트 설정의 빈이 등록된 뒤에 자동 설정으로 평가되게 합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-http.enabled=true",
+                "observability.overhead.enabled=true"
+        }
+)
+class ReactiveHttpLoggingOverheadTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OverheadStats overheadStats;
+
+    @Test
+    @DisplayName("필터 단계별 소요 시간을 누적하고 메트릭으로 노출한다")
+    void shouldExposeFilterOverhead() {
+        webTestClient.get().uri("/test/users/123").exchange().expectStatus().isOk();
+
+        assertThat(overheadStats.getCount(Component.REACTIVE_HTTP, Stage.NORMALIZE)).isGreaterThanOrEqualTo(1);
+        assertThat(awaitLogCount()).isGreaterThanOrEqualTo(2);
+
+        FunctionTimer timer = meterRegistry.get("observability.overhead.stage")
+                .tags("component", "reactive-http", "stage", "normalize")
+                .functionTimer();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    /**
+     * 응답 수신과 서버의 완료 로그 출력 사이의 경합을 피하기 위해 요청/응답 로그가 모두 기록될 때까지 기다립니다.
+     */
+    private long awaitLogCount() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (overheadStats.getCount(Component.REACTIVE_HTTP, Stage.LOG) < 2
+                && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return overheadStats.getCount(Component.REACTIVE_HTTP, Stage.LOG);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ryuqq.observability.integration.gateway;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ryuqq.observability.webflux.config.WebFluxHttpLoggingAutoConfiguration;
+import com.ryuqq.observability.webflux.config.WebFluxTraceAutoConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter 단계별 처리 시간 테스트.
+ *
+ * <p>응답 커밋(beforeCommit) 시각을 기준으로 핸들러 시간과 본문 전송 시간을 나눠 출력하는지 검증합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-http.enabled=true",
+                "observability.reactive-http.phase-timings=true"
+        }
+)
+@Import({WebFluxTraceAutoConfiguration.class, WebFluxHttpLoggingAutoConfiguration.class})
+class ReactiveHttpLoggingPhaseTimingsTest {
+
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("핸들러 지연은 첫 바이트까지의 시간에 반영된다")
+    void shouldAttributeHandlerDelayToTimeToFirstByte() {
+        webTestClient.get().uri("/test/slow?delayMs=100").exchange().expectStatus().isOk();
+
+        String fields = responseMarker();
+        assertThat(field(fields, "http_ttfb_us")).isGreaterThanOrEqualTo(100_000);
+        assertThat(field(fields, "http_write_us")).isGreaterThanOrEqualTo(0);
+        assertThat(field(fields, "http_log_overhead_us")).isGreaterThanOrEqualTo(0);
+        assertThat(field(fields, "http_duration_us")).isGreaterThanOrEqualTo(field(fields, "http_ttfb_us"));
+    }
+
+    /**
+     * 응답 수신과 서버의 완료 로그 출력 사이의 경합을 피하기 위해 "HTTP Response" 로그를 기다립니다.
+     */
+    private String responseMarker() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ILoggingEvent event : appender.list) {
+                if (event.getFormattedMessage().startsWith("HTTP Response")) {
+                    return event.getMarkerList().get(0).toString();
+                }
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("HTTP Response log not emitted");
+    }
+
+    private static long field(String fields, String name) {
+        Matcher matcher = Pattern.compile(name + "=(-?\\d+)").matcher(fields);
+        assertThat(matcher.find()).as(name).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,127 @@
+package com.ryuqq.observability.integration.gateway;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ryuqq.observability.webflux.config.WebFluxHttpLoggingAutoConfiguration;
+import com.ryuqq.observability.webflux.config.WebFluxTraceAutoConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter 응답 본문 캡처 테스트.
+ *
+ * <p>응답은 그대로 전달하면서 앞부분만 복사하고, 스트리밍 응답은 복사 없이 전송 바이트 수만 기록하는지 검증합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-http.enabled=true",
+                "observability.reactive-http.log-response-body=true",
+                "observability.reactive-http.max-body-length=64",
+                "logging.level.observability.http=DEBUG"
+        }
+)
+@Import({WebFluxTraceAutoConfiguration.class, WebFluxHttpLoggingAutoConfiguration.class})
+class ReactiveHttpLoggingResponseCaptureTest {
+
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 응답도 클라이언트에는 전체가 전달되고 로그에는 앞부분만 남는다")
+    void shouldCaptureOnlyLeadingBytesOfLargeResponse() {
+        byte[] body = webTestClient.get().uri("/test/large-response")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().returnResult().getResponseBodyContent();
+
+        assertThat(body).isNotNull();
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("of the large response content");
+
+        String fields = responseMarker();
+        assertThat(field(fields, "http_response_bytes")).isEqualTo(body.length);
+        assertThat(message("Response Body: "))
+                .isEqualTo("Response Body: " + new String(body, 0, 64, StandardCharsets.UTF_8)
+                        + "... [TRUNCATED, total=" + body.length + " bytes]");
+    }
+
+    @Test
+    @DisplayName("SSE 응답은 본문을 복사하지 않고 전송 바이트 수만 기록한다")
+    void shouldSkipCaptureForEventStream() {
+        String body = webTestClient.get().uri("/test/stream?count=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).returnResult().getResponseBody();
+
+        assertThat(body).contains("data:event-0", "data:event-2");
+
+        String fields = responseMarker();
+        assertThat(field(fields, "http_response_bytes"))
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(message("Response Body: ")).isNull();
+    }
+
+    /**
+     * 응답 수신과 서버의 완료 로그 출력 사이의 경합을 피하기 위해 "HTTP Response" 로그를 기다립니다.
+     */
+    private String responseMarker() {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ILoggingEvent event : appender.list) {
+                if (event.getFormattedMessage().startsWith("HTTP Response")) {
+                    return event.getMarkerList().get(0).toString();
+                }
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("HTTP Response log not emitted");
+    }
+
+    private String message(String prefix) {
+        return appender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .filter(message -> message.startsWith(prefix))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static long field(String fields, String name) {
+        Matcher matcher = Pattern.compile(name + "=(-?\\d+)").matcher(fields);
+        assertThat(matcher.find()).as(name).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+}
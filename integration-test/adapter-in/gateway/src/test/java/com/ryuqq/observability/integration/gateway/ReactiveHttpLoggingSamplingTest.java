@@ -0,0 +1,150 @@
+package com.ryuqq.observability.integration.gateway;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ryuqq.observability.core.sampling.LogSampler;
+import com.ryuqq.observability.webflux.config.WebFluxHttpLoggingAutoConfiguration;
+import com.ryuqq.observability.webflux.config.WebFluxTraceAutoConfiguration;
+import com.ryuqq.observability.webflux.http.ReactiveHttpLoggingFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveHttpLoggingFilter 샘플링 통합 테스트.
+ *
+ * <p>기본 비율 0으로 정상 응답은 모두 버리고, 에러 응답만 로깅하는지 검증합니다.
+ * 버린 요청은 요청 본문 로그도 남기지 않는지 검증합니다.</p>
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=test-gateway",
+                "observability.reactive-http.enabled=true",
+                "observability.reactive-http.sampling.enabled=true",
+                "observability.reactive-http.sampling.default-rate=0.0",
+                "observability.reactive-http.sampling.routes[0].route=/test/users/{id}",
+                "observability.reactive-http.sampling.routes[0].rate=1.0",
+                "observability.reactive-http.sampling.routes[1].route=/test/login",
+                "observability.reactive-http.sampling.routes[1].rate=1.0",
+                "observability.reactive-http.log-request-body=true"
+        }
+)
+@Import({WebFluxTraceAutoConfiguration.class, WebFluxHttpLoggingAutoConfiguration.class})
+class ReactiveHttpLoggingSamplingTest {
+
+    private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveHttpLoggingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        httpLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpLogger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("경로별 비율과 에러 응답 항상 로깅에 따라 로깅/버림 건수를 집계한다")
+    void shouldCountSampledAndDroppedPerRoute() {
+        webTestClient.get().uri("/test/health").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/test/health").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/test/users/123").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/test/error/server-error").exchange().expectStatus().is5xxServerError();
+
+        LogSampler sampler = filter.getSampler();
+        assertThat(sampler).isNotNull();
+        assertThat(sampler.getStats().get("/test/health").dropped()).isEqualTo(2);
+        assertThat(sampler.getStats().get("/test/users/{id}").sampled()).isEqualTo(1);
+        assertThat(sampler.getStats().get("/test/error/server-error").sampled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ResponseStatusException 에러는 500이 아닌 예외의 상태 코드로 샘플링하고 로깅한다")
+    void shouldUseResponseStatusOfErrorForSamplingAndLog() {
+        webTestClient.get().uri("/test/error/not-found").exchange().expectStatus().isNotFound();
+
+        ILoggingEvent error = awaitEvent("HTTP Error: GET /test/error/not-found");
+
+        assertThat(error.getMarkerList().get(0).toString()).contains("http_status=404");
+        assertThat(filter.getSampler().getStats().get("/test/error/not-found").sampled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버린 요청은 요청 본문 로그를 남기지 않고, 로깅한 요청은 요청 로그 뒤에 요청 본문을 남긴다")
+    void shouldLogRequestBodyOnlyForSampledRequests() {
+        webTestClient.post().uri("/test/echo")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("message", "dropped-body"))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.post().uri("/test/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", "sampled-user"))
+                .exchange()
+                .expectStatus().isOk();
+
+        awaitEvent("HTTP Response: POST /test/login");
+
+        List<String> messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        assertThat(messages).noneMatch(message -> message.contains("dropped-body"));
+        assertThat(messages).noneMatch(message -> message.startsWith("HTTP Request: POST /test/echo"));
+        int request = indexOf(messages, "HTTP Request: POST /test/login");
+        int body = indexOf(messages, "Request Body: ");
+        assertThat(messages.get(body)).contains("sampled-user");
+        assertThat(body).isGreaterThan(request);
+        assertThat(body).isLessThan(indexOf(messages, "HTTP Response: POST /test/login"));
+    }
+
+    private static int indexOf(List<String> messages, String prefix) {
+        for (int i = 0; i < messages.size(); i++) {
+            if (messages.get(i).startsWith(prefix)) {
+                return i;
+            }
+        }
+        throw new AssertionError(prefix + " log not emitted");
+    }
+
+    /**
+     * 에러 로그는 응답 전송 완료 후 출력되므로 기다립니다.
+     */
+    private ILoggingEvent awaitEvent(String prefix) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ILoggingEvent event : appender.list) {
+                if (event.getFormattedMessage().startsWith(prefix)) {
+                    return event;
+                }
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError(prefix + " log not emitted");
+    }
+}
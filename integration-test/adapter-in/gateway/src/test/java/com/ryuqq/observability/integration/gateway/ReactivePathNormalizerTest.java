@@ -7,8 +7,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -190,6 +193,42 @@ class ReactivePathNormalizerTest {
 
             assertThat(normalized).isEqualTo("/api/{version}/users");
         }
+
+        @Test
+        @DisplayName("정규화 중에 패턴을 추가해도 예외가 없고 이전 패턴의 결과가 남지 않아야 한다")
+        void shouldAddPatternWhileNormalizing() throws InterruptedException {
+            String path = "/api/orders/ORD-ABC-123";
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            List<Thread> readers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread reader = new Thread(() -> {
+                    try {
+                        while (running.get()) {
+                            normalizer.normalize(path);
+                        }
+                    } catch (Throwable e) {
+                        failure.set(e);
+                    }
+                });
+                reader.start();
+                readers.add(reader);
+            }
+
+            for (int i = 0; i < 200; i++) {
+                normalizer.addPattern("/api/unused" + i, "/api/{unused}");
+            }
+            normalizer.addPattern("ORD-[A-Z]+-\\d+", "{orderId}");
+            for (int i = 0; i < 1000; i++) {
+                assertThat(normalizer.normalize(path)).isEqualTo("/api/orders/{orderId}");
+            }
+
+            running.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+            assertThat(failure.get()).isNull();
+        }
     }
 
     @Nested
@@ -313,4 +352,54 @@ class ReactivePathNormalizerTest {
             assertThat(duration).isLessThan(1000);
         }
     }
+
+    @Nested
+    @DisplayName("정규화 캐시 테스트")
+    class CacheTests {
+
+        @Test
+        @DisplayName("랜덤 ID 경로가 대량으로 들어와도 결과가 캐시 없이 정규화한 것과 같아야 한다")
+        void shouldMatchUncachedResultsUnderHighCardinality() {
+            ReactivePathNormalizer uncached = new ReactivePathNormalizer(null, 0);
+
+            for (int i = 0; i < 5000; i++) {
+                String path = i % 2 == 0
+                        ? "/api/users/" + (i % 10) + "/orders"
+                        : "/api/orders/" + UUID.randomUUID();
+                assertThat(normalizer.normalize(path)).isEqualTo(uncached.normalize(path));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("세그먼트 기반 정규화 테스트")
+    class SegmentBasedTests {
+
+        @Test
+        @DisplayName("세그먼트 전체가 동적 값인 경로는 정규표현식 방식과 같은 결과를 반환해야 한다")
+        void shouldMatchRegexNormalizerForWholeSegments() {
+            ReactivePathNormalizer segment = ReactivePathNormalizer.segmentBased(null, null, 0);
+            List<String> paths = List.of(
+                    "/api/users/123/orders/456",
+                    "/api/orders/" + UUID.randomUUID(),
+                    "/api/files/d41d8cd98f00b204e9800998ecf8427e",
+                    "/api/share/aB3_xY9-kLmN0pQrStUvWxYz",
+                    "/api/v1/health"
+            );
+
+            for (String path : paths) {
+                assertThat(segment.normalize(path)).as(path).isEqualTo(normalizer.normalize(path));
+            }
+        }
+
+        @Test
+        @DisplayName("경로 템플릿과 일치하면 템플릿으로 정규화되어야 한다")
+        void shouldNormalizeWithTemplate() {
+            ReactivePathNormalizer segment = ReactivePathNormalizer.segmentBased(
+                    null, List.of("/api/tenants/{tenantId}/documents/{documentId}"), 0);
+
+            assertThat(segment.normalize("/api/tenants/acme/documents/DOC-1"))
+                    .isEqualTo("/api/tenants/{tenantId}/documents/{documentId}");
+        }
+    }
 }
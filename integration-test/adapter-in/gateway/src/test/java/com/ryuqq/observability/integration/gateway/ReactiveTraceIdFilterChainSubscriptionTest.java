@@ -0,0 +1,65 @@
+package com.ryuqq.observability.integration.gateway;
+
+import com.ryuqq.observability.webflux.config.ReactiveTraceProperties;
+import com.ryuqq.observability.webflux.trace.DefaultReactiveTraceIdProvider;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveTraceIdFilter 체인 구독 횟수 테스트.
+ *
+ * <p>다운스트림 체인은 빈 Mono로 완료되므로, 완료 신호를 "TraceId 없음"으로 오인해
+ * 체인을 다시 구독하지 않는지 검증합니다.</p>
+ */
+class ReactiveTraceIdFilterChainSubscriptionTest {
+
+    private final AtomicInteger subscriptions = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.<Void>empty()
+            .doOnSubscribe(subscription -> subscriptions.incrementAndGet());
+
+    @Test
+    @DisplayName("요청 헤더의 TraceId를 사용할 때 체인을 한 번만 구독한다")
+    void shouldSubscribeChainOnceWithIncomingTraceId() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/test/trace").header("X-Trace-Id", "incoming-trace-id"));
+
+        filter(new ReactiveTraceProperties()).filter(exchange, chain).block();
+
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TraceId를 생성할 때 체인을 한 번만 구독한다")
+    void shouldSubscribeChainOnceWithGeneratedTraceId() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test/trace"));
+
+        filter(new ReactiveTraceProperties()).filter(exchange, chain).block();
+
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TraceId가 없고 생성하지 않을 때도 체인을 한 번만 구독한다")
+    void shouldSubscribeChainOnceWithoutTraceId() {
+        ReactiveTraceProperties properties = new ReactiveTraceProperties();
+        properties.setGenerateIfMissing(false);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test/trace"));
+
+        filter(properties).filter(exchange, chain).block();
+
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    private ReactiveTraceIdFilter filter(ReactiveTraceProperties properties) {
+        return new ReactiveTraceIdFilter(new DefaultReactiveTraceIdProvider(), properties, "test-gateway");
+    }
+}
@@ -74,6 +74,23 @@ class ReactiveTraceIdFilterIntegrationTest {
                 .jsonPath("$.traceId").isEqualTo(expectedTraceId);
     }
 
+    @Test
+    @DisplayName("요청마다 SpanId를 발급하고 traceparent의 parent-id를 ParentSpanId로 기록해야 한다")
+    void shouldIssueSpanIdAndRecordParentSpanId() {
+        webTestClient.get()
+                .uri("/test/trace")
+                .header("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.traceId").isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736")
+                .jsonPath("$.parentSpanId").isEqualTo("00f067aa0ba902b7")
+                .jsonPath("$.spanId").value(spanId -> {
+                    assertThat((String) spanId).matches("[0-9a-f]{16}");
+                    assertThat((String) spanId).isNotEqualTo("00f067aa0ba902b7");
+                });
+    }
+
     @Test
     @DisplayName("응답 헤더에 TraceId가 포함되어야 한다")
     void shouldIncludeTraceIdInResponseHeader() {
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -30,6 +31,7 @@ import java.util.Map;
  *   <li>느린 요청 (Slow Request 테스트)</li>
  *   <li>에러 응답 (4xx, 5xx)</li>
  *   <li>민감정보 포함 응답 (Masking 테스트)</li>
+ *   <li>스트리밍 응답 (SSE 본문 캡처 제외 테스트)</li>
  * </ul>
  */
 @RestController
@@ -60,6 +62,10 @@ public class TestController {
             String serviceName = ctx.getOrDefault(ReactiveTraceIdFilter.SERVICE_NAME_CONTEXT_KEY, null);
             result.put("serviceName", serviceName != null ? serviceName : "null");
 
+            // Reactor Context에서 SpanId 확인
+            result.put("spanId", ctx.getOrDefault(ReactiveTraceIdFilter.SPAN_ID_CONTEXT_KEY, "null"));
+            result.put("parentSpanId", ctx.getOrDefault(ReactiveTraceIdFilter.PARENT_SPAN_ID_CONTEXT_KEY, "null"));
+
             log.info("Test endpoint called - traceId: {}, mdcTraceId: {}", contextTraceId, mdcTraceId);
 
             return Mono.just(result);
@@ -264,4 +270,14 @@ public class TestController {
         log.info("Text response endpoint called");
         return Mono.just("This is a plain text response for logging test.");
     }
+
+    /**
+     * Server-Sent Events 스트리밍 엔드포인트.
+     * 스트리밍 응답 본문 캡처 제외 테스트용.
+     */
+    @GetMapping(value = "/test/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<String> stream(@RequestParam(defaultValue = "5") int count) {
+        log.info("Stream endpoint called: count={}", count);
+        return Flux.range(0, count).map(i -> "event-" + i);
+    }
 }
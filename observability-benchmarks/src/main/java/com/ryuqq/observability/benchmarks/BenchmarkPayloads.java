@@ -0,0 +1,206 @@
+package com.ryuqq.observability.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 페이로드 코퍼스.
+ *
+ * <p>실제 API 게이트웨이 로그와 비슷한 형태의 본문/경로를 고정 시드로 생성하여
+ * 실행마다 같은 입력으로 측정되도록 합니다.</p>
+ */
+public final class BenchmarkPayloads {
+
+    private static final long SEED = 20240601L;
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * 마스킹 벤치마크 본문 종류.
+     */
+    public enum Body {
+
+        /**
+         * 민감정보가 포함된 작은 JSON (약 200B, 로그인 요청).
+         */
+        SMALL_JSON(smallJson()),
+
+        /**
+         * 민감 필드가 드문드문 섞인 큰 JSON (약 10KB, 목록 응답).
+         */
+        LARGE_JSON(largeJson(10 * 1024)),
+
+        /**
+         * 카드번호/전화번호/이메일이 많은 텍스트 (약 4KB, 결제 로그).
+         */
+        CARD_HEAVY_TEXT(cardHeavyText(4 * 1024)),
+
+        /**
+         * 민감정보가 없는 JSON (약 2KB, 대부분의 조회 응답).
+         */
+        CLEAN_JSON(cleanJson(2 * 1024));
+
+        private final String value;
+
+        Body(String value) {
+            this.value = value;
+        }
+
+        public String value() {
+            return value;
+        }
+    }
+
+    /**
+     * 경로 정규화 벤치마크 경로 종류.
+     */
+    public enum PathKind {
+
+        /**
+         * 동적 세그먼트가 없는 경로.
+         */
+        STATIC(List.of("/api/v1/health", "/api/v1/products", "/api/v1/orders/search", "/api/v1/users/me")),
+
+        /**
+         * 숫자 ID가 포함된 경로.
+         */
+        NUMERIC_ID(numericPaths()),
+
+        /**
+         * UUID가 여러 개 포함된 경로.
+         */
+        UUID_HEAVY(uuidPaths());
+
+        private final List<String> paths;
+
+        PathKind(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public String[] paths() {
+            return paths.toArray(String[]::new);
+        }
+    }
+
+    /**
+     * 게이트웨이 규모의 경로 템플릿 목록 (SEGMENT 방식용).
+     *
+     * @param count 템플릿 수
+     * @return {@code /api/service{n}/resources/{resourceId}} 형태의 템플릿
+     */
+    public static List<String> pathTemplates(int count) {
+        List<String> templates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            templates.add("/api/service" + i + "/resources/{resourceId}");
+        }
+        return templates;
+    }
+
+    /**
+     * {@link #pathTemplates(int)}와 같은 경로를 대상으로 하는 정규표현식 규칙 (REGEX 방식용).
+     *
+     * @param count 규칙 수
+     * @return {패턴, 대체 문자열} 배열 목록
+     */
+    public static List<String[]> pathRegexRules(int count) {
+        List<String[]> rules = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rules.add(new String[]{"/api/service" + i + "/resources/[A-Z]+-\\d+", "/api/service" + i + "/resources/{resourceId}"});
+        }
+        return rules;
+    }
+
+    private static String smallJson() {
+        return "{\"username\":\"kim.minsu\",\"password\":\"P@ssw0rd!2024\",\"email\":\"minsu.kim@example.com\","
+                + "\"phone\":\"010-1234-5678\",\"deviceId\":\"a1b2c3d4\",\"rememberMe\":true}";
+    }
+
+    private static String largeJson(int targetLength) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(targetLength + 256);
+        sb.append("{\"page\":1,\"size\":50,\"items\":[");
+        int i = 0;
+        while (sb.length() < targetLength) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(100000 + i)
+                    .append(",\"name\":\"product-").append(i).append('"')
+                    .append(",\"price\":").append(random.nextInt(100000))
+                    .append(",\"category\":\"category-").append(random.nextInt(20)).append('"')
+                    .append(",\"description\":\"Lorem ipsum dolor sit amet consectetur adipiscing elit\"");
+            if (i % 10 == 0) {
+                sb.append(",\"seller\":{\"email\":\"seller").append(i).append("@shop.example.com\"")
+                        .append(",\"accessToken\":\"tok_").append(Long.toHexString(random.nextLong())).append("\"}");
+            }
+            sb.append(",\"tags\":[\"new\",\"sale\"]}");
+            i++;
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    private static String cardHeavyText(int targetLength) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(targetLength + 128);
+        int i = 0;
+        while (sb.length() < targetLength) {
+            sb.append("payment#").append(i)
+                    .append(" card=").append(digits(random, 4)).append('-').append(digits(random, 4))
+                    .append('-').append(digits(random, 4)).append('-').append(digits(random, 4))
+                    .append(" raw=").append(digits(random, 16))
+                    .append(" phone=010").append(digits(random, 8))
+                    .append(" buyer=user").append(i).append("@mail.example.com\n");
+            i++;
+        }
+        return sb.toString();
+    }
+
+    private static String cleanJson(int targetLength) {
+        StringBuilder sb = new StringBuilder(targetLength + 128);
+        sb.append("{\"status\":\"OK\",\"items\":[");
+        int i = 0;
+        while (sb.length() < targetLength) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"code\":\"C").append(i % 100)
+                    .append("\",\"label\":\"item label ").append(i % 100)
+                    .append("\",\"enabled\":").append(i % 2 == 0).append('}');
+            i++;
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    private static List<String> numericPaths() {
+        Random random = new Random(SEED);
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            paths.add("/api/v1/users/" + random.nextInt(1_000_000) + "/orders/" + random.nextInt(1_000_000));
+        }
+        return paths;
+    }
+
+    private static List<String> uuidPaths() {
+        Random random = new Random(SEED);
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            UUID tenant = new UUID(random.nextLong(), random.nextLong());
+            UUID resource = new UUID(random.nextLong(), random.nextLong());
+            paths.add("/api/v1/tenants/" + tenant + "/documents/" + resource + "/versions/" + random.nextInt(100));
+        }
+        return paths;
+    }
+
+    private static String digits(Random random, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            sb.append((char) ('0' + random.nextInt(10)));
+        }
+        return sb.toString();
+    }
+}
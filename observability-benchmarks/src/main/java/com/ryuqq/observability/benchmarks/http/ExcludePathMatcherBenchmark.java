@@ -0,0 +1,81 @@
+package com.ryuqq.observability.benchmarks.http;
+
+import com.ryuqq.observability.core.support.ExcludePathMatcher;
+import com.ryuqq.observability.web.config.HttpLoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로깅 제외 경로 매칭 성능 벤치마크.
+ *
+ * <p>기본 제외 경로 설정으로 요청마다 AntPathMatcher를 순회하는 방식과
+ * 시작 시 분류해 둔 {@link ExcludePathMatcher}를 비교합니다.
+ * PROBE는 제외되는 헬스 체크/메트릭 수집 경로, API는 모든 패턴을 확인한 뒤 로깅되는 경로입니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcludePathMatcherBenchmark {
+
+    private static final String[] PROBE_PATHS = {
+            "/actuator/health/liveness", "/actuator/health/readiness", "/actuator/prometheus", "/health"
+    };
+
+    private static final String[] API_PATHS = {
+            "/api/users/123", "/api/orders/987/items", "/api/products", "/v1/payments/abc"
+    };
+
+    @Param({"PROBE", "API"})
+    private String traffic;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private List<String> excludePaths;
+    private ExcludePathMatcher matcher;
+    private String[] paths;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        excludePaths = new HttpLoggingProperties().getExcludePaths();
+        matcher = new ExcludePathMatcher(excludePaths, antPathMatcher::match);
+        paths = "PROBE".equals(traffic) ? PROBE_PATHS : API_PATHS;
+    }
+
+    @Benchmark
+    public boolean antPathMatcherScan() {
+        String path = nextPath();
+        for (String pattern : excludePaths) {
+            if (antPathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean precompiled() {
+        return matcher.matches(nextPath());
+    }
+
+    private String nextPath() {
+        String path = paths[index];
+        index = (index + 1) % paths.length;
+        return path;
+    }
+}
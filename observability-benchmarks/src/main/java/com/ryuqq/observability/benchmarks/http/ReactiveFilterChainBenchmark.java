@@ -0,0 +1,121 @@
+package com.ryuqq.observability.benchmarks.http;
+
+import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.trace.TraceIdHeaders;
+import com.ryuqq.observability.webflux.config.ReactiveHttpLoggingProperties;
+import com.ryuqq.observability.webflux.config.ReactiveTraceProperties;
+import com.ryuqq.observability.webflux.http.ReactiveHttpLoggingFilter;
+import com.ryuqq.observability.webflux.http.ReactivePathNormalizer;
+import com.ryuqq.observability.webflux.trace.DefaultReactiveTraceIdProvider;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebFlux 필터 체인 연산자 구성 벤치마크.
+ *
+ * <p>요청마다 조립/구독되는 Reactor 연산자 수를 비교합니다. 요청당 할당량은 {@code -prof gc}로 확인합니다.</p>
+ * <ul>
+ *   <li>{@code *OperatorChain}: 필터 없이 연산자 모양만 재현한 합성 체인. 이전 구성({@code fromRunnable().then()} +
+ *       모드별 {@code doOnSuccess}/{@code doOnError})과 현재 구성({@code defer()} + {@code doOnEach})을 비교하며,
+ *       실제 필터의 변경 전후 비교가 아닙니다.</li>
+ *   <li>{@code traceIdFilter}, {@code loggingFilter}, {@code filterChain}: 현재 실제 필터 (회귀 비교용 절대값)</li>
+ * </ul>
+ *
+ * <p>{@link MockServerWebExchange}는 생성할 때마다 코덱 설정을 새로 만들어 필터 비용보다 훨씬 크므로,
+ * 교환 객체는 한 번만 만들어 재사용합니다 (필터는 원본을 변경하지 않고 변형된 교환 객체를 만듦).</p>
+ *
+ * <pre>
+ * ./gradlew :observability-benchmarks:jmh -Pjmh.includes=ReactiveFilterChain -Pjmh.args="-prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveFilterChainBenchmark {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private final WebFilterChain emptyChain = exchange -> Mono.empty();
+    private ReactiveTraceIdFilter traceIdFilter;
+    private ReactiveHttpLoggingFilter loggingFilter;
+    private WebFilterChain loggingChain;
+    private MockServerWebExchange exchange;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        traceIdFilter = new ReactiveTraceIdFilter(new DefaultReactiveTraceIdProvider(),
+                new ReactiveTraceProperties(), "benchmark-gateway");
+        loggingFilter = new ReactiveHttpLoggingFilter(new ReactiveHttpLoggingProperties(),
+                new ReactivePathNormalizer(), new LogMasker());
+        loggingChain = exchange -> loggingFilter.filter(exchange, emptyChain);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/123")
+                .header(TraceIdHeaders.X_TRACE_ID, TRACE_ID));
+    }
+
+    @Benchmark
+    public void legacyOperatorChain(Blackhole bh) {
+        Mono.fromRunnable(this::tick)
+                .then(Mono.<Void>empty())
+                .doOnSuccess(v -> tick())
+                .doOnError(e -> tick())
+                .doOnSuccess(v -> tick())
+                .doOnError(e -> tick())
+                .subscribe();
+        bh.consume(counter);
+    }
+
+    @Benchmark
+    public void deferOperatorChain(Blackhole bh) {
+        Mono.defer(() -> {
+                    tick();
+                    return Mono.<Void>empty();
+                })
+                .doOnEach(signal -> {
+                    if (signal.isOnComplete() || signal.isOnError()) {
+                        tick();
+                        tick();
+                    }
+                })
+                .subscribe();
+        bh.consume(counter);
+    }
+
+    @Benchmark
+    public void traceIdFilter() {
+        traceIdFilter.filter(exchange, emptyChain).subscribe();
+    }
+
+    @Benchmark
+    public void loggingFilter() {
+        loggingFilter.filter(exchange, emptyChain).subscribe();
+    }
+
+    @Benchmark
+    public void filterChain() {
+        traceIdFilter.filter(exchange, loggingChain).subscribe();
+    }
+
+    private void tick() {
+        counter++;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ryuqq.observability.benchmarks.http;
+
+import com.ryuqq.observability.benchmarks.BenchmarkPayloads;
+import com.ryuqq.observability.webflux.config.ReactiveHttpLoggingProperties;
+import com.ryuqq.observability.webflux.http.ReactivePathNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReactivePathNormalizer(WebFlux) 경로 정규화 성능 벤치마크.
+ *
+ * <p>요청마다 호출되므로 경로 종류별 호출당 평균 시간을 측정합니다.
+ * 호출마다 코퍼스의 다음 경로를 사용해 단일 입력에 대한 분기 예측 효과를 줄입니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactivePathNormalizerBenchmark {
+
+    @Param({"STATIC", "NUMERIC_ID", "UUID_HEAVY"})
+    private BenchmarkPayloads.PathKind pathKind;
+
+    /**
+     * REGEX: 정규표현식 순차 적용, SEGMENT: 템플릿 트라이 + 세그먼트 분류.
+     */
+    @Param({"REGEX", "SEGMENT"})
+    private String strategy;
+
+    /**
+     * 설정된 커스텀 경로 규칙 수 (REGEX는 정규표현식 패턴, SEGMENT는 경로 템플릿).
+     */
+    @Param({"0", "120"})
+    private int customRules;
+
+    /**
+     * 정규화 결과 캐시 크기 (0이면 매 호출마다 정규화 비용을 측정).
+     */
+    @Param({"0", "1024"})
+    private int cacheSize;
+
+    private ReactivePathNormalizer normalizer;
+    private String[] paths;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        if ("SEGMENT".equals(strategy)) {
+            normalizer = ReactivePathNormalizer.segmentBased(null, BenchmarkPayloads.pathTemplates(customRules), cacheSize);
+        } else {
+            List<ReactiveHttpLoggingProperties.PathPattern> patterns = new ArrayList<>();
+            for (String[] rule : BenchmarkPayloads.pathRegexRules(customRules)) {
+                patterns.add(new ReactiveHttpLoggingProperties.PathPattern(rule[0], rule[1]));
+            }
+            normalizer = new ReactivePathNormalizer(patterns, cacheSize);
+        }
+        paths = pathKind.paths();
+    }
+
+    @Benchmark
+    public String normalize() {
+        String path = paths[index];
+        index = (index + 1) % paths.length;
+        return normalizer.normalize(path);
+    }
+}
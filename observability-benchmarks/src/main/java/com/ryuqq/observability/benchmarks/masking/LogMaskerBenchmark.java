@@ -0,0 +1,53 @@
+package com.ryuqq.observability.benchmarks.masking;
+
+import com.ryuqq.observability.benchmarks.BenchmarkPayloads;
+import com.ryuqq.observability.core.masking.LogMasker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogMasker 마스킹 처리 성능 벤치마크.
+ *
+ * <p>HTTP 로깅 경로에서 가장 비용이 큰 구간으로, 본문 종류별 평균 처리 시간을 측정합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogMaskerBenchmark {
+
+    @Param({"SMALL_JSON", "LARGE_JSON", "CARD_HEAVY_TEXT", "CLEAN_JSON"})
+    private BenchmarkPayloads.Body body;
+
+    private LogMasker logMasker;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        logMasker = new LogMasker();
+        input = body.value();
+    }
+
+    @Benchmark
+    public String mask() {
+        return logMasker.mask(input);
+    }
+
+    @Benchmark
+    public String maskAndTruncate() {
+        return logMasker.mask(input, 1000, "... (truncated)");
+    }
+}
@@ -0,0 +1,60 @@
+package com.ryuqq.observability.benchmarks.trace;
+
+import com.ryuqq.observability.core.trace.TraceIdHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TraceIdHolder MDC set/clear 사이클 성능 벤치마크.
+ *
+ * <p>요청 하나가 진입점 필터에서 수행하는 MDC 설정과 정리 비용을 측정합니다.
+ * MDC 구현은 런타임 클래스패스의 logback-classic을 사용합니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraceIdHolderBenchmark {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Benchmark
+    public void traceIdOnly() {
+        TraceIdHolder.set(TRACE_ID);
+        TraceIdHolder.clear();
+    }
+
+    @Benchmark
+    public void gatewayContext() {
+        TraceIdHolder.set(TRACE_ID);
+        TraceIdHolder.setServiceName("order-service");
+        TraceIdHolder.setUserId("user-1234");
+        TraceIdHolder.setTenantId("tenant-01");
+        TraceIdHolder.setOrganizationId("org-99");
+        TraceIdHolder.setUserRoles("ADMIN,USER");
+        TraceIdHolder.clear();
+    }
+
+    @Benchmark
+    public void httpLoggingContext() {
+        TraceIdHolder.set(TRACE_ID);
+        TraceIdHolder.addContext("http.method", "GET");
+        TraceIdHolder.addContext("http.uri", "/api/v1/orders/123");
+        TraceIdHolder.addContext("http.normalizedUri", "/api/v1/orders/{id}");
+        TraceIdHolder.addContext("http.clientIp", "10.0.0.1");
+        TraceIdHolder.addContext("http.status", "200");
+        TraceIdHolder.addContext("http.duration", "12");
+        TraceIdHolder.clear();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ryuqq.observability.benchmarks.trace;
+
+import com.ryuqq.observability.core.trace.TraceIdHeaders;
+import com.ryuqq.observability.web.trace.DefaultTraceIdProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultTraceIdProvider TraceId 생성/추출 성능 벤치마크.
+ *
+ * <p>TraceId 생성은 여러 요청 스레드에서 동시에 호출되므로 생성 벤치마크는 4개 스레드로도 측정합니다.
+ * {@code uuid*} 벤치마크는 이전 구현({@code UUID.randomUUID()} + 하이픈 제거)과의 비교 기준입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraceIdProviderBenchmark {
+
+    private DefaultTraceIdProvider provider;
+    private MockHttpServletRequest xTraceIdRequest;
+    private MockHttpServletRequest traceparentRequest;
+    private MockHttpServletRequest emptyRequest;
+
+    @Setup
+    public void setUp() {
+        provider = new DefaultTraceIdProvider(List.of(
+                TraceIdHeaders.X_TRACE_ID,
+                TraceIdHeaders.TRACEPARENT,
+                TraceIdHeaders.X_AMZN_TRACE_ID
+        ));
+
+        xTraceIdRequest = new MockHttpServletRequest("GET", "/api/v1/orders");
+        xTraceIdRequest.addHeader(TraceIdHeaders.X_TRACE_ID, "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        traceparentRequest = new MockHttpServletRequest("GET", "/api/v1/orders");
+        traceparentRequest.addHeader(TraceIdHeaders.TRACEPARENT,
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+        emptyRequest = new MockHttpServletRequest("GET", "/api/v1/orders");
+    }
+
+    @Benchmark
+    public String generate() {
+        return provider.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return provider.generate();
+    }
+
+    @Benchmark
+    public String uuid() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String uuidContended() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Benchmark
+    public String extractXTraceId() {
+        return provider.extractFromRequest(xTraceIdRequest);
+    }
+
+    @Benchmark
+    public String extractTraceparent() {
+        return provider.extractFromRequest(traceparentRequest);
+    }
+
+    @Benchmark
+    public String extractMissing() {
+        return provider.extractFromRequest(emptyRequest);
+    }
+}
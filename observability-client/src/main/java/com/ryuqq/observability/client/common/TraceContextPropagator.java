@@ -2,6 +2,7 @@ package com.ryuqq.observability.client.common;
 
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
+import com.ryuqq.observability.core.trace.TraceParent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +14,9 @@ import java.util.function.BiConsumer;
  * <p>MDC에 저장된 TraceId와 사용자 컨텍스트를 HTTP 헤더로 전파하는
  * 공통 로직을 제공합니다.</p>
  *
+ * <p>TraceId가 W3C 형식(32자리 hex)이고 현재 홉의 SpanId가 있으면 {@code traceparent} 헤더도 함께 전파합니다.
+ * 다음 홉은 이 SpanId를 ParentSpanId로 기록하므로 로그만으로 호출 트리를 재구성할 수 있습니다.</p>
+ *
  * <p>사용 예시:</p>
  * <pre>
  * {@code
@@ -43,6 +47,9 @@ public final class TraceContextPropagator {
                 headerSetter.accept(TraceIdHeaders.X_TRACE_ID, traceId)
         );
 
+        // W3C traceparent 전파 (현재 SpanId를 parent-id로)
+        propagateIfPresent(TraceIdHeaders.TRACEPARENT, getTraceparent(), headerSetter);
+
         // User Context 전파
         propagateIfPresent(TraceIdHeaders.X_USER_ID, TraceIdHolder.getUserId(), headerSetter);
         propagateIfPresent(TraceIdHeaders.X_TENANT_ID, TraceIdHolder.getTenantId(), headerSetter);
@@ -80,6 +87,15 @@ public final class TraceContextPropagator {
         return TraceIdHolder.getOptional().orElse(null);
     }
 
+    /**
+     * 현재 TraceId와 SpanId로 만든 traceparent 헤더 값을 반환합니다.
+     *
+     * @return traceparent 헤더 값, TraceId가 W3C 형식이 아니거나 SpanId가 없으면 null
+     */
+    public static String getTraceparent() {
+        return TraceParent.format(TraceIdHolder.getOptional().orElse(null), TraceIdHolder.getSpanId());
+    }
+
     /**
      * TraceId가 존재하는지 확인합니다.
      *
@@ -1,5 +1,6 @@
 package com.ryuqq.observability.client.feign;
 
+import com.ryuqq.observability.client.common.TraceContextPropagator;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
 import feign.RequestInterceptor;
@@ -55,6 +56,12 @@ public class TraceIdFeignRequestInterceptor implements RequestInterceptor {
                 template.header(TraceIdHeaders.X_TRACE_ID, traceId)
         );
 
+        // W3C traceparent 전파 (이미 설정된 경우 유지)
+        String traceparent = TraceContextPropagator.getTraceparent();
+        if (traceparent != null && !template.headers().containsKey(TraceIdHeaders.TRACEPARENT)) {
+            template.header(TraceIdHeaders.TRACEPARENT, traceparent);
+        }
+
         // User Context 전파
         String userId = TraceIdHolder.getUserId();
         if (userId != null) {
@@ -1,5 +1,6 @@
 package com.ryuqq.observability.client.rest;
 
+import com.ryuqq.observability.client.common.TraceContextPropagator;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
 import org.springframework.http.client.ClientHttpRequest;
@@ -39,6 +40,12 @@ public class TraceIdRestClientInterceptor implements ClientHttpRequestInitialize
                 request.getHeaders().add(TraceIdHeaders.X_TRACE_ID, traceId)
         );
 
+        // W3C traceparent 전파 (이미 설정된 경우 유지)
+        String traceparent = TraceContextPropagator.getTraceparent();
+        if (traceparent != null && !request.getHeaders().containsKey(TraceIdHeaders.TRACEPARENT)) {
+            request.getHeaders().set(TraceIdHeaders.TRACEPARENT, traceparent);
+        }
+
         // User Context 전파
         String userId = TraceIdHolder.getUserId();
         if (userId != null) {
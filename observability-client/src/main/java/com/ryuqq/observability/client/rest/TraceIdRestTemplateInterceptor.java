@@ -1,5 +1,6 @@
 package com.ryuqq.observability.client.rest;
 
+import com.ryuqq.observability.client.common.TraceContextPropagator;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
 import org.springframework.http.HttpRequest;
@@ -52,6 +53,12 @@ public class TraceIdRestTemplateInterceptor implements ClientHttpRequestIntercep
                 request.getHeaders().add(TraceIdHeaders.X_TRACE_ID, traceId)
         );
 
+        // W3C traceparent 전파 (이미 설정된 경우 유지)
+        String traceparent = TraceContextPropagator.getTraceparent();
+        if (traceparent != null && !request.getHeaders().containsKey(TraceIdHeaders.TRACEPARENT)) {
+            request.getHeaders().set(TraceIdHeaders.TRACEPARENT, traceparent);
+        }
+
         // User Context 전파
         String userId = TraceIdHolder.getUserId();
         if (userId != null) {
@@ -1,5 +1,6 @@
 package com.ryuqq.observability.client.webclient;
 
+import com.ryuqq.observability.client.common.TraceContextPropagator;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
 import org.springframework.web.reactive.function.client.ClientRequest;
@@ -35,6 +36,7 @@ public class TraceIdExchangeFilterFunction implements ExchangeFilterFunction {
     public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
         // 현재 스레드의 MDC 컨텍스트 캡처
         String traceId = TraceIdHolder.getOptional().orElse(null);
+        String traceparent = TraceContextPropagator.getTraceparent();
         String userId = TraceIdHolder.getUserId();
         String tenantId = TraceIdHolder.getTenantId();
         String organizationId = TraceIdHolder.getOrganizationId();
@@ -46,6 +48,11 @@ public class TraceIdExchangeFilterFunction implements ExchangeFilterFunction {
             requestBuilder.header(TraceIdHeaders.X_TRACE_ID, traceId);
         }
 
+        // W3C traceparent 전파 (이미 설정된 경우 유지)
+        if (traceparent != null && !request.headers().containsKey(TraceIdHeaders.TRACEPARENT)) {
+            requestBuilder.header(TraceIdHeaders.TRACEPARENT, traceparent);
+        }
+
         if (userId != null) {
             requestBuilder.header(TraceIdHeaders.X_USER_ID, userId);
         }
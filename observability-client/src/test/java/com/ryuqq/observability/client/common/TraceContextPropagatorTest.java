@@ -88,6 +88,33 @@ class TraceContextPropagatorTest {
 
             assertThat(headers).doesNotContainKey(TraceIdHeaders.X_USER_ID);
         }
+
+        @Test
+        @DisplayName("W3C 형식 TraceId와 SpanId가 있으면 traceparent를 전파한다")
+        void shouldPropagateTraceparent() {
+            TraceIdHolder.set("4bf92f3577b34da6a3ce929d0e0e4736");
+            TraceIdHolder.setSpanId("00f067aa0ba902b7");
+
+            Map<String, String> headers = new HashMap<>();
+            TraceContextPropagator.propagate(headers::put);
+
+            assertThat(headers).containsEntry(TraceIdHeaders.TRACEPARENT,
+                    "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        }
+
+        @Test
+        @DisplayName("W3C 형식이 아닌 TraceId는 traceparent 없이 X-Trace-Id만 전파한다")
+        void shouldNotPropagateTraceparentForCustomTraceId() {
+            TraceIdHolder.set("trace-id");
+            TraceIdHolder.setSpanId("00f067aa0ba902b7");
+
+            Map<String, String> headers = new HashMap<>();
+            TraceContextPropagator.propagate(headers::put);
+
+            assertThat(headers)
+                    .containsEntry(TraceIdHeaders.X_TRACE_ID, "trace-id")
+                    .doesNotContainKey(TraceIdHeaders.TRACEPARENT);
+        }
     }
 
     @Nested
@@ -61,6 +61,33 @@ class TraceIdRestTemplateInterceptorTest {
             assertThat(headers.getFirst(TraceIdHeaders.X_TRACE_ID)).isEqualTo("test-trace-id");
         }
 
+        @Test
+        @DisplayName("현재 SpanId를 parent-id로 하는 traceparent를 추가한다")
+        void shouldAddTraceparentToHeaders() throws IOException {
+            TraceIdHolder.set("4bf92f3577b34da6a3ce929d0e0e4736");
+            TraceIdHolder.setSpanId("00f067aa0ba902b7");
+            when(execution.execute(any(), any())).thenReturn(mock(ClientHttpResponse.class));
+
+            interceptor.intercept(request, new byte[0], execution);
+
+            assertThat(headers.getFirst(TraceIdHeaders.TRACEPARENT))
+                    .isEqualTo("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        }
+
+        @Test
+        @DisplayName("이미 설정된 traceparent는 덮어쓰지 않는다")
+        void shouldKeepExistingTraceparent() throws IOException {
+            TraceIdHolder.set("4bf92f3577b34da6a3ce929d0e0e4736");
+            TraceIdHolder.setSpanId("00f067aa0ba902b7");
+            headers.set(TraceIdHeaders.TRACEPARENT, "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+            when(execution.execute(any(), any())).thenReturn(mock(ClientHttpResponse.class));
+
+            interceptor.intercept(request, new byte[0], execution);
+
+            assertThat(headers.get(TraceIdHeaders.TRACEPARENT))
+                    .containsExactly("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        }
+
         @Test
         @DisplayName("UserId를 헤더에 추가한다")
         void shouldAddUserIdToHeaders() throws IOException {
@@ -0,0 +1,377 @@
+package com.ryuqq.observability.core.masking;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * JSON 본문을 한 번만 훑으면서 지정된 필드의 값을 마스킹하는 스트리밍 마스커.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다 (Jackson 불필요).</p>
+ *
+ * <p>필드명마다 정규표현식을 적용하는 대신 토크나이저로 키를 읽고 해시 테이블에서 조회하므로,
+ * 마스킹 필드 수가 늘어나도 비용이 선형으로 증가하지 않습니다.
+ * 문자열뿐 아니라 숫자, 불리언, 객체, 배열 등 모든 타입의 값을 {@code "[MASKED]"}로 치환합니다.</p>
+ *
+ * <pre>
+ * {@code
+ * {"password":"secret","pin":1234,"card":{"no":"..."}}
+ * → {"password":"[MASKED]","pin":"[MASKED]","card":"[MASKED]"}
+ * }
+ * </pre>
+ *
+ * <p>로그 본문은 잘린 채로 들어오는 경우가 많으므로, 구조 도중에 입력이 끝나면 그때까지의 결과를 유효한 것으로 봅니다.
+ * JSON이 아니거나 구조가 깨진 입력은 실패로 반환하여 호출 측이 정규표현식 마스킹으로 대체할 수 있게 합니다.</p>
+ */
+public final class JsonFieldMasker {
+
+    /**
+     * 마스킹된 값의 대체 문자열.
+     */
+    public static final String MASKED_VALUE = "\"[MASKED]\"";
+
+    private static final byte OBJECT = 0;
+    private static final byte ARRAY = 1;
+
+    private static final int VALUE = 0;
+    private static final int VALUE_OR_ARRAY_END = 1;
+    private static final int KEY = 2;
+    private static final int KEY_OR_OBJECT_END = 3;
+    private static final int AFTER_VALUE = 4;
+
+    private final FieldNameSet fieldNames;
+
+    public JsonFieldMasker(Collection<String> fieldNames) {
+        this.fieldNames = new FieldNameSet(fieldNames);
+    }
+
+    /**
+     * 마스킹 대상 필드가 하나도 없는지 확인합니다.
+     *
+     * @return 필드가 없으면 true
+     */
+    public boolean isEmpty() {
+        return fieldNames.size() == 0;
+    }
+
+    /**
+     * 입력이 JSON 객체나 배열로 시작하는지 확인합니다.
+     *
+     * @param input 검사할 문자열
+     * @return 첫 번째 공백 아닌 문자가 '{' 또는 '['이면 true
+     */
+    public static boolean looksLikeJson(CharSequence input) {
+        int pos = skipWhitespace(input, 0);
+        if (pos >= input.length()) {
+            return false;
+        }
+        char c = input.charAt(pos);
+        return c == '{' || c == '[';
+    }
+
+    /**
+     * JSON 문자열의 지정 필드를 마스킹합니다.
+     *
+     * @param input 원본 JSON 문자열
+     * @return 마스킹된 문자열 (마스킹할 필드가 없으면 입력 인스턴스 그대로),
+     *         JSON으로 해석할 수 없으면 {@code null}
+     */
+    public String mask(String input) {
+        StringBuilder out = new StringBuilder(input.length() + 16);
+        int result = maskTo(input, out);
+        if (result < 0) {
+            return null;
+        }
+        return result == 0 ? input : out.toString();
+    }
+
+    /**
+     * JSON 문자열의 지정 필드를 마스킹하여 출력 버퍼에 기록합니다.
+     *
+     * <p>해석에 실패하면 출력 버퍼를 호출 전 길이로 되돌립니다.</p>
+     *
+     * @param input 원본 JSON 문자열
+     * @param out   출력 버퍼
+     * @return 마스킹된 값의 개수, JSON으로 해석할 수 없으면 -1
+     */
+    public int maskTo(CharSequence input, StringBuilder out) {
+        int mark = out.length();
+        int masked = tokenize(input, out);
+        if (masked < 0) {
+            out.setLength(mark);
+        }
+        return masked;
+    }
+
+    private int tokenize(CharSequence in, StringBuilder out) {
+        int len = in.length();
+        int pos = skipWhitespace(in, 0);
+        if (pos >= len || (in.charAt(pos) != '{' && in.charAt(pos) != '[')) {
+            return -1;
+        }
+
+        byte[] stack = new byte[16];
+        int depth = 0;
+        int copied = 0;
+        int masked = 0;
+        int state = VALUE;
+        boolean maskNext = false;
+
+        while (true) {
+            pos = skipWhitespace(in, pos);
+            if (pos >= len) {
+                // 구조 도중에 끝난 입력은 잘린 로그로 보고 그대로 허용
+                break;
+            }
+            char c = in.charAt(pos);
+
+            if (state == KEY || state == KEY_OR_OBJECT_END) {
+                if (c == '}' && state == KEY_OR_OBJECT_END) {
+                    pos++;
+                    depth--;
+                    state = AFTER_VALUE;
+                } else if (c == '"') {
+                    int keyEnd = skipString(in, pos);
+                    maskNext = fieldNames.contains(in, pos + 1, keyEnd - 1);
+                    pos = skipWhitespace(in, keyEnd);
+                    if (pos >= len) {
+                        break;
+                    }
+                    if (in.charAt(pos) != ':') {
+                        return -1;
+                    }
+                    pos++;
+                    state = VALUE;
+                } else {
+                    return -1;
+                }
+            } else if (state == VALUE || state == VALUE_OR_ARRAY_END) {
+                if (c == ']' && state == VALUE_OR_ARRAY_END) {
+                    pos++;
+                    depth--;
+                    state = AFTER_VALUE;
+                } else if (maskNext) {
+                    int valueEnd = skipValue(in, pos);
+                    if (valueEnd < 0) {
+                        return -1;
+                    }
+                    out.append(in, copied, pos).append(MASKED_VALUE);
+                    copied = valueEnd;
+                    pos = valueEnd;
+                    masked++;
+                    maskNext = false;
+                    state = AFTER_VALUE;
+                } else if (c == '{' || c == '[') {
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = c == '{' ? OBJECT : ARRAY;
+                    pos++;
+                    state = c == '{' ? KEY_OR_OBJECT_END : VALUE_OR_ARRAY_END;
+                } else if (c == '"') {
+                    pos = skipString(in, pos);
+                    state = AFTER_VALUE;
+                } else if (isScalarStart(c)) {
+                    pos = skipScalar(in, pos);
+                    state = AFTER_VALUE;
+                } else {
+                    return -1;
+                }
+            } else {
+                byte top = stack[depth - 1];
+                if (c == ',') {
+                    pos++;
+                    state = top == OBJECT ? KEY : VALUE;
+                } else if ((c == '}' && top == OBJECT) || (c == ']' && top == ARRAY)) {
+                    pos++;
+                    depth--;
+                } else {
+                    return -1;
+                }
+            }
+
+            if (depth == 0) {
+                break;
+            }
+        }
+
+        // 루트 값 뒤에 공백 이외의 내용이 있으면 JSON이 아닌 것으로 판단
+        if (skipWhitespace(in, pos) < len) {
+            return -1;
+        }
+        if (masked > 0) {
+            out.append(in, copied, len);
+        }
+        return masked;
+    }
+
+    /**
+     * 값 하나(중첩 객체/배열 포함)를 건너뜁니다.
+     *
+     * @return 값 다음 위치, 구조가 깨졌으면 -1
+     */
+    private static int skipValue(CharSequence in, int pos) {
+        char c = in.charAt(pos);
+        if (c == '"') {
+            return skipString(in, pos);
+        }
+        if (c != '{' && c != '[') {
+            return isScalarStart(c) ? skipScalar(in, pos) : -1;
+        }
+
+        int len = in.length();
+        int nesting = 0;
+        while (pos < len) {
+            c = in.charAt(pos);
+            if (c == '"') {
+                pos = skipString(in, pos);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                nesting++;
+            } else if (c == '}' || c == ']') {
+                if (--nesting == 0) {
+                    return pos + 1;
+                }
+            }
+            pos++;
+        }
+        return len;
+    }
+
+    /**
+     * 따옴표로 시작하는 문자열을 건너뜁니다. 닫는 따옴표가 없으면 입력 끝을 반환합니다.
+     */
+    private static int skipString(CharSequence in, int pos) {
+        int len = in.length();
+        pos++;
+        while (pos < len) {
+            char c = in.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == '"') {
+                return pos + 1;
+            } else {
+                pos++;
+            }
+        }
+        return len;
+    }
+
+    private static int skipScalar(CharSequence in, int pos) {
+        int len = in.length();
+        while (pos < len) {
+            char c = in.charAt(pos);
+            if (c == ',' || c == '}' || c == ']' || c == ':' || c == '"' || isWhitespace(c)) {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isScalarStart(char c) {
+        return c == '-' || (c >= '0' && c <= '9') || c == 't' || c == 'f' || c == 'n';
+    }
+
+    private static int skipWhitespace(CharSequence in, int pos) {
+        int len = in.length();
+        while (pos < len && isWhitespace(in.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    /**
+     * 대소문자를 구분하지 않는 필드명 해시 집합.
+     *
+     * <p>입력의 일부 구간을 String으로 잘라내지 않고 바로 조회할 수 있도록
+     * ASCII 대소문자 무시 해시와 선형 탐사(open addressing)를 사용합니다.</p>
+     */
+    static final class FieldNameSet {
+
+        private final String[] table;
+        private final int mask;
+        private final int size;
+        private final int maxLength;
+
+        FieldNameSet(Collection<String> names) {
+            int capacity = Integer.highestOneBit(Math.max(4, names.size() * 2 - 1)) << 1;
+            String[] slots = new String[capacity];
+            int count = 0;
+            int longest = 0;
+
+            for (String name : names) {
+                if (name == null || name.isEmpty() || contains(slots, capacity - 1, name, 0, name.length())) {
+                    continue;
+                }
+                int slot = hash(name, 0, name.length()) & (capacity - 1);
+                while (slots[slot] != null) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                slots[slot] = name;
+                count++;
+                longest = Math.max(longest, name.length());
+            }
+
+            this.table = slots;
+            this.mask = capacity - 1;
+            this.size = count;
+            this.maxLength = longest;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int maxLength() {
+            return maxLength;
+        }
+
+        boolean contains(CharSequence in, int start, int end) {
+            if (end - start > maxLength || end <= start) {
+                return false;
+            }
+            return contains(table, mask, in, start, end);
+        }
+
+        private static boolean contains(String[] table, int mask, CharSequence in, int start, int end) {
+            int slot = hash(in, start, end) & mask;
+            String candidate;
+            while ((candidate = table[slot]) != null) {
+                if (equalsIgnoreCase(candidate, in, start, end)) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int hash(CharSequence in, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + toLower(in.charAt(i));
+            }
+            return h ^ (h >>> 16);
+        }
+
+        private static boolean equalsIgnoreCase(String name, CharSequence in, int start, int end) {
+            if (name.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (toLower(name.charAt(i)) != toLower(in.charAt(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static char toLower(char c) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+    }
+}
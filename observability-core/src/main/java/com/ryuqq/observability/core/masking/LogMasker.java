@@ -1,7 +1,10 @@
 package com.ryuqq.observability.core.masking;
 
+import com.ryuqq.observability.core.support.ReusableStringBuilder;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 /**
@@ -9,7 +12,16 @@ import java.util.regex.Pattern;
  *
  * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
  *
- * <p>기본 제공 패턴과 커스텀 패턴을 모두 적용합니다.</p>
+ * <p>기본 제공 패턴과 커스텀 패턴을 모두 적용합니다.
+ * 등록된 패턴들은 {@link MaskingEngine}으로 컴파일되어, 민감정보가 없는 입력은 한 번만 스캔하고
+ * 매칭이 있으면 등록 순서대로 순차 적용한 것과 같은 결과를 만듭니다.</p>
+ *
+ * <p>{@code maskFields}는 JSON 입력이면 {@link JsonFieldMasker}로 값의 타입과 무관하게 마스킹하고,
+ * JSON이 아니거나 해석할 수 없는 입력이면 정규표현식 필드 패턴으로 대체 적용합니다.</p>
+ *
+ * <p>커스텀 패턴이 없으면 {@link MaskingPrefilter}로 입력을 먼저 훑어,
+ * 기본 패턴이 매칭될 수 없는 입력은 원본 인스턴스를 그대로 반환합니다.
+ * 건너뛴 비율은 {@link #getPrefilterHits()}, {@link #getPrefilterMisses()}로 확인할 수 있습니다.</p>
  *
  * <pre>
  * {@code
@@ -20,8 +32,31 @@ import java.util.regex.Pattern;
  */
 public class LogMasker {
 
-    private final List<PatternReplacement> patterns = new ArrayList<>();
+    private static final ReusableStringBuilder OUTPUT = new ReusableStringBuilder(512, 64 * 1024);
+    private static final ReusableStringBuilder JSON_SCRATCH = new ReusableStringBuilder(512, 64 * 1024);
+
+    /*
+     * 기본 패턴의 시작 위치 힌트. 엔진은 힌트에 맞지 않는 위치에서는 정규표현식을 시도하지 않으므로
+     * 패턴을 바꿀 때 함께 맞춰야 합니다.
+     */
+    private static final MaskingEngine.StartHint FOUR_DIGITS =
+            MaskingEngine.StartHint.startsWith("0-9", "0-9", "0-9", "0-9");
+
+    /**
+     * 기본 패턴 (힌트 포함). 힌트 검증 테스트에서도 사용합니다.
+     */
+    static final List<MaskingEngine.Rule> DEFAULT_RULES = defaultRules();
+
+    private final List<MaskingEngine.Rule> rules = new ArrayList<>();
     private final boolean enabled;
+    private JsonFieldMasker jsonFieldMasker;
+    private List<MaskingEngine.Rule> fieldRules = List.of();
+    private List<String> maskFields = List.of();
+    private boolean hasCustomPatterns;
+    private volatile CompiledRules compiled;
+
+    private final LongAdder prefilterHits = new LongAdder();
+    private final LongAdder prefilterMisses = new LongAdder();
 
     public LogMasker(MaskingProperties properties) {
         this.enabled = properties.isEnabled();
@@ -32,14 +67,14 @@ public class LogMasker {
 
             // 커스텀 패턴 등록
             for (MaskingProperties.MaskingPattern custom : properties.getPatterns()) {
-                addPattern(custom.getPattern(), custom.getReplacement());
+                rules.add(new MaskingEngine.Rule(Pattern.compile(custom.getPattern()), custom.getReplacement()));
+                hasCustomPatterns = true;
             }
 
-            // 필드명 기반 마스킹 패턴 등록
-            for (String field : properties.getMaskFields()) {
-                addFieldPattern(field);
-            }
+            // 필드명 기반 마스킹 등록
+            addMaskFields(properties.getMaskFields());
         }
+        this.compiled = compile();
     }
 
     /**
@@ -60,11 +95,82 @@ public class LogMasker {
             return input;
         }
 
-        String result = input;
-        for (PatternReplacement pr : patterns) {
-            result = pr.pattern.matcher(result).replaceAll(pr.replacement);
+        CompiledRules current = compiled;
+        if (isSkippable(current, input)) {
+            return input;
         }
-        return result;
+        if (jsonFieldMasker != null && JsonFieldMasker.looksLikeJson(input)) {
+            String json = jsonFieldMasker.mask(input);
+            if (json != null) {
+                return current.jsonEngine().apply(json);
+            }
+        }
+        return current.textEngine().apply(input);
+    }
+
+    /**
+     * 문자열 내 민감정보를 마스킹하고 최대 길이로 잘라 출력 버퍼에 기록합니다.
+     *
+     * <p>마스킹과 자르기를 한 번에 수행하므로 중간 문자열과 {@code substring} 복사본이 생기지 않으며,
+     * 최대 길이 이후의 입력에 대해서는 치환 결과를 만들지 않습니다.
+     * 마스킹은 자르기 전에 적용되므로 잘리는 경계에 걸친 민감정보도 노출되지 않습니다.</p>
+     *
+     * <pre>
+     * {@code
+     * StringBuilder sb = new StringBuilder();
+     * if (logMasker.mask(body, 1000, sb)) {
+     *     sb.append("...[TRUNCATED]");
+     * }
+     * }
+     * </pre>
+     *
+     * @param input     원본 문자열 (null이면 아무것도 기록하지 않음)
+     * @param maxLength 기록할 최대 문자 수
+     * @param out       출력 버퍼
+     * @return 최대 길이를 넘어 잘렸으면 true
+     */
+    public boolean mask(CharSequence input, int maxLength, StringBuilder out) {
+        if (input == null) {
+            return false;
+        }
+        int limitEnd = (int) Math.min(Integer.MAX_VALUE, (long) out.length() + Math.max(0, maxLength));
+        if (!enabled || input.isEmpty()) {
+            return MaskingEngine.appendCapped(out, input, 0, input.length(), limitEnd);
+        }
+
+        CompiledRules current = compiled;
+        if (isSkippable(current, input)) {
+            return MaskingEngine.appendCapped(out, input, 0, input.length(), limitEnd);
+        }
+        if (jsonFieldMasker != null && JsonFieldMasker.looksLikeJson(input)) {
+            StringBuilder json = JSON_SCRATCH.acquire();
+            int masked = jsonFieldMasker.maskTo(input, json);
+            if (masked >= 0) {
+                return current.jsonEngine().applyTo(masked == 0 ? input : json, maxLength, out);
+            }
+        }
+        return current.textEngine().applyTo(input, maxLength, out);
+    }
+
+    /**
+     * 문자열 내 민감정보를 마스킹하고 최대 길이로 자릅니다.
+     *
+     * <p>스레드별로 재사용되는 버퍼에 결과를 만든 뒤 최종 문자열 하나만 생성합니다.</p>
+     *
+     * @param input           원본 문자열
+     * @param maxLength       최대 길이
+     * @param truncatedSuffix 잘렸을 때 덧붙일 접미사 (예: "...[TRUNCATED]")
+     * @return 마스킹되고 잘린 문자열, 입력이 null이면 null
+     */
+    public String mask(CharSequence input, int maxLength, String truncatedSuffix) {
+        if (input == null) {
+            return null;
+        }
+        StringBuilder out = OUTPUT.acquire();
+        if (mask(input, maxLength, out) && truncatedSuffix != null) {
+            out.append(truncatedSuffix);
+        }
+        return out.toString();
     }
 
     /**
@@ -82,69 +188,184 @@ public class LogMasker {
      * @param pattern     정규표현식 패턴
      * @param replacement 대체 문자열
      */
-    public void addPattern(String pattern, String replacement) {
-        patterns.add(new PatternReplacement(Pattern.compile(pattern), replacement));
+    public synchronized void addPattern(String pattern, String replacement) {
+        rules.add(new MaskingEngine.Rule(Pattern.compile(pattern), replacement));
+        hasCustomPatterns = true;
+        this.compiled = compile();
+    }
+
+    /**
+     * 사전 필터가 민감정보 없음으로 판정해 마스킹을 건너뛴 횟수를 반환합니다.
+     *
+     * @return 사전 필터 적중(건너뜀) 횟수
+     */
+    public long getPrefilterHits() {
+        return prefilterHits.sum();
+    }
+
+    /**
+     * 사전 필터를 통과해 전체 마스킹을 수행한 횟수를 반환합니다.
+     *
+     * @return 사전 필터 미적중 횟수
+     */
+    public long getPrefilterMisses() {
+        return prefilterMisses.sum();
+    }
+
+    /**
+     * 사전 필터 사용 여부를 반환합니다.
+     * 커스텀 패턴이 등록되어 있으면 매칭 가능성을 판별할 수 없으므로 사용하지 않습니다.
+     *
+     * @return 사전 필터 사용 여부
+     */
+    public boolean isPrefilterEnabled() {
+        return compiled.prefilter() != null;
+    }
+
+    private boolean isSkippable(CompiledRules current, CharSequence input) {
+        MaskingPrefilter prefilter = current.prefilter();
+        if (prefilter == null) {
+            return false;
+        }
+        if (prefilter.mayContainSensitive(input)) {
+            prefilterMisses.increment();
+            return false;
+        }
+        prefilterHits.increment();
+        return true;
+    }
+
+    private CompiledRules compile() {
+        MaskingPrefilter prefilter = enabled && !hasCustomPatterns ? new MaskingPrefilter(maskFields) : null;
+        MaskingEngine jsonEngine = MaskingEngine.compile(rules);
+        if (fieldRules.isEmpty()) {
+            return new CompiledRules(jsonEngine, jsonEngine, prefilter);
+        }
+        List<MaskingEngine.Rule> textRules = new ArrayList<>(rules);
+        textRules.addAll(fieldRules);
+        return new CompiledRules(MaskingEngine.compile(textRules), jsonEngine, prefilter);
     }
 
     private void addDefaultPatterns() {
+        rules.addAll(DEFAULT_RULES);
+    }
+
+    /**
+     * 기본 패턴 목록을 만듭니다 (등록 순서대로 적용).
+     */
+    private static List<MaskingEngine.Rule> defaultRules() {
+        List<MaskingEngine.Rule> rules = new ArrayList<>();
+
         // JSON 내 민감 필드 (가장 먼저 적용)
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.PASSWORD_IN_JSON,
-                MaskingPatterns.PASSWORD_IN_JSON_REPLACEMENT
+                MaskingPatterns.PASSWORD_IN_JSON_REPLACEMENT,
+                MaskingEngine.StartHint.startsWith("\"", "psa")
         ));
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.JWT_IN_JSON,
-                MaskingPatterns.JWT_IN_JSON_REPLACEMENT
+                MaskingPatterns.JWT_IN_JSON_REPLACEMENT,
+                MaskingEngine.StartHint.startsWith("\"", "tar")
         ));
 
         // Bearer 토큰
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.BEARER_TOKEN,
-                MaskingPatterns.BEARER_TOKEN_REPLACEMENT
+                MaskingPatterns.BEARER_TOKEN_REPLACEMENT,
+                MaskingEngine.StartHint.startsWith("B", "e", "a", "r")
         ));
 
         // 신용카드
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.CREDIT_CARD_DASH,
-                MaskingPatterns.CREDIT_CARD_DASH_REPLACEMENT
+                MaskingPatterns.CREDIT_CARD_DASH_REPLACEMENT,
+                FOUR_DIGITS
         ));
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.CREDIT_CARD_PLAIN,
-                MaskingPatterns.CREDIT_CARD_PLAIN_REPLACEMENT
+                MaskingPatterns.CREDIT_CARD_PLAIN_REPLACEMENT,
+                FOUR_DIGITS
         ));
 
         // 이메일
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.EMAIL,
-                MaskingPatterns.EMAIL_REPLACEMENT
+                MaskingPatterns.EMAIL_REPLACEMENT,
+                MaskingEngine.StartHint.startsAtRunOf("a-zA-Z0-9._%+-", '@')
         ));
 
         // 한국 전화번호
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.PHONE_KR,
-                MaskingPatterns.PHONE_KR_REPLACEMENT
+                MaskingPatterns.PHONE_KR_REPLACEMENT,
+                MaskingEngine.StartHint.startsWith("0", "1", "0-9")
         ));
 
         // 주민등록번호
-        patterns.add(new PatternReplacement(
+        rules.add(new MaskingEngine.Rule(
                 MaskingPatterns.SSN_KR,
-                MaskingPatterns.SSN_KR_REPLACEMENT
+                MaskingPatterns.SSN_KR_REPLACEMENT,
+                FOUR_DIGITS
         ));
+        return List.copyOf(rules);
     }
 
     /**
-     * JSON 필드명 기반 마스킹 패턴을 추가합니다.
+     * JSON 필드명 기반 마스킹을 등록합니다.
      * "fieldName":"value" → "fieldName":"[MASKED]"
+     *
+     * <p>JSON 입력은 {@link JsonFieldMasker}가 해시 조회로 처리하고,
+     * 그 외 입력을 위해 필드별 정규표현식 규칙도 등록해 둡니다 (필드 순서대로 순차 적용).</p>
      */
-    private void addFieldPattern(String fieldName) {
-        String pattern = "(\"" + Pattern.quote(fieldName) + "\"\\s*:\\s*\")[^\"]*(\")";
-        patterns.add(new PatternReplacement(
-                Pattern.compile(pattern, Pattern.CASE_INSENSITIVE),
-                "$1[MASKED]$2"
-        ));
+    private void addMaskFields(List<String> fieldNames) {
+        if (fieldNames == null || fieldNames.isEmpty()) {
+            return;
+        }
+        this.fieldRules = fieldRules(fieldNames);
+        this.jsonFieldMasker = new JsonFieldMasker(fieldNames);
+        this.maskFields = new ArrayList<>(fieldNames);
     }
 
+    /**
+     * 필드별 대소문자 무시 정규표현식 규칙을 만듭니다 (힌트 포함).
+     */
+    static List<MaskingEngine.Rule> fieldRules(List<String> fieldNames) {
+        List<MaskingEngine.Rule> fieldRules = new ArrayList<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            String pattern = "(\"" + Pattern.quote(fieldName) + "\"\\s*:\\s*\")[^\"]*(\")";
+            fieldRules.add(new MaskingEngine.Rule(
+                    Pattern.compile(pattern, Pattern.CASE_INSENSITIVE),
+                    "$1[MASKED]$2",
+                    MaskingEngine.StartHint.startsWith("\"", firstLetters(List.of(fieldName)))
+            ));
+        }
+        return List.copyOf(fieldRules);
+    }
 
-    private record PatternReplacement(Pattern pattern, String replacement) {
+    /**
+     * 필드명 첫 글자들의 시작 위치 힌트용 문자 집합 (대소문자 모두 포함, '-'는 범위로 해석되지 않도록 맨 뒤에 배치).
+     */
+    private static String firstLetters(List<String> fieldNames) {
+        StringBuilder letters = new StringBuilder();
+        boolean dash = false;
+        for (String fieldName : fieldNames) {
+            char c = fieldName.isEmpty() ? '"' : fieldName.charAt(0);
+            if (c == '-') {
+                dash = true;
+            } else {
+                letters.append(Character.toLowerCase(c)).append(Character.toUpperCase(c));
+            }
+        }
+        return dash ? letters.append('-').toString() : letters.toString();
+    }
+
+    /**
+     * 컴파일된 마스킹 엔진 묶음.
+     *
+     * @param textEngine JSON이 아닌 입력용 (필드 패턴 포함)
+     * @param jsonEngine JSON 필드 마스킹 이후 적용용 (필드 패턴 제외)
+     * @param prefilter  사전 필터 (커스텀 패턴이 있으면 null)
+     */
+    private record CompiledRules(MaskingEngine textEngine, MaskingEngine jsonEngine, MaskingPrefilter prefilter) {
     }
 }
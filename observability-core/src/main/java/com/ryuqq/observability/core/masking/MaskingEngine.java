@@ -0,0 +1,607 @@
+package com.ryuqq.observability.core.masking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 여러 마스킹 규칙을 등록 순서대로 적용하는 마스킹 엔진.
+ *
+ * <p>결과는 규칙마다 이전 규칙의 출력에 {@code replaceAll}을 순차 적용한 것과 항상 같습니다.
+ * 앞 규칙의 치환 결과가 뒤 규칙의 매칭에 영향을 주므로(예: 주민등록번호와 신용카드 번호가 겹치는 숫자열),
+ * 규칙들을 하나의 교대 패턴으로 한 번에 치환하면 결과가 달라질 수 있기 때문입니다.</p>
+ *
+ * <p>대신 결합 가능한 규칙들을 {@code (?:A)|(?:B)|...} 형태의 탐지 패턴으로 컴파일해 두고,
+ * 어떤 규칙도 매칭되지 않는 입력(대부분의 로그)은 이 패턴으로 한 번만 스캔한 뒤 입력을 그대로 반환합니다.
+ * 매칭이 있을 때만 규칙별 스테이지를 순차 적용하며, 각 스테이지는 미리 파싱된 대체 문자열과
+ * 시작 위치 힌트를 사용합니다.
+ * 역참조, 이름 있는 그룹, 지원하지 않는 플래그, 빈 문자열 매칭 등 결합할 수 없는 규칙은 탐지 패턴과 별도로 검사합니다.</p>
+ *
+ * <p>컴파일된 엔진은 불변이며 스레드 안전합니다.</p>
+ */
+final class MaskingEngine {
+
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+
+    private final List<Stage> stages;
+    private final Detector detector;
+
+    private MaskingEngine(List<Stage> stages, Detector detector) {
+        this.stages = stages;
+        this.detector = detector;
+    }
+
+    /**
+     * 규칙 목록을 등록 순서대로 컴파일합니다.
+     *
+     * @param rules 마스킹 규칙 목록
+     * @return 컴파일된 엔진
+     */
+    static MaskingEngine compile(List<Rule> rules) {
+        List<Stage> stages = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            stages.add(RuleStage.of(rule));
+        }
+        return new MaskingEngine(List.copyOf(stages), Detector.of(rules));
+    }
+
+    /**
+     * 입력 문자열에 모든 규칙을 적용합니다.
+     *
+     * @param input 원본 문자열
+     * @return 마스킹된 문자열 (매칭이 없으면 입력 인스턴스 그대로)
+     */
+    String apply(String input) {
+        if (!detector.anyMatch(input)) {
+            return input;
+        }
+        String result = input;
+        for (Stage stage : stages) {
+            result = stage.apply(result);
+        }
+        return result;
+    }
+
+    /**
+     * 입력 문자열에 모든 규칙을 적용하면서 최대 길이까지만 출력 버퍼에 기록합니다.
+     *
+     * <p>마지막 스테이지는 출력이 최대 길이에 도달하는 즉시 스캔을 멈추므로,
+     * 잘라낼 뒷부분에 대해서는 치환 결과를 만들지 않습니다.
+     * 잘리는 지점에 걸친 매칭도 먼저 치환한 뒤 자르므로 원문 일부가 노출되지 않으며,
+     * 결과는 {@link #apply(String)} 결과의 앞부분과 같습니다.</p>
+     *
+     * @param input     원본 문자열
+     * @param maxLength 기록할 최대 문자 수
+     * @param out       출력 버퍼
+     * @return 잘림 여부
+     */
+    boolean applyTo(CharSequence input, int maxLength, StringBuilder out) {
+        int limitEnd = (int) Math.min(Integer.MAX_VALUE, (long) out.length() + Math.max(0, maxLength));
+        if (stages.isEmpty() || !detector.anyMatch(input)) {
+            return appendCapped(out, input, 0, input.length(), limitEnd);
+        }
+
+        CharSequence current = input;
+        int last = stages.size() - 1;
+        for (int i = 0; i < last; i++) {
+            current = stages.get(i).apply(current.toString());
+        }
+        return stages.get(last).applyTo(current, limitEnd, out);
+    }
+
+    /**
+     * 출력 버퍼가 {@code limitEnd} 길이를 넘지 않도록 입력 구간을 덧붙입니다.
+     *
+     * @return 구간이 잘렸으면 true
+     */
+    static boolean appendCapped(StringBuilder out, CharSequence s, int from, int to, int limitEnd) {
+        int room = limitEnd - out.length();
+        if (to - from <= room) {
+            out.append(s, from, to);
+            return false;
+        }
+        out.append(s, from, from + Math.max(0, room));
+        return true;
+    }
+
+    /**
+     * @return 탐지 패턴 하나로 결합된 규칙 수
+     */
+    int combinedRuleCount() {
+        return detector.combinedRuleCount();
+    }
+
+    private static boolean isCombinable(Pattern pattern) {
+        if ((pattern.flags() & ~Pattern.CASE_INSENSITIVE) != 0) {
+            return false;
+        }
+        if (BACK_REFERENCE.matcher(pattern.pattern()).find() || !pattern.namedGroups().isEmpty()) {
+            return false;
+        }
+        return !pattern.matcher("").matches();
+    }
+
+    /**
+     * 투명 경계와 비고정 앵커를 설정한 매처를 만듭니다.
+     * 영역(region) 단위로 매칭할 때도 전방/후방 탐색과 앵커가 전체 입력 기준으로 동작합니다.
+     */
+    private static Matcher regionMatcher(Pattern pattern, CharSequence input) {
+        return pattern.matcher(input)
+                .useTransparentBounds(true)
+                .useAnchoringBounds(false);
+    }
+
+    /**
+     * 마스킹 규칙.
+     *
+     * @param pattern     정규표현식 패턴
+     * @param replacement {@link Matcher#replaceAll(String)}과 같은 문법의 대체 문자열
+     * @param hint        매칭 시작 위치 힌트 (null이면 모든 위치에서 시도)
+     */
+    record Rule(Pattern pattern, String replacement, StartHint hint) {
+
+        Rule(Pattern pattern, String replacement) {
+            this(pattern, replacement, null);
+        }
+    }
+
+    /**
+     * 규칙의 매칭이 시작될 수 있는 위치에 대한 힌트.
+     *
+     * <p>힌트가 있는 규칙의 스테이지는 규칙이 시작할 수 없는 위치를 정규표현식 없이 건너뛰며,
+     * 모든 규칙에 힌트가 있으면 탐지 패턴도 어떤 규칙도 시작할 수 없는 위치를 건너뜁니다.
+     * 문자 집합은 {@code a-z} 형태의 범위를 허용하며, ASCII 이외의 문자는 모두 같은 문자로 취급합니다.</p>
+     *
+     * @param prefix        매칭의 앞 문자들이 될 수 있는 위치별 문자 집합 (최대 {@value StartGate#MAX_PREFIX}개)
+     * @param runChars      매칭이 이 문자들의 연속 구간 시작에서만 시작될 수 있으면 해당 문자 집합, 아니면 null
+     * @param runTerminator 연속 구간 바로 다음에 반드시 와야 하는 문자 (없으면 0)
+     */
+    record StartHint(List<String> prefix, String runChars, char runTerminator) {
+
+        StartHint {
+            if (prefix.isEmpty() || prefix.size() > StartGate.MAX_PREFIX) {
+                throw new IllegalArgumentException("prefix length must be 1.." + StartGate.MAX_PREFIX);
+            }
+            prefix = List.copyOf(prefix);
+        }
+
+        /**
+         * 매칭이 지정한 문자들로 시작하는 규칙의 힌트.
+         *
+         * @param prefix 위치별 문자 집합 (예: {@code "\"", "pP"})
+         */
+        static StartHint startsWith(String... prefix) {
+            return new StartHint(List.of(prefix), null, '\0');
+        }
+
+        /**
+         * 매칭이 {@code runChars} 연속 구간 전체와 그 뒤의 {@code terminator}로 시작하는 규칙의 힌트.
+         *
+         * <p>이메일 로컬 파트처럼 구간 시작에서 실패하면 같은 구간 중간에서도 반드시 실패하는 패턴에만 지정해야 하며,
+         * {@code terminator}는 {@code runChars}에 포함되지 않아야 합니다.</p>
+         */
+        static StartHint startsAtRunOf(String runChars, char terminator) {
+            return new StartHint(List.of(runChars), runChars, terminator);
+        }
+    }
+
+    private interface Stage {
+
+        String apply(String input);
+
+        /**
+         * 스테이지를 적용해 출력 버퍼에 {@code limitEnd} 길이까지 기록합니다.
+         *
+         * @return 잘림 여부
+         */
+        default boolean applyTo(CharSequence input, int limitEnd, StringBuilder out) {
+            String result = apply(input.toString());
+            return appendCapped(out, result, 0, result.length(), limitEnd);
+        }
+    }
+
+    /**
+     * 규칙 하나를 적용하는 스테이지.
+     *
+     * <p>대체 문자열을 파싱할 수 없으면 {@link Matcher#replaceAll(String)}으로 적용하고,
+     * 파싱할 수 있으면 미리 파싱된 대체 문자열로 출력 버퍼에 직접 기록합니다.
+     * 시작 위치 힌트가 있으면 규칙이 시작될 수 있는 위치에서만 정규표현식을 시도합니다.</p>
+     */
+    private static final class RuleStage implements Stage {
+
+        private final Rule rule;
+        private final Replacement replacement;
+        private final StartGate gate;
+
+        private RuleStage(Rule rule, Replacement replacement, StartGate gate) {
+            this.rule = rule;
+            this.replacement = replacement;
+            this.gate = gate;
+        }
+
+        static Stage of(Rule rule) {
+            Pattern pattern = rule.pattern();
+            Replacement replacement = pattern.matcher("").matches()
+                    ? null
+                    : Replacement.parse(rule.replacement(), pattern.matcher("").groupCount());
+            StartGate gate = replacement != null && rule.hint() != null ? StartGate.of(List.of(rule)) : null;
+            return new RuleStage(rule, replacement, gate);
+        }
+
+        @Override
+        public String apply(String input) {
+            if (replacement == null) {
+                Matcher matcher = rule.pattern().matcher(input);
+                return matcher.find() ? matcher.replaceAll(rule.replacement()) : input;
+            }
+
+            Matcher matcher = matcher(input);
+            if (!find(matcher, input, 0)) {
+                return input;
+            }
+
+            StringBuilder out = new StringBuilder(input.length() + 16);
+            int last = 0;
+            do {
+                out.append(input, last, matcher.start());
+                replacement.appendTo(input, matcher, out);
+                last = matcher.end();
+            } while (find(matcher, input, next(matcher)));
+            out.append(input, last, input.length());
+            return out.toString();
+        }
+
+        @Override
+        public boolean applyTo(CharSequence input, int limitEnd, StringBuilder out) {
+            if (replacement == null) {
+                return Stage.super.applyTo(input, limitEnd, out);
+            }
+
+            Matcher matcher = matcher(input);
+            int last = 0;
+            int from = 0;
+            while (true) {
+                if (out.length() >= limitEnd) {
+                    // 출력 한도에 도달하면 남은 입력은 스캔하지 않음
+                    return last < input.length();
+                }
+                if (!find(matcher, input, from)) {
+                    break;
+                }
+                if (appendCapped(out, input, last, matcher.start(), limitEnd)) {
+                    return true;
+                }
+                replacement.appendTo(input, matcher, out);
+                last = matcher.end();
+                from = next(matcher);
+                if (out.length() > limitEnd) {
+                    out.setLength(limitEnd);
+                    return true;
+                }
+            }
+            return appendCapped(out, input, last, input.length(), limitEnd);
+        }
+
+        private Matcher matcher(CharSequence input) {
+            return gate != null ? regionMatcher(rule.pattern(), input) : rule.pattern().matcher(input);
+        }
+
+        /**
+         * {@code from} 이후의 다음 매칭을 찾습니다 (힌트가 없으면 직전 매칭에 이어서 탐색).
+         */
+        private boolean find(Matcher matcher, CharSequence input, int from) {
+            return gate == null ? matcher.find() : gate.find(matcher, input, from);
+        }
+
+        /**
+         * {@link Matcher#find()}와 같이 빈 매칭 다음에는 한 글자 뒤에서 탐색을 이어갑니다.
+         */
+        private static int next(Matcher matcher) {
+            return matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+        }
+    }
+
+    /**
+     * 입력에 매칭되는 규칙이 하나라도 있는지 한 번의 스캔으로 확인하는 탐지기.
+     *
+     * <p>매칭이 없으면 순차 적용 결과도 입력과 같으므로, 치환 없이 입력을 그대로 반환할 수 있습니다.</p>
+     */
+    private static final class Detector {
+
+        private final Pattern combined;
+        private final StartGate gate;
+        private final int combinedRuleCount;
+        private final List<Pattern> separate;
+
+        private Detector(Pattern combined, StartGate gate, int combinedRuleCount, List<Pattern> separate) {
+            this.combined = combined;
+            this.gate = gate;
+            this.combinedRuleCount = combinedRuleCount;
+            this.separate = separate;
+        }
+
+        static Detector of(List<Rule> rules) {
+            List<Rule> combinable = new ArrayList<>();
+            List<Pattern> separate = new ArrayList<>();
+            for (Rule rule : rules) {
+                if (isCombinable(rule.pattern())) {
+                    combinable.add(rule);
+                } else {
+                    separate.add(rule.pattern());
+                }
+            }
+            if (combinable.isEmpty()) {
+                return new Detector(null, null, 0, List.copyOf(separate));
+            }
+
+            StringBuilder regex = new StringBuilder();
+            for (Rule rule : combinable) {
+                Pattern p = rule.pattern();
+                if (!regex.isEmpty()) {
+                    regex.append('|');
+                }
+                regex.append((p.flags() & Pattern.CASE_INSENSITIVE) != 0 ? "(?i:" : "(?:")
+                        .append(p.pattern())
+                        .append(')');
+            }
+            try {
+                return new Detector(Pattern.compile(regex.toString()), StartGate.of(combinable),
+                        combinable.size(), List.copyOf(separate));
+            } catch (PatternSyntaxException e) {
+                // 결합 시 문법이 깨지는 예외적인 패턴은 규칙별로 검사
+                combinable.forEach(rule -> separate.add(rule.pattern()));
+                return new Detector(null, null, 0, List.copyOf(separate));
+            }
+        }
+
+        boolean anyMatch(CharSequence input) {
+            if (combined != null) {
+                boolean found = gate == null
+                        ? combined.matcher(input).find()
+                        : gate.find(regionMatcher(combined, input), input, 0);
+                if (found) {
+                    return true;
+                }
+            }
+            for (Pattern pattern : separate) {
+                if (pattern.matcher(input).find()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int combinedRuleCount() {
+            return combinedRuleCount;
+        }
+    }
+
+    /**
+     * 규칙별 시작 위치 힌트를 문자 단위 비트마스크 표로 컴파일한 것.
+     *
+     * <p>규칙 i는 비트 {@code 1L << i}에 대응하며, 한 위치에서 모든 규칙의 비트가 지워지면 그 위치는 건너뜁니다.</p>
+     */
+    static final class StartGate {
+
+        static final int MAX_PREFIX = 4;
+
+        private static final int ASCII = 128;
+
+        private final long[][] prefixBits;
+        private final long[] shortRules;
+        private final long[] runBits;
+        private final long runRules;
+        private final char[] terminators;
+
+        private StartGate(long[][] prefixBits, long[] shortRules, long[] runBits, long runRules, char[] terminators) {
+            this.prefixBits = prefixBits;
+            this.shortRules = shortRules;
+            this.runBits = runBits;
+            this.runRules = runRules;
+            this.terminators = terminators;
+        }
+
+        /**
+         * 모든 규칙에 힌트가 있을 때만 생성합니다.
+         *
+         * @return 시작 위치 표, 힌트가 없는 규칙이 있거나 규칙이 64개를 넘으면 null
+         */
+        static StartGate of(List<Rule> rules) {
+            if (rules.size() > Long.SIZE || rules.stream().anyMatch(r -> r.hint() == null)) {
+                return null;
+            }
+            int depth = rules.stream().mapToInt(r -> r.hint().prefix().size()).max().orElse(1);
+            long[][] prefixBits = new long[depth][ASCII + 1];
+            long[] shortRules = new long[depth];
+            long[] runBits = new long[ASCII + 1];
+            long runRules = 0;
+            char[] terminators = new char[rules.size()];
+
+            for (int i = 0; i < rules.size(); i++) {
+                StartHint hint = rules.get(i).hint();
+                long bit = 1L << i;
+                for (int k = 0; k < depth; k++) {
+                    if (k < hint.prefix().size()) {
+                        for (char c : expand(hint.prefix().get(k))) {
+                            prefixBits[k][index(c)] |= bit;
+                        }
+                    } else {
+                        // 접두사가 짧은 규칙은 이후 위치의 문자와 무관하게 통과
+                        shortRules[k] |= bit;
+                        for (int c = 0; c <= ASCII; c++) {
+                            prefixBits[k][c] |= bit;
+                        }
+                    }
+                }
+                if (hint.runChars() != null) {
+                    runRules |= bit;
+                    terminators[i] = hint.runTerminator();
+                    for (char c : expand(hint.runChars())) {
+                        runBits[index(c)] |= bit;
+                    }
+                }
+            }
+            return new StartGate(prefixBits, shortRules, runBits, runRules, terminators);
+        }
+
+        /**
+         * {@code from} 이후 규칙이 시작될 수 있는 위치에서만 정규표현식을 시도해 다음 매칭을 찾습니다.
+         *
+         * <p>결과는 같은 위치부터 {@link Matcher#find(int)}를 호출한 것과 같아야 합니다.</p>
+         *
+         * @param matcher 투명 경계({@code useTransparentBounds(true)})와 비고정 앵커로 설정된 매처
+         * @return 매칭 여부 (매칭되면 결과는 matcher에 남음)
+         */
+        boolean find(Matcher matcher, CharSequence input, int from) {
+            int len = input.length();
+            for (int pos = from; pos < len; pos++) {
+                if (mayStartAt(input, pos, from)) {
+                    matcher.region(pos, len);
+                    if (matcher.lookingAt()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * {@code pos}에서 시작할 수 있는 규칙이 있는지 확인합니다.
+         *
+         * @param scanStart 이번 탐색의 시작 위치 (직전 매칭의 끝). 연속 구간은 이 위치부터 시작된 것으로 봅니다.
+         */
+        boolean mayStartAt(CharSequence input, int pos, int scanStart) {
+            int len = input.length();
+            long bits = prefixBits[0][index(input.charAt(pos))];
+            for (int k = 1; bits != 0 && k < prefixBits.length; k++) {
+                bits &= pos + k < len ? prefixBits[k][index(input.charAt(pos + k))] : shortRules[k];
+            }
+            long runCandidates = bits & runRules;
+            if (runCandidates == 0) {
+                return bits != 0;
+            }
+            if (pos > scanStart) {
+                // 연속 구간의 중간 위치에서는 구간 시작 전용 규칙을 제외
+                bits &= ~runBits[index(input.charAt(pos - 1))];
+                runCandidates = bits & runRules;
+            }
+            while (runCandidates != 0) {
+                long bit = Long.lowestOneBit(runCandidates);
+                runCandidates &= ~bit;
+                if (!runEndsWithTerminator(input, pos, bit)) {
+                    bits &= ~bit;
+                }
+            }
+            return bits != 0;
+        }
+
+        private boolean runEndsWithTerminator(CharSequence input, int pos, long bit) {
+            char terminator = terminators[Long.numberOfTrailingZeros(bit)];
+            if (terminator == 0) {
+                return true;
+            }
+            int len = input.length();
+            int end = pos;
+            while (end < len && (runBits[index(input.charAt(end))] & bit) != 0) {
+                end++;
+            }
+            return end < len && input.charAt(end) == terminator;
+        }
+
+        private static int index(char c) {
+            return c < ASCII ? c : ASCII;
+        }
+
+        private static char[] expand(String spec) {
+            StringBuilder chars = new StringBuilder();
+            for (int i = 0; i < spec.length(); i++) {
+                char c = spec.charAt(i);
+                if (i + 2 < spec.length() && spec.charAt(i + 1) == '-') {
+                    for (char r = c; r <= spec.charAt(i + 2); r++) {
+                        chars.append(r);
+                    }
+                    i += 2;
+                } else {
+                    chars.append(c);
+                }
+            }
+            return chars.toString().toCharArray();
+        }
+    }
+
+    /**
+     * 미리 파싱된 대체 문자열.
+     *
+     * <p>리터럴 조각과 그룹 참조 조각으로 분해해 두어 매칭마다 대체 문자열을 다시 해석하지 않습니다.
+     * 문법은 {@link Matcher#appendReplacement(StringBuilder, String)}와 동일합니다.</p>
+     */
+    private record Replacement(String[] literals, int[] groups) {
+
+        /**
+         * 대체 문자열을 파싱합니다.
+         *
+         * @return 파싱 결과, 이름 참조나 잘못된 참조가 있으면 {@code null}
+         */
+        static Replacement parse(String replacement, int groupCount) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> groups = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+
+            int i = 0;
+            while (i < replacement.length()) {
+                char c = replacement.charAt(i);
+                if (c == '\\') {
+                    if (++i >= replacement.length()) {
+                        return null;
+                    }
+                    literal.append(replacement.charAt(i++));
+                } else if (c == '$') {
+                    if (++i >= replacement.length() || !isDigit(replacement.charAt(i))) {
+                        return null;
+                    }
+                    int ref = replacement.charAt(i++) - '0';
+                    if (ref > groupCount) {
+                        return null;
+                    }
+                    while (i < replacement.length() && isDigit(replacement.charAt(i))) {
+                        int next = ref * 10 + (replacement.charAt(i) - '0');
+                        if (next > groupCount) {
+                            break;
+                        }
+                        ref = next;
+                        i++;
+                    }
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    groups.add(ref);
+                } else {
+                    literal.append(c);
+                    i++;
+                }
+            }
+            literals.add(literal.toString());
+
+            return new Replacement(
+                    literals.toArray(String[]::new),
+                    groups.stream().mapToInt(Integer::intValue).toArray()
+            );
+        }
+
+        void appendTo(CharSequence input, Matcher matcher, StringBuilder out) {
+            for (int i = 0; i < groups.length; i++) {
+                out.append(literals[i]);
+                int start = matcher.start(groups[i]);
+                if (start >= 0) {
+                    out.append(input, start, matcher.end(groups[i]));
+                }
+            }
+            out.append(literals[literals.length - 1]);
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+}
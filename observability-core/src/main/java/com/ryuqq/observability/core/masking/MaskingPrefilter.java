@@ -0,0 +1,105 @@
+package com.ryuqq.observability.core.masking;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 기본 마스킹 패턴이 매칭될 가능성이 있는지 빠르게 판별하는 사전 필터.
+ *
+ * <p>대부분의 로그 본문에는 이메일, 카드번호, 전화번호, 토큰이 없으므로
+ * 정규표현식을 돌리기 전에 입력을 한 번 훑어 아래 특징이 하나도 없으면 마스킹을 건너뜁니다.</p>
+ * <ul>
+ *   <li>{@code @} - 이메일</li>
+ *   <li>연속된 숫자 4자리 이상 - 카드번호(하이픈 구분 포함), 전화번호, 주민등록번호</li>
+ *   <li>{@code Bearer} - Bearer 토큰</li>
+ *   <li>따옴표로 감싼 마스킹 대상 필드명 ({@code "password"} 등) - JSON 필드 마스킹</li>
+ * </ul>
+ *
+ * <p>특징이 있다고 해서 반드시 매칭되는 것은 아니지만(보수적 판별),
+ * 특징이 없으면 기본 패턴은 절대 매칭되지 않습니다.
+ * 커스텀 패턴은 특징을 알 수 없으므로 커스텀 패턴이 등록되면 이 필터를 사용하지 않습니다.</p>
+ */
+final class MaskingPrefilter {
+
+    /**
+     * 기본 패턴(하이픈 구분 카드번호, 전화번호)이 요구하는 최소 연속 숫자 길이.
+     */
+    private static final int MIN_DIGIT_RUN = 4;
+
+    private static final String BEARER = "Bearer";
+
+    /**
+     * {@link MaskingPatterns#PASSWORD_IN_JSON}, {@link MaskingPatterns#JWT_IN_JSON}이 대상으로 하는 필드명.
+     */
+    private static final List<String> DEFAULT_JSON_FIELDS = List.of(
+            "password", "passwd", "secret", "apiKey", "api_key",
+            "token", "accessToken", "access_token", "refreshToken", "refresh_token"
+    );
+
+    private final JsonFieldMasker.FieldNameSet fieldNames;
+
+    MaskingPrefilter(Collection<String> maskFields) {
+        List<String> names = new ArrayList<>(DEFAULT_JSON_FIELDS);
+        if (maskFields != null) {
+            names.addAll(maskFields);
+        }
+        this.fieldNames = new JsonFieldMasker.FieldNameSet(names);
+    }
+
+    /**
+     * 입력에 기본 패턴이 매칭될 수 있는 특징이 있는지 확인합니다.
+     *
+     * @param input 검사할 문자열
+     * @return 특징이 하나라도 있으면 true, 마스킹할 것이 없음이 확실하면 false
+     */
+    boolean mayContainSensitive(CharSequence input) {
+        int len = input.length();
+        int digitRun = 0;
+
+        for (int i = 0; i < len; i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitRun >= MIN_DIGIT_RUN) {
+                    return true;
+                }
+                continue;
+            }
+            digitRun = 0;
+
+            if (c == '@') {
+                return true;
+            }
+            if (c == 'B' && regionMatches(input, i, BEARER)) {
+                return true;
+            }
+            if (c == '"' && quotedFieldNameAt(input, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean quotedFieldNameAt(CharSequence input, int quote) {
+        int start = quote + 1;
+        int limit = Math.min(input.length(), start + fieldNames.maxLength() + 1);
+        for (int i = start; i < limit; i++) {
+            if (input.charAt(i) == '"') {
+                return fieldNames.contains(input, start, i);
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(CharSequence input, int offset, String literal) {
+        if (offset + literal.length() > input.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (input.charAt(offset + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
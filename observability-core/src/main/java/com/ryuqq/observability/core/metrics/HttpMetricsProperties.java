@@ -0,0 +1,74 @@
+package com.ryuqq.observability.core.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP RED(Rate, Errors, Duration) 메트릭 설정.
+ *
+ * <p>이 클래스는 순수 Java POJO로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <pre>
+ * observability:
+ *   http:
+ *     metrics:
+ *       enabled: true
+ *       max-routes: 200
+ *       slo-boundaries-ms: [50, 100, 250, 500, 1000]
+ * </pre>
+ */
+public class HttpMetricsProperties {
+
+    /**
+     * 메트릭 기록 활성화 여부 (MeterRegistry 빈이 있을 때만 동작)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 메트릭 이름 접두사 ({prefix}.requests, {prefix}.errors, {prefix}.route.overflow)
+     */
+    private String prefix = "observability.http.server";
+
+    /**
+     * route 태그로 구분할 최대 경로 수 (초과한 경로는 하나로 묶어 기록)
+     */
+    private int maxRoutes = 200;
+
+    /**
+     * 지연 시간 히스토그램의 SLO 버킷 경계 (밀리초)
+     */
+    private List<Long> sloBoundariesMs = new ArrayList<>(List.of(5L, 10L, 25L, 50L, 100L, 250L, 500L,
+            1000L, 2500L, 5000L, 10000L));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public int getMaxRoutes() {
+        return maxRoutes;
+    }
+
+    public void setMaxRoutes(int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+
+    public List<Long> getSloBoundariesMs() {
+        return sloBoundariesMs;
+    }
+
+    public void setSloBoundariesMs(List<Long> sloBoundariesMs) {
+        this.sloBoundariesMs = sloBoundariesMs;
+    }
+}
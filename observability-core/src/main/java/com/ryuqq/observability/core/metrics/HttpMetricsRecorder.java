@@ -0,0 +1,46 @@
+package com.ryuqq.observability.core.metrics;
+
+/**
+ * HTTP 요청 처리 결과를 메트릭으로 기록하는 확장 지점.
+ *
+ * <p>HTTP 로깅 필터가 접근 로그에 쓰는 것과 같은 측정값(정규화 경로, 상태 코드, 처리 시간)을
+ * 그대로 넘기므로, 접근 로그를 샘플링하더라도 요청 수/에러 수/지연 시간 지표는 모든 요청을 기준으로 유지됩니다.</p>
+ *
+ * <p>필터의 요청 처리 경로에서 호출되므로 구현은 블로킹 없이 빠르게 끝나야 합니다.</p>
+ */
+@FunctionalInterface
+public interface HttpMetricsRecorder {
+
+    /**
+     * 아무것도 기록하지 않는 구현 (메트릭 비활성화 시 기본값).
+     */
+    HttpMetricsRecorder NOOP = (method, route, status, durationNanos, error) -> { };
+
+    /**
+     * 요청 하나의 처리 결과를 기록합니다.
+     *
+     * @param method        HTTP Method
+     * @param route         정규화된 경로
+     * @param status        응답 상태 코드
+     * @param durationNanos 처리 시간 (나노초)
+     * @param error         처리되지 않은 예외 (없으면 null)
+     */
+    void record(String method, String route, int status, long durationNanos, Throwable error);
+
+    /**
+     * 상태 코드를 상태 코드 그룹 태그 값으로 변환합니다.
+     *
+     * @param status 응답 상태 코드
+     * @return "1xx" ~ "5xx" (범위를 벗어나면 "UNKNOWN")
+     */
+    static String statusClass(int status) {
+        return switch (status / 100) {
+            case 1 -> "1xx";
+            case 2 -> "2xx";
+            case 3 -> "3xx";
+            case 4 -> "4xx";
+            case 5 -> "5xx";
+            default -> "UNKNOWN";
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.ryuqq.observability.core.metrics;
+
+/**
+ * 로깅 자체 오버헤드 메트릭 설정.
+ *
+ * <p>이 클래스는 순수 Java POJO로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <pre>
+ * observability:
+ *   overhead:
+ *     enabled: true
+ *     prefix: observability.overhead
+ * </pre>
+ */
+public class OverheadProperties {
+
+    /**
+     * 오버헤드 측정 활성화 여부 (MeterRegistry 빈이 있으면 메트릭으로도 노출)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 메트릭 이름 접두사 ({prefix}.stage, {prefix}.captured.bytes, {prefix}.masked.chars)
+     */
+    private String prefix = "observability.overhead";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+}
@@ -0,0 +1,208 @@
+package com.ryuqq.observability.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로깅 필터/Aspect가 스스로 사용한 시간과 처리한 본문 크기를 누적하는 통계.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>컴포넌트(HTTP 필터, 메시지 인터셉터 등)와 단계(마스킹, 경로 정규화 등)별로 소요 시간과 호출 수를,
+ * 컴포넌트별로 복사한 본문 바이트 수와 마스킹한 문자 수를 {@link LongAdder}로 누적합니다.
+ * 값은 단조 증가하는 누적값이므로 초당 값은 수집 측(Micrometer 등)에서 구간 차이로 계산합니다.</p>
+ *
+ * <p>{@link #DISABLED}는 {@link #start()}가 시계를 읽지 않고 기록도 하지 않으므로,
+ * 측정을 끈 상태의 비용은 분기 하나입니다.</p>
+ *
+ * <pre>
+ * {@code
+ * long t = overhead.start();
+ * String masked = logMasker.mask(body);
+ * t = overhead.lap(Component.HTTP, Stage.MASK, t);
+ * HttpLogMarker marker = HttpLogMarker.inbound(method, uri)...;
+ * overhead.lap(Component.HTTP, Stage.MARKER, t);
+ * }
+ * </pre>
+ */
+public final class OverheadStats {
+
+    /**
+     * 아무것도 기록하지 않는 인스턴스.
+     */
+    public static final OverheadStats DISABLED = new OverheadStats(false);
+
+    /**
+     * 측정 대상 컴포넌트.
+     */
+    public enum Component {
+        HTTP("http"),
+        REACTIVE_HTTP("reactive-http"),
+        MESSAGE("message"),
+        LOGGABLE("loggable"),
+        BUSINESS_LOG("business-log");
+
+        private final String tagValue;
+
+        Component(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        /**
+         * @return 메트릭 태그 값
+         */
+        public String getTagValue() {
+            return tagValue;
+        }
+    }
+
+    /**
+     * 측정 단계.
+     */
+    public enum Stage {
+        /** LogMasker 마스킹/자르기 */
+        MASK("mask"),
+        /** PathNormalizer 경로 정규화 */
+        NORMALIZE("normalize"),
+        /** 로깅용 본문 복사와 문자열 변환 */
+        BODY_CAPTURE("body-capture"),
+        /** 구조화 로그 마커(또는 로그 메시지) 생성 */
+        MARKER("marker"),
+        /** 로거 호출 (appender 동기 처리 포함) */
+        LOG("log");
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        /**
+         * @return 메트릭 태그 값
+         */
+        public String getTagValue() {
+            return tagValue;
+        }
+    }
+
+    private static final int STAGE_COUNT = Stage.values().length;
+
+    private final boolean enabled;
+    private final LongAdder[] stageNanos;
+    private final LongAdder[] stageCounts;
+    private final LongAdder[] capturedBytes;
+    private final LongAdder[] maskedChars;
+
+    public OverheadStats() {
+        this(true);
+    }
+
+    private OverheadStats(boolean enabled) {
+        this.enabled = enabled;
+        int components = Component.values().length;
+        this.stageNanos = newAdders(enabled ? components * STAGE_COUNT : 0);
+        this.stageCounts = newAdders(enabled ? components * STAGE_COUNT : 0);
+        this.capturedBytes = newAdders(enabled ? components : 0);
+        this.maskedChars = newAdders(enabled ? components : 0);
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * @return 기록 중이면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 단계 측정을 시작합니다.
+     *
+     * @return 시작 시각 ({@link System#nanoTime()}), 비활성화 상태면 0
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * 시작 시각부터 지금까지를 해당 단계의 소요 시간으로 기록합니다.
+     *
+     * @param component  컴포넌트
+     * @param stage      단계
+     * @param startNanos {@link #start()} 또는 이전 {@link #lap}의 반환값
+     * @return 다음 단계의 시작 시각으로 쓸 현재 시각, 비활성화 상태면 0
+     */
+    public long lap(Component component, Stage stage, long startNanos) {
+        if (!enabled) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        int index = component.ordinal() * STAGE_COUNT + stage.ordinal();
+        stageNanos[index].add(now - startNanos);
+        stageCounts[index].increment();
+        return now;
+    }
+
+    /**
+     * 로깅을 위해 복사한 본문 바이트 수를 더합니다.
+     *
+     * @param component 컴포넌트
+     * @param bytes     바이트 수
+     */
+    public void addCapturedBytes(Component component, long bytes) {
+        if (enabled && bytes > 0) {
+            capturedBytes[component.ordinal()].add(bytes);
+        }
+    }
+
+    /**
+     * 마스킹에 넘긴 문자 수를 더합니다.
+     *
+     * @param component 컴포넌트
+     * @param chars     문자 수
+     */
+    public void addMaskedChars(Component component, long chars) {
+        if (enabled && chars > 0) {
+            maskedChars[component.ordinal()].add(chars);
+        }
+    }
+
+    /**
+     * @param component 컴포넌트
+     * @param stage     단계
+     * @return 누적 소요 시간 (나노초)
+     */
+    public long getTotalNanos(Component component, Stage stage) {
+        return enabled ? stageNanos[component.ordinal() * STAGE_COUNT + stage.ordinal()].sum() : 0L;
+    }
+
+    /**
+     * @param component 컴포넌트
+     * @param stage     단계
+     * @return 누적 측정 횟수
+     */
+    public long getCount(Component component, Stage stage) {
+        return enabled ? stageCounts[component.ordinal() * STAGE_COUNT + stage.ordinal()].sum() : 0L;
+    }
+
+    /**
+     * @param component 컴포넌트
+     * @return 누적 본문 복사 바이트 수
+     */
+    public long getCapturedBytes(Component component) {
+        return enabled ? capturedBytes[component.ordinal()].sum() : 0L;
+    }
+
+    /**
+     * @param component 컴포넌트
+     * @return 누적 마스킹 문자 수
+     */
+    public long getMaskedChars(Component component) {
+        return enabled ? maskedChars[component.ordinal()].sum() : 0L;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ryuqq.observability.core.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메트릭 route 태그의 카디널리티를 제한합니다.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>경로 정규화가 놓친 식별자(예: 패턴에 없는 slug)가 route 태그에 섞이면 시계열이 요청마다 늘어납니다.
+ * 처음 관측한 {@code maxRoutes}개의 경로만 그대로 쓰고, 이후 새로 나타난 경로는 {@link #OTHER_ROUTE}로 묶습니다.
+ * 묶인 요청 수는 {@link #getOverflowCount()}로 확인할 수 있습니다.</p>
+ */
+public final class RouteCardinalityGuard {
+
+    /**
+     * 허용 경로 수를 초과한 경로를 묶는 이름.
+     */
+    public static final String OTHER_ROUTE = "__other__";
+
+    private final int maxRoutes;
+    private final Set<String> routes = ConcurrentHashMap.newKeySet();
+    private final LongAdder overflow = new LongAdder();
+
+    /**
+     * @param maxRoutes 허용할 최대 경로 수
+     */
+    public RouteCardinalityGuard(int maxRoutes) {
+        this.maxRoutes = Math.max(0, maxRoutes);
+    }
+
+    /**
+     * route 태그 값으로 쓸 경로를 반환합니다.
+     *
+     * @param route 정규화된 경로
+     * @return 허용된 경로면 그대로, 아니면 {@link #OTHER_ROUTE}
+     */
+    public String resolve(String route) {
+        if (route == null) {
+            overflow.increment();
+            return OTHER_ROUTE;
+        }
+        if (routes.contains(route)) {
+            return route;
+        }
+        // 동시에 추가되면 한도를 조금 넘을 수 있지만 시계열 폭증을 막기에는 충분
+        if (routes.size() < maxRoutes) {
+            routes.add(route);
+            return route;
+        }
+        overflow.increment();
+        return OTHER_ROUTE;
+    }
+
+    /**
+     * @return 현재 허용된 경로 수
+     */
+    public int getRouteCount() {
+        return routes.size();
+    }
+
+    /**
+     * @return {@link #OTHER_ROUTE}로 묶인 요청 수
+     */
+    public long getOverflowCount() {
+        return overflow.sum();
+    }
+}
@@ -0,0 +1,240 @@
+package com.ryuqq.observability.core.path;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경로를 세그먼트 단위로 한 번만 훑어 정규화하는 정규화기.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>정규표현식을 패턴마다 순차 적용하는 대신 경로를 {@code /}로 나누고,</p>
+ * <ol>
+ *   <li>등록된 경로 템플릿의 트라이를 따라가 일치하는 템플릿이 있으면 템플릿을 그대로 반환하고,</li>
+ *   <li>없으면 각 세그먼트를 문자 검사로 분류하여 동적 세그먼트만 플레이스홀더로 바꿉니다.</li>
+ * </ol>
+ *
+ * <p>템플릿 수가 늘어나도 조회 비용은 세그먼트 수에만 비례합니다.</p>
+ *
+ * <pre>
+ * {@code
+ * SegmentPathNormalizer normalizer = new SegmentPathNormalizer(
+ *         List.of("/api/orders/{orderId}/items/{itemId}"), false);
+ *
+ * normalizer.normalize("/api/orders/ORD-1/items/7");   // /api/orders/{orderId}/items/{itemId}
+ * normalizer.normalize("/api/users/12345");            // /api/users/{id}
+ * normalizer.normalize("/api/files/550e8400-e29b-41d4-a716-446655440000"); // /api/files/{uuid}
+ * }
+ * </pre>
+ *
+ * <p>기본 분류 규칙 (세그먼트 전체가 일치해야 함, 위에서부터 우선):</p>
+ * <ul>
+ *   <li>UUID (8-4-4-4-12 16진수) → {@code {uuid}}</li>
+ *   <li>숫자만 → {@code {id}}</li>
+ *   <li>32자 이상의 16진수 → {@code {hash}}</li>
+ *   <li>20자 이상의 Base64 URL-safe 문자열 → {@code {token}} (선택)</li>
+ * </ul>
+ */
+public final class SegmentPathNormalizer {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int MIN_HASH_LENGTH = 32;
+    private static final int MIN_TOKEN_LENGTH = 20;
+
+    private final Node root = new Node();
+    private final boolean normalizeTokens;
+
+    /**
+     * @param templates       경로 템플릿 목록 (예: {@code /api/orders/{orderId}}), null 허용
+     * @param normalizeTokens 20자 이상의 Base64 URL-safe 세그먼트를 {@code {token}}으로 바꿀지 여부
+     */
+    public SegmentPathNormalizer(Collection<String> templates, boolean normalizeTokens) {
+        this.normalizeTokens = normalizeTokens;
+        if (templates != null) {
+            for (String template : templates) {
+                addTemplate(template);
+            }
+        }
+    }
+
+    /**
+     * 경로 템플릿을 등록합니다.
+     *
+     * <p>{@code {name}} 형태의 세그먼트는 비어 있지 않은 임의의 세그먼트와 일치합니다.
+     * 같은 위치에서는 고정 세그먼트가 변수 세그먼트보다 우선합니다.</p>
+     *
+     * @param template 경로 템플릿
+     */
+    public void addTemplate(String template) {
+        if (template == null || template.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        int start = template.charAt(0) == '/' ? 1 : 0;
+        while (true) {
+            int end = segmentEnd(template, start, template.length());
+            String segment = template.substring(start, end);
+            node = isVariable(segment) ? node.wildcard() : node.literal(segment);
+            if (end >= template.length()) {
+                break;
+            }
+            start = end + 1;
+        }
+        node.template = template;
+    }
+
+    /**
+     * 경로를 정규화합니다.
+     *
+     * <p>{@code ?} 이후의 쿼리 문자열은 그대로 유지합니다.</p>
+     *
+     * @param path 원본 경로
+     * @return 정규화된 경로 (바뀐 것이 없으면 입력 인스턴스 그대로)
+     */
+    public String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return path;
+        }
+        int query = path.indexOf('?');
+        int pathEnd = query < 0 ? path.length() : query;
+        int first = path.charAt(0) == '/' ? 1 : 0;
+
+        String template = root.hasChildren() ? match(root, path, first, pathEnd) : null;
+        if (template != null) {
+            return query < 0 ? template : template + path.substring(query);
+        }
+        return classifySegments(path, first, pathEnd);
+    }
+
+    /**
+     * 트라이를 따라 일치하는 템플릿을 찾습니다. 고정 세그먼트를 먼저 시도하고 실패하면 변수 세그먼트로 되돌아갑니다.
+     */
+    private static String match(Node node, String path, int start, int pathEnd) {
+        int end = segmentEnd(path, start, pathEnd);
+        boolean last = end >= pathEnd;
+
+        if (node.literals != null) {
+            Node child = node.literals.get(path.substring(start, end));
+            if (child != null) {
+                String found = last ? child.template : match(child, path, end + 1, pathEnd);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        if (node.wildcard != null && end > start) {
+            return last ? node.wildcard.template : match(node.wildcard, path, end + 1, pathEnd);
+        }
+        return null;
+    }
+
+    private String classifySegments(String path, int first, int pathEnd) {
+        StringBuilder out = null;
+        int copied = 0;
+        int start = first;
+        while (start <= pathEnd) {
+            int end = segmentEnd(path, start, pathEnd);
+            String placeholder = classify(path, start, end);
+            if (placeholder != null) {
+                if (out == null) {
+                    out = new StringBuilder(path.length());
+                }
+                out.append(path, copied, start).append(placeholder);
+                copied = end;
+            }
+            start = end + 1;
+        }
+        if (out == null) {
+            return path;
+        }
+        return out.append(path, copied, path.length()).toString();
+    }
+
+    /**
+     * 세그먼트 하나를 분류합니다.
+     *
+     * @return 플레이스홀더, 동적 세그먼트가 아니면 null
+     */
+    private String classify(String s, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return null;
+        }
+        if (length == UUID_LENGTH && isUuid(s, start)) {
+            return "{uuid}";
+        }
+
+        boolean digits = true;
+        boolean hex = true;
+        boolean token = true;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            digits &= digit;
+            hex &= digit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            token &= digit || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '-';
+            if (!token) {
+                return null;
+            }
+        }
+        if (digits) {
+            return "{id}";
+        }
+        if (hex && length >= MIN_HASH_LENGTH) {
+            return "{hash}";
+        }
+        if (normalizeTokens && length >= MIN_TOKEN_LENGTH) {
+            return "{token}";
+        }
+        return null;
+    }
+
+    private static boolean isUuid(String s, int start) {
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = s.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int segmentEnd(String s, int start, int limit) {
+        int slash = s.indexOf('/', start);
+        return slash < 0 || slash > limit ? limit : slash;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> literals;
+        private Node wildcard;
+        private String template;
+
+        private Node literal(String segment) {
+            if (literals == null) {
+                literals = new HashMap<>();
+            }
+            return literals.computeIfAbsent(segment, k -> new Node());
+        }
+
+        private Node wildcard() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+            return wildcard;
+        }
+
+        private boolean hasChildren() {
+            return literals != null || wildcard != null;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ryuqq.observability.core.sampling;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP 접근 로그의 출력 여부를 결정하는 샘플러.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>응답이 끝난 뒤(tail-based) 정규화 경로, 상태 코드, 느린 요청 여부를 보고 결정합니다.</p>
+ * <ol>
+ *   <li>에러 응답/느린 요청은 설정에 따라 항상 로깅합니다.</li>
+ *   <li>경로별 샘플링 비율로 확률적으로 고릅니다.</li>
+ *   <li>고른 요청도 경로별 초당 최대 건수({@link TokenBucket})를 넘으면 버립니다.</li>
+ * </ol>
+ *
+ * <p>대시보드에서 전체 건수를 역산할 수 있도록 경로별로 로깅/버림 건수를 집계합니다.
+ * 집계 경로 수는 {@code maxTrackedRoutes}로 제한되며, 초과한 경로는 {@link #OTHER_ROUTE}로 묶입니다.</p>
+ *
+ * <pre>
+ * {@code
+ * LogSampler sampler = new LogSampler(samplingProperties);
+ *
+ * if (sampler.shouldLog("/api/orders/{id}", status, isSlow)) {
+ *     // 요청/응답 로그 출력
+ * }
+ * }
+ * </pre>
+ */
+public final class LogSampler {
+
+    /**
+     * 집계 경로 수를 초과한 경로를 묶는 이름.
+     */
+    public static final String OTHER_ROUTE = "__other__";
+
+    private final double defaultRate;
+    private final int defaultRateLimit;
+    private final boolean alwaysLogErrors;
+    private final boolean alwaysLogSlow;
+    private final int maxTrackedRoutes;
+
+    private final Map<String, SamplingProperties.RouteRule> rules;
+    private final ConcurrentHashMap<String, RouteState> states = new ConcurrentHashMap<>();
+    private final RouteState otherState;
+
+    /**
+     * @param properties 샘플링 설정
+     */
+    public LogSampler(SamplingProperties properties) {
+        this.defaultRate = clampRate(properties.getDefaultRate());
+        this.defaultRateLimit = properties.getRateLimitPerSecond();
+        this.alwaysLogErrors = properties.isAlwaysLogErrors();
+        this.alwaysLogSlow = properties.isAlwaysLogSlow();
+        this.maxTrackedRoutes = Math.max(0, properties.getMaxTrackedRoutes());
+
+        Map<String, SamplingProperties.RouteRule> configured = new LinkedHashMap<>();
+        for (SamplingProperties.RouteRule rule : properties.getRoutes()) {
+            if (rule.getRoute() != null) {
+                configured.put(rule.getRoute(), rule);
+            }
+        }
+        this.rules = configured;
+        // 설정된 경로는 집계 한도와 무관하게 항상 따로 집계
+        configured.keySet().forEach(route -> states.put(route, createState(route)));
+        this.otherState = createState(OTHER_ROUTE);
+    }
+
+    /**
+     * 요청/응답 로그를 출력할지 결정합니다.
+     *
+     * @param route  정규화된 경로
+     * @param status 응답 상태 코드
+     * @param slow   느린 요청 여부
+     * @return 로깅해야 하면 true
+     */
+    public boolean shouldLog(String route, int status, boolean slow) {
+        RouteState state = stateOf(route);
+        if ((alwaysLogErrors && status >= 400) || (alwaysLogSlow && slow)) {
+            state.sampled.increment();
+            return true;
+        }
+        if (state.rate < 1.0 && (state.rate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= state.rate)) {
+            state.dropped.increment();
+            return false;
+        }
+        if (state.bucket != null && !state.bucket.tryAcquire()) {
+            state.dropped.increment();
+            return false;
+        }
+        state.sampled.increment();
+        return true;
+    }
+
+    /**
+     * 경로별 로깅/버림 건수를 반환합니다.
+     *
+     * @return 경로 → 집계 스냅샷 (건수가 없는 경로 제외)
+     */
+    public Map<String, RouteStats> getStats() {
+        Map<String, RouteStats> stats = new LinkedHashMap<>();
+        states.forEach((route, state) -> addStats(stats, state));
+        addStats(stats, otherState);
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private static void addStats(Map<String, RouteStats> stats, RouteState state) {
+        long sampled = state.sampled.sum();
+        long dropped = state.dropped.sum();
+        if (sampled > 0 || dropped > 0) {
+            stats.put(state.route, new RouteStats(state.route, state.rate, sampled, dropped));
+        }
+    }
+
+    private RouteState stateOf(String route) {
+        if (route == null) {
+            return otherState;
+        }
+        RouteState state = states.get(route);
+        if (state != null) {
+            return state;
+        }
+        if (states.size() >= rules.size() + maxTrackedRoutes) {
+            return otherState;
+        }
+        return states.computeIfAbsent(route, this::createState);
+    }
+
+    private RouteState createState(String route) {
+        SamplingProperties.RouteRule rule = rules.get(route);
+        double rate = rule != null && rule.getRate() != null ? clampRate(rule.getRate()) : defaultRate;
+        int limit = rule != null && rule.getRateLimitPerSecond() != null ? rule.getRateLimitPerSecond() : defaultRateLimit;
+        return new RouteState(route, rate, limit > 0 ? new TokenBucket(limit) : null);
+    }
+
+    private static double clampRate(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    /**
+     * 경로별 집계 스냅샷.
+     *
+     * @param route   정규화된 경로 (또는 {@link #OTHER_ROUTE})
+     * @param rate    적용된 샘플링 비율
+     * @param sampled 로깅한 건수 (항상 로깅한 에러/느린 요청 포함)
+     * @param dropped 샘플링 또는 초당 제한으로 버린 건수
+     */
+    public record RouteStats(String route, double rate, long sampled, long dropped) {
+    }
+
+    private static final class RouteState {
+
+        private final String route;
+        private final double rate;
+        private final TokenBucket bucket;
+        private final LongAdder sampled = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private RouteState(String route, double rate, TokenBucket bucket) {
+            this.route = route;
+            this.rate = rate;
+            this.bucket = bucket;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.ryuqq.observability.core.sampling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP 접근 로그 샘플링 설정.
+ *
+ * <p>이 클래스는 순수 Java POJO로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <pre>
+ * observability:
+ *   http:
+ *     sampling:
+ *       enabled: true
+ *       default-rate: 0.1
+ *       rate-limit-per-second: 100
+ *       routes:
+ *         - route: /api/orders/{id}
+ *           rate: 1.0
+ *         - route: /api/products
+ *           rate: 0.01
+ *           rate-limit-per-second: 10
+ * </pre>
+ */
+public class SamplingProperties {
+
+    /**
+     * 샘플링 활성화 여부 (활성화하면 요청 로그는 응답 결과를 보고 함께 출력 여부를 결정)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 기본 샘플링 비율 (0.0 ~ 1.0)
+     */
+    private double defaultRate = 1.0;
+
+    /**
+     * 경로별 초당 최대 로그 건수 (0이면 제한 없음)
+     */
+    private int rateLimitPerSecond = 0;
+
+    /**
+     * 에러 응답(상태 코드 400 이상)은 샘플링과 무관하게 항상 로깅
+     */
+    private boolean alwaysLogErrors = true;
+
+    /**
+     * 느린 요청(slowRequestThresholdMs 이상)은 샘플링과 무관하게 항상 로깅
+     */
+    private boolean alwaysLogSlow = true;
+
+    /**
+     * 건수를 따로 집계할 최대 경로 수 (초과한 경로는 하나로 묶어 집계)
+     */
+    private int maxTrackedRoutes = 500;
+
+    /**
+     * 경로별 샘플링 규칙 (정규화된 경로 기준)
+     */
+    private List<RouteRule> routes = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getDefaultRate() {
+        return defaultRate;
+    }
+
+    public void setDefaultRate(double defaultRate) {
+        this.defaultRate = defaultRate;
+    }
+
+    public int getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(int rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public boolean isAlwaysLogErrors() {
+        return alwaysLogErrors;
+    }
+
+    public void setAlwaysLogErrors(boolean alwaysLogErrors) {
+        this.alwaysLogErrors = alwaysLogErrors;
+    }
+
+    public boolean isAlwaysLogSlow() {
+        return alwaysLogSlow;
+    }
+
+    public void setAlwaysLogSlow(boolean alwaysLogSlow) {
+        this.alwaysLogSlow = alwaysLogSlow;
+    }
+
+    public int getMaxTrackedRoutes() {
+        return maxTrackedRoutes;
+    }
+
+    public void setMaxTrackedRoutes(int maxTrackedRoutes) {
+        this.maxTrackedRoutes = maxTrackedRoutes;
+    }
+
+    public List<RouteRule> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<RouteRule> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * 경로별 샘플링 규칙.
+     */
+    public static class RouteRule {
+
+        /**
+         * 정규화된 경로 (예: /api/orders/{id})
+         */
+        private String route;
+
+        /**
+         * 샘플링 비율 (null이면 기본 비율)
+         */
+        private Double rate;
+
+        /**
+         * 초당 최대 로그 건수 (null이면 기본값, 0이면 제한 없음)
+         */
+        private Integer rateLimitPerSecond;
+
+        public RouteRule() {
+        }
+
+        public RouteRule(String route, Double rate, Integer rateLimitPerSecond) {
+            this.route = route;
+            this.rate = rate;
+            this.rateLimitPerSecond = rateLimitPerSecond;
+        }
+
+        public String getRoute() {
+            return route;
+        }
+
+        public void setRoute(String route) {
+            this.route = route;
+        }
+
+        public Double getRate() {
+            return rate;
+        }
+
+        public void setRate(Double rate) {
+            this.rate = rate;
+        }
+
+        public Integer getRateLimitPerSecond() {
+            return rateLimitPerSecond;
+        }
+
+        public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+            this.rateLimitPerSecond = rateLimitPerSecond;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ryuqq.observability.core.sampling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 허용 건수를 제한하는 토큰 버킷.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>토큰 수와 마지막 충전 시각을 따로 관리하는 대신, 다음 토큰이 생기는 이론적 시각 하나만
+ * CAS로 갱신하는 GCRA 방식으로 구현하여 잠금이 없습니다. 버킷 크기는 1초 분량입니다.</p>
+ */
+public final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier clock;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param permitsPerSecond 초당 허용 건수 (1 이상)
+     */
+    public TokenBucket(int permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(int permitsPerSecond, LongSupplier clock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.emissionIntervalNanos = Math.max(1, NANOS_PER_SECOND / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (permitsPerSecond - 1);
+        this.clock = clock;
+        this.theoreticalArrival = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @return 토큰이 남아 있었으면 true
+     */
+    public boolean tryAcquire() {
+        long now = clock.getAsLong();
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long base = arrival - now > 0 ? arrival : now;
+            if (base - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.ryuqq.observability.core.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 로그 이벤트를 요청 스레드 밖에서 처리하는 비동기 디스패처.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>요청 스레드는 불변 이벤트를 크기가 고정된 링 버퍼에 넣기만 하고, 전용 데몬 스레드가
+ * 이벤트를 꺼내 마스킹/마커 생성/로그 출력 같은 무거운 작업을 수행합니다.</p>
+ * <ul>
+ *   <li><b>잠금 없는 링 버퍼</b>: 여러 생산자가 CAS로 슬롯을 예약하고, 단일 소비자가 순서대로 꺼냅니다.</li>
+ *   <li><b>넘침 정책</b>: 버퍼가 가득 차면 이벤트를 버리거나({@link OverflowPolicy#DROP})
+ *       자리가 날 때까지 기다립니다({@link OverflowPolicy#BLOCK}).</li>
+ *   <li><b>카운터</b>: 제출/처리/버림/실패 건수를 제공하며, 버려진 이벤트가 있으면 주기적으로 경고 로그를 남깁니다.</li>
+ * </ul>
+ *
+ * <p>처리 함수가 던진 예외와 오류는 실패로 세고 다음 이벤트를 계속 처리합니다.
+ * {@link VirtualMachineError}만은 실패로 센 뒤 처리 스레드를 종료시키며, 이후 제출되는 이벤트와
+ * 버퍼에 남은 이벤트는 버림으로 셉니다 (BLOCK 정책에서도 요청 스레드가 멈추지 않음).</p>
+ *
+ * <pre>
+ * {@code
+ * AsyncLogDispatcher<AccessLogRecord> dispatcher = new AsyncLogDispatcher<>(
+ *         "observability-http-log", 8192, OverflowPolicy.DROP, this::emit);
+ *
+ * dispatcher.dispatch(record);   // 요청 스레드: 버퍼에 넣고 즉시 반환
+ * dispatcher.close();            // 종료 시 남은 이벤트를 처리하고 스레드 정리
+ * }
+ * </pre>
+ *
+ * @param <T> 이벤트 타입 (처리 스레드로 넘어가므로 불변이어야 함)
+ */
+public final class AsyncLogDispatcher<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncLogDispatcher.class);
+
+    /**
+     * 비어 있을 때 처리 스레드가 대기하는 최대 시간 (생산자가 깨우지 못한 경우의 안전장치).
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * BLOCK 정책에서 자리가 나기를 기다리는 간격.
+     */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final long DEFAULT_CLOSE_TIMEOUT_MS = 5000;
+
+    /**
+     * 버퍼가 가득 찼을 때의 동작.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * 이벤트를 버리고 즉시 반환합니다 (요청 지연 없음, 기본값).
+         */
+        DROP,
+
+        /**
+         * 자리가 날 때까지 요청 스레드가 기다립니다 (로그 유실 없음).
+         */
+        BLOCK
+    }
+
+    private final String name;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<? super T> handler;
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+    /**
+     * 처리 스레드가 멈춘 시점의 head (이보다 앞선 위치의 이벤트만 처리됨).
+     */
+    private long stoppedAt = Long.MAX_VALUE;
+
+    private final Thread worker;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+    private volatile boolean terminated;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * @param name           처리 스레드 이름
+     * @param capacity       버퍼 크기 (2의 거듭제곱으로 올림)
+     * @param overflowPolicy 버퍼가 가득 찼을 때의 동작
+     * @param handler        처리 스레드에서 이벤트를 처리하는 함수
+     */
+    public AsyncLogDispatcher(String name, int capacity, OverflowPolicy overflowPolicy,
+                              Consumer<? super T> handler) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.name = name;
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.DROP;
+        this.handler = handler;
+
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new Object[this.capacity];
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        this.worker = new Thread(this::drainLoop, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 이벤트를 처리 스레드로 넘깁니다.
+     *
+     * @param event 이벤트 (null이면 무시)
+     * @return 버퍼에 들어갔으면 true, 버려졌으면 false
+     */
+    public boolean dispatch(T event) {
+        if (event == null) {
+            return false;
+        }
+        if (closed || terminated) {
+            dropped.increment();
+            return false;
+        }
+        long position;
+        while ((position = offer(event)) < 0) {
+            if (overflowPolicy == OverflowPolicy.DROP || closed || terminated) {
+                dropped.increment();
+                return false;
+            }
+            wakeWorker();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        dispatched.increment();
+        if (closed || terminated) {
+            // 처리 스레드의 마지막 확인 이후에 들어갔을 수 있으므로 처리 여부를 확인
+            return awaitHandled(position);
+        }
+        if (sleeping) {
+            wakeWorker();
+        }
+        return true;
+    }
+
+    /**
+     * 새 이벤트를 받지 않고, 남은 이벤트를 처리한 뒤 처리 스레드를 종료합니다 (최대 5초 대기).
+     */
+    @Override
+    public void close() {
+        close(DEFAULT_CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새 이벤트를 받지 않고, 남은 이벤트를 처리한 뒤 처리 스레드를 종료합니다.
+     *
+     * @param timeout 최대 대기 시간
+     * @param unit    시간 단위
+     * @return 제한 시간 안에 모두 처리했으면 true
+     */
+    public boolean close(long timeout, TimeUnit unit) {
+        closed = true;
+        wakeWorker();
+        try {
+            worker.join(Math.max(1, unit.toMillis(timeout)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !worker.isAlive();
+    }
+
+    /**
+     * 버퍼에 들어간 이벤트 수를 반환합니다 (처리 스레드 종료로 버려진 이벤트 포함).
+     *
+     * @return 제출 건수
+     */
+    public long getDispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * 버퍼가 가득 차거나, 종료 후 제출되었거나, 처리 스레드가 종료되어 남은 이벤트 수를 반환합니다.
+     *
+     * @return 버림 건수
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 처리 스레드가 처리한 이벤트 수를 반환합니다 (실패 포함).
+     *
+     * @return 처리 건수
+     */
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    /**
+     * 처리 중 예외가 발생한 이벤트 수를 반환합니다.
+     *
+     * @return 실패 건수
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 버퍼에 대기 중인 이벤트 수를 반환합니다 (근사값).
+     *
+     * @return 대기 건수
+     */
+    public int getQueueSize() {
+        if (terminated) {
+            return 0;
+        }
+        long size = getDispatched() - getProcessed();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    /**
+     * 버퍼 크기를 반환합니다.
+     *
+     * @return 버퍼 크기
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * 다중 생산자 링 버퍼 삽입 (슬롯별 시퀀스로 예약/게시를 구분).
+     */
+    private long offer(T event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = event;
+                    // volatile 쓰기로 게시하여 sleeping 확인과의 순서를 보장
+                    sequences.set(index, position + 1);
+                    return position;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return -1;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 단일 소비자 꺼내기 (처리 스레드 전용).
+     */
+    @SuppressWarnings("unchecked")
+    private T poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        T event = (T) slots[index];
+        slots[index] = null;
+        sequences.lazySet(index, head + capacity);
+        head++;
+        return event;
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    private void wakeWorker() {
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * 종료 중에 넣은 이벤트가 처리되었는지 확인합니다.
+     *
+     * <p>처리 스레드가 끝날 때까지 기다린 뒤, 처리 스레드가 멈추기 전에 꺼낸 위치가 아니면 버림으로 세고
+     * false를 반환합니다. 처리 스레드의 종료 단계가 버린 이벤트도 여기에 해당합니다.
+     * 제한 시간 안에 끝나지 않으면 처리 스레드가 아직 비우는 중이므로 true를 반환합니다.</p>
+     */
+    private boolean awaitHandled(long position) {
+        wakeWorker();
+        try {
+            worker.join(DEFAULT_CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            return true;
+        }
+        discardRemaining();
+        // join 이후이므로 처리 스레드가 기록한 stoppedAt이 보임
+        return position < stoppedAt;
+    }
+
+    /**
+     * 처리 스레드가 끝난 뒤 버퍼에 남은 이벤트를 버림으로 셉니다.
+     *
+     * <p>처리 스레드의 종료 단계 또는 처리 스레드가 끝난 것을 확인한 생산자만 호출하므로
+     * 잠금 안에서는 단일 소비자 조건이 유지됩니다.</p>
+     */
+    private synchronized void discardRemaining() {
+        while (poll() != null) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        try {
+            runLoop();
+        } catch (Throwable e) {
+            log.error("[{}] Log worker stopped; further log events will be dropped", name, e);
+            throw e;
+        } finally {
+            // terminated를 먼저 기록해야, 여기서 보지 못한 이벤트를 넣은 생산자가 종료를 확인함
+            stoppedAt = head;
+            terminated = true;
+            discardRemaining();
+        }
+    }
+
+    private void runLoop() {
+        long reportedDrops = 0;
+        long lastReport = System.nanoTime();
+        while (true) {
+            T event = poll();
+            if (event != null) {
+                handle(event);
+                continue;
+            }
+            if (closed && isEmpty()) {
+                break;
+            }
+
+            long drops = dropped.sum();
+            if (drops != reportedDrops && System.nanoTime() - lastReport >= DROP_REPORT_INTERVAL_NANOS) {
+                log.warn("[{}] {} log events dropped (buffer capacity={})", name, drops - reportedDrops, capacity);
+                reportedDrops = drops;
+                lastReport = System.nanoTime();
+            }
+
+            sleeping = true;
+            if (isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            sleeping = false;
+        }
+    }
+
+    private void handle(T event) {
+        try {
+            handler.accept(event);
+        } catch (VirtualMachineError e) {
+            failed.increment();
+            throw e;
+        } catch (Throwable e) {
+            failed.increment();
+            log.debug("[{}] Failed to handle log event", name, e);
+        } finally {
+            processed.increment();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ryuqq.observability.core.support;
+
+/**
+ * HTTP 본문 캡처 한도 계산.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>로그에 남기는 본문 길이({@code maxBodyLength})는 문자 수 기준이고, 캡처는 디코딩 전 원본 바이트 기준입니다.
+ * Servlet과 WebFlux 필터가 같은 한도로 캡처하도록 계산을 한곳에 둡니다.</p>
+ */
+public final class BodyCaptureLimits {
+
+    /**
+     * UTF-8 한 글자의 최대 바이트 수.
+     */
+    public static final int MAX_BYTES_PER_CHAR = 4;
+
+    /**
+     * 한도 경계에서 잘린 멀티바이트 문자를 버려도 최대 길이가 채워지도록 더하는 여유 바이트.
+     */
+    public static final int SLACK_BYTES = 64;
+
+    private BodyCaptureLimits() {
+    }
+
+    /**
+     * 최대 본문 길이를 로깅하기 위해 캡처할 원본 바이트 수를 반환합니다.
+     *
+     * <p>UTF-8 한 글자는 최대 4바이트이므로, 디코딩 후에도 최대 길이 이상의 문자가 남도록 여유를 둡니다.</p>
+     *
+     * @param maxBodyLength 로그에 남길 최대 본문 길이 (문자 수)
+     * @return 캡처할 최대 바이트 수 (음수 길이는 0으로 취급)
+     */
+    public static int captureBytes(int maxBodyLength) {
+        long bytes = (long) Math.max(0, maxBodyLength) * MAX_BYTES_PER_CHAR + SLACK_BYTES;
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
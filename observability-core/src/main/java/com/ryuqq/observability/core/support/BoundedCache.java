@@ -0,0 +1,234 @@
+package com.ryuqq.observability.core.support;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 크기가 제한된 동시성 캐시.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다 (Caffeine 불필요).</p>
+ *
+ * <p>경로 정규화처럼 소수의 키가 대부분의 조회를 차지하는 계산 결과를 캐싱하기 위한 용도입니다.</p>
+ * <ul>
+ *   <li><b>입장 제한 (doorkeeper)</b>: 처음 보는 키는 캐시에 넣지 않고, 최근에 한 번 더 조회된 키만 저장합니다.
+ *       랜덤 ID가 섞인 공격성 트래픽처럼 한 번만 나타나는 키가 자주 쓰이는 키를 밀어내지 못합니다.</li>
+ *   <li><b>CLOCK 교체</b>: 조회된 항목에 참조 표시를 남기고, 가득 차면 참조 표시가 없는 항목부터 제거합니다.</li>
+ * </ul>
+ *
+ * <p>조회 경로에는 잠금이 없으며, 제거는 새 항목이 들어올 때만 짧게 잠금을 잡고 수행합니다.
+ * 같은 키를 여러 스레드가 동시에 계산할 수 있으므로 loader는 부작용이 없어야 합니다.</p>
+ *
+ * <pre>
+ * {@code
+ * BoundedCache<String, String> cache = new BoundedCache<>(1024);
+ * String normalized = cache.get(path, this::doNormalize);
+ * }
+ * </pre>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class BoundedCache<K, V> {
+
+    /**
+     * doorkeeper 비트 수 = 최대 크기 × 이 값 (키당 약 8비트면 오탐률이 충분히 낮음).
+     */
+    private static final int DOORKEEPER_BITS_PER_ENTRY = 8;
+
+    private static final int MAX_DOORKEEPER_BITS = 1 << 24;
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<K, Node<V>> map;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<K, Node<V>>> clockHand;
+
+    private final AtomicLongArray doorkeeper;
+    private final int doorkeeperMask;
+    private final int doorkeeperResetThreshold;
+    private final AtomicInteger doorkeeperAdditions = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize 최대 항목 수 (1 이상)
+     */
+    public BoundedCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.map = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+
+        long wanted = Math.min(MAX_DOORKEEPER_BITS, (long) maximumSize * DOORKEEPER_BITS_PER_ENTRY);
+        int bits = Integer.highestOneBit((int) Math.max(Long.SIZE, wanted - 1)) << 1;
+        this.doorkeeper = new AtomicLongArray(bits / Long.SIZE);
+        this.doorkeeperMask = bits - 1;
+        this.doorkeeperResetThreshold = bits / DOORKEEPER_BITS_PER_ENTRY;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 계산합니다.
+     *
+     * @param key    조회 키 (null 불가)
+     * @param loader 캐시에 없을 때 값을 계산하는 함수 (null을 반환하면 캐싱하지 않음)
+     * @return 캐시되었거나 새로 계산한 값
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Node<V> node = map.get(key);
+        if (node != null) {
+            hits.increment();
+            node.touch();
+            return node.value;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        if (value != null && admit(key)) {
+            if (map.putIfAbsent(key, new Node<>(value)) == null && map.size() > maximumSize) {
+                evict();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void clear() {
+        map.clear();
+        for (int i = 0; i < doorkeeper.length(); i++) {
+            doorkeeper.set(i, 0L);
+        }
+    }
+
+    /**
+     * 현재 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * 최대 항목 수를 반환합니다.
+     *
+     * @return 최대 항목 수
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 캐시 적중 횟수를 반환합니다.
+     *
+     * @return 적중 횟수
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * 캐시 미적중(값 계산) 횟수를 반환합니다.
+     *
+     * @return 미적중 횟수
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 키가 최근에 한 번 이상 조회된 적이 있는지 확인하고, 없으면 기록만 남깁니다.
+     *
+     * <p>비트가 계속 쌓여 모든 키가 통과하지 않도록, 기록 횟수가 임계값을 넘으면 전체를 초기화합니다.</p>
+     */
+    private boolean admit(K key) {
+        int h = spread(key.hashCode());
+        int bit1 = h & doorkeeperMask;
+        int bit2 = (h >>> 16 | h << 16) & doorkeeperMask;
+        if (isSet(bit1) && isSet(bit2)) {
+            return true;
+        }
+        set(bit1);
+        set(bit2);
+        if (doorkeeperAdditions.incrementAndGet() >= doorkeeperResetThreshold) {
+            doorkeeperAdditions.set(0);
+            for (int i = 0; i < doorkeeper.length(); i++) {
+                doorkeeper.set(i, 0L);
+            }
+        }
+        return false;
+    }
+
+    private boolean isSet(int bit) {
+        return (doorkeeper.get(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    private void set(int bit) {
+        int index = bit >>> 6;
+        long mask = 1L << bit;
+        long current = doorkeeper.get(index);
+        if ((current & mask) == 0) {
+            doorkeeper.getAndUpdate(index, v -> v | mask);
+        }
+    }
+
+    /**
+     * 최대 크기 이하가 될 때까지 참조 표시가 없는 항목을 제거합니다 (CLOCK).
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // 다른 스레드가 제거 중이면 잠시 초과를 허용
+            return;
+        }
+        try {
+            int budget = map.size() * 2;
+            while (map.size() > maximumSize && budget-- > 0) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = map.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<K, Node<V>> entry = clockHand.next();
+                Node<V> node = entry.getValue();
+                if (node.referenced) {
+                    node.referenced = false;
+                } else {
+                    map.remove(entry.getKey(), node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private volatile boolean referenced;
+
+        private Node(V value) {
+            this.value = value;
+        }
+
+        private void touch() {
+            // 이미 표시된 경우 쓰기를 생략하여 캐시 라인 경합을 줄임
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ryuqq.observability.core.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * 로깅 제외 경로 매처.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>제외 경로 패턴을 생성 시점에 한 번 분류해 두고, 요청마다 패턴 전체를 매칭하지 않도록
+ * 흔한 형태는 문자열 비교로 처리합니다.</p>
+ * <ul>
+ *   <li><b>정확히 일치</b> ({@code /health}, {@code /favicon.ico}) - HashSet 조회</li>
+ *   <li><b>접두사</b> ({@code /actuator/**}) - {@code /actuator} 또는 {@code /actuator/}로 시작하는지 비교</li>
+ *   <li><b>그 외</b> ({@code /api/{version}/internal}, {@code *.css} 확장자 패턴 등) - 전달받은 패턴 매처(AntPathMatcher 등)로 매칭</li>
+ * </ul>
+ *
+ * <p>쿠버네티스 프로브나 Prometheus 수집처럼 제외 경로로 들어오는 요청이 많아도 비용이 거의 들지 않습니다.</p>
+ *
+ * <pre>
+ * {@code
+ * AntPathMatcher antPathMatcher = new AntPathMatcher();
+ * ExcludePathMatcher matcher = new ExcludePathMatcher(properties.getExcludePaths(), antPathMatcher::match);
+ *
+ * if (matcher.matches(request.getRequestURI())) {
+ *     // 로깅 생략
+ * }
+ * }
+ * </pre>
+ */
+public final class ExcludePathMatcher {
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<String> patterns = new ArrayList<>();
+    private final BiPredicate<String, String> patternMatcher;
+    private final boolean matchAll;
+
+    /**
+     * @param excludePaths   제외 경로 패턴 (Ant 스타일)
+     * @param patternMatcher 정확히 일치/접두사로 처리할 수 없는 패턴을 매칭할 함수 ({@code (pattern, path) -> boolean})
+     */
+    public ExcludePathMatcher(Collection<String> excludePaths, BiPredicate<String, String> patternMatcher) {
+        this.patternMatcher = patternMatcher;
+        boolean all = false;
+        for (String pattern : excludePaths) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            if (ANY_SUFFIX.equals(pattern)) {
+                all = true;
+            } else if (!hasWildcard(pattern)) {
+                exactPaths.add(pattern);
+            } else if (pattern.endsWith(ANY_SUFFIX)
+                    && !hasWildcard(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()))) {
+                prefixes.add(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()));
+            } else {
+                patterns.add(pattern);
+            }
+        }
+        this.matchAll = all;
+    }
+
+    /**
+     * 제외 경로인지 확인합니다.
+     *
+     * @param path 요청 경로
+     * @return 제외 경로 패턴 중 하나와 일치하면 true
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (matchAll || exactPaths.contains(path)) {
+            return true;
+        }
+        for (int i = 0; i < prefixes.size(); i++) {
+            String prefix = prefixes.get(i);
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patternMatcher.test(patterns.get(i), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
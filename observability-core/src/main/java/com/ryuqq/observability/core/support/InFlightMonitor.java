@@ -0,0 +1,188 @@
+package com.ryuqq.observability.core.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 처리 중인 요청 중 임계값을 넘긴 요청을 알려주는 모니터.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>요청 스레드는 시작 시 {@link #register(Object)}로 등록하고 끝나면 {@link #complete(Ticket)}로 해제만 합니다.
+ * 요청마다 타이머를 예약하지 않고, 전용 데몬 스레드 하나가 주기적으로 처리 중인 요청을 훑어
+ * 임계값을 넘긴 요청을 한 번만 콜백으로 넘깁니다.</p>
+ *
+ * <pre>
+ * {@code
+ * InFlightMonitor<AccessLogRecord> monitor = new InFlightMonitor<>(
+ *         "observability-http-inflight", 5000, this::emitEarlyRequestLog);
+ *
+ * InFlightMonitor.Ticket<AccessLogRecord> ticket = monitor.register(requestRecord);
+ * try {
+ *     chain.doFilter(request, response);
+ * } finally {
+ *     boolean reported = monitor.complete(ticket);   // 이미 알렸으면 true
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> 요청 정보 타입 (모니터 스레드로 넘어가므로 불변이어야 함)
+ */
+public final class InFlightMonitor<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(InFlightMonitor.class);
+
+    private static final long MIN_SCAN_INTERVAL_MS = 10;
+
+    private static final long MAX_SCAN_INTERVAL_MS = 1000;
+
+    private static final int PENDING = 0;
+    private static final int REPORTED = 1;
+    private static final int COMPLETED = 2;
+
+    private final long thresholdNanos;
+    private final long scanIntervalMs;
+    private final Consumer<? super T> onOverdue;
+    private final LongSupplier clock;
+    private final Set<Ticket<T>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Thread worker;
+    private volatile boolean closed;
+
+    /**
+     * @param name            모니터 스레드 이름
+     * @param thresholdMillis 처리 중 임계값 (ms, 1 이상)
+     * @param onOverdue       임계값을 넘긴 요청마다 한 번 호출되는 함수 (모니터 스레드에서 실행)
+     */
+    public InFlightMonitor(String name, long thresholdMillis, Consumer<? super T> onOverdue) {
+        this(name, thresholdMillis, onOverdue, System::nanoTime);
+    }
+
+    InFlightMonitor(String name, long thresholdMillis, Consumer<? super T> onOverdue, LongSupplier clock) {
+        if (thresholdMillis <= 0) {
+            throw new IllegalArgumentException("thresholdMillis must be positive: " + thresholdMillis);
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        // 임계값의 1/4 간격으로 훑어서 늦게 알리는 오차를 임계값의 25% 이내로 유지
+        this.scanIntervalMs = Math.max(MIN_SCAN_INTERVAL_MS, Math.min(MAX_SCAN_INTERVAL_MS, thresholdMillis / 4));
+        this.onOverdue = onOverdue;
+        this.clock = clock;
+
+        this.worker = new Thread(this::scanLoop, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 처리 중인 요청으로 등록합니다.
+     *
+     * @param item 요청 정보
+     * @return 완료 시 {@link #complete(Ticket)}에 넘길 티켓
+     */
+    public Ticket<T> register(T item) {
+        Ticket<T> ticket = new Ticket<>(item, clock.getAsLong());
+        if (!closed) {
+            inFlight.add(ticket);
+        }
+        return ticket;
+    }
+
+    /**
+     * 요청 처리 완료로 등록을 해제합니다.
+     *
+     * @param ticket {@link #register(Object)}가 반환한 티켓
+     * @return 임계값을 넘겨 이미 콜백으로 알렸으면 true
+     */
+    public boolean complete(Ticket<T> ticket) {
+        if (ticket == null) {
+            return false;
+        }
+        inFlight.remove(ticket);
+        return !ticket.state.compareAndSet(PENDING, COMPLETED);
+    }
+
+    /**
+     * 처리 중인 요청 수를 반환합니다.
+     *
+     * @return 등록 후 완료되지 않은 요청 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 모니터 스레드를 종료합니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        inFlight.clear();
+    }
+
+    /**
+     * 처리 중인 요청을 한 번 훑어 임계값을 넘긴 요청을 알립니다.
+     */
+    void scan() {
+        long now = clock.getAsLong();
+        for (Ticket<T> ticket : inFlight) {
+            if (now - ticket.startNanos < thresholdNanos) {
+                continue;
+            }
+            // 완료와 경합하면 CAS에서 진 쪽은 아무것도 하지 않음 (한 번만 알림)
+            if (ticket.state.compareAndSet(PENDING, REPORTED)) {
+                inFlight.remove(ticket);
+                try {
+                    onOverdue.accept(ticket.item);
+                } catch (RuntimeException e) {
+                    log.warn("In-flight monitor callback failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void scanLoop() {
+        while (!closed) {
+            try {
+                Thread.sleep(scanIntervalMs);
+            } catch (InterruptedException e) {
+                if (closed) {
+                    return;
+                }
+                continue;
+            }
+            scan();
+        }
+    }
+
+    /**
+     * 처리 중인 요청의 등록 정보.
+     *
+     * @param <T> 요청 정보 타입
+     */
+    public static final class Ticket<T> {
+
+        private final T item;
+        private final long startNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Ticket(T item, long startNanos) {
+            this.item = item;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * @return 등록한 요청 정보
+         */
+        public T getItem() {
+            return item;
+        }
+    }
+}
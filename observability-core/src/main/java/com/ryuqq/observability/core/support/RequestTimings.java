@@ -0,0 +1,77 @@
+package com.ryuqq.observability.core.support;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청 한 건의 처리 시간과 단계별 소요 시간.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>모든 값은 {@link System#nanoTime()} 기준 나노초이며, 측정하지 않은 단계는 -1입니다.
+ * 벽시계({@code currentTimeMillis})와 달리 시계 보정의 영향을 받지 않고, 1ms 미만 요청도 0이 아닌 값으로 남습니다.</p>
+ *
+ * <ul>
+ *   <li>{@code firstByteNanos} - 시작부터 응답 첫 바이트(커밋)까지: 대부분 핸들러 처리 시간</li>
+ *   <li>{@code writeNanos} - 첫 바이트부터 완료까지: 본문 전송 시간 (느린 클라이언트면 길어짐)</li>
+ *   <li>{@code overheadNanos} - 핸들러 실행 전 로깅 필터 자체가 쓴 시간</li>
+ * </ul>
+ *
+ * @param durationNanos  전체 처리 시간
+ * @param firstByteNanos 응답 첫 바이트까지의 시간 (-1이면 측정하지 않음)
+ * @param writeNanos     본문 전송 시간 (-1이면 측정하지 않음)
+ * @param overheadNanos  로깅 필터 자체 소요 시간 (-1이면 측정하지 않음)
+ */
+public record RequestTimings(long durationNanos, long firstByteNanos, long writeNanos, long overheadNanos) {
+
+    /**
+     * 전체 처리 시간만 담은 값을 만듭니다.
+     *
+     * @param startNanos 시작 시각 ({@link System#nanoTime()})
+     * @param endNanos   완료 시각 ({@link System#nanoTime()})
+     * @return 단계별 시간이 없는 값
+     */
+    public static RequestTimings total(long startNanos, long endNanos) {
+        return new RequestTimings(endNanos - startNanos, -1, -1, -1);
+    }
+
+    /**
+     * 단계별 시간을 포함한 값을 만듭니다.
+     *
+     * <p>첫 바이트 시각을 알 수 없으면(본문 없이 완료 후 커밋) 완료 시각을 첫 바이트 시각으로 간주합니다.</p>
+     *
+     * @param startNanos     시작 시각
+     * @param firstByteAt    응답 첫 바이트 시각 (0이면 알 수 없음)
+     * @param endNanos       완료 시각
+     * @param overheadNanos  로깅 필터 자체 소요 시간
+     * @return 단계별 시간을 포함한 값
+     */
+    public static RequestTimings phases(long startNanos, long firstByteAt, long endNanos, long overheadNanos) {
+        long firstByte = firstByteAt != 0 ? Math.min(firstByteAt, endNanos) : endNanos;
+        return new RequestTimings(endNanos - startNanos, Math.max(0, firstByte - startNanos),
+                endNanos - firstByte, Math.max(0, overheadNanos));
+    }
+
+    /**
+     * @return 전체 처리 시간 (밀리초, 내림)
+     */
+    public long durationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    /**
+     * @return 단계별 시간을 측정했으면 true
+     */
+    public boolean hasPhases() {
+        return firstByteNanos >= 0;
+    }
+
+    /**
+     * 나노초를 마이크로초로 변환합니다 (측정하지 않은 값은 -1 유지).
+     *
+     * @param nanos 나노초
+     * @return 마이크로초
+     */
+    public static long toMicros(long nanos) {
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ryuqq.observability.core.support;
+
+/**
+ * 스레드마다 하나씩 재사용되는 {@link StringBuilder} 홀더.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>로그 한 줄을 만들 때마다 생기는 임시 버퍼 할당을 줄이기 위해 사용합니다.
+ * 큰 본문을 한 번 처리한 뒤 버퍼가 계속 커진 채로 남지 않도록,
+ * 용량이 {@code maxRetainedCapacity}를 넘으면 다음 획득 시 새 버퍼로 교체합니다.</p>
+ *
+ * <p>획득한 버퍼는 같은 스레드에서 다음 {@link #acquire()} 호출 전까지만 유효하므로,
+ * 결과는 반드시 {@code toString()} 등으로 복사해서 사용해야 합니다.</p>
+ *
+ * <pre>
+ * {@code
+ * private static final ReusableStringBuilder BUFFER = new ReusableStringBuilder(256, 16 * 1024);
+ *
+ * StringBuilder sb = BUFFER.acquire();
+ * sb.append("...");
+ * String line = sb.toString();
+ * }
+ * </pre>
+ */
+public final class ReusableStringBuilder {
+
+    private final int initialCapacity;
+    private final int maxRetainedCapacity;
+    private final ThreadLocal<StringBuilder> holder;
+
+    /**
+     * @param initialCapacity     새 버퍼의 초기 용량
+     * @param maxRetainedCapacity 스레드에 보관할 최대 용량 (초과 시 다음 획득 때 교체)
+     */
+    public ReusableStringBuilder(int initialCapacity, int maxRetainedCapacity) {
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedCapacity = Math.max(initialCapacity, maxRetainedCapacity);
+        this.holder = ThreadLocal.withInitial(() -> new StringBuilder(initialCapacity));
+    }
+
+    /**
+     * 현재 스레드의 버퍼를 비운 상태로 반환합니다.
+     *
+     * @return 비어 있는 StringBuilder
+     */
+    public StringBuilder acquire() {
+        StringBuilder sb = holder.get();
+        if (sb.capacity() > maxRetainedCapacity) {
+            sb = new StringBuilder(initialCapacity);
+            holder.set(sb);
+        } else {
+            sb.setLength(0);
+        }
+        return sb;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ryuqq.observability.core.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ThreadLocalRandom} 기반 TraceId 생성기.
+ *
+ * <p>128비트 난수를 32자리 소문자 hex로 바로 인코딩합니다.
+ * W3C Trace Context의 trace-id 형식과 같으므로 traceparent 헤더에 그대로 사용할 수 있습니다.</p>
+ *
+ * <p>{@code UUID.randomUUID().toString().replace("-", "")}와 비교해:</p>
+ * <ul>
+ *   <li>공유 {@code SecureRandom}을 거치지 않아 요청이 몰려도 스레드 간 경합이 없습니다</li>
+ *   <li>36자 문자열과 치환 결과를 만들지 않고 32자 배열 하나만 할당합니다</li>
+ * </ul>
+ *
+ * <p>TraceId는 추적용 식별자일 뿐 보안 토큰이 아니므로 암호학적 난수가 필요하지 않습니다.</p>
+ */
+public final class RandomTraceIdGenerator implements TraceIdGenerator {
+
+    /**
+     * 공유 인스턴스 (상태가 없으므로 스레드 안전).
+     */
+    public static final RandomTraceIdGenerator INSTANCE = new RandomTraceIdGenerator();
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private RandomTraceIdGenerator() {
+    }
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+        // W3C Trace Context에서 모두 0인 trace-id는 유효하지 않음
+        while (high == 0 && low == 0) {
+            low = random.nextLong();
+        }
+        char[] chars = new char[32];
+        writeHex(chars, 0, high);
+        writeHex(chars, 16, low);
+        return new String(chars);
+    }
+
+    /**
+     * long 값을 16자리 소문자 hex로 배열에 씁니다.
+     */
+    static void writeHex(char[] chars, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
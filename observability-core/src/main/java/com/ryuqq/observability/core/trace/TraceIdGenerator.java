@@ -0,0 +1,32 @@
+package com.ryuqq.observability.core.trace;
+
+/**
+ * 새 TraceId를 생성하는 확장 지점.
+ *
+ * <p>HTTP(MVC/WebFlux) TraceIdProvider와 메시지 인터셉터가 같은 생성기를 공유합니다.
+ * 요청/메시지마다 호출되므로 구현은 블로킹 없이 빠르게 끝나야 합니다.</p>
+ *
+ * <p>이 인터페이스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <pre>
+ * {@code
+ * @Bean
+ * public TraceIdGenerator traceIdGenerator() {
+ *     return () -> "CUSTOM-" + RandomTraceIdGenerator.INSTANCE.generate();
+ * }
+ * }
+ * </pre>
+ */
+@FunctionalInterface
+public interface TraceIdGenerator {
+
+    /**
+     * 기본 생성기 (W3C Trace Context 호환 32자리 소문자 hex).
+     */
+    TraceIdGenerator RANDOM = RandomTraceIdGenerator.INSTANCE;
+
+    /**
+     * @return 새 TraceId
+     */
+    String generate();
+}
@@ -38,6 +38,7 @@ public final class TraceIdHeaders {
     // ==================== MDC 키 ====================
     public static final String MDC_TRACE_ID = "traceId";
     public static final String MDC_SPAN_ID = "spanId";
+    public static final String MDC_PARENT_SPAN_ID = "parentSpanId";
     public static final String MDC_SERVICE_NAME = "service";
 
     // User Context MDC 키
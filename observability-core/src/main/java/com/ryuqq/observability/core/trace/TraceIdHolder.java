@@ -80,6 +80,35 @@ public final class TraceIdHolder {
         }
     }
 
+    /**
+     * 현재 SpanId를 반환합니다.
+     *
+     * @return SpanId, 없으면 null
+     */
+    public static String getSpanId() {
+        return MDC.get(TraceIdHeaders.MDC_SPAN_ID);
+    }
+
+    /**
+     * 상위 홉의 SpanId를 설정합니다 (수신한 traceparent의 parent-id).
+     *
+     * @param parentSpanId 상위 SpanId
+     */
+    public static void setParentSpanId(String parentSpanId) {
+        if (parentSpanId != null && !parentSpanId.isEmpty()) {
+            MDC.put(TraceIdHeaders.MDC_PARENT_SPAN_ID, parentSpanId);
+        }
+    }
+
+    /**
+     * 상위 홉의 SpanId를 반환합니다.
+     *
+     * @return 상위 SpanId, 없으면 null
+     */
+    public static String getParentSpanId() {
+        return MDC.get(TraceIdHeaders.MDC_PARENT_SPAN_ID);
+    }
+
     /**
      * 서비스 이름을 설정합니다.
      *
@@ -256,6 +285,7 @@ public final class TraceIdHolder {
         // 기본 MDC 키 제거
         MDC.remove(TraceIdHeaders.MDC_TRACE_ID);
         MDC.remove(TraceIdHeaders.MDC_SPAN_ID);
+        MDC.remove(TraceIdHeaders.MDC_PARENT_SPAN_ID);
         MDC.remove(TraceIdHeaders.MDC_SERVICE_NAME);
 
         // User Context MDC 키 제거
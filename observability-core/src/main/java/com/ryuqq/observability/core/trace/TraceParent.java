@@ -0,0 +1,112 @@
+package com.ryuqq.observability.core.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context {@code traceparent} 헤더 유틸리티.
+ *
+ * <p>이 클래스는 순수 Java로 구현되어 Domain Layer에서도 사용할 수 있습니다.</p>
+ *
+ * <p>형식: {@code 00-<trace-id 32 hex>-<parent-id 16 hex>-<flags 2 hex>}</p>
+ *
+ * <p>트레이싱 에이전트 없이 로그만으로 호출 트리를 재구성할 수 있도록,
+ * 수신 측(HTTP 필터, 메시지 인터셉터)은 홉마다 새 SpanId를 발급하고 수신한 traceparent의
+ * parent-id를 ParentSpanId로 기록하며, 발신 측(HTTP 클라이언트)은 현재 SpanId를 parent-id로 전파합니다.</p>
+ *
+ * <pre>
+ * {@code
+ * // 수신
+ * TraceIdHolder.setSpanId(TraceParent.newSpanId());
+ * TraceIdHolder.setParentSpanId(TraceParent.parseParentId(request.getHeader("traceparent")));
+ *
+ * // 발신
+ * String traceparent = TraceParent.format(TraceIdHolder.get(), TraceIdHolder.getSpanId());
+ * if (traceparent != null) {
+ *     headers.set("traceparent", traceparent);
+ * }
+ * }
+ * </pre>
+ */
+public final class TraceParent {
+
+    private static final String VERSION = "00";
+    private static final String SAMPLED = "01";
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int SPAN_ID_LENGTH = 16;
+    private static final int HEADER_LENGTH = 55;
+
+    private TraceParent() {
+    }
+
+    /**
+     * 새 SpanId를 생성합니다.
+     *
+     * @return 16자리 소문자 hex (모두 0인 값은 생성하지 않음)
+     */
+    public static String newSpanId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long value;
+        do {
+            value = random.nextLong();
+        } while (value == 0);
+        char[] chars = new char[SPAN_ID_LENGTH];
+        RandomTraceIdGenerator.writeHex(chars, 0, value);
+        return new String(chars);
+    }
+
+    /**
+     * traceparent 헤더에서 parent-id를 추출합니다.
+     *
+     * @param traceparent traceparent 헤더 값
+     * @return parent-id, 형식이 맞지 않으면 null
+     */
+    public static String parseParentId(String traceparent) {
+        if (traceparent == null || traceparent.length() < HEADER_LENGTH
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-'
+                || traceparent.charAt(52) != '-') {
+            return null;
+        }
+        String parentId = traceparent.substring(36, 52);
+        return isValidId(parentId, SPAN_ID_LENGTH) ? parentId : null;
+    }
+
+    /**
+     * TraceId와 SpanId로 traceparent 헤더 값을 만듭니다.
+     *
+     * <p>W3C 형식이 아닌 TraceId(예: Gateway가 만든 임의 문자열)로는 유효한 헤더를 만들 수 없으므로 null을 반환합니다.
+     * 이 경우에도 X-Trace-Id 헤더 전파는 그대로 동작합니다.</p>
+     *
+     * @param traceId 32자리 hex TraceId
+     * @param spanId  16자리 hex SpanId (다음 홉의 parent-id)
+     * @return traceparent 헤더 값, 만들 수 없으면 null
+     */
+    public static String format(String traceId, String spanId) {
+        if (!isValidId(traceId, TRACE_ID_LENGTH) || !isValidId(spanId, SPAN_ID_LENGTH)) {
+            return null;
+        }
+        return new StringBuilder(HEADER_LENGTH)
+                .append(VERSION).append('-')
+                .append(traceId).append('-')
+                .append(spanId).append('-')
+                .append(SAMPLED)
+                .toString();
+    }
+
+    /**
+     * 지정한 길이의 소문자 hex이고 모두 0이 아닌지 확인합니다.
+     */
+    private static boolean isValidId(String id, int length) {
+        if (id == null || id.length() != length) {
+            return false;
+        }
+        boolean nonZero = false;
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+            nonZero |= c != '0';
+        }
+        return nonZero;
+    }
+}
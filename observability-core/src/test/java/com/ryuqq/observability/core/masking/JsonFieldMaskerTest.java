@@ -0,0 +1,148 @@
+package com.ryuqq.observability.core.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonFieldMasker 테스트")
+class JsonFieldMaskerTest {
+
+    private final JsonFieldMasker masker = new JsonFieldMasker(List.of("password", "pin", "card", "accessToken"));
+
+    @Nested
+    @DisplayName("값 타입별 마스킹 테스트")
+    class ValueTypeTest {
+
+        @Test
+        @DisplayName("문자열 값이 마스킹된다")
+        void shouldMaskStringValue() {
+            String result = masker.mask("{\"user\":\"kim\",\"password\":\"secret123\"}");
+
+            assertThat(result).isEqualTo("{\"user\":\"kim\",\"password\":\"[MASKED]\"}");
+        }
+
+        @Test
+        @DisplayName("숫자, 불리언, null 값이 마스킹된다")
+        void shouldMaskScalarValues() {
+            String result = masker.mask("{\"pin\":1234,\"card\":true,\"password\":null}");
+
+            assertThat(result).isEqualTo("{\"pin\":\"[MASKED]\",\"card\":\"[MASKED]\",\"password\":\"[MASKED]\"}");
+        }
+
+        @Test
+        @DisplayName("객체와 배열 값은 통째로 마스킹된다")
+        void shouldMaskNestedValues() {
+            String result = masker.mask("{\"card\":{\"no\":\"1234\",\"cvc\":[1,2,3]},\"name\":\"kim\"}");
+
+            assertThat(result).isEqualTo("{\"card\":\"[MASKED]\",\"name\":\"kim\"}");
+        }
+
+        @Test
+        @DisplayName("이스케이프된 따옴표가 포함된 값도 전부 마스킹된다")
+        void shouldMaskValueWithEscapedQuote() {
+            String result = masker.mask("{\"password\":\"se\\\"cret\",\"a\":1}");
+
+            assertThat(result).isEqualTo("{\"password\":\"[MASKED]\",\"a\":1}");
+        }
+    }
+
+    @Nested
+    @DisplayName("구조 탐색 테스트")
+    class StructureTest {
+
+        @Test
+        @DisplayName("중첩 객체와 배열 내부의 필드도 마스킹된다")
+        void shouldMaskFieldsInNestedStructures() {
+            String input = "[{\"users\":[{\"pin\":1},{\"pin\":2}]},{\"meta\":{\"accessToken\":\"abc\"}}]";
+
+            assertThat(masker.mask(input)).isEqualTo(
+                    "[{\"users\":[{\"pin\":\"[MASKED]\"},{\"pin\":\"[MASKED]\"}]},{\"meta\":{\"accessToken\":\"[MASKED]\"}}]");
+        }
+
+        @Test
+        @DisplayName("필드명은 대소문자를 구분하지 않는다")
+        void shouldMatchFieldNamesIgnoringCase() {
+            assertThat(masker.mask("{\"PASSWORD\":\"x\",\"AccessToken\":\"y\"}"))
+                    .isEqualTo("{\"PASSWORD\":\"[MASKED]\",\"AccessToken\":\"[MASKED]\"}");
+        }
+
+        @Test
+        @DisplayName("공백과 줄바꿈이 보존된다")
+        void shouldPreserveWhitespace() {
+            String input = "{\n  \"password\" : \"secret\",\n  \"name\" : \"kim\"\n}";
+
+            assertThat(masker.mask(input)).isEqualTo("{\n  \"password\" : \"[MASKED]\",\n  \"name\" : \"kim\"\n}");
+        }
+
+        @Test
+        @DisplayName("값 위치의 문자열이 필드명과 같아도 마스킹하지 않는다")
+        void shouldNotTreatValueAsKey() {
+            String input = "{\"type\":\"password\",\"list\":[\"pin\",\"card\"]}";
+
+            assertThat(masker.mask(input)).isSameAs(input);
+        }
+
+        @Test
+        @DisplayName("마스킹할 필드가 없으면 입력 인스턴스를 그대로 반환한다")
+        void shouldReturnSameInstanceWhenNothingMasked() {
+            String input = "{\"name\":\"kim\",\"age\":30}";
+
+            assertThat(masker.mask(input)).isSameAs(input);
+        }
+
+        @Test
+        @DisplayName("많은 필드명을 등록해도 정확히 조회된다")
+        void shouldLookupAmongManyFields() {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                fields.add("field" + i);
+            }
+            JsonFieldMasker manyFieldMasker = new JsonFieldMasker(fields);
+
+            assertThat(manyFieldMasker.mask("{\"field77\":1,\"field100\":2}"))
+                    .isEqualTo("{\"field77\":\"[MASKED]\",\"field100\":2}");
+        }
+    }
+
+    @Nested
+    @DisplayName("비정상 입력 테스트")
+    class MalformedInputTest {
+
+        @Test
+        @DisplayName("JSON이 아닌 입력은 null을 반환한다")
+        void shouldReturnNullForNonJson() {
+            assertThat(masker.mask("password=secret")).isNull();
+            assertThat(JsonFieldMasker.looksLikeJson("password=secret")).isFalse();
+            assertThat(JsonFieldMasker.looksLikeJson("  {\"a\":1}")).isTrue();
+        }
+
+        @Test
+        @DisplayName("구조가 깨진 입력은 null을 반환하고 버퍼를 되돌린다")
+        void shouldRollbackOnMalformedInput() {
+            StringBuilder out = new StringBuilder("prefix:");
+
+            int result = masker.maskTo("{\"password\":\"x\" \"pin\":1}", out);
+
+            assertThat(result).isEqualTo(-1);
+            assertThat(out.toString()).isEqualTo("prefix:");
+        }
+
+        @Test
+        @DisplayName("루트 값 뒤에 다른 내용이 있으면 JSON으로 보지 않는다")
+        void shouldRejectTrailingContent() {
+            assertThat(masker.mask("{\"password\":\"x\"} and more")).isNull();
+        }
+
+        @Test
+        @DisplayName("잘린 JSON도 끝까지 마스킹된다")
+        void shouldMaskTruncatedJson() {
+            assertThat(masker.mask("{\"name\":\"kim\",\"password\":\"sec"))
+                    .isEqualTo("{\"name\":\"kim\",\"password\":\"[MASKED]\"");
+        }
+    }
+}
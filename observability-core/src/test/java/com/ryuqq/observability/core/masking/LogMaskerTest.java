@@ -5,7 +5,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -238,6 +241,116 @@ class LogMaskerTest {
             String result = masker.mask(input);
             assertThat(result).isEqualTo("{\"creditCard\":\"[MASKED]\"}");
         }
+
+        @Test
+        @DisplayName("JSON 입력이면 숫자와 중첩 값도 마스킹된다")
+        void shouldMaskNonStringValuesInJson() {
+            String input = "{\"ssn\":9001011234567,\"token\":{\"value\":\"abc\"},\"name\":\"kim\"}";
+            String result = masker.mask(input);
+            assertThat(result).isEqualTo("{\"ssn\":\"[MASKED]\",\"token\":\"[MASKED]\",\"name\":\"kim\"}");
+        }
+
+        @Test
+        @DisplayName("JSON이 아닌 입력에는 필드 패턴이 적용된다")
+        void shouldFallbackToFieldPatternForNonJson() {
+            String input = "body=\"secret\":\"my-value\" (not json)";
+            String result = masker.mask(input);
+            assertThat(result).isEqualTo("body=\"secret\":\"[MASKED]\" (not json)");
+        }
+    }
+
+    @Nested
+    @DisplayName("마스킹 + 자르기 테스트")
+    class MaskAndTruncateTest {
+
+        @Test
+        @DisplayName("최대 길이 이내면 마스킹 결과 전체가 기록된다")
+        void shouldWriteWholeMaskedResult() {
+            StringBuilder out = new StringBuilder("body=");
+
+            boolean truncated = masker.mask("phone: 010-1234-5678", 100, out);
+
+            assertThat(truncated).isFalse();
+            assertThat(out.toString()).isEqualTo("body=phone: 010-****-5678");
+        }
+
+        @Test
+        @DisplayName("마스킹 후 최대 길이로 잘린다")
+        void shouldTruncateAfterMasking() {
+            String result = masker.mask("card=1234-5678-9012-3456 and more text", 12, "...[TRUNCATED]");
+
+            assertThat(result).isEqualTo("card=****-**...[TRUNCATED]");
+        }
+
+        @Test
+        @DisplayName("잘리는 경계에 걸친 민감정보도 원문이 노출되지 않는다")
+        void shouldNotLeakValueCrossingBoundary() {
+            String result = masker.mask("{\"password\":\"super-secret-value\"}", 20, "...");
+
+            assertThat(result).isEqualTo("{\"password\":\"[MASKED...");
+        }
+
+        @Test
+        @DisplayName("비활성화 상태에서도 자르기는 적용된다")
+        void shouldTruncateWhenDisabled() {
+            MaskingProperties props = new MaskingProperties();
+            props.setEnabled(false);
+            LogMasker disabledMasker = new LogMasker(props);
+
+            assertThat(disabledMasker.mask("abcdefghij", 4, "~")).isEqualTo("abcd~");
+        }
+
+        @Test
+        @DisplayName("null 입력은 null을 반환한다")
+        void shouldReturnNullForNullInput() {
+            assertThat(masker.mask(null, 10, "...")).isNull();
+        }
+
+        @Test
+        @DisplayName("기존 mask 결과와 동일한 내용을 생성한다")
+        void shouldProduceSameContentAsMask() {
+            String input = "User email@test.com card 1234567890123456 {\"ssn\":\"900101-1234567\"}";
+
+            assertThat(masker.mask(input, Integer.MAX_VALUE, "...")).isEqualTo(masker.mask(input));
+        }
+    }
+
+    @Nested
+    @DisplayName("사전 필터 테스트")
+    class PrefilterTest {
+
+        @Test
+        @DisplayName("민감정보가 없는 입력은 원본 인스턴스를 그대로 반환하고 적중으로 집계된다")
+        void shouldSkipInputWithoutSensitiveData() {
+            String input = "{\"name\":\"kim\",\"age\":30}";
+
+            String result = masker.mask(input);
+
+            assertThat(result).isSameAs(input);
+            assertThat(masker.getPrefilterHits()).isEqualTo(1);
+            assertThat(masker.getPrefilterMisses()).isZero();
+        }
+
+        @Test
+        @DisplayName("민감정보 특징이 있으면 미적중으로 집계되고 마스킹된다")
+        void shouldCountMissAndMask() {
+            String result = masker.mask("email: example@domain.com");
+
+            assertThat(result).isEqualTo("email: ex***@domain.com");
+            assertThat(masker.getPrefilterMisses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("커스텀 패턴이 등록되면 사전 필터를 사용하지 않는다")
+        void shouldDisablePrefilterWithCustomPattern() {
+            assertThat(masker.isPrefilterEnabled()).isTrue();
+
+            masker.addPattern("SECRET-[a-z]+", "[CUSTOM]");
+
+            assertThat(masker.isPrefilterEnabled()).isFalse();
+            assertThat(masker.mask("code SECRET-abc")).isEqualTo("code [CUSTOM]");
+            assertThat(masker.getPrefilterHits()).isZero();
+        }
     }
 
     @Nested
@@ -256,4 +369,132 @@ class LogMaskerTest {
                     .contains("010-****-2222");
         }
     }
+
+    @Nested
+    @DisplayName("이전 구현과의 결과 동일성 테스트")
+    class LegacyEquivalenceTest {
+
+        /**
+         * 규칙 간 매칭이 겹치는 입력 (주민등록번호/신용카드/전화번호/이메일이 같은 숫자열을 공유).
+         */
+        private static final List<String> OVERLAPPING = List.of(
+                "9001011234567",
+                "user1234567890123456@mail.com",
+                "01012345678",
+                "010123456789012345",
+                "900101-1234567-8901",
+                "1234-5678-9012-3456-7890",
+                "12345678901234567890",
+                "01099998888@test.com",
+                "a9001011234567@x.co.kr",
+                "card 1234567890123456 rrn 9001011234567 phone 010 1234 5678",
+                "tel:01012345678@carrier.com",
+                "x@y.com1234567890123456",
+                "phone=010-1234-56789012",
+                "Bearer a.b.c1234567890123456",
+                "\"password\":\"010-1234-5678\"",
+                "\"token\":\"a.b.9001011234567\"",
+                "\"ssn\":\"900101-1234567\" \"creditCard\" : \"1234-5678-9012-3456\"",
+                "\"secret\":\"password\":\"x\""
+        );
+
+        private static final List<String> FRAGMENTS = List.of(
+                "010", "011", "1234", "5678", "9001011", "234567", "0", "1", "9", "-", " ", "@", ".", "mail.com",
+                "co.kr", "user", "ab", "_", "+", "\"", ":", " : ", "\"password\":\"", "\"secret\" : \"",
+                "\"ssn\":\"", "\"creditCard\":\"", "\"token\":\"", "\"accessToken\":\"", "Bearer ", "a.b.c",
+                "eyJ", "=", "한글", "CUSTOM-", "42"
+        );
+
+        @Test
+        @DisplayName("기본 설정에서 겹치는 민감정보도 이전 순차 적용 결과와 같다")
+        void shouldMatchLegacyWithDefaults() {
+            assertEquivalent(new MaskingProperties());
+        }
+
+        @Test
+        @DisplayName("커스텀 패턴과 필드 설정이 있어도 이전 순차 적용 결과와 같다")
+        void shouldMatchLegacyWithCustomPatternsAndFields() {
+            MaskingProperties props = new MaskingProperties();
+            props.setPatterns(List.of(
+                    new MaskingProperties.MaskingPattern("custom", "CUSTOM-\\d+", "[CUSTOM]"),
+                    new MaskingProperties.MaskingPattern("digits", "(\\d)\\1{3}", "####")
+            ));
+            props.setMaskFields(List.of("secret", "password", "ssn"));
+
+            assertEquivalent(props);
+        }
+
+        @Test
+        @DisplayName("최대 길이로 자른 결과는 이전 결과의 앞부분과 같다")
+        void shouldMatchLegacyPrefixWhenTruncated() {
+            MaskingProperties props = new MaskingProperties();
+            LogMasker logMasker = new LogMasker(props);
+
+            for (String input : corpus()) {
+                String expected = legacyMask(props, input);
+                for (int maxLength : new int[]{0, 5, 13, 40}) {
+                    assertThat(logMasker.mask(input, maxLength, (String) null))
+                            .as("%s (maxLength=%d)", input, maxLength)
+                            .isEqualTo(expected.substring(0, Math.min(maxLength, expected.length())));
+                }
+            }
+        }
+
+        private void assertEquivalent(MaskingProperties props) {
+            LogMasker logMasker = new LogMasker(props);
+
+            for (String input : corpus()) {
+                assertThat(logMasker.mask(input)).as(input).isEqualTo(legacyMask(props, input));
+            }
+        }
+
+        /**
+         * JSON 입력은 JsonFieldMasker가 값의 타입과 무관하게 마스킹하도록 의도적으로 바뀌었으므로 제외합니다.
+         */
+        private List<String> corpus() {
+            List<String> corpus = new ArrayList<>(OVERLAPPING);
+            Random random = new Random(20261017L);
+            for (int i = 0; i < 2000; i++) {
+                StringBuilder sb = new StringBuilder("log ");
+                int fragments = 1 + random.nextInt(20);
+                for (int j = 0; j < fragments; j++) {
+                    sb.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+                }
+                corpus.add(sb.toString());
+            }
+            return corpus;
+        }
+
+        /**
+         * 이전 LogMasker 구현: 기본 패턴, 커스텀 패턴, 필드별 패턴을 등록 순서대로 replaceAll.
+         */
+        private String legacyMask(MaskingProperties props, String input) {
+            List<Pattern> patterns = new ArrayList<>(List.of(
+                    MaskingPatterns.PASSWORD_IN_JSON, MaskingPatterns.JWT_IN_JSON, MaskingPatterns.BEARER_TOKEN,
+                    MaskingPatterns.CREDIT_CARD_DASH, MaskingPatterns.CREDIT_CARD_PLAIN, MaskingPatterns.EMAIL,
+                    MaskingPatterns.PHONE_KR, MaskingPatterns.SSN_KR
+            ));
+            List<String> replacements = new ArrayList<>(List.of(
+                    MaskingPatterns.PASSWORD_IN_JSON_REPLACEMENT, MaskingPatterns.JWT_IN_JSON_REPLACEMENT,
+                    MaskingPatterns.BEARER_TOKEN_REPLACEMENT, MaskingPatterns.CREDIT_CARD_DASH_REPLACEMENT,
+                    MaskingPatterns.CREDIT_CARD_PLAIN_REPLACEMENT, MaskingPatterns.EMAIL_REPLACEMENT,
+                    MaskingPatterns.PHONE_KR_REPLACEMENT, MaskingPatterns.SSN_KR_REPLACEMENT
+            ));
+            for (MaskingProperties.MaskingPattern custom : props.getPatterns()) {
+                patterns.add(Pattern.compile(custom.getPattern()));
+                replacements.add(custom.getReplacement());
+            }
+            for (String field : props.getMaskFields()) {
+                patterns.add(Pattern.compile("(\"" + Pattern.quote(field) + "\"\\s*:\\s*\")[^\"]*(\")",
+                        Pattern.CASE_INSENSITIVE));
+                replacements.add("$1[MASKED]$2");
+            }
+
+            String result = input;
+            for (int i = 0; i < patterns.size(); i++) {
+                result = patterns.get(i).matcher(result).replaceAll(replacements.get(i));
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.ryuqq.observability.core.metrics;
+
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OverheadStats 테스트")
+class OverheadStatsTest {
+
+    @Test
+    @DisplayName("단계별 소요 시간과 횟수를 컴포넌트별로 누적한다")
+    void shouldAccumulatePerComponentAndStage() {
+        OverheadStats stats = new OverheadStats();
+
+        long t = stats.start();
+        t = stats.lap(Component.HTTP, Stage.MASK, t);
+        stats.lap(Component.HTTP, Stage.MARKER, t);
+        stats.lap(Component.HTTP, Stage.MASK, stats.start());
+
+        assertThat(stats.getCount(Component.HTTP, Stage.MASK)).isEqualTo(2);
+        assertThat(stats.getCount(Component.HTTP, Stage.MARKER)).isEqualTo(1);
+        assertThat(stats.getTotalNanos(Component.HTTP, Stage.MASK)).isGreaterThanOrEqualTo(0);
+        assertThat(stats.getCount(Component.MESSAGE, Stage.MASK)).isZero();
+    }
+
+    @Test
+    @DisplayName("복사 바이트 수와 마스킹 문자 수를 누적한다")
+    void shouldAccumulateBytes() {
+        OverheadStats stats = new OverheadStats();
+
+        stats.addCapturedBytes(Component.REACTIVE_HTTP, 100);
+        stats.addCapturedBytes(Component.REACTIVE_HTTP, 28);
+        stats.addMaskedChars(Component.LOGGABLE, 64);
+
+        assertThat(stats.getCapturedBytes(Component.REACTIVE_HTTP)).isEqualTo(128);
+        assertThat(stats.getMaskedChars(Component.LOGGABLE)).isEqualTo(64);
+        assertThat(stats.getMaskedChars(Component.HTTP)).isZero();
+    }
+
+    @Test
+    @DisplayName("DISABLED는 시계를 읽지 않고 아무것도 기록하지 않는다")
+    void shouldIgnoreWhenDisabled() {
+        OverheadStats stats = OverheadStats.DISABLED;
+
+        assertThat(stats.start()).isZero();
+        assertThat(stats.lap(Component.HTTP, Stage.LOG, 0)).isZero();
+        stats.addCapturedBytes(Component.HTTP, 10);
+
+        assertThat(stats.isEnabled()).isFalse();
+        assertThat(stats.getCount(Component.HTTP, Stage.LOG)).isZero();
+        assertThat(stats.getCapturedBytes(Component.HTTP)).isZero();
+    }
+}
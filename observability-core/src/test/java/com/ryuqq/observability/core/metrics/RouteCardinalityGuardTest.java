@@ -0,0 +1,51 @@
+package com.ryuqq.observability.core.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RouteCardinalityGuard 테스트")
+class RouteCardinalityGuardTest {
+
+    @Test
+    @DisplayName("허용 경로 수 이내의 경로는 그대로 반환한다")
+    void shouldKeepRoutesWithinLimit() {
+        RouteCardinalityGuard guard = new RouteCardinalityGuard(2);
+
+        assertThat(guard.resolve("/api/users/{id}")).isEqualTo("/api/users/{id}");
+        assertThat(guard.resolve("/api/orders")).isEqualTo("/api/orders");
+        assertThat(guard.resolve("/api/users/{id}")).isEqualTo("/api/users/{id}");
+        assertThat(guard.getRouteCount()).isEqualTo(2);
+        assertThat(guard.getOverflowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("허용 경로 수를 넘은 새 경로는 OTHER_ROUTE로 묶는다")
+    void shouldCollapseNewRoutesBeyondLimit() {
+        RouteCardinalityGuard guard = new RouteCardinalityGuard(1);
+        guard.resolve("/api/users/{id}");
+
+        assertThat(guard.resolve("/api/products/slug-a")).isEqualTo(RouteCardinalityGuard.OTHER_ROUTE);
+        assertThat(guard.resolve("/api/products/slug-b")).isEqualTo(RouteCardinalityGuard.OTHER_ROUTE);
+        assertThat(guard.resolve("/api/users/{id}")).isEqualTo("/api/users/{id}");
+        assertThat(guard.getOverflowCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("경로가 없으면 OTHER_ROUTE로 묶는다")
+    void shouldCollapseNullRoute() {
+        RouteCardinalityGuard guard = new RouteCardinalityGuard(10);
+
+        assertThat(guard.resolve(null)).isEqualTo(RouteCardinalityGuard.OTHER_ROUTE);
+    }
+
+    @Test
+    @DisplayName("상태 코드를 상태 코드 그룹으로 변환한다")
+    void shouldConvertStatusClass() {
+        assertThat(HttpMetricsRecorder.statusClass(204)).isEqualTo("2xx");
+        assertThat(HttpMetricsRecorder.statusClass(404)).isEqualTo("4xx");
+        assertThat(HttpMetricsRecorder.statusClass(503)).isEqualTo("5xx");
+        assertThat(HttpMetricsRecorder.statusClass(0)).isEqualTo("UNKNOWN");
+    }
+}
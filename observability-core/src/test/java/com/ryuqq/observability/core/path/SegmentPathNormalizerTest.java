@@ -0,0 +1,131 @@
+package com.ryuqq.observability.core.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SegmentPathNormalizer 테스트")
+class SegmentPathNormalizerTest {
+
+    private final SegmentPathNormalizer normalizer = new SegmentPathNormalizer(null, false);
+
+    @Nested
+    @DisplayName("세그먼트 분류 테스트")
+    class ClassificationTest {
+
+        @Test
+        @DisplayName("숫자 세그먼트는 {id}로 변환된다")
+        void shouldNormalizeNumericSegment() {
+            assertThat(normalizer.normalize("/api/users/12345/orders/7"))
+                    .isEqualTo("/api/users/{id}/orders/{id}");
+        }
+
+        @Test
+        @DisplayName("UUID 세그먼트는 {uuid}로 변환된다")
+        void shouldNormalizeUuidSegment() {
+            assertThat(normalizer.normalize("/api/orders/550e8400-e29b-41d4-a716-446655440000"))
+                    .isEqualTo("/api/orders/{uuid}");
+        }
+
+        @Test
+        @DisplayName("32자 이상의 16진수 세그먼트는 {hash}로 변환된다")
+        void shouldNormalizeHashSegment() {
+            assertThat(normalizer.normalize("/api/files/d41d8cd98f00b204e9800998ecf8427e"))
+                    .isEqualTo("/api/files/{hash}");
+        }
+
+        @Test
+        @DisplayName("토큰 정규화를 켜면 20자 이상의 토큰 세그먼트가 {token}으로 변환된다")
+        void shouldNormalizeTokenSegmentWhenEnabled() {
+            SegmentPathNormalizer tokenNormalizer = new SegmentPathNormalizer(null, true);
+
+            assertThat(tokenNormalizer.normalize("/api/share/aB3_xY9-kLmN0pQrStUv"))
+                    .isEqualTo("/api/share/{token}");
+            assertThat(normalizer.normalize("/api/share/aB3_xY9-kLmN0pQrStUv"))
+                    .isEqualTo("/api/share/aB3_xY9-kLmN0pQrStUv");
+        }
+
+        @Test
+        @DisplayName("동적 세그먼트가 없으면 입력 인스턴스를 그대로 반환한다")
+        void shouldReturnSameInstanceForStaticPath() {
+            String path = "/api/v1/users/me";
+
+            assertThat(normalizer.normalize(path)).isSameAs(path);
+        }
+
+        @Test
+        @DisplayName("쿼리 문자열은 그대로 유지된다")
+        void shouldKeepQueryString() {
+            assertThat(normalizer.normalize("/api/users/123?page=2"))
+                    .isEqualTo("/api/users/{id}?page=2");
+        }
+
+        @Test
+        @DisplayName("빈 세그먼트와 끝 슬래시가 유지된다")
+        void shouldKeepEmptySegments() {
+            assertThat(normalizer.normalize("/api//users/123/")).isEqualTo("/api//users/{id}/");
+        }
+    }
+
+    @Nested
+    @DisplayName("경로 템플릿 테스트")
+    class TemplateTest {
+
+        @Test
+        @DisplayName("일치하는 템플릿이 있으면 템플릿을 반환한다")
+        void shouldReturnMatchingTemplate() {
+            SegmentPathNormalizer templated = new SegmentPathNormalizer(
+                    List.of("/api/orders/{orderId}/items/{itemId}"), false);
+
+            assertThat(templated.normalize("/api/orders/ORD-ABC-1/items/7"))
+                    .isEqualTo("/api/orders/{orderId}/items/{itemId}");
+        }
+
+        @Test
+        @DisplayName("고정 세그먼트가 변수 세그먼트보다 우선한다")
+        void shouldPreferLiteralSegment() {
+            SegmentPathNormalizer templated = new SegmentPathNormalizer(
+                    List.of("/api/users/{userId}", "/api/users/me"), false);
+
+            assertThat(templated.normalize("/api/users/me")).isEqualTo("/api/users/me");
+            assertThat(templated.normalize("/api/users/kim")).isEqualTo("/api/users/{userId}");
+        }
+
+        @Test
+        @DisplayName("고정 세그먼트 경로가 실패하면 변수 세그먼트로 되돌아가 찾는다")
+        void shouldBacktrackToVariableSegment() {
+            SegmentPathNormalizer templated = new SegmentPathNormalizer(
+                    List.of("/api/users/me/settings", "/api/users/{userId}/orders"), false);
+
+            assertThat(templated.normalize("/api/users/me/orders")).isEqualTo("/api/users/{userId}/orders");
+        }
+
+        @Test
+        @DisplayName("세그먼트 수가 다르면 템플릿과 일치하지 않고 기본 분류를 적용한다")
+        void shouldFallBackToClassificationWhenNoTemplateMatches() {
+            SegmentPathNormalizer templated = new SegmentPathNormalizer(
+                    List.of("/api/orders/{orderId}"), false);
+
+            assertThat(templated.normalize("/api/orders/123/items/456"))
+                    .isEqualTo("/api/orders/{id}/items/{id}");
+        }
+
+        @Test
+        @DisplayName("템플릿이 많아도 정확히 조회된다")
+        void shouldLookupAmongManyTemplates() {
+            List<String> templates = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                templates.add("/api/service" + i + "/resources/{resourceId}");
+            }
+            SegmentPathNormalizer templated = new SegmentPathNormalizer(templates, false);
+
+            assertThat(templated.normalize("/api/service77/resources/R-1"))
+                    .isEqualTo("/api/service77/resources/{resourceId}");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.ryuqq.observability.core.sampling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogSampler 테스트")
+class LogSamplerTest {
+
+    private static SamplingProperties properties(double defaultRate) {
+        SamplingProperties properties = new SamplingProperties();
+        properties.setEnabled(true);
+        properties.setDefaultRate(defaultRate);
+        return properties;
+    }
+
+    @Nested
+    @DisplayName("샘플링 비율 테스트")
+    class RateTest {
+
+        @Test
+        @DisplayName("비율이 1이면 모두 로깅한다")
+        void shouldLogAllWhenRateIsOne() {
+            LogSampler sampler = new LogSampler(properties(1.0));
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(sampler.shouldLog("/api/users", 200, false)).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("비율이 0이면 정상 응답은 로깅하지 않는다")
+        void shouldLogNothingWhenRateIsZero() {
+            LogSampler sampler = new LogSampler(properties(0.0));
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(sampler.shouldLog("/api/users", 200, false)).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("비율만큼 확률적으로 로깅한다")
+        void shouldSampleByRate() {
+            LogSampler sampler = new LogSampler(properties(0.1));
+
+            int logged = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (sampler.shouldLog("/api/users", 200, false)) {
+                    logged++;
+                }
+            }
+
+            assertThat(logged).isBetween(700, 1300);
+        }
+
+        @Test
+        @DisplayName("경로별 비율이 기본 비율보다 우선한다")
+        void shouldApplyRouteRate() {
+            SamplingProperties properties = properties(0.0);
+            properties.setRoutes(List.of(new SamplingProperties.RouteRule("/api/orders/{id}", 1.0, null)));
+            LogSampler sampler = new LogSampler(properties);
+
+            assertThat(sampler.shouldLog("/api/orders/{id}", 200, false)).isTrue();
+            assertThat(sampler.shouldLog("/api/users", 200, false)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("항상 로깅 테스트")
+    class AlwaysLogTest {
+
+        @Test
+        @DisplayName("에러 응답은 비율과 무관하게 로깅한다")
+        void shouldAlwaysLogErrors() {
+            LogSampler sampler = new LogSampler(properties(0.0));
+
+            assertThat(sampler.shouldLog("/api/users", 500, false)).isTrue();
+            assertThat(sampler.shouldLog("/api/users", 404, false)).isTrue();
+        }
+
+        @Test
+        @DisplayName("느린 요청은 비율과 무관하게 로깅한다")
+        void shouldAlwaysLogSlowRequests() {
+            LogSampler sampler = new LogSampler(properties(0.0));
+
+            assertThat(sampler.shouldLog("/api/users", 200, true)).isTrue();
+        }
+
+        @Test
+        @DisplayName("설정을 끄면 에러 응답도 샘플링한다")
+        void shouldSampleErrorsWhenDisabled() {
+            SamplingProperties properties = properties(0.0);
+            properties.setAlwaysLogErrors(false);
+            LogSampler sampler = new LogSampler(properties);
+
+            assertThat(sampler.shouldLog("/api/users", 500, false)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("초당 제한 테스트")
+    class RateLimitTest {
+
+        @Test
+        @DisplayName("경로별 초당 최대 건수를 넘으면 버린다")
+        void shouldLimitPerRoute() {
+            SamplingProperties properties = properties(1.0);
+            properties.setRateLimitPerSecond(5);
+            LogSampler sampler = new LogSampler(properties);
+
+            int logged = 0;
+            for (int i = 0; i < 100; i++) {
+                if (sampler.shouldLog("/api/users", 200, false)) {
+                    logged++;
+                }
+            }
+            // 다른 경로는 별도 버킷
+            assertThat(sampler.shouldLog("/api/products", 200, false)).isTrue();
+
+            assertThat(logged).isBetween(5, 6);
+        }
+
+        @Test
+        @DisplayName("에러 응답은 초당 제한과 무관하게 로깅한다")
+        void shouldNotLimitErrors() {
+            SamplingProperties properties = properties(1.0);
+            properties.setRateLimitPerSecond(1);
+            LogSampler sampler = new LogSampler(properties);
+
+            sampler.shouldLog("/api/users", 200, false);
+
+            for (int i = 0; i < 10; i++) {
+                assertThat(sampler.shouldLog("/api/users", 503, false)).isTrue();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("집계 테스트")
+    class StatsTest {
+
+        @Test
+        @DisplayName("경로별 로깅/버림 건수를 집계한다")
+        void shouldCountPerRoute() {
+            LogSampler sampler = new LogSampler(properties(0.0));
+
+            sampler.shouldLog("/api/users", 200, false);
+            sampler.shouldLog("/api/users", 200, false);
+            sampler.shouldLog("/api/users", 500, false);
+
+            LogSampler.RouteStats stats = sampler.getStats().get("/api/users");
+            assertThat(stats.sampled()).isEqualTo(1);
+            assertThat(stats.dropped()).isEqualTo(2);
+            assertThat(stats.rate()).isZero();
+        }
+
+        @Test
+        @DisplayName("집계 경로 수를 넘으면 나머지 경로로 묶는다")
+        void shouldGroupOverflowRoutes() {
+            SamplingProperties properties = properties(1.0);
+            properties.setMaxTrackedRoutes(2);
+            LogSampler sampler = new LogSampler(properties);
+
+            for (int i = 0; i < 10; i++) {
+                sampler.shouldLog("/api/route" + i, 200, false);
+            }
+
+            assertThat(sampler.getStats()).hasSize(3);
+            assertThat(sampler.getStats().get(LogSampler.OTHER_ROUTE).sampled()).isEqualTo(8);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ryuqq.observability.core.sampling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("1초 분량까지 한 번에 허용하고 이후에는 거부한다")
+    void shouldAllowBurstUpToOneSecond() {
+        TokenBucket bucket = new TokenBucket(5, now::get);
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (bucket.tryAcquire()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워진다")
+    void shouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(10, now::get);
+        for (int i = 0; i < 10; i++) {
+            bucket.tryAcquire();
+        }
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 1초 분량 이상 쌓이지 않는다")
+    void shouldNotAccumulateBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(3, now::get);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (bucket.tryAcquire()) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("초당 허용 건수가 0 이하이면 예외가 발생한다")
+    void shouldRejectNonPositiveRate() {
+        assertThatThrownBy(() -> new TokenBucket(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
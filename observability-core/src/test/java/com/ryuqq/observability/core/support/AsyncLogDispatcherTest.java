@@ -0,0 +1,255 @@
+package com.ryuqq.observability.core.support;
+
+import com.ryuqq.observability.core.support.AsyncLogDispatcher.OverflowPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncLogDispatcher 테스트")
+class AsyncLogDispatcherTest {
+
+    @Test
+    @DisplayName("제출한 이벤트를 처리 스레드에서 순서대로 처리한다")
+    void shouldHandleEventsInOrderOnWorkerThread() {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        AsyncLogDispatcher<String> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 16, OverflowPolicy.DROP,
+                event -> {
+                    handled.add(event);
+                    threads.add(Thread.currentThread().getName());
+                });
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatch("event-" + i);
+        }
+        dispatcher.close();
+
+        assertThat(handled).hasSize(10).startsWith("event-0").endsWith("event-9");
+        assertThat(threads).containsOnly("test-dispatcher");
+        assertThat(dispatcher.getDispatched()).isEqualTo(10);
+        assertThat(dispatcher.getProcessed()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("DROP 정책은 버퍼가 가득 차면 이벤트를 버리고 건수를 센다")
+    void shouldDropWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncLogDispatcher<Integer> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 4, OverflowPolicy.DROP,
+                event -> await(release));
+
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (dispatcher.dispatch(i)) {
+                accepted++;
+            }
+        }
+        release.countDown();
+        dispatcher.close();
+
+        // 처리 중인 1건 + 버퍼 4건
+        assertThat(accepted).isBetween(4, 5);
+        assertThat(dispatcher.getDropped()).isEqualTo(20 - accepted);
+        assertThat(dispatcher.getProcessed()).isEqualTo(accepted);
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책은 자리가 날 때까지 기다려 이벤트를 버리지 않는다")
+    void shouldBlockUntilSpaceIsAvailable() throws InterruptedException {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        AsyncLogDispatcher<Integer> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 2, OverflowPolicy.BLOCK,
+                event -> {
+                    sleep(1);
+                    handled.add(event);
+                });
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(dispatcher.dispatch(i)).isTrue();
+        }
+        dispatcher.close();
+
+        assertThat(handled).hasSize(50);
+        assertThat(dispatcher.getDropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 제출해도 유실 없이 모두 처리한다")
+    void shouldHandleConcurrentProducers() throws InterruptedException {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        AsyncLogDispatcher<Integer> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 64, OverflowPolicy.BLOCK,
+                handled::add);
+
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            int base = p * 1000;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    dispatcher.dispatch(base + i);
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        dispatcher.close();
+
+        assertThat(handled).hasSize(4000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 발생해도 다음 이벤트를 계속 처리한다")
+    void shouldContinueAfterHandlerFailure() {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        AsyncLogDispatcher<String> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 8, OverflowPolicy.DROP,
+                event -> {
+                    if (event.equals("bad")) {
+                        throw new IllegalStateException("boom");
+                    }
+                    handled.add(event);
+                });
+
+        dispatcher.dispatch("first");
+        dispatcher.dispatch("bad");
+        dispatcher.dispatch("last");
+        dispatcher.close();
+
+        assertThat(handled).containsExactly("first", "last");
+        assertThat(dispatcher.getFailed()).isEqualTo(1);
+        assertThat(dispatcher.getProcessed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("처리 중 Error가 발생해도 다음 이벤트를 계속 처리한다")
+    void shouldContinueAfterHandlerError() {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        AsyncLogDispatcher<String> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 8, OverflowPolicy.BLOCK,
+                event -> {
+                    if (event.equals("bad")) {
+                        throw new LinkageError("boom");
+                    }
+                    handled.add(event);
+                });
+
+        dispatcher.dispatch("first");
+        dispatcher.dispatch("bad");
+        dispatcher.dispatch("last");
+        dispatcher.close();
+
+        assertThat(handled).containsExactly("first", "last");
+        assertThat(dispatcher.getFailed()).isEqualTo(1);
+        assertThat(dispatcher.getProcessed()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("VirtualMachineError로 처리 스레드가 종료되면 BLOCK 정책에서도 기다리지 않고 버림으로 센다")
+    void shouldDropInsteadOfBlockingAfterWorkerDies() throws InterruptedException {
+        CountDownLatch died = new CountDownLatch(1);
+        AsyncLogDispatcher<String> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 2, OverflowPolicy.BLOCK,
+                event -> {
+                    if (event.equals("fatal")) {
+                        died.countDown();
+                        throw new StackOverflowError("boom");
+                    }
+                });
+
+        dispatcher.dispatch("fatal");
+        assertThat(died.await(5, TimeUnit.SECONDS)).isTrue();
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (dispatcher.dispatch("after-" + i)) {
+                accepted++;
+            }
+        }
+
+        // 종료 직전에 버퍼에 들어간 이벤트는 처리 스레드가 끝나면서 버림으로 셈
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getDropped() < 10 && System.currentTimeMillis() < deadline) {
+            sleep(1);
+        }
+
+        assertThat(dispatcher.getFailed()).isEqualTo(1);
+        assertThat(accepted).isLessThanOrEqualTo(2);
+        assertThat(dispatcher.getDropped()).isEqualTo(10);
+        assertThat(dispatcher.close(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("제출 중에 종료해도 모든 이벤트는 처리되거나 버림으로 센다")
+    void shouldAccountForEventsDispatchedDuringClose() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            List<Integer> handled = new CopyOnWriteArrayList<>();
+            AsyncLogDispatcher<Integer> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 64,
+                    OverflowPolicy.BLOCK, handled::add);
+            CountDownLatch started = new CountDownLatch(4);
+            Thread[] producers = new Thread[4];
+            for (int p = 0; p < producers.length; p++) {
+                producers[p] = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 500; i++) {
+                        dispatcher.dispatch(i);
+                    }
+                });
+                producers[p].start();
+            }
+            started.await();
+            dispatcher.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertThat(handled.size() + dispatcher.getDropped()).isEqualTo(2000);
+        }
+    }
+
+    @Test
+    @DisplayName("종료 후에는 이벤트를 받지 않는다")
+    void shouldRejectAfterClose() {
+        AsyncLogDispatcher<String> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 8, OverflowPolicy.BLOCK,
+                event -> { });
+
+        assertThat(dispatcher.close(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(dispatcher.dispatch("late")).isFalse();
+        assertThat(dispatcher.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버퍼 크기는 2의 거듭제곱으로 올림한다")
+    void shouldRoundCapacityToPowerOfTwo() {
+        AsyncLogDispatcher<String> dispatcher = new AsyncLogDispatcher<>("test-dispatcher", 1000, null, event -> { });
+
+        assertThat(dispatcher.getCapacity()).isEqualTo(1024);
+        assertThat(dispatcher.getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP);
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("버퍼 크기가 0 이하이면 예외가 발생한다")
+    void shouldRejectNonPositiveCapacity() {
+        assertThatThrownBy(() -> new AsyncLogDispatcher<String>("test-dispatcher", 0, OverflowPolicy.DROP, event -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
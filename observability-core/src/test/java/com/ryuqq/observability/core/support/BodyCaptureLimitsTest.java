@@ -0,0 +1,38 @@
+package com.ryuqq.observability.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BodyCaptureLimits 테스트")
+class BodyCaptureLimitsTest {
+
+    @Test
+    @DisplayName("최대 길이의 4배에 여유 바이트를 더한 만큼 캡처한다")
+    void shouldCaptureFourBytesPerCharPlusSlack() {
+        assertThat(BodyCaptureLimits.captureBytes(1000)).isEqualTo(4064);
+        assertThat(BodyCaptureLimits.captureBytes(0)).isEqualTo(BodyCaptureLimits.SLACK_BYTES);
+        assertThat(BodyCaptureLimits.captureBytes(-1)).isEqualTo(BodyCaptureLimits.SLACK_BYTES);
+    }
+
+    @Test
+    @DisplayName("아주 큰 최대 길이는 int 범위로 제한한다")
+    void shouldClampToIntRange() {
+        assertThat(BodyCaptureLimits.captureBytes(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("4바이트 문자만 있는 본문도 한도 안에서 최대 길이를 채운다")
+    void shouldFitMaxLengthOfFourByteChars() {
+        int maxLength = 10;
+        byte[] bytes = "😀".repeat(maxLength + 5).getBytes(StandardCharsets.UTF_8);
+        int limit = Math.min(bytes.length, BodyCaptureLimits.captureBytes(maxLength));
+
+        String decoded = new String(bytes, 0, limit, StandardCharsets.UTF_8);
+
+        assertThat(decoded.codePointCount(0, decoded.length())).isGreaterThanOrEqualTo(maxLength);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ryuqq.observability.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedCache 테스트")
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("두 번째 조회부터 캐시에 저장되고 이후에는 계산하지 않는다")
+    void shouldCacheAfterSecondLookup() {
+        BoundedCache<String, String> cache = new BoundedCache<>(16);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            cache.get("/api/users/1", key -> {
+                loads.incrementAndGet();
+                return key.toUpperCase();
+            });
+        }
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(3);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 번만 나타나는 키는 캐시에 저장되지 않는다")
+    void shouldNotAdmitOneHitKeys() {
+        BoundedCache<String, String> cache = new BoundedCache<>(1024);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("/random/" + i, key -> key);
+        }
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않으며 자주 조회되는 키는 유지된다")
+    void shouldKeepHotKeysWithinMaximumSize() {
+        BoundedCache<String, String> cache = new BoundedCache<>(8);
+        AtomicInteger hotLoads = new AtomicInteger();
+
+        for (int round = 0; round < 50; round++) {
+            cache.get("/hot", key -> {
+                hotLoads.incrementAndGet();
+                return key;
+            });
+            // 두 번씩 조회되어 입장하는 콜드 키
+            String cold = "/cold/" + round;
+            cache.get(cold, key -> key);
+            cache.get(cold, key -> key);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(8);
+        assertThat(hotLoads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("null 값은 캐싱하지 않는다")
+    void shouldNotCacheNullValue() {
+        BoundedCache<String, String> cache = new BoundedCache<>(4);
+
+        cache.get("key", key -> null);
+        cache.get("key", key -> null);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("clear 후에는 다시 계산한다")
+    void shouldReloadAfterClear() {
+        BoundedCache<String, String> cache = new BoundedCache<>(4);
+        cache.get("key", key -> "v1");
+        cache.get("key", key -> "v1");
+
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("key", key -> "v2")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0 이하이면 예외가 발생한다")
+    void shouldRejectNonPositiveMaximumSize() {
+        assertThatThrownBy(() -> new BoundedCache<String, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
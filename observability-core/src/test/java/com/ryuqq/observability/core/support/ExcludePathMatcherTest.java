@@ -0,0 +1,65 @@
+package com.ryuqq.observability.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExcludePathMatcher 테스트")
+class ExcludePathMatcherTest {
+
+    private final AtomicInteger fallbackCalls = new AtomicInteger();
+
+    private final BiPredicate<String, String> suffixMatcher = (pattern, path) -> {
+        fallbackCalls.incrementAndGet();
+        return pattern.startsWith("/**/*.") && path.endsWith(pattern.substring(5));
+    };
+
+    @Test
+    @DisplayName("와일드카드가 없는 패턴은 정확히 일치할 때만 제외한다")
+    void shouldMatchExactPaths() {
+        ExcludePathMatcher matcher = new ExcludePathMatcher(List.of("/health", "/favicon.ico"), suffixMatcher);
+
+        assertThat(matcher.matches("/health")).isTrue();
+        assertThat(matcher.matches("/favicon.ico")).isTrue();
+        assertThat(matcher.matches("/health/")).isFalse();
+        assertThat(matcher.matches("/healthz")).isFalse();
+    }
+
+    @Test
+    @DisplayName("/**로 끝나는 패턴은 경로 구분자 경계의 접두사로 비교한다")
+    void shouldMatchPrefixOnSegmentBoundary() {
+        ExcludePathMatcher matcher = new ExcludePathMatcher(List.of("/actuator/**"), suffixMatcher);
+
+        assertThat(matcher.matches("/actuator")).isTrue();
+        assertThat(matcher.matches("/actuator/")).isTrue();
+        assertThat(matcher.matches("/actuator/prometheus")).isTrue();
+        assertThat(matcher.matches("/actuatorx")).isFalse();
+        assertThat(matcher.matches("/api/actuator")).isFalse();
+        assertThat(fallbackCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("정확히 일치/접두사로 처리할 수 없는 패턴은 패턴 매처로 위임한다")
+    void shouldDelegateComplexPatterns() {
+        ExcludePathMatcher matcher = new ExcludePathMatcher(List.of("/actuator/**", "/**/*.css"), suffixMatcher);
+
+        assertThat(matcher.matches("/static/app.css")).isTrue();
+        assertThat(matcher.matches("/api/users")).isFalse();
+        assertThat(fallbackCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("/** 패턴은 모든 경로를 제외한다")
+    void shouldMatchEverythingForCatchAll() {
+        ExcludePathMatcher matcher = new ExcludePathMatcher(List.of("/**"), suffixMatcher);
+
+        assertThat(matcher.matches("/")).isTrue();
+        assertThat(matcher.matches("/api/users")).isTrue();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ryuqq.observability.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InFlightMonitor 테스트")
+class InFlightMonitorTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("임계값을 넘긴 요청만 한 번 알린다")
+    void shouldReportOverdueOnce() {
+        AtomicLong clock = new AtomicLong();
+        List<String> reported = new CopyOnWriteArrayList<>();
+        try (InFlightMonitor<String> monitor = new InFlightMonitor<>("test-monitor", 60_000, reported::add, clock::get)) {
+            InFlightMonitor.Ticket<String> slow = monitor.register("slow");
+            clock.addAndGet(30_000 * MS);
+            InFlightMonitor.Ticket<String> fast = monitor.register("fast");
+
+            clock.addAndGet(30_000 * MS);
+            monitor.scan();
+            monitor.scan();
+
+            assertThat(reported).containsExactly("slow");
+            assertThat(monitor.complete(slow)).isTrue();
+            assertThat(monitor.complete(fast)).isFalse();
+            assertThat(monitor.getInFlightCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("임계값 전에 완료된 요청은 알리지 않는다")
+    void shouldNotReportCompleted() {
+        AtomicLong clock = new AtomicLong();
+        List<String> reported = new CopyOnWriteArrayList<>();
+        try (InFlightMonitor<String> monitor = new InFlightMonitor<>("test-monitor", 60_000, reported::add, clock::get)) {
+            InFlightMonitor.Ticket<String> ticket = monitor.register("done");
+            assertThat(monitor.complete(ticket)).isFalse();
+
+            clock.addAndGet(120_000 * MS);
+            monitor.scan();
+
+            assertThat(reported).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("모니터 스레드가 주기적으로 훑어 임계값을 넘긴 요청을 알린다")
+    void shouldReportFromWorkerThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        try (InFlightMonitor<String> monitor = new InFlightMonitor<>("test-monitor", 20, item -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        })) {
+            monitor.register("slow");
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(threads).containsExactly("test-monitor");
+        }
+    }
+
+    @Test
+    @DisplayName("콜백 예외는 모니터를 멈추지 않는다")
+    void shouldSurviveCallbackFailure() {
+        AtomicLong clock = new AtomicLong();
+        List<String> reported = new CopyOnWriteArrayList<>();
+        try (InFlightMonitor<String> monitor = new InFlightMonitor<>("test-monitor", 60_000, item -> {
+            if (item.equals("bad")) {
+                throw new IllegalStateException("boom");
+            }
+            reported.add(item);
+        }, clock::get)) {
+            monitor.register("bad");
+            monitor.register("good");
+
+            clock.addAndGet(60_000 * MS);
+            monitor.scan();
+
+            assertThat(reported).containsExactly("good");
+        }
+    }
+
+    @Test
+    @DisplayName("임계값은 양수여야 한다")
+    void shouldRejectNonPositiveThreshold() {
+        assertThatThrownBy(() -> new InFlightMonitor<String>("test-monitor", 0, item -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ryuqq.observability.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestTimings 테스트")
+class RequestTimingsTest {
+
+    private static final long US = TimeUnit.MICROSECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("전체 시간만 측정하면 단계별 시간은 -1이다")
+    void shouldOmitPhasesForTotal() {
+        RequestTimings timings = RequestTimings.total(1_000, 1_000 + 350 * US);
+
+        assertThat(timings.durationNanos()).isEqualTo(350 * US);
+        assertThat(timings.durationMillis()).isZero();
+        assertThat(timings.hasPhases()).isFalse();
+        assertThat(RequestTimings.toMicros(timings.firstByteNanos())).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("첫 바이트 시각으로 핸들러 시간과 전송 시간을 나눈다")
+    void shouldSplitAtFirstByte() {
+        long start = 10_000;
+        RequestTimings timings = RequestTimings.phases(start, start + 800 * US, start + 1_300 * US, 40 * US);
+
+        assertThat(RequestTimings.toMicros(timings.durationNanos())).isEqualTo(1_300);
+        assertThat(RequestTimings.toMicros(timings.firstByteNanos())).isEqualTo(800);
+        assertThat(RequestTimings.toMicros(timings.writeNanos())).isEqualTo(500);
+        assertThat(RequestTimings.toMicros(timings.overheadNanos())).isEqualTo(40);
+        assertThat(timings.durationMillis()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 바이트 시각을 모르면 완료 시각으로 간주한다")
+    void shouldUseEndWhenFirstByteUnknown() {
+        RequestTimings timings = RequestTimings.phases(0, 0, 500 * US, 0);
+
+        assertThat(timings.firstByteNanos()).isEqualTo(500 * US);
+        assertThat(timings.writeNanos()).isZero();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ryuqq.observability.core.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReusableStringBuilder 테스트")
+class ReusableStringBuilderTest {
+
+    @Test
+    @DisplayName("같은 스레드에서는 비워진 동일 버퍼를 재사용한다")
+    void shouldReuseClearedBufferOnSameThread() {
+        ReusableStringBuilder buffer = new ReusableStringBuilder(16, 1024);
+
+        StringBuilder first = buffer.acquire();
+        first.append("hello");
+        StringBuilder second = buffer.acquire();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.length()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 보관 용량을 넘은 버퍼는 교체된다")
+    void shouldReplaceOversizedBuffer() {
+        ReusableStringBuilder buffer = new ReusableStringBuilder(16, 64);
+
+        StringBuilder first = buffer.acquire();
+        first.append("x".repeat(1000));
+        StringBuilder second = buffer.acquire();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.capacity()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("스레드마다 다른 버퍼를 사용한다")
+    void shouldUseSeparateBufferPerThread() throws InterruptedException {
+        ReusableStringBuilder buffer = new ReusableStringBuilder(16, 1024);
+        StringBuilder mine = buffer.acquire();
+        AtomicReference<StringBuilder> other = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> other.set(buffer.acquire()));
+        thread.start();
+        thread.join();
+
+        assertThat(other.get()).isNotSameAs(mine);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ryuqq.observability.core.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RandomTraceIdGenerator 테스트")
+class RandomTraceIdGeneratorTest {
+
+    @Test
+    @DisplayName("32자리 소문자 hex TraceId를 생성한다")
+    void shouldGenerateW3cCompatibleTraceId() {
+        String traceId = TraceIdGenerator.RANDOM.generate();
+
+        assertThat(traceId).matches("[0-9a-f]{32}");
+        assertThat(traceId).isNotEqualTo("00000000000000000000000000000000");
+    }
+
+    @Test
+    @DisplayName("매번 다른 TraceId를 생성한다")
+    void shouldGenerateUniqueTraceIds() {
+        Set<String> traceIds = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            traceIds.add(RandomTraceIdGenerator.INSTANCE.generate());
+        }
+
+        assertThat(traceIds).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("long 값을 앞자리 0을 포함한 16자리 hex로 인코딩한다")
+    void shouldWriteZeroPaddedHex() {
+        char[] chars = new char[32];
+        RandomTraceIdGenerator.writeHex(chars, 0, 0x00f067aa0ba902b7L);
+        RandomTraceIdGenerator.writeHex(chars, 16, -1L);
+
+        assertThat(new String(chars)).isEqualTo("00f067aa0ba902b7ffffffffffffffff");
+    }
+}
@@ -101,6 +101,21 @@ class TraceIdHolderTest {
             TraceIdHolder.setSpanId("");
             assertThat(MDC.get(TraceIdHeaders.MDC_SPAN_ID)).isNull();
         }
+
+        @Test
+        @DisplayName("상위 SpanId를 설정하고 clear로 함께 정리한다")
+        void shouldSetAndClearParentSpanId() {
+            TraceIdHolder.setSpanId("00f067aa0ba902b7");
+            TraceIdHolder.setParentSpanId("b7ad6b7169203331");
+
+            assertThat(TraceIdHolder.getSpanId()).isEqualTo("00f067aa0ba902b7");
+            assertThat(TraceIdHolder.getParentSpanId()).isEqualTo("b7ad6b7169203331");
+
+            TraceIdHolder.clear();
+
+            assertThat(TraceIdHolder.getSpanId()).isNull();
+            assertThat(TraceIdHolder.getParentSpanId()).isNull();
+        }
     }
 
     @Nested
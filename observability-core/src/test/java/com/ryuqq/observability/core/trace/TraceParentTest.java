@@ -0,0 +1,51 @@
+package com.ryuqq.observability.core.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TraceParent 테스트")
+class TraceParentTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Test
+    @DisplayName("16자리 hex SpanId를 매번 새로 생성한다")
+    void shouldGenerateSpanId() {
+        String spanId = TraceParent.newSpanId();
+
+        assertThat(spanId).matches("[0-9a-f]{16}");
+        assertThat(spanId).isNotEqualTo(TraceParent.newSpanId());
+    }
+
+    @Test
+    @DisplayName("traceparent 헤더에서 parent-id를 추출한다")
+    void shouldParseParentId() {
+        assertThat(TraceParent.parseParentId("00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .isEqualTo("00f067aa0ba902b7");
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 traceparent는 null을 반환한다")
+    void shouldRejectMalformedTraceparent() {
+        assertThat(TraceParent.parseParentId(null)).isNull();
+        assertThat(TraceParent.parseParentId("00-abc-def-01")).isNull();
+        assertThat(TraceParent.parseParentId("00-" + TRACE_ID + "-0000000000000000-01")).isNull();
+        assertThat(TraceParent.parseParentId("00-" + TRACE_ID + "-00F067AA0BA902B7-01")).isNull();
+    }
+
+    @Test
+    @DisplayName("TraceId와 SpanId로 traceparent를 만든다")
+    void shouldFormatTraceparent() {
+        assertThat(TraceParent.format(TRACE_ID, "00f067aa0ba902b7"))
+                .isEqualTo("00-" + TRACE_ID + "-00f067aa0ba902b7-01");
+    }
+
+    @Test
+    @DisplayName("W3C 형식이 아닌 TraceId나 SpanId 없이는 traceparent를 만들지 않는다")
+    void shouldNotFormatInvalidIds() {
+        assertThat(TraceParent.format("gateway-trace-1", "00f067aa0ba902b7")).isNull();
+        assertThat(TraceParent.format(TRACE_ID, null)).isNull();
+    }
+}
@@ -1,15 +1,16 @@
 package com.ryuqq.observability.logging.aspect;
 
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
 import com.ryuqq.observability.logging.annotation.BusinessLog;
 import com.ryuqq.observability.logging.config.BusinessLoggingProperties;
-import net.logstash.logback.marker.Markers;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.Marker;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
@@ -18,8 +19,6 @@ import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import java.lang.reflect.Method;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 /**
  * @BusinessLog 어노테이션 처리 AOP Aspect.
@@ -34,9 +33,19 @@ public class BusinessLogAspect {
     private final BusinessLoggingProperties properties;
     private final ExpressionParser parser = new SpelExpressionParser();
     private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final OverheadStats overhead;
 
     public BusinessLogAspect(BusinessLoggingProperties properties) {
+        this(properties, OverheadStats.DISABLED);
+    }
+
+    /**
+     * @param properties 비즈니스 로깅 설정
+     * @param overhead   Aspect 자체 소요 시간(SpEL 평가를 포함한 마커 생성, 로거 호출)을 누적할 통계
+     */
+    public BusinessLogAspect(BusinessLoggingProperties properties, OverheadStats overhead) {
         this.properties = properties;
+        this.overhead = overhead != null ? overhead : OverheadStats.DISABLED;
     }
 
     @Around("@annotation(businessLog)")
@@ -73,15 +82,15 @@ public class BusinessLogAspect {
 
     private void logBusinessEvent(BusinessLog businessLog, EvaluationContext evalContext,
                                   boolean success, Throwable error) {
-        Map<String, Object> logData = new LinkedHashMap<>();
-        logData.put("action", businessLog.action());
+        long t = overhead.start();
+        BusinessLogMarker marker = new BusinessLogMarker(businessLog.action());
 
         if (!businessLog.entity().isEmpty()) {
-            logData.put("entity", businessLog.entity());
+            marker.entity(businessLog.entity());
         }
 
         if (!businessLog.description().isEmpty()) {
-            logData.put("description", businessLog.description());
+            marker.description(businessLog.description());
         }
 
         // entityId SpEL 평가
@@ -89,7 +98,7 @@ public class BusinessLogAspect {
             try {
                 Object entityId = evaluateExpression(businessLog.entityId(), evalContext);
                 if (entityId != null) {
-                    logData.put("entityId", entityId.toString());
+                    marker.entityId(entityId.toString());
                 }
             } catch (Exception e) {
                 // SpEL 평가 실패 시 무시
@@ -105,7 +114,7 @@ public class BusinessLogAspect {
                     String expression = parts[1].trim();
                     Object value = evaluateExpression(expression, evalContext);
                     if (value != null) {
-                        logData.put(key, value);
+                        marker.context(key, value);
                     }
                 }
             } catch (Exception e) {
@@ -113,15 +122,15 @@ public class BusinessLogAspect {
             }
         }
 
-        logData.put("success", success);
+        marker.success(success);
 
         if (error != null) {
-            logData.put("error", error.getClass().getSimpleName());
-            logData.put("errorMessage", error.getMessage());
+            marker.error(error);
         }
 
-        // 구조화된 로그 출력 (Markers 사용)
-        Marker marker = Markers.appendEntries(logData);
+        t = overhead.lap(Component.BUSINESS_LOG, Stage.MARKER, t);
+
+        // 구조화된 로그 출력
         String action = businessLog.action();
 
         if (success) {
@@ -129,6 +138,7 @@ public class BusinessLogAspect {
         } else {
             businessLogger.error(marker, "[BUSINESS] action={}", action);
         }
+        overhead.lap(Component.BUSINESS_LOG, Stage.LOG, t);
     }
 
     private EvaluationContext createEvaluationContext(Method method, Object[] args, Object target) {
@@ -0,0 +1,125 @@
+package com.ryuqq.observability.logging.aspect;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.marker.LogstashMarker;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code @BusinessLog} 비즈니스 이벤트 로그의 구조화 필드를 담는 마커.
+ *
+ * <p>고정 필드(action, entity, entityId, success 등)는 슬롯에 보관하고, SpEL로 평가한 추가 컨텍스트만
+ * 있을 때 맵을 만듭니다. JSON 인코더가 {@link #writeTo(JsonGenerator)}를 호출할 때 생성기에 직접 씁니다.</p>
+ */
+final class BusinessLogMarker extends LogstashMarker {
+
+    static final String MARKER_NAME = LogstashMarker.MARKER_NAME_PREFIX + "BUSINESS_FIELDS";
+
+    private final String action;
+    private String entity;
+    private String description;
+    private String entityId;
+    private Map<String, Object> context;
+    private boolean success;
+    private String error;
+    private String errorMessage;
+
+    BusinessLogMarker(String action) {
+        super(MARKER_NAME);
+        this.action = action;
+    }
+
+    BusinessLogMarker entity(String entity) {
+        this.entity = entity;
+        return this;
+    }
+
+    BusinessLogMarker description(String description) {
+        this.description = description;
+        return this;
+    }
+
+    BusinessLogMarker entityId(String entityId) {
+        this.entityId = entityId;
+        return this;
+    }
+
+    BusinessLogMarker context(String key, Object value) {
+        if (context == null) {
+            context = new LinkedHashMap<>();
+        }
+        context.put(key, value);
+        return this;
+    }
+
+    BusinessLogMarker success(boolean success) {
+        this.success = success;
+        return this;
+    }
+
+    BusinessLogMarker error(Throwable error) {
+        this.error = error.getClass().getSimpleName();
+        this.errorMessage = error.getMessage();
+        return this;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStringField("action", action);
+        if (entity != null) {
+            generator.writeStringField("entity", entity);
+        }
+        if (description != null) {
+            generator.writeStringField("description", description);
+        }
+        if (entityId != null) {
+            generator.writeStringField("entityId", entityId);
+        }
+        if (context != null) {
+            for (Map.Entry<String, Object> entry : context.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                generator.writeObject(entry.getValue());
+            }
+        }
+        generator.writeBooleanField("success", success);
+        if (error != null) {
+            generator.writeStringField("error", error);
+            generator.writeStringField("errorMessage", errorMessage);
+        }
+    }
+
+    @Override
+    protected String toStringSelf() {
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("{action=").append(action);
+        if (entity != null) {
+            sb.append(", entity=").append(entity);
+        }
+        if (description != null) {
+            sb.append(", description=").append(description);
+        }
+        if (entityId != null) {
+            sb.append(", entityId=").append(entityId);
+        }
+        if (context != null) {
+            context.forEach((key, value) -> sb.append(", ").append(key).append('=').append(value));
+        }
+        sb.append(", success=").append(success);
+        if (error != null) {
+            sb.append(", error=").append(error).append(", errorMessage=").append(errorMessage);
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
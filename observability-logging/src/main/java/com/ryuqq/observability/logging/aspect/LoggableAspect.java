@@ -1,9 +1,11 @@
 package com.ryuqq.observability.logging.aspect;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
 import com.ryuqq.observability.logging.annotation.Loggable;
 import com.ryuqq.observability.logging.config.BusinessLoggingProperties;
-import net.logstash.logback.marker.Markers;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -14,8 +16,6 @@ import org.slf4j.Marker;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 /**
  * @Loggable 어노테이션 처리 AOP Aspect.
@@ -25,12 +25,25 @@ import java.util.Map;
 @Aspect
 public class LoggableAspect {
 
+    private static final int MAX_VALUE_LENGTH = 500;
+
     private final BusinessLoggingProperties properties;
     private final LogMasker logMasker;
+    private final OverheadStats overhead;
 
     public LoggableAspect(BusinessLoggingProperties properties, LogMasker logMasker) {
+        this(properties, logMasker, OverheadStats.DISABLED);
+    }
+
+    /**
+     * @param properties 비즈니스 로깅 설정
+     * @param logMasker  민감정보 마스킹 유틸리티
+     * @param overhead   Aspect 자체 소요 시간(마스킹, 마커 생성, 로거 호출)을 누적할 통계
+     */
+    public LoggableAspect(BusinessLoggingProperties properties, LogMasker logMasker, OverheadStats overhead) {
         this.properties = properties;
         this.logMasker = logMasker;
+        this.overhead = overhead != null ? overhead : OverheadStats.DISABLED;
     }
 
     @Around("@annotation(loggable)")
@@ -75,38 +88,42 @@ public class LoggableAspect {
     }
 
     private void logStart(Logger logger, Loggable loggable, String methodName, Object[] args) {
-        Map<String, Object> logData = new LinkedHashMap<>();
-        logData.put("method", methodName);
-        logData.put("phase", "started");
+        // 마스킹은 마커 생성 시간과 따로 측정되도록 먼저 수행
+        String formattedArgs = loggable.includeArgs() && args != null && args.length > 0 ? formatArgs(args) : null;
 
-        if (loggable.includeArgs() && args != null && args.length > 0) {
-            logData.put("args", formatArgs(args));
+        long t = overhead.start();
+        MethodLogMarker marker = new MethodLogMarker(methodName, "started");
+
+        if (formattedArgs != null) {
+            marker.args(formattedArgs);
         }
+        t = overhead.lap(Component.LOGGABLE, Stage.MARKER, t);
 
-        Marker marker = Markers.appendEntries(logData);
         log(logger, loggable.level(), marker, "{} started", methodName);
+        overhead.lap(Component.LOGGABLE, Stage.LOG, t);
     }
 
     private void logSuccess(Logger logger, Loggable loggable, String methodName, long duration, Object result) {
-        Map<String, Object> logData = new LinkedHashMap<>();
-        logData.put("method", methodName);
-        logData.put("phase", "completed");
+        String maskedResult = loggable.includeResult() && result != null ? maskAndTruncate(result.toString()) : null;
+
+        long t = overhead.start();
+        MethodLogMarker marker = new MethodLogMarker(methodName, "completed");
 
         if (loggable.includeExecutionTime()) {
-            logData.put("duration", duration);
+            marker.duration(duration);
         }
 
-        if (loggable.includeResult() && result != null) {
-            String resultStr = logMasker.mask(result.toString());
-            logData.put("result", truncate(resultStr));
+        if (maskedResult != null) {
+            marker.result(maskedResult);
         }
+        t = overhead.lap(Component.LOGGABLE, Stage.MARKER, t);
 
-        Marker marker = Markers.appendEntries(logData);
         if (loggable.includeExecutionTime()) {
             log(logger, loggable.level(), marker, "{} completed in {}ms", methodName, duration);
         } else {
             log(logger, loggable.level(), marker, "{} completed", methodName);
         }
+        overhead.lap(Component.LOGGABLE, Stage.LOG, t);
     }
 
     private void logSlowExecution(Logger logger, Loggable loggable, String methodName, long duration) {
@@ -115,31 +132,28 @@ public class LoggableAspect {
                 : properties.getSlowExecutionThreshold();
 
         if (duration > threshold) {
-            Map<String, Object> logData = new LinkedHashMap<>();
-            logData.put("method", methodName);
-            logData.put("phase", "slow_execution");
-            logData.put("duration", duration);
-            logData.put("threshold", threshold);
-
-            Marker marker = Markers.appendEntries(logData);
+            long t = overhead.start();
+            MethodLogMarker marker = new MethodLogMarker(methodName, "slow_execution")
+                    .duration(duration)
+                    .threshold(threshold);
+            t = overhead.lap(Component.LOGGABLE, Stage.MARKER, t);
             logger.warn(marker, "{} slow execution detected: {}ms (threshold: {}ms)",
                     methodName, duration, threshold);
+            overhead.lap(Component.LOGGABLE, Stage.LOG, t);
         }
     }
 
     private void logError(Logger logger, Loggable loggable, String methodName, long duration, Throwable e) {
-        Map<String, Object> logData = new LinkedHashMap<>();
-        logData.put("method", methodName);
-        logData.put("phase", "failed");
-        logData.put("duration", duration);
-        logData.put("error", e.getClass().getSimpleName());
-
-        String maskedErrorMessage = truncate(logMasker.mask(String.valueOf(e.getMessage())));
-        logData.put("errorMessage", maskedErrorMessage);
+        String maskedErrorMessage = maskAndTruncate(String.valueOf(e.getMessage()));
+        long t = overhead.start();
+        MethodLogMarker marker = new MethodLogMarker(methodName, "failed")
+                .duration(duration)
+                .error(e.getClass().getSimpleName(), maskedErrorMessage);
+        t = overhead.lap(Component.LOGGABLE, Stage.MARKER, t);
 
-        Marker marker = Markers.appendEntries(logData);
         log(logger, loggable.errorLevel(), marker, "{} failed after {}ms: {} - {}",
                 methodName, duration, e.getClass().getSimpleName(), maskedErrorMessage, e);
+        overhead.lap(Component.LOGGABLE, Stage.LOG, t);
     }
 
     private String formatArgs(Object[] args) {
@@ -147,20 +161,15 @@ public class LoggableAspect {
             return "[]";
         }
 
-        String argsStr = Arrays.toString(args);
-        String masked = logMasker.mask(argsStr);
-        return truncate(masked);
+        return maskAndTruncate(Arrays.toString(args));
     }
 
-    private String truncate(String str) {
-        if (str == null) {
-            return null;
-        }
-        int maxLength = 500;
-        if (str.length() > maxLength) {
-            return str.substring(0, maxLength) + "...[TRUNCATED]";
-        }
-        return str;
+    private String maskAndTruncate(String str) {
+        long t = overhead.start();
+        String masked = logMasker.mask(str, MAX_VALUE_LENGTH, "...[TRUNCATED]");
+        overhead.lap(Component.LOGGABLE, Stage.MASK, t);
+        overhead.addMaskedChars(Component.LOGGABLE, str.length());
+        return masked;
     }
 
     private void log(Logger logger, Loggable.LogLevel level, Marker marker, String format, Object... args) {
@@ -0,0 +1,113 @@
+package com.ryuqq.observability.logging.aspect;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.logstash.logback.marker.LogstashMarker;
+
+import java.io.IOException;
+
+/**
+ * {@code @Loggable} 메서드 실행 로그의 구조화 필드를 담는 고정 스키마 마커.
+ *
+ * <p>로그마다 {@code LinkedHashMap}을 만들고 실행 시간을 박싱하는 대신, 고정 슬롯에 보관했다가
+ * JSON 인코더가 {@link #writeTo(JsonGenerator)}를 호출할 때 생성기에 직접 씁니다.
+ * 값이 없는 슬롯은 출력하지 않습니다.</p>
+ */
+final class MethodLogMarker extends LogstashMarker {
+
+    static final String MARKER_NAME = LogstashMarker.MARKER_NAME_PREFIX + "METHOD_FIELDS";
+
+    private final String method;
+    private final String phase;
+    private String args;
+    private long duration = -1;
+    private long threshold = -1;
+    private String result;
+    private String error;
+    private String errorMessage;
+
+    MethodLogMarker(String method, String phase) {
+        super(MARKER_NAME);
+        this.method = method;
+        this.phase = phase;
+    }
+
+    MethodLogMarker args(String args) {
+        this.args = args;
+        return this;
+    }
+
+    MethodLogMarker duration(long duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    MethodLogMarker threshold(long threshold) {
+        this.threshold = threshold;
+        return this;
+    }
+
+    MethodLogMarker result(String result) {
+        this.result = result;
+        return this;
+    }
+
+    MethodLogMarker error(String error, String errorMessage) {
+        this.error = error;
+        this.errorMessage = errorMessage;
+        return this;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStringField("method", method);
+        generator.writeStringField("phase", phase);
+        if (args != null) {
+            generator.writeStringField("args", args);
+        }
+        if (duration >= 0) {
+            generator.writeNumberField("duration", duration);
+        }
+        if (threshold >= 0) {
+            generator.writeNumberField("threshold", threshold);
+        }
+        if (result != null) {
+            generator.writeStringField("result", result);
+        }
+        if (error != null) {
+            generator.writeStringField("error", error);
+            generator.writeStringField("errorMessage", errorMessage);
+        }
+    }
+
+    @Override
+    protected String toStringSelf() {
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("{method=").append(method).append(", phase=").append(phase);
+        if (args != null) {
+            sb.append(", args=").append(args);
+        }
+        if (duration >= 0) {
+            sb.append(", duration=").append(duration);
+        }
+        if (threshold >= 0) {
+            sb.append(", threshold=").append(threshold);
+        }
+        if (result != null) {
+            sb.append(", result=").append(result);
+        }
+        if (error != null) {
+            sb.append(", error=").append(error).append(", errorMessage=").append(errorMessage);
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
@@ -1,6 +1,9 @@
 package com.ryuqq.observability.logging.aspect;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
 import com.ryuqq.observability.logging.annotation.Loggable;
 import com.ryuqq.observability.logging.config.BusinessLoggingProperties;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -14,6 +17,8 @@ import java.lang.reflect.Method;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -31,7 +36,8 @@ class LoggableAspectTest {
     void setUp() {
         properties = new BusinessLoggingProperties();
         logMasker = mock(LogMasker.class);
-        when(logMasker.mask(anyString())).thenAnswer(inv -> inv.getArgument(0));
+        when(logMasker.mask(any(CharSequence.class), anyInt(), anyString()))
+                .thenAnswer(inv -> inv.getArgument(0).toString());
         aspect = new LoggableAspect(properties, logMasker);
     }
 
@@ -75,7 +81,7 @@ class LoggableAspectTest {
             Object result = aspect.logMethodExecution(joinPoint, loggable);
 
             assertThat(result).isEqualTo("result");
-            verify(logMasker).mask("[arg1, 123]");
+            verify(logMasker).mask("[arg1, 123]", 500, "...[TRUNCATED]");
         }
 
         @Test
@@ -87,7 +93,7 @@ class LoggableAspectTest {
             Object result = aspect.logMethodExecution(joinPoint, loggable);
 
             assertThat(result).isEqualTo("myResult");
-            verify(logMasker).mask("myResult");
+            verify(logMasker).mask("myResult", 500, "...[TRUNCATED]");
         }
 
         @Test
@@ -292,7 +298,7 @@ class LoggableAspectTest {
             Object result = aspect.logMethodExecution(joinPoint, loggable);
 
             assertThat(result).isEqualTo("result");
-            verify(logMasker).mask("[" + longArg + "]");
+            verify(logMasker).mask("[" + longArg + "]", 500, "...[TRUNCATED]");
         }
 
         @Test
@@ -305,7 +311,7 @@ class LoggableAspectTest {
             Object result = aspect.logMethodExecution(joinPoint, loggable);
 
             assertThat(result).isEqualTo(longResult);
-            verify(logMasker).mask(longResult);
+            verify(logMasker).mask(longResult, 500, "...[TRUNCATED]");
         }
     }
 
@@ -325,6 +331,28 @@ class LoggableAspectTest {
         }
     }
 
+    @Nested
+    @DisplayName("자체 오버헤드 측정 테스트")
+    class OverheadTest {
+
+        @Test
+        @DisplayName("마스킹, 마커 생성, 로거 호출 시간과 마스킹 문자 수를 누적한다")
+        void shouldAccumulateStageTimes() throws Throwable {
+            OverheadStats overhead = new OverheadStats();
+            aspect = new LoggableAspect(properties, logMasker, overhead);
+            ProceedingJoinPoint joinPoint = createMockJoinPoint("testMethod", "result");
+            when(joinPoint.getArgs()).thenReturn(new Object[]{"arg1", 123});
+            Loggable loggable = createLoggable(true, false, true, -1, Loggable.LogLevel.INFO, Loggable.LogLevel.ERROR, "");
+
+            aspect.logMethodExecution(joinPoint, loggable);
+
+            assertThat(overhead.getCount(Component.LOGGABLE, Stage.MASK)).isEqualTo(1);
+            assertThat(overhead.getCount(Component.LOGGABLE, Stage.MARKER)).isEqualTo(2);
+            assertThat(overhead.getCount(Component.LOGGABLE, Stage.LOG)).isEqualTo(2);
+            assertThat(overhead.getMaskedChars(Component.LOGGABLE)).isEqualTo("[arg1, 123]".length());
+        }
+    }
+
     // Helper methods
 
     private ProceedingJoinPoint createMockJoinPoint(String methodName, Object returnValue) throws Throwable {
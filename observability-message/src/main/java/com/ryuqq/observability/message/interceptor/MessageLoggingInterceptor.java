@@ -1,8 +1,12 @@
 package com.ryuqq.observability.message.interceptor;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
+import com.ryuqq.observability.core.trace.TraceParent;
 import com.ryuqq.observability.message.config.MessageLoggingProperties;
 import com.ryuqq.observability.message.context.MessageContext;
 import org.slf4j.Logger;
@@ -19,6 +23,7 @@ import org.slf4j.LoggerFactory;
  *   <li>메시지 수신/처리 완료 로깅</li>
  *   <li>페이로드 마스킹</li>
  *   <li>처리 시간 측정</li>
+ *   <li>마스킹/메시지 생성/로거 호출에 쓴 자체 소요 시간 누적 (선택)</li>
  * </ul>
  */
 public class MessageLoggingInterceptor {
@@ -29,15 +34,32 @@ public class MessageLoggingInterceptor {
     private final TraceIdGenerator traceIdGenerator;
     private final LogMasker logMasker;
     private final String serviceName;
+    private final OverheadStats overhead;
 
     public MessageLoggingInterceptor(MessageLoggingProperties properties,
                                      TraceIdGenerator traceIdGenerator,
                                      LogMasker logMasker,
                                      String serviceName) {
+        this(properties, traceIdGenerator, logMasker, serviceName, OverheadStats.DISABLED);
+    }
+
+    /**
+     * @param properties       메시지 로깅 설정
+     * @param traceIdGenerator TraceId 생성기
+     * @param logMasker        민감정보 마스킹 유틸리티
+     * @param serviceName      서비스 이름
+     * @param overhead         인터셉터 자체 소요 시간을 누적할 통계
+     */
+    public MessageLoggingInterceptor(MessageLoggingProperties properties,
+                                     TraceIdGenerator traceIdGenerator,
+                                     LogMasker logMasker,
+                                     String serviceName,
+                                     OverheadStats overhead) {
         this.properties = properties;
         this.traceIdGenerator = traceIdGenerator;
         this.logMasker = logMasker;
         this.serviceName = serviceName;
+        this.overhead = overhead != null ? overhead : OverheadStats.DISABLED;
     }
 
     /**
@@ -55,6 +77,10 @@ public class MessageLoggingInterceptor {
         }
         TraceIdHolder.set(traceId);
 
+        // 이 홉의 SpanId 발급, 발행 측 SpanId를 ParentSpanId로 기록
+        TraceIdHolder.setSpanId(TraceParent.newSpanId());
+        TraceIdHolder.setParentSpanId(TraceParent.parseParentId(context.getAttribute(TraceIdHeaders.TRACEPARENT)));
+
         // 2. 메시지 소스 및 ID 설정
         TraceIdHolder.setMessageSource(context.getSource());
         if (context.getMessageId() != null) {
@@ -126,6 +152,7 @@ public class MessageLoggingInterceptor {
             return;
         }
 
+        long t = overhead.start();
         StringBuilder sb = new StringBuilder();
         sb.append("Message Received: ")
                 .append(context.getSource())
@@ -136,11 +163,15 @@ public class MessageLoggingInterceptor {
         }
 
         if (properties.isLogPayload() && payload != null) {
+            t = overhead.lap(Component.MESSAGE, Stage.MARKER, t);
             String payloadStr = truncateAndMask(payload.toString());
+            t = overhead.lap(Component.MESSAGE, Stage.MASK, t);
             sb.append(" | payload=").append(payloadStr);
         }
+        t = overhead.lap(Component.MESSAGE, Stage.MARKER, t);
 
         log.info(sb.toString());
+        overhead.lap(Component.MESSAGE, Stage.LOG, t);
     }
 
     /**
@@ -151,6 +182,7 @@ public class MessageLoggingInterceptor {
             return;
         }
 
+        long t = overhead.start();
         StringBuilder sb = new StringBuilder();
         sb.append("Message Processed: ")
                 .append(context.getSource())
@@ -160,8 +192,10 @@ public class MessageLoggingInterceptor {
         if (context.getMessageId() != null) {
             sb.append(" | messageId=").append(context.getMessageId());
         }
+        t = overhead.lap(Component.MESSAGE, Stage.MARKER, t);
 
         log.info(sb.toString());
+        overhead.lap(Component.MESSAGE, Stage.LOG, t);
     }
 
     /**
@@ -172,6 +206,7 @@ public class MessageLoggingInterceptor {
             return;
         }
 
+        long t = overhead.start();
         StringBuilder sb = new StringBuilder();
         sb.append("Message Failed: ")
                 .append(context.getSource())
@@ -187,7 +222,10 @@ public class MessageLoggingInterceptor {
                     .append(": ").append(error.getMessage());
         }
 
+        t = overhead.lap(Component.MESSAGE, Stage.MARKER, t);
+
         log.error(sb.toString(), error);
+        overhead.lap(Component.MESSAGE, Stage.LOG, t);
     }
 
     /**
@@ -198,16 +236,9 @@ public class MessageLoggingInterceptor {
             return null;
         }
 
-        // 마스킹 적용
-        String masked = logMasker.mask(payload);
-
-        // 최대 길이 제한
-        int maxLength = properties.getMaxPayloadLength();
-        if (masked.length() > maxLength) {
-            return masked.substring(0, maxLength) + "...[TRUNCATED]";
-        }
-
-        return masked;
+        // 마스킹과 최대 길이 제한을 한 번에 적용
+        overhead.addMaskedChars(Component.MESSAGE, payload.length());
+        return logMasker.mask(payload, properties.getMaxPayloadLength(), "...[TRUNCATED]");
     }
 
     /**
@@ -250,6 +250,9 @@ public class RedisMessageLoggingAspect {
                         extractIfPresent(map, TraceIdHeaders.X_USER_ID, attributes);
                         extractIfPresent(map, TraceIdHeaders.X_TENANT_ID, attributes);
                         extractIfPresent(map, TraceIdHeaders.X_ORGANIZATION_ID, attributes);
+
+                        // W3C traceparent (ParentSpanId 기록용)
+                        extractIfPresent(map, TraceIdHeaders.TRACEPARENT, attributes);
                     }
                 } catch (Exception e) {
                     log.trace("Failed to extract attributes from record", e);
@@ -208,6 +208,10 @@ public class SqsMessageLoggingAspect {
 
                 String orgId = extractHeaderFromMessage(arg, TraceIdHeaders.X_ORGANIZATION_ID);
                 if (orgId != null) attributes.put(TraceIdHeaders.X_ORGANIZATION_ID, orgId);
+
+                // W3C traceparent (ParentSpanId 기록용)
+                String traceparent = extractHeaderFromMessage(arg, TraceIdHeaders.TRACEPARENT);
+                if (traceparent != null) attributes.put(TraceIdHeaders.TRACEPARENT, traceparent);
             }
         }
 
@@ -1,6 +1,9 @@
 package com.ryuqq.observability.message.interceptor;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
 import com.ryuqq.observability.message.config.MessageLoggingProperties;
@@ -13,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -30,7 +35,8 @@ class MessageLoggingInterceptorTest {
         properties = new MessageLoggingProperties();
         generator = () -> "generated-trace-id";
         logMasker = mock(LogMasker.class);
-        when(logMasker.mask(anyString())).thenAnswer(inv -> inv.getArgument(0));
+        when(logMasker.mask(any(CharSequence.class), anyInt(), anyString()))
+                .thenAnswer(inv -> inv.getArgument(0).toString());
 
         interceptor = new MessageLoggingInterceptor(properties, generator, logMasker, "test-service");
     }
@@ -85,6 +91,22 @@ class MessageLoggingInterceptorTest {
             assertThat(TraceIdHolder.get()).isEqualTo("generated-trace-id");
         }
 
+        @Test
+        @DisplayName("SpanId를 발급하고 traceparent 속성의 parent-id를 ParentSpanId로 기록한다")
+        void shouldIssueSpanIdAndRecordParent() {
+            MessageContext context = MessageContext.builder()
+                    .source("SQS")
+                    .queueName("test-queue")
+                    .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+                    .attribute(TraceIdHeaders.TRACEPARENT, "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")
+                    .build();
+
+            interceptor.beforeProcessing(context, "payload");
+
+            assertThat(TraceIdHolder.getSpanId()).matches("[0-9a-f]{16}");
+            assertThat(TraceIdHolder.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+        }
+
         @Test
         @DisplayName("메시지 소스를 설정한다")
         void shouldSetMessageSource() {
@@ -287,6 +309,32 @@ class MessageLoggingInterceptorTest {
         }
     }
 
+    @Nested
+    @DisplayName("자체 오버헤드 측정 테스트")
+    class OverheadTest {
+
+        @Test
+        @DisplayName("페이로드 마스킹, 메시지 생성, 로거 호출 시간을 누적한다")
+        void shouldAccumulateStageTimes() {
+            properties.setLogPayload(true);
+            OverheadStats overhead = new OverheadStats();
+            interceptor = new MessageLoggingInterceptor(properties, generator, logMasker, "test-service", overhead);
+            MessageContext context = MessageContext.builder()
+                    .source("SQS")
+                    .queueName("test-queue")
+                    .traceId("trace-id")
+                    .build();
+
+            interceptor.beforeProcessing(context, "payload-data");
+            interceptor.afterProcessing(context, true, null);
+
+            assertThat(overhead.getCount(Component.MESSAGE, Stage.MASK)).isEqualTo(1);
+            assertThat(overhead.getCount(Component.MESSAGE, Stage.LOG)).isEqualTo(2);
+            assertThat(overhead.getCount(Component.MESSAGE, Stage.MARKER)).isGreaterThanOrEqualTo(2);
+            assertThat(overhead.getMaskedChars(Component.MESSAGE)).isEqualTo("payload-data".length());
+        }
+    }
+
     @Nested
     @DisplayName("페이로드 로깅 테스트")
     class PayloadLoggingTest {
@@ -295,7 +343,7 @@ class MessageLoggingInterceptorTest {
         @DisplayName("페이로드 로깅이 활성화되면 마스킹 적용")
         void shouldMaskPayloadWhenLoggingEnabled() {
             properties.setLogPayload(true);
-            when(logMasker.mask("sensitive-data")).thenReturn("***-data");
+            when(logMasker.mask("sensitive-data", 500, "...[TRUNCATED]")).thenReturn("***-data");
 
             MessageContext context = MessageContext.builder()
                     .source("SQS")
@@ -316,7 +364,7 @@ class MessageLoggingInterceptorTest {
             properties.setMaxPayloadLength(10);
 
             String longPayload = "a".repeat(100);
-            when(logMasker.mask(longPayload)).thenReturn(longPayload);
+            when(logMasker.mask(longPayload, 10, "...[TRUNCATED]")).thenReturn("a".repeat(10) + "...[TRUNCATED]");
 
             MessageContext context = MessageContext.builder()
                     .source("SQS")
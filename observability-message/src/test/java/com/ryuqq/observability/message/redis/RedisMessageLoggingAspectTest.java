@@ -17,6 +17,8 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -32,7 +34,8 @@ class RedisMessageLoggingAspectTest {
         MessageLoggingProperties properties = new MessageLoggingProperties();
         MessageLoggingInterceptor.TraceIdGenerator generator = () -> "generated-trace-id";
         LogMasker logMasker = mock(LogMasker.class);
-        when(logMasker.mask(anyString())).thenAnswer(inv -> inv.getArgument(0));
+        when(logMasker.mask(any(CharSequence.class), anyInt(), anyString()))
+                .thenAnswer(inv -> inv.getArgument(0).toString());
 
         interceptor = new MessageLoggingInterceptor(properties, generator, logMasker, "test-service");
         aspect = new RedisMessageLoggingAspect(interceptor);
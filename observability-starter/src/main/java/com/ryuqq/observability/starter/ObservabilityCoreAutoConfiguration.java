@@ -1,20 +1,33 @@
 package com.ryuqq.observability.starter;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.trace.TraceIdGenerator;
+import com.ryuqq.observability.starter.metrics.MicrometerOverheadMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 /**
  * observability-core 모듈 자동 설정.
  *
- * <p>마스킹 설정 및 핵심 유틸리티를 자동으로 구성합니다.</p>
+ * <p>마스킹 설정 및 핵심 유틸리티를 자동으로 구성합니다.
+ * {@code observability.overhead.enabled=true}이면 로깅 필터/Aspect 자체 소요 시간을 누적하고,
+ * MeterRegistry 빈이 있으면 메트릭으로 노출합니다.</p>
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+})
 @EnableConfigurationProperties(ObservabilityProperties.class)
 public class ObservabilityCoreAutoConfiguration implements InitializingBean {
 
@@ -40,4 +53,37 @@ public class ObservabilityCoreAutoConfiguration implements InitializingBean {
     public LogMasker logMasker(ObservabilityProperties properties) {
         return new LogMasker(properties.getMasking());
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TraceIdGenerator traceIdGenerator() {
+        return TraceIdGenerator.RANDOM;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "observability.overhead", name = "enabled", havingValue = "true")
+    public OverheadStats overheadStats() {
+        return new OverheadStats();
+    }
+
+    /**
+     * Micrometer가 있을 때만 로드되는 오버헤드 메트릭 설정.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "observability.overhead", name = "enabled", havingValue = "true")
+    static class OverheadMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "observabilityOverheadMetrics")
+        public MicrometerOverheadMetrics observabilityOverheadMetrics(MeterRegistry meterRegistry,
+                                                                      OverheadStats overheadStats,
+                                                                      ObservabilityProperties properties) {
+            MicrometerOverheadMetrics metrics = new MicrometerOverheadMetrics(overheadStats, properties.getOverhead());
+            metrics.bindTo(meterRegistry);
+            return metrics;
+        }
+    }
 }
@@ -1,10 +1,12 @@
 package com.ryuqq.observability.starter;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
 import com.ryuqq.observability.logging.aspect.BusinessLogAspect;
 import com.ryuqq.observability.logging.aspect.LoggableAspect;
 import com.ryuqq.observability.logging.config.BusinessLoggingProperties;
 import com.ryuqq.observability.logging.event.BusinessEventListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -27,17 +29,19 @@ public class ObservabilityLoggingAutoConfiguration {
     @ConditionalOnMissingBean
     public LoggableAspect loggableAspect(
             ObservabilityProperties properties,
-            LogMasker logMasker) {
+            LogMasker logMasker,
+            ObjectProvider<OverheadStats> overheadStats) {
 
         BusinessLoggingProperties loggingProps = properties.getLogging();
-        return new LoggableAspect(loggingProps, logMasker);
+        return new LoggableAspect(loggingProps, logMasker, overheadStats.getIfAvailable(() -> OverheadStats.DISABLED));
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public BusinessLogAspect businessLogAspect(ObservabilityProperties properties) {
+    public BusinessLogAspect businessLogAspect(ObservabilityProperties properties,
+                                               ObjectProvider<OverheadStats> overheadStats) {
         BusinessLoggingProperties loggingProps = properties.getLogging();
-        return new BusinessLogAspect(loggingProps);
+        return new BusinessLogAspect(loggingProps, overheadStats.getIfAvailable(() -> OverheadStats.DISABLED));
     }
 
     @Bean
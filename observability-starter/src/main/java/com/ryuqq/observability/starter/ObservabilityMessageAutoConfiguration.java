@@ -1,10 +1,13 @@
 package com.ryuqq.observability.starter;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.trace.TraceIdGenerator;
 import com.ryuqq.observability.message.config.MessageLoggingProperties;
 import com.ryuqq.observability.message.interceptor.MessageLoggingInterceptor;
 import com.ryuqq.observability.message.redis.RedisMessageLoggingAspect;
 import com.ryuqq.observability.message.sqs.SqsMessageLoggingAspect;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -13,8 +16,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
-import java.util.UUID;
-
 /**
  * observability-message 모듈 자동 설정.
  *
@@ -29,14 +30,17 @@ public class ObservabilityMessageAutoConfiguration {
     @ConditionalOnMissingBean
     public MessageLoggingInterceptor messageLoggingInterceptor(
             ObservabilityProperties properties,
-            LogMasker logMasker) {
+            LogMasker logMasker,
+            ObjectProvider<OverheadStats> overheadStats,
+            ObjectProvider<TraceIdGenerator> traceIdGenerator) {
 
         MessageLoggingProperties messageProps = properties.getMessage();
         return new MessageLoggingInterceptor(
                 messageProps,
-                () -> UUID.randomUUID().toString(),
+                traceIdGenerator.getIfAvailable(() -> TraceIdGenerator.RANDOM)::generate,
                 logMasker,
-                properties.getServiceName()
+                properties.getServiceName(),
+                overheadStats.getIfAvailable(() -> OverheadStats.DISABLED)
         );
     }
 
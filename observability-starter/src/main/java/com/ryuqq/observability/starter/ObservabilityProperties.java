@@ -1,6 +1,7 @@
 package com.ryuqq.observability.starter;
 
 import com.ryuqq.observability.core.masking.MaskingProperties;
+import com.ryuqq.observability.core.metrics.OverheadProperties;
 import com.ryuqq.observability.logging.config.BusinessLoggingProperties;
 import com.ryuqq.observability.message.config.MessageLoggingProperties;
 import com.ryuqq.observability.web.config.HttpLoggingProperties;
@@ -30,6 +31,8 @@ import org.springframework.boot.context.properties.NestedConfigurationProperty;
  *     enabled: true
  *     patterns:
  *       email: "(?i)[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}"
+ *   overhead:
+ *     enabled: false
  * </pre>
  */
 @ConfigurationProperties(prefix = "observability")
@@ -70,6 +73,12 @@ public class ObservabilityProperties {
     @NestedConfigurationProperty
     private MaskingProperties masking = new MaskingProperties();
 
+    /**
+     * 로깅 자체 오버헤드 측정 설정
+     */
+    @NestedConfigurationProperty
+    private OverheadProperties overhead = new OverheadProperties();
+
     public String getServiceName() {
         return serviceName;
     }
@@ -117,4 +126,12 @@ public class ObservabilityProperties {
     public void setMasking(MaskingProperties masking) {
         this.masking = masking;
     }
+
+    public OverheadProperties getOverhead() {
+        return overhead;
+    }
+
+    public void setOverhead(OverheadProperties overhead) {
+        this.overhead = overhead;
+    }
 }
@@ -1,42 +1,61 @@
 package com.ryuqq.observability.starter;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.HttpMetricsRecorder;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.trace.TraceIdGenerator;
 import com.ryuqq.observability.web.config.HttpLoggingProperties;
 import com.ryuqq.observability.web.config.TraceProperties;
 import com.ryuqq.observability.web.http.HttpLoggingFilter;
 import com.ryuqq.observability.web.http.PathNormalizer;
+import com.ryuqq.observability.web.metrics.MicrometerHttpMetricsRecorder;
 import com.ryuqq.observability.web.trace.DefaultTraceIdProvider;
 import com.ryuqq.observability.web.trace.TraceIdFilter;
 import com.ryuqq.observability.web.trace.TraceIdProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 
 /**
  * observability-web 모듈 자동 설정.
  *
- * <p>HTTP 요청/응답 로깅 및 TraceId 필터를 자동으로 구성합니다.</p>
+ * <p>HTTP 요청/응답 로깅 및 TraceId 필터를 자동으로 구성합니다.
+ * {@code observability.http.metrics.enabled=true}이고 MeterRegistry 빈이 있으면 RED 메트릭도 기록합니다.</p>
  */
-@AutoConfiguration(after = ObservabilityCoreAutoConfiguration.class)
+@AutoConfiguration(after = ObservabilityCoreAutoConfiguration.class, afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+})
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ConditionalOnClass(name = "jakarta.servlet.Filter")
 public class ObservabilityWebAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public TraceIdProvider traceIdProvider(ObservabilityProperties properties) {
-        return new DefaultTraceIdProvider(properties.getTrace().getHeaderNames());
+    public TraceIdProvider traceIdProvider(ObservabilityProperties properties,
+                                           ObjectProvider<TraceIdGenerator> traceIdGenerator) {
+        return new DefaultTraceIdProvider(properties.getTrace().getHeaderNames(),
+                traceIdGenerator.getIfAvailable(() -> TraceIdGenerator.RANDOM));
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public PathNormalizer pathNormalizer() {
-        return new PathNormalizer();
+    public PathNormalizer pathNormalizer(ObservabilityProperties properties) {
+        HttpLoggingProperties httpProps = properties.getHttp();
+        if (httpProps.getPathNormalizer() == HttpLoggingProperties.PathNormalizerType.SEGMENT) {
+            return PathNormalizer.segmentBased(httpProps.getPathPatterns(),
+                    httpProps.getPathTemplates(), httpProps.getPathCacheSize());
+        }
+        return new PathNormalizer(httpProps.getPathPatterns(), httpProps.getPathCacheSize());
     }
 
     @Bean
@@ -66,10 +85,14 @@ public class ObservabilityWebAutoConfiguration {
     public FilterRegistrationBean<HttpLoggingFilter> httpLoggingFilterRegistration(
             LogMasker logMasker,
             PathNormalizer pathNormalizer,
-            ObservabilityProperties properties) {
+            ObservabilityProperties properties,
+            ObjectProvider<HttpMetricsRecorder> metricsRecorder,
+            ObjectProvider<OverheadStats> overheadStats) {
 
         HttpLoggingProperties httpProps = properties.getHttp();
-        HttpLoggingFilter filter = new HttpLoggingFilter(httpProps, pathNormalizer, logMasker);
+        HttpLoggingFilter filter = new HttpLoggingFilter(httpProps, pathNormalizer, logMasker,
+                metricsRecorder.getIfAvailable(() -> HttpMetricsRecorder.NOOP),
+                overheadStats.getIfAvailable(() -> OverheadStats.DISABLED));
 
         FilterRegistrationBean<HttpLoggingFilter> registration = new FilterRegistrationBean<>();
         registration.setFilter(filter);
@@ -79,4 +102,21 @@ public class ObservabilityWebAutoConfiguration {
 
         return registration;
     }
+
+    /**
+     * Micrometer가 있을 때만 로드되는 RED 메트릭 설정.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "observability.http.metrics", name = "enabled", havingValue = "true")
+    static class HttpMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public HttpMetricsRecorder httpMetricsRecorder(MeterRegistry meterRegistry,
+                                                       ObservabilityProperties properties) {
+            return new MicrometerHttpMetricsRecorder(meterRegistry, properties.getHttp().getMetrics());
+        }
+    }
 }
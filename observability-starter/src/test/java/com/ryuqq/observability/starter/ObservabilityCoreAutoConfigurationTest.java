@@ -1,6 +1,11 @@
 package com.ryuqq.observability.starter;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.starter.metrics.MicrometerOverheadMetrics;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -103,4 +108,51 @@ class ObservabilityCoreAutoConfigurationTest {
                     });
         }
     }
+
+    @Nested
+    @DisplayName("오버헤드 메트릭 테스트")
+    class OverheadMetricsTest {
+
+        @Test
+        @DisplayName("기본 설정에서는 오버헤드 통계가 등록되지 않는다")
+        void shouldNotRegisterByDefault() {
+            contextRunner.run(context -> assertThat(context).doesNotHaveBean(OverheadStats.class));
+        }
+
+        @Test
+        @DisplayName("overhead.enabled=true이고 MeterRegistry가 있으면 단계별 메트릭을 노출한다")
+        void shouldExposeStageMetrics() {
+            contextRunner
+                    .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                    .withPropertyValues("observability.overhead.enabled=true")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(OverheadStats.class);
+                        assertThat(context).hasSingleBean(MicrometerOverheadMetrics.class);
+
+                        OverheadStats stats = context.getBean(OverheadStats.class);
+                        stats.lap(OverheadStats.Component.HTTP, OverheadStats.Stage.MASK, stats.start());
+                        stats.addCapturedBytes(OverheadStats.Component.HTTP, 512);
+
+                        MeterRegistry registry = context.getBean(MeterRegistry.class);
+                        FunctionTimer timer = registry.get("observability.overhead.stage")
+                                .tags("component", "http", "stage", "mask")
+                                .functionTimer();
+                        assertThat(timer.count()).isEqualTo(1);
+                        assertThat(registry.get("observability.overhead.captured.bytes")
+                                .tag("component", "http")
+                                .functionCounter().count()).isEqualTo(512);
+                    });
+        }
+
+        @Test
+        @DisplayName("MeterRegistry가 없어도 오버헤드 통계는 등록된다")
+        void shouldRegisterStatsWithoutRegistry() {
+            contextRunner
+                    .withPropertyValues("observability.overhead.enabled=true")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(OverheadStats.class);
+                        assertThat(context).doesNotHaveBean(MicrometerOverheadMetrics.class);
+                    });
+        }
+    }
 }
@@ -128,8 +128,8 @@ class ObservabilityMessageAutoConfigurationTest {
         }
 
         @Test
-        @DisplayName("UUID 기반 TraceId 생성기가 설정된다")
-        void shouldConfigureUuidBasedTraceIdGenerator() {
+        @DisplayName("TraceId 생성기가 설정된다")
+        void shouldConfigureTraceIdGenerator() {
             contextRunner.run(context -> {
                 MessageLoggingInterceptor interceptor = context.getBean(MessageLoggingInterceptor.class);
                 assertThat(interceptor).isNotNull();
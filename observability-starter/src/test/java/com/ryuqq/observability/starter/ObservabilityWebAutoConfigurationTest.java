@@ -1,9 +1,14 @@
 package com.ryuqq.observability.starter;
 
+import com.ryuqq.observability.core.metrics.HttpMetricsRecorder;
+import com.ryuqq.observability.core.trace.TraceIdGenerator;
 import com.ryuqq.observability.web.http.HttpLoggingFilter;
 import com.ryuqq.observability.web.http.PathNormalizer;
+import com.ryuqq.observability.web.metrics.MicrometerHttpMetricsRecorder;
 import com.ryuqq.observability.web.trace.TraceIdFilter;
 import com.ryuqq.observability.web.trace.TraceIdProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -56,6 +61,25 @@ class ObservabilityWebAutoConfigurationTest {
                         assertThat(context.getBean(TraceIdProvider.class)).isSameAs(customProvider);
                     });
         }
+
+        @Test
+        @DisplayName("기본 TraceId는 32자리 hex로 생성된다")
+        void shouldGenerateHexTraceIdByDefault() {
+            contextRunner.run(context -> {
+                assertThat(context).hasSingleBean(TraceIdGenerator.class);
+                assertThat(context.getBean(TraceIdProvider.class).generate()).matches("[0-9a-f]{32}");
+            });
+        }
+
+        @Test
+        @DisplayName("커스텀 TraceIdGenerator가 있으면 기본 TraceIdProvider가 사용한다")
+        void shouldUseCustomTraceIdGenerator() {
+            contextRunner
+                    .withBean(TraceIdGenerator.class, () -> () -> "custom-generated")
+                    .run(context -> {
+                        assertThat(context.getBean(TraceIdProvider.class).generate()).isEqualTo("custom-generated");
+                    });
+        }
     }
 
     @Nested
@@ -156,6 +180,43 @@ class ObservabilityWebAutoConfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("HTTP 메트릭 설정 테스트")
+    class HttpMetricsTest {
+
+        @Test
+        @DisplayName("metrics.enabled=true이고 MeterRegistry가 있으면 메트릭 기록기가 등록된다")
+        void shouldRegisterMetricsRecorder() {
+            contextRunner
+                    .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                    .withPropertyValues("observability.http.metrics.enabled=true")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(HttpMetricsRecorder.class);
+                        assertThat(context.getBean(HttpMetricsRecorder.class))
+                                .isInstanceOf(MicrometerHttpMetricsRecorder.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("기본 설정에서는 메트릭 기록기가 등록되지 않는다")
+        void shouldNotRegisterMetricsRecorderByDefault() {
+            contextRunner
+                    .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                    .run(context -> assertThat(context).doesNotHaveBean(HttpMetricsRecorder.class));
+        }
+
+        @Test
+        @DisplayName("MeterRegistry가 없으면 메트릭 기록기가 등록되지 않는다")
+        void shouldNotRegisterMetricsRecorderWithoutRegistry() {
+            contextRunner
+                    .withPropertyValues("observability.http.metrics.enabled=true")
+                    .run(context -> {
+                        assertThat(context).doesNotHaveBean(HttpMetricsRecorder.class);
+                        assertThat(context).hasBean("httpLoggingFilterRegistration");
+                    });
+        }
+    }
+
     @Nested
     @DisplayName("프로퍼티 바인딩 테스트")
     class PropertyBindingTest {
@@ -1,5 +1,9 @@
 package com.ryuqq.observability.web.config;
 
+import com.ryuqq.observability.core.metrics.HttpMetricsProperties;
+import com.ryuqq.observability.core.sampling.SamplingProperties;
+import com.ryuqq.observability.core.support.AsyncLogDispatcher;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,6 +23,19 @@ import java.util.List;
  *     exclude-headers:
  *       - Authorization
  *       - Cookie
+ *     path-normalization: route-pattern
+ *     log-mode: combined
+ *     in-flight-threshold-ms: 5000
+ *     phase-timings: true
+ *     async:
+ *       enabled: true
+ *       queue-capacity: 8192
+ *       overflow-policy: drop
+ *     sampling:
+ *       enabled: true
+ *       default-rate: 0.1
+ *     metrics:
+ *       enabled: true
  * </pre>
  */
 public class HttpLoggingProperties {
@@ -71,11 +88,61 @@ public class HttpLoggingProperties {
      */
     private List<PathPattern> pathPatterns = new ArrayList<>();
 
+    /**
+     * 경로 정규화 방식 (SEGMENT: 정규표현식 없이 경로 템플릿 트라이와 세그먼트 분류로 정규화)
+     */
+    private PathNormalizerType pathNormalizer = PathNormalizerType.REGEX;
+
+    /**
+     * 경로 템플릿 목록 (SEGMENT 방식에서 사용, 예: /api/orders/{orderId})
+     */
+    private List<String> pathTemplates = new ArrayList<>();
+
+    /**
+     * 경로 정규화 결과 캐시 크기 (0이면 캐시 사용 안 함)
+     */
+    private int pathCacheSize = 1024;
+
+    /**
+     * 정규화 경로(http_path_normalized) 결정 방식
+     */
+    private PathNormalization pathNormalization = PathNormalization.REGEX;
+
     /**
      * 느린 요청으로 판단할 임계값 (ms)
      */
     private long slowRequestThresholdMs = 3000;
 
+    /**
+     * 접근 로그 출력 방식 (요청/응답 두 줄 또는 완료 시 한 줄)
+     */
+    private LogMode logMode = LogMode.SPLIT;
+
+    /**
+     * COMBINED 모드에서 처리 중 요청 로그를 먼저 출력할 임계값 (ms, 0이면 출력하지 않음)
+     */
+    private long inFlightThresholdMs = 0;
+
+    /**
+     * 응답 로그에 단계별 처리 시간(첫 바이트까지, 본문 전송, 로깅 필터 자체) 필드 추가 여부
+     */
+    private boolean phaseTimings = false;
+
+    /**
+     * 비동기 로깅 설정 (마스킹/출력을 요청 스레드 밖에서 수행)
+     */
+    private Async async = new Async();
+
+    /**
+     * 접근 로그 샘플링 설정 (경로별 비율, 초당 제한, 에러/느린 요청 항상 로깅)
+     */
+    private SamplingProperties sampling = new SamplingProperties();
+
+    /**
+     * RED 메트릭 설정 (요청 수, 에러 수, 지연 시간 - MeterRegistry 빈이 있을 때만 동작)
+     */
+    private HttpMetricsProperties metrics = new HttpMetricsProperties();
+
 
     public boolean isEnabled() {
         return enabled;
@@ -133,6 +200,38 @@ public class HttpLoggingProperties {
         this.pathPatterns = pathPatterns;
     }
 
+    public PathNormalizerType getPathNormalizer() {
+        return pathNormalizer;
+    }
+
+    public void setPathNormalizer(PathNormalizerType pathNormalizer) {
+        this.pathNormalizer = pathNormalizer;
+    }
+
+    public List<String> getPathTemplates() {
+        return pathTemplates;
+    }
+
+    public void setPathTemplates(List<String> pathTemplates) {
+        this.pathTemplates = pathTemplates;
+    }
+
+    public int getPathCacheSize() {
+        return pathCacheSize;
+    }
+
+    public void setPathCacheSize(int pathCacheSize) {
+        this.pathCacheSize = pathCacheSize;
+    }
+
+    public PathNormalization getPathNormalization() {
+        return pathNormalization;
+    }
+
+    public void setPathNormalization(PathNormalization pathNormalization) {
+        this.pathNormalization = pathNormalization;
+    }
+
     public long getSlowRequestThresholdMs() {
         return slowRequestThresholdMs;
     }
@@ -141,6 +240,153 @@ public class HttpLoggingProperties {
         this.slowRequestThresholdMs = slowRequestThresholdMs;
     }
 
+    public LogMode getLogMode() {
+        return logMode;
+    }
+
+    public void setLogMode(LogMode logMode) {
+        this.logMode = logMode;
+    }
+
+    public long getInFlightThresholdMs() {
+        return inFlightThresholdMs;
+    }
+
+    public void setInFlightThresholdMs(long inFlightThresholdMs) {
+        this.inFlightThresholdMs = inFlightThresholdMs;
+    }
+
+    public boolean isPhaseTimings() {
+        return phaseTimings;
+    }
+
+    public void setPhaseTimings(boolean phaseTimings) {
+        this.phaseTimings = phaseTimings;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public void setAsync(Async async) {
+        this.async = async;
+    }
+
+    public SamplingProperties getSampling() {
+        return sampling;
+    }
+
+    public void setSampling(SamplingProperties sampling) {
+        this.sampling = sampling;
+    }
+
+    public HttpMetricsProperties getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(HttpMetricsProperties metrics) {
+        this.metrics = metrics;
+    }
+
+
+    /**
+     * 정규화 경로 결정 방식.
+     */
+    public enum PathNormalization {
+
+        /**
+         * 정규표현식 패턴(PathNormalizer)으로 요청 경로를 정규화합니다.
+         */
+        REGEX,
+
+        /**
+         * Spring MVC가 매칭한 핸들러의 경로 템플릿(예: /api/users/{userId})을 사용합니다.
+         * 매칭된 핸들러가 없는 요청(404, 정적 리소스)만 PathNormalizer로 정규화합니다.
+         * 템플릿은 디스패치 이후에 알 수 있으므로 요청 로그에는 정규화 경로가 포함되지 않습니다.
+         */
+        ROUTE_PATTERN
+    }
+
+    /**
+     * 접근 로그 출력 방식.
+     */
+    public enum LogMode {
+
+        /**
+         * 요청 시작 시 "HTTP Request", 완료 시 "HTTP Response" 두 줄을 출력합니다.
+         */
+        SPLIT,
+
+        /**
+         * 완료 시 요청 정보, 상태, 처리 시간, 본문(선택)을 담은 "HTTP Access" 한 줄만 출력합니다.
+         * 처리 중 임계값(inFlightThresholdMs)을 넘긴 요청만 요청 로그를 먼저 출력합니다.
+         */
+        COMBINED
+    }
+
+    /**
+     * 경로 정규화 방식.
+     */
+    public enum PathNormalizerType {
+
+        /**
+         * 커스텀 패턴과 기본 패턴을 정규표현식으로 순차 적용합니다.
+         */
+        REGEX,
+
+        /**
+         * 경로 템플릿 트라이와 세그먼트 분류로 정규화합니다 (기본 규칙에 정규표현식 미사용).
+         */
+        SEGMENT
+    }
+
+    /**
+     * 비동기 로깅 설정.
+     *
+     * <p>활성화하면 요청 스레드는 접근 로그 레코드를 버퍼에 넣기만 하고,
+     * 전용 스레드가 본문 마스킹/마커 생성/로그 출력을 수행합니다.</p>
+     */
+    public static class Async {
+
+        /**
+         * 비동기 로깅 활성화 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 버퍼 크기 (2의 거듭제곱으로 올림)
+         */
+        private int queueCapacity = 8192;
+
+        /**
+         * 버퍼가 가득 찼을 때의 동작 (DROP: 버림, BLOCK: 대기)
+         */
+        private AsyncLogDispatcher.OverflowPolicy overflowPolicy = AsyncLogDispatcher.OverflowPolicy.DROP;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public AsyncLogDispatcher.OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(AsyncLogDispatcher.OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+    }
 
     /**
      * 경로 정규화 패턴 정의.
@@ -0,0 +1,113 @@
+package com.ryuqq.observability.web.http;
+
+import com.ryuqq.observability.core.support.RequestTimings;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * 요청 스레드에서 수집한 HTTP 접근 로그 한 건.
+ *
+ * <p>로그 출력에 필요한 값만 담은 불변 객체로, 비동기 모드에서는 요청 스레드가 이 레코드를
+ * 버퍼에 넣고 로그 처리 스레드가 마스킹/마커 생성/출력을 수행합니다.</p>
+ *
+ * <p>본문은 디코딩이나 마스킹 없이 잘라낸 원본 바이트 그대로 보관합니다.
+ * 요청 본문은 애플리케이션이 읽은 뒤에야 알 수 있으므로 응답(또는 통합) 레코드에 함께 담깁니다.</p>
+ *
+ * @param phase           로그 단계
+ * @param method          HTTP Method
+ * @param uri             요청 URI
+ * @param queryString     쿼리 문자열 (없으면 null)
+ * @param normalizedUri   정규화된 경로 (요청 단계에서 알 수 없으면 null)
+ * @param clientIp        클라이언트 IP (응답 로그에서는 null)
+ * @param status          응답 상태 코드 (요청 로그는 0)
+ * @param durationMs      처리 시간 (요청 로그는 0, 처리 중 로그는 경과 시간)
+ * @param timings         나노초 단위 처리 시간과 단계별 시간 (응답/통합 로그만, 그 외 null)
+ * @param headers         필터링된 요청 헤더 (DEBUG 비활성화 시 null)
+ * @param requestBody     잘라낸 요청 본문 원본 바이트 (로깅하지 않으면 null)
+ * @param requestCharset  요청 본문 문자셋
+ * @param responseBody    잘라낸 응답 본문 원본 바이트 (로깅하지 않으면 null)
+ * @param responseCharset 응답 본문 문자셋
+ * @param mdc             요청 스레드의 MDC 스냅샷 (다른 스레드에서 출력하지 않으면 null)
+ */
+public record AccessLogRecord(
+        Phase phase,
+        String method,
+        String uri,
+        String queryString,
+        String normalizedUri,
+        String clientIp,
+        int status,
+        long durationMs,
+        RequestTimings timings,
+        Map<String, String> headers,
+        byte[] requestBody,
+        Charset requestCharset,
+        byte[] responseBody,
+        Charset responseCharset,
+        Map<String, String> mdc
+) {
+
+    /**
+     * 로그 단계.
+     */
+    public enum Phase {
+
+        /**
+         * 요청 시작 (SPLIT 모드).
+         */
+        REQUEST,
+
+        /**
+         * 요청 완료 (SPLIT 모드).
+         */
+        RESPONSE,
+
+        /**
+         * 처리 중 임계값을 넘긴 요청 (COMBINED 모드에서 완료 전에 먼저 출력).
+         */
+        IN_FLIGHT,
+
+        /**
+         * 요청 완료 시 요청/응답 정보를 담은 한 줄 (COMBINED 모드).
+         */
+        EXCHANGE
+    }
+
+    /**
+     * 같은 요청 정보로 다른 단계의 레코드를 만듭니다.
+     *
+     * @param phase      로그 단계
+     * @param durationMs 처리 시간 (또는 경과 시간)
+     * @return 새 레코드
+     */
+    AccessLogRecord withPhase(Phase phase, long durationMs) {
+        return new AccessLogRecord(phase, method, uri, queryString, normalizedUri, clientIp, status, durationMs,
+                null, headers, requestBody, requestCharset, responseBody, responseCharset, mdc);
+    }
+
+    /**
+     * 요청 본문을 문자열로 디코딩합니다.
+     *
+     * @return 요청 본문 문자열, 본문이 없으면 빈 문자열
+     */
+    public String requestBodyAsString() {
+        return decode(requestBody, requestCharset);
+    }
+
+    /**
+     * 응답 본문을 문자열로 디코딩합니다.
+     *
+     * @return 응답 본문 문자열, 본문이 없으면 빈 문자열
+     */
+    public String responseBodyAsString() {
+        return decode(responseBody, responseCharset);
+    }
+
+    private static String decode(byte[] body, Charset charset) {
+        if (body == null || body.length == 0) {
+            return "";
+        }
+        return new String(body, charset);
+    }
+}
@@ -18,7 +18,12 @@ import java.nio.charset.StandardCharsets;
  *
  * <p>HTTP Request Body는 InputStream으로 한 번만 읽을 수 있는데,
  * 로깅과 실제 처리 모두에서 Body가 필요한 경우 이 Wrapper를 사용합니다.</p>
+ *
+ * @deprecated HttpLoggingFilter는 본문 전체를 미리 읽지 않고 앞부분만 복사하는
+ *             {@link TeeBodyRequestWrapper}를 사용합니다.
+ * @see TeeBodyRequestWrapper
  */
+@Deprecated(since = "1.4.0", forRemoval = true)
 public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
 
     private final byte[] cachedBody;
@@ -4,24 +4,58 @@ import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Response Body를 캐싱하여 로깅할 수 있게 해주는 Wrapper.
+ *
+ * <p>응답은 원본 스트림으로 그대로 쓰고, 로깅용으로는 최대 {@code maxCaptureBytes}까지만 복사합니다.
+ * 전체 길이는 따로 기록하므로 대용량 응답도 힙을 두 배로 쓰지 않고 잘림 여부를 알 수 있습니다.</p>
+ *
+ * <p>첫 쓰기 시점의 Content-Type이 바이너리/스트리밍 응답(파일 다운로드, SSE 등)이면 복사하지 않습니다.
+ * 본문은 조회할 때 보관된 앞부분만 응답 문자셋으로 디코딩합니다.</p>
+ *
+ * <p>첫 바이트를 쓰거나 버퍼를 비운 시각({@link System#nanoTime()})을 기록하므로, 복사 한도를 0으로 두면
+ * 본문을 복사하지 않고 응답 첫 바이트 시각과 전체 길이만 측정하는 용도로도 쓸 수 있습니다.</p>
  */
 public class CachedBodyResponseWrapper extends HttpServletResponseWrapper {
 
-    private final ByteArrayOutputStream cachedContent = new ByteArrayOutputStream();
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final int maxCaptureBytes;
+    private byte[] captured = new byte[0];
+    private int capturedLength;
+    private long bodyLength;
+    private long firstWriteNanos;
+
+    /**
+     * 복사 여부 (첫 쓰기 시점에 Content-Type으로 결정, null이면 아직 미결정).
+     */
+    private Boolean capturing;
+
     private ServletOutputStream outputStream;
     private PrintWriter writer;
 
     public CachedBodyResponseWrapper(HttpServletResponse response) {
+        this(response, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param response        원본 응답
+     * @param maxCaptureBytes 복사해 둘 최대 바이트 수
+     */
+    public CachedBodyResponseWrapper(HttpServletResponse response, int maxCaptureBytes) {
         super(response);
+        this.maxCaptureBytes = Math.max(0, maxCaptureBytes);
     }
 
     @Override
@@ -42,6 +76,7 @@ public class CachedBodyResponseWrapper extends HttpServletResponseWrapper {
 
     @Override
     public void flushBuffer() throws IOException {
+        markFirstWrite();
         if (writer != null) {
             writer.flush();
         }
@@ -54,33 +89,150 @@ public class CachedBodyResponseWrapper extends HttpServletResponseWrapper {
     /**
      * 캐시된 Body를 문자열로 반환합니다.
      *
-     * @return Body 문자열
+     * @return Body 문자열 (복사 한도까지)
      */
     public String getBodyAsString() {
-        return cachedContent.toString(StandardCharsets.UTF_8);
+        return new String(captured, 0, capturedLength, getCharset());
     }
 
     /**
-     * 캐시된 Body를 최대 길이만큼 잘라서 반환합니다.
+     * 복사된 Body 전체를 원본 바이트로 반환합니다.
      *
-     * @param maxLength 최대 길이
-     * @return 잘린 Body 문자열
+     * @return 복사된 Body 바이트 (최대 {@code maxCaptureBytes})
      */
-    public String getBodyAsString(int maxLength) {
-        String body = getBodyAsString();
-        if (body.length() <= maxLength) {
-            return body;
-        }
-        return body.substring(0, maxLength) + "... (truncated)";
+    public byte[] getCapturedBody() {
+        return Arrays.copyOf(captured, capturedLength);
+    }
+
+    /**
+     * 응답 첫 바이트를 쓰거나 버퍼를 처음 비운 시각을 반환합니다.
+     *
+     * @return {@link System#nanoTime()} 기준 시각, 아직 쓰지 않았으면 0
+     */
+    public long getFirstWriteNanos() {
+        return firstWriteNanos;
     }
 
     /**
      * Body 길이를 반환합니다.
      *
-     * @return Body 바이트 길이
+     * @return 응답에 쓴 전체 바이트 수 (복사 한도와 무관)
      */
     public int getBodyLength() {
-        return cachedContent.size();
+        return (int) Math.min(Integer.MAX_VALUE, bodyLength);
+    }
+
+    /**
+     * 응답에 쓴 Body가 복사 한도를 넘거나 복사 대상이 아니어서 일부만 보관되었는지 확인합니다.
+     *
+     * @return 잘렸으면 true
+     */
+    public boolean isTruncated() {
+        return bodyLength > capturedLength;
+    }
+
+    /**
+     * Content-Type 때문에 Body 복사를 건너뛰었는지 확인합니다.
+     *
+     * @return 바이너리/스트리밍 응답이라 복사하지 않았으면 true
+     */
+    public boolean isCaptureSkipped() {
+        return Boolean.FALSE.equals(capturing);
+    }
+
+    /**
+     * Body를 디코딩할 문자셋을 반환합니다.
+     *
+     * <p>Content-Type에 charset이 있으면 사용하고, 서블릿 기본값(ISO-8859-1)이 아닌 문자 인코딩이
+     * 설정되어 있으면 그것을, 둘 다 없으면 UTF-8을 사용합니다.</p>
+     *
+     * @return 문자셋
+     */
+    public Charset getCharset() {
+        String contentType = getContentType();
+        if (contentType != null) {
+            try {
+                Charset charset = MediaType.parseMediaType(contentType).getCharset();
+                if (charset != null) {
+                    return charset;
+                }
+            } catch (InvalidMediaTypeException ignored) {
+            }
+        }
+        String encoding = getCharacterEncoding();
+        if (encoding != null && !StandardCharsets.ISO_8859_1.name().equalsIgnoreCase(encoding)) {
+            try {
+                return Charset.forName(encoding);
+            } catch (Exception ignored) {
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private boolean isCapturing() {
+        if (capturing == null) {
+            capturing = maxCaptureBytes > 0 && isCapturableContent();
+        }
+        return capturing;
+    }
+
+    /**
+     * 텍스트 응답만 복사합니다. Content-Type이 없으면 (에러 응답 등) 복사 한도 안에서 복사합니다.
+     */
+    private boolean isCapturableContent() {
+        String disposition = getHeader("Content-Disposition");
+        if (disposition != null && disposition.toLowerCase(Locale.ROOT).startsWith("attachment")) {
+            return false;
+        }
+        String contentType = getContentType();
+        if (contentType == null) {
+            return true;
+        }
+        String lower = contentType.toLowerCase(Locale.ROOT);
+        if (lower.contains("event-stream") || lower.contains("ndjson") || lower.contains("octet-stream")) {
+            return false;
+        }
+        return lower.contains("json") ||
+               lower.contains("xml") ||
+               lower.contains("text") ||
+               lower.contains("form-urlencoded");
+    }
+
+    private void markFirstWrite() {
+        if (firstWriteNanos == 0) {
+            firstWriteNanos = System.nanoTime();
+        }
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        if (len > 0) {
+            markFirstWrite();
+        }
+        bodyLength += len;
+        int room = maxCaptureBytes - capturedLength;
+        if (room <= 0 || !isCapturing()) {
+            return;
+        }
+        int count = Math.min(room, len);
+        ensureCapacity(capturedLength + count);
+        System.arraycopy(b, off, captured, capturedLength, count);
+        capturedLength += count;
+    }
+
+    private void capture(int b) {
+        markFirstWrite();
+        bodyLength++;
+        if (capturedLength < maxCaptureBytes && isCapturing()) {
+            ensureCapacity(capturedLength + 1);
+            captured[capturedLength++] = (byte) b;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > captured.length) {
+            long grown = Math.max(INITIAL_BUFFER_SIZE, captured.length * 2L);
+            captured = Arrays.copyOf(captured, (int) Math.min(maxCaptureBytes, Math.max(grown, required)));
+        }
     }
 
 
@@ -94,13 +246,13 @@ public class CachedBodyResponseWrapper extends HttpServletResponseWrapper {
 
         @Override
         public void write(int b) throws IOException {
-            cachedContent.write(b);
+            capture(b);
             originalStream.write(b);
         }
 
         @Override
         public void write(byte[] b, int off, int len) throws IOException {
-            cachedContent.write(b, off, len);
+            capture(b, off, len);
             originalStream.write(b, off, len);
         }
 
@@ -1,24 +1,37 @@
 package com.ryuqq.observability.web.http;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.HttpMetricsRecorder;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
+import com.ryuqq.observability.core.sampling.LogSampler;
+import com.ryuqq.observability.core.support.AsyncLogDispatcher;
+import com.ryuqq.observability.core.support.BodyCaptureLimits;
+import com.ryuqq.observability.core.support.ExcludePathMatcher;
+import com.ryuqq.observability.core.support.InFlightMonitor;
+import com.ryuqq.observability.core.support.RequestTimings;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
 import com.ryuqq.observability.web.config.HttpLoggingProperties;
+import com.ryuqq.observability.web.config.HttpLoggingProperties.LogMode;
+import com.ryuqq.observability.web.config.HttpLoggingProperties.PathNormalization;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import net.logstash.logback.marker.Markers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.slf4j.Marker;
 import org.springframework.core.Ordered;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -30,9 +43,24 @@ import java.util.stream.Collectors;
  *
  * <p>로깅 내용:</p>
  * <ul>
- *   <li>요청: Method, URI, Headers, Body (선택)</li>
+ *   <li>요청: Method, URI, Headers, Body (선택, 애플리케이션이 읽은 뒤 응답 로그 직전에 출력)</li>
  *   <li>응답: Status, Duration, Body (선택)</li>
  * </ul>
+ *
+ * <p>비동기 모드({@code observability.http.async.enabled=true})에서는 요청 스레드가 접근 로그 레코드만
+ * 수집하고, 본문 마스킹/마커 생성/로그 출력은 전용 스레드에서 수행합니다.</p>
+ *
+ * <p>샘플링({@code observability.http.sampling.enabled=true})을 켜면 요청 로그를 응답까지 보류했다가
+ * {@link LogSampler}가 결정한 경우에만 요청/응답 로그를 함께 출력합니다.</p>
+ *
+ * <p>통합 모드({@code observability.http.log-mode=combined})에서는 완료 시 요청/응답 정보를 담은
+ * "HTTP Access" 한 줄만 출력하며, 처리 중 임계값을 넘긴 요청만 요청 로그를 먼저 출력합니다.</p>
+ *
+ * <p>{@link HttpMetricsRecorder}를 지정하면 샘플링/로그 레벨과 무관하게 모든 요청의 처리 결과를
+ * 접근 로그와 같은 측정값으로 메트릭에 기록합니다.</p>
+ *
+ * <p>{@link OverheadStats}를 지정하면 경로 정규화, 본문 수집, 마스킹, 마커 생성, 로거 호출에
+ * 필터 자신이 쓴 시간과 본문 크기를 누적합니다.</p>
  */
 public class HttpLoggingFilter extends OncePerRequestFilter implements Ordered {
 
@@ -40,21 +68,77 @@ public class HttpLoggingFilter extends OncePerRequestFilter implements Ordered {
 
     public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
 
+    private static final String TRUNCATED_SUFFIX = "... (truncated)";
+
+    private static final String CATCH_ALL_PATTERN = "/**";
+
     private final HttpLoggingProperties properties;
     private final PathNormalizer pathNormalizer;
     private final LogMasker logMasker;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ExcludePathMatcher excludePathMatcher;
     private final Set<String> excludeHeadersLower;
+    private final AsyncLogDispatcher<AccessLogRecord> dispatcher;
+    private final LogSampler sampler;
+    private final boolean combined;
+    private final InFlightMonitor<AccessLogRecord> inFlightMonitor;
+    private final HttpMetricsRecorder metricsRecorder;
+    private final OverheadStats overhead;
 
     public HttpLoggingFilter(HttpLoggingProperties properties,
                              PathNormalizer pathNormalizer,
                              LogMasker logMasker) {
+        this(properties, pathNormalizer, logMasker, HttpMetricsRecorder.NOOP);
+    }
+
+    /**
+     * @param properties      HTTP 로깅 설정
+     * @param pathNormalizer  경로 정규화기
+     * @param logMasker       민감정보 마스킹 유틸리티
+     * @param metricsRecorder 접근 로그와 같은 측정값으로 RED 메트릭을 기록할 기록기
+     */
+    public HttpLoggingFilter(HttpLoggingProperties properties,
+                             PathNormalizer pathNormalizer,
+                             LogMasker logMasker,
+                             HttpMetricsRecorder metricsRecorder) {
+        this(properties, pathNormalizer, logMasker, metricsRecorder, OverheadStats.DISABLED);
+    }
+
+    /**
+     * @param properties      HTTP 로깅 설정
+     * @param pathNormalizer  경로 정규화기
+     * @param logMasker       민감정보 마스킹 유틸리티
+     * @param metricsRecorder 접근 로그와 같은 측정값으로 RED 메트릭을 기록할 기록기
+     * @param overhead        필터 자체 소요 시간을 누적할 통계
+     */
+    public HttpLoggingFilter(HttpLoggingProperties properties,
+                             PathNormalizer pathNormalizer,
+                             LogMasker logMasker,
+                             HttpMetricsRecorder metricsRecorder,
+                             OverheadStats overhead) {
         this.properties = properties;
+        this.metricsRecorder = metricsRecorder != null ? metricsRecorder : HttpMetricsRecorder.NOOP;
+        this.overhead = overhead != null ? overhead : OverheadStats.DISABLED;
         this.pathNormalizer = pathNormalizer;
         this.logMasker = logMasker;
+        // 제외 경로는 시작 시 한 번 분류 (정확히 일치/접두사는 AntPathMatcher를 거치지 않음)
+        this.excludePathMatcher = new ExcludePathMatcher(properties.getExcludePaths(), new AntPathMatcher()::match);
         this.excludeHeadersLower = properties.getExcludeHeaders().stream()
                 .map(String::toLowerCase)
                 .collect(Collectors.toSet());
+
+        HttpLoggingProperties.Async async = properties.getAsync();
+        this.dispatcher = async.isEnabled()
+                ? new AsyncLogDispatcher<>("observability-http-log", async.getQueueCapacity(),
+                        async.getOverflowPolicy(), this::emitWithMdc)
+                : null;
+        this.sampler = properties.getSampling().isEnabled() ? new LogSampler(properties.getSampling()) : null;
+
+        this.combined = properties.getLogMode() == LogMode.COMBINED;
+        long inFlightThresholdMs = properties.getInFlightThresholdMs();
+        this.inFlightMonitor = combined && inFlightThresholdMs > 0
+                ? new InFlightMonitor<>("observability-http-inflight", inFlightThresholdMs,
+                        record -> emitWithMdc(record.withPhase(AccessLogRecord.Phase.IN_FLIGHT, inFlightThresholdMs)))
+                : null;
     }
 
     @Override
@@ -67,163 +151,437 @@ public class HttpLoggingFilter extends OncePerRequestFilter implements Ordered {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
         // Body 로깅이 필요한 경우에만 Wrapper 사용
         HttpServletRequest requestToUse = request;
         HttpServletResponse responseToUse = response;
 
         if (properties.isLogRequestBody() && isReadableContentType(request.getContentType())) {
-            requestToUse = new CachedBodyRequestWrapper(request);
+            // 본문 전체를 미리 읽지 않고, 애플리케이션이 읽는 동안 앞부분만 복사
+            requestToUse = new TeeBodyRequestWrapper(request, bodyCaptureLimit());
         }
 
         if (properties.isLogResponseBody()) {
-            responseToUse = new CachedBodyResponseWrapper(response);
+            // 로깅할 앞부분만 복사하고 바이너리/스트리밍 응답은 복사하지 않음
+            responseToUse = new CachedBodyResponseWrapper(response, bodyCaptureLimit());
+        } else if (properties.isPhaseTimings()) {
+            // 본문은 복사하지 않고 첫 바이트 시각만 측정
+            responseToUse = new CachedBodyResponseWrapper(response, 0);
         }
 
+        // 정규화 경로는 요청/응답 로그에서 함께 사용하므로 한 번만 계산
+        // (ROUTE_PATTERN 모드는 디스패치 이후 핸들러의 경로 템플릿을 사용)
+        boolean useRoutePattern = properties.getPathNormalization() == PathNormalization.ROUTE_PATTERN;
+        String normalizedUri = useRoutePattern ? null : normalize(request.getRequestURI());
+
+        AccessLogRecord deferredRequest = null;
+        InFlightMonitor.Ticket<AccessLogRecord> inFlightTicket = null;
+        Throwable failure = null;
+        long overheadNanos = 0;
         try {
-            // 요청 로깅
-            logRequest(requestToUse);
+            // 요청 로깅 (샘플링/통합 모드에서는 응답 결과를 보고 함께 출력하도록 보류)
+            deferredRequest = logRequest(requestToUse, normalizedUri);
+            if (inFlightMonitor != null && deferredRequest != null) {
+                inFlightTicket = inFlightMonitor.register(deferredRequest);
+            }
 
-            // 다음 필터 실행
+            // 다음 필터 실행 (여기까지가 핸들러 실행 전 로깅 필터 자체의 소요 시간)
+            overheadNanos = System.nanoTime() - startNanos;
             filterChain.doFilter(requestToUse, responseToUse);
 
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
         } finally {
-            // 응답 로깅
-            long duration = System.currentTimeMillis() - startTime;
-            logResponse(requestToUse, responseToUse, duration);
+            if (inFlightTicket != null) {
+                inFlightMonitor.complete(inFlightTicket);
+            }
+
+            // 응답 로깅 (메트릭도 같은 측정값으로 기록)
+            RequestTimings timings = measure(responseToUse, startNanos, System.nanoTime(), overheadNanos);
+            if (useRoutePattern) {
+                normalizedUri = resolveRoutePattern(requestToUse);
+                TraceIdHolder.addContext("http.normalizedUri", normalizedUri);
+            }
+            recordMetrics(request, responseToUse, normalizedUri, timings.durationNanos(), failure);
+            logResponse(requestToUse, responseToUse, normalizedUri, timings, deferredRequest);
+        }
+    }
+
+    /**
+     * 처리 시간을 계산합니다. 단계별 시간은 응답 첫 바이트 시각을 기준으로 나눕니다.
+     */
+    private RequestTimings measure(HttpServletResponse response, long startNanos, long endNanos, long overheadNanos) {
+        if (!properties.isPhaseTimings()) {
+            return RequestTimings.total(startNanos, endNanos);
+        }
+        long firstWriteNanos = response instanceof CachedBodyResponseWrapper wrapper ? wrapper.getFirstWriteNanos() : 0;
+        return RequestTimings.phases(startNanos, firstWriteNanos, endNanos, overheadNanos);
+    }
+
+    private void recordMetrics(HttpServletRequest request, HttpServletResponse response,
+                               String normalizedUri, long elapsedNanos, Throwable failure) {
+        // 예외가 전파되면 컨테이너가 아직 500을 설정하기 전이므로 500으로 기록
+        int status = failure != null && response.getStatus() < 500 ? 500 : response.getStatus();
+        try {
+            metricsRecorder.record(request.getMethod(), normalizedUri, status, elapsedNanos, failure);
+        } catch (RuntimeException e) {
+            log.debug("Failed to record HTTP metrics", e);
         }
     }
 
+    @Override
+    public void destroy() {
+        if (inFlightMonitor != null) {
+            inFlightMonitor.close();
+        }
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * 비동기 로깅 디스패처를 반환합니다 (버림/처리 건수 확인용).
+     *
+     * @return 디스패처, 비동기 모드가 아니면 null
+     */
+    public AsyncLogDispatcher<AccessLogRecord> getAsyncDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * 접근 로그 샘플러를 반환합니다 (경로별 로깅/버림 건수 확인용).
+     *
+     * @return 샘플러, 샘플링이 비활성화되어 있으면 null
+     */
+    public LogSampler getSampler() {
+        return sampler;
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return properties.getExcludePaths().stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, path));
+        return excludePathMatcher.matches(request.getRequestURI());
     }
 
-    private void logRequest(HttpServletRequest request) {
+    /**
+     * Spring MVC가 매칭한 핸들러의 경로 템플릿을 반환합니다.
+     *
+     * <p>매칭된 핸들러가 없거나 정적 리소스 핸들러의 catch-all 패턴({@code /**})이면
+     * PathNormalizer로 원본 경로를 정규화합니다.</p>
+     */
+    private String resolveRoutePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            String route = pattern.toString();
+            if (!route.isEmpty() && !CATCH_ALL_PATTERN.equals(route)) {
+                return route;
+            }
+        }
+        return normalize(request.getRequestURI());
+    }
+
+    private String normalize(String uri) {
+        long t = overhead.start();
+        String normalized = pathNormalizer.normalize(uri);
+        overhead.lap(Component.HTTP, Stage.NORMALIZE, t);
+        return normalized;
+    }
+
+    /**
+     * 요청 로그 레코드를 만들어 출력합니다.
+     *
+     * @return 샘플링 중이거나 통합 모드이면 출력하지 않은 요청 레코드, 아니면 null
+     */
+    private AccessLogRecord logRequest(HttpServletRequest request, String normalizedUri) {
         String method = request.getMethod();
         String uri = request.getRequestURI();
-        String queryString = request.getQueryString();
-        String normalizedUri = pathNormalizer.normalize(uri);
         String clientIp = getClientIp(request);
 
-        // 기본 정보 (메시지)
-        StringBuilder message = new StringBuilder();
-        message.append("HTTP Request: ").append(method).append(" ").append(uri);
-        if (queryString != null) {
-            message.append("?").append(queryString);
-        }
-
         // 구조화 로깅을 위한 컨텍스트 추가 (MDC)
         TraceIdHolder.addContext("http.method", method);
         TraceIdHolder.addContext("http.uri", uri);
         TraceIdHolder.addContext("http.normalizedUri", normalizedUri);
         TraceIdHolder.addContext("http.clientIp", clientIp);
 
-        // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
-        Marker httpMarker = createRequestMarker(method, uri, normalizedUri, queryString, clientIp);
-        log.info(httpMarker, "{}", message);
+        // 헤더는 DEBUG 레벨에서만 출력하므로 필요할 때만 수집
+        Map<String, String> headers = log.isDebugEnabled() ? getFilteredHeaders(request) : null;
 
-        // 헤더 로깅 (DEBUG 레벨)
-        if (log.isDebugEnabled()) {
-            Map<String, String> headers = getFilteredHeaders(request);
-            log.debug("Request Headers: {}", headers);
+        // 처리 중 요청 로그는 모니터 스레드에서 출력하므로 MDC를 복사해 둠
+        Map<String, String> mdc = inFlightMonitor != null ? MDC.getCopyOfContextMap() : mdcSnapshot();
+        AccessLogRecord record = new AccessLogRecord(AccessLogRecord.Phase.REQUEST, method, uri,
+                request.getQueryString(), normalizedUri, clientIp, 0, 0, null, headers, null, null, null, null, mdc);
+        if (sampler != null || combined) {
+            return record;
         }
+        publish(record);
+        return null;
+    }
 
-        // Body 로깅 (DEBUG 레벨)
-        if (properties.isLogRequestBody() && request instanceof CachedBodyRequestWrapper wrapper) {
-            String body = wrapper.getBodyAsString(properties.getMaxBodyLength());
-            if (!body.isEmpty()) {
-                String maskedBody = logMasker.mask(body);
-                log.debug("Request Body: {}", maskedBody);
+    private void logResponse(HttpServletRequest request,
+                             HttpServletResponse response,
+                             String normalizedUri,
+                             RequestTimings timings,
+                             AccessLogRecord deferredRequest) {
+        int status = response.getStatus();
+        long duration = timings.durationMillis();
+
+        // 컨텍스트 추가 (MDC)
+        TraceIdHolder.addContext("http.status", String.valueOf(status));
+        TraceIdHolder.addContext("http.duration", String.valueOf(duration));
+
+        // 샘플링: 응답 결과(에러/느린 요청)를 본 뒤 요청/응답 로그를 함께 출력할지 결정 (tail-based)
+        if (sampler != null) {
+            boolean isSlow = duration >= properties.getSlowRequestThresholdMs();
+            if (!sampler.shouldLog(normalizedUri, status, isSlow)) {
+                return;
+            }
+            if (deferredRequest != null && !combined) {
+                publish(deferredRequest);
             }
         }
+
+        // 요청 Body는 애플리케이션이 읽은 뒤에야 복사되므로 응답 시점에 수집 (DEBUG 레벨)
+        long t = overhead.start();
+        byte[] requestBody = null;
+        Charset requestCharset = null;
+        if (request instanceof TeeBodyRequestWrapper wrapper && log.isDebugEnabled()) {
+            requestBody = wrapper.getCapturedBody();
+            requestCharset = wrapper.getCharset();
+            overhead.addCapturedBytes(Component.HTTP, requestBody.length);
+        }
+
+        // 응답 Body는 에러 응답이거나 DEBUG 레벨일 때만 출력하므로 필요할 때만 수집
+        byte[] responseBody = null;
+        Charset responseCharset = null;
+        if (properties.isLogResponseBody() && response instanceof CachedBodyResponseWrapper wrapper
+                && (status >= 400 || log.isDebugEnabled())) {
+            responseBody = wrapper.getCapturedBody();
+            responseCharset = wrapper.getCharset();
+            overhead.addCapturedBytes(Component.HTTP, responseBody.length);
+        }
+        if (requestBody != null || responseBody != null) {
+            overhead.lap(Component.HTTP, Stage.BODY_CAPTURE, t);
+        }
+
+        if (combined && deferredRequest != null) {
+            // 요청 정보와 응답 결과를 한 레코드로 합쳐 한 줄만 출력
+            publish(new AccessLogRecord(AccessLogRecord.Phase.EXCHANGE, deferredRequest.method(),
+                    deferredRequest.uri(), deferredRequest.queryString(), normalizedUri, deferredRequest.clientIp(),
+                    status, duration, timings, deferredRequest.headers(),
+                    requestBody, requestCharset, responseBody, responseCharset, mdcSnapshot()));
+            return;
+        }
+
+        publish(new AccessLogRecord(AccessLogRecord.Phase.RESPONSE, request.getMethod(), request.getRequestURI(),
+                null, normalizedUri, null, status, duration, timings, null,
+                requestBody, requestCharset, responseBody, responseCharset, mdcSnapshot()));
     }
 
-    private Marker createRequestMarker(String method, String uri, String normalizedUri,
-                                        String queryString, String clientIp) {
-        Map<String, Object> fields = new LinkedHashMap<>();
-        fields.put("http_method", method);
-        fields.put("http_path", uri);
-        fields.put("http_path_normalized", normalizedUri);
-        if (queryString != null) {
-            fields.put("http_query", queryString);
+    /**
+     * 비동기 모드면 처리 스레드로 넘기고, 아니면 요청 스레드에서 바로 출력합니다.
+     */
+    private void publish(AccessLogRecord record) {
+        if (dispatcher != null) {
+            dispatcher.dispatch(record);
+        } else {
+            emit(record);
         }
-        fields.put("http_client_ip", clientIp);
-        fields.put("http_direction", "inbound");
-        return Markers.appendEntries(fields);
     }
 
-    private void logResponse(HttpServletRequest request,
-                             HttpServletResponse response,
-                             long duration) {
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String normalizedUri = pathNormalizer.normalize(uri);
-        int status = response.getStatus();
+    /**
+     * 비동기 모드에서는 요청 스레드의 MDC를 복사해 두고, 처리 스레드가 출력 직전에 복원합니다.
+     */
+    private Map<String, String> mdcSnapshot() {
+        return dispatcher != null ? MDC.getCopyOfContextMap() : null;
+    }
 
-        // 느린 요청 여부 판단
+    /**
+     * 잘라서 보관할 본문 원본 바이트 수 (WebFlux 필터와 같은 한도).
+     */
+    private int bodyCaptureLimit() {
+        return BodyCaptureLimits.captureBytes(properties.getMaxBodyLength());
+    }
+
+    /**
+     * 처리 스레드(비동기 처리, 처리 중 요청 모니터)에서 MDC를 복원하고 로그를 출력합니다.
+     */
+    private void emitWithMdc(AccessLogRecord record) {
+        if (record.mdc() != null) {
+            MDC.setContextMap(record.mdc());
+        }
+        try {
+            emit(record);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void emit(AccessLogRecord record) {
+        switch (record.phase()) {
+            case REQUEST -> emitRequest(record);
+            case RESPONSE -> emitResponse(record);
+            case IN_FLIGHT -> emitInFlight(record);
+            case EXCHANGE -> emitExchange(record);
+        }
+    }
+
+    private void emitRequest(AccessLogRecord record) {
+        // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
+        long t = overhead.start();
+        HttpLogMarker httpMarker = HttpLogMarker.inbound(record.method(), record.uri())
+                .normalizedPath(record.normalizedUri())
+                .query(record.queryString())
+                .clientIp(record.clientIp());
+        t = overhead.lap(Component.HTTP, Stage.MARKER, t);
+        log.info(httpMarker, "HTTP Request: {} {}{}", record.method(), record.uri(), querySuffix(record.queryString()));
+        overhead.lap(Component.HTTP, Stage.LOG, t);
+
+        // 헤더 로깅 (DEBUG 레벨)
+        if (record.headers() != null) {
+            log.debug("Request Headers: {}", record.headers());
+        }
+
+    }
+
+    /**
+     * 처리 중 임계값을 넘긴 요청의 요청 로그를 완료 전에 출력합니다.
+     */
+    private void emitInFlight(AccessLogRecord record) {
+        long t = overhead.start();
+        HttpLogMarker httpMarker = HttpLogMarker.inbound(record.method(), record.uri())
+                .normalizedPath(record.normalizedUri())
+                .query(record.queryString())
+                .clientIp(record.clientIp())
+                .inFlight(true);
+        t = overhead.lap(Component.HTTP, Stage.MARKER, t);
+        log.warn(httpMarker, "HTTP Request: {} {} | in-flight>={}ms",
+                record.method(), record.uri(), record.durationMs());
+        overhead.lap(Component.HTTP, Stage.LOG, t);
+    }
+
+    /**
+     * 요청 정보, 응답 결과, 본문(선택)을 한 줄로 출력합니다.
+     */
+    private void emitExchange(AccessLogRecord record) {
+        int status = record.status();
+        long duration = record.durationMs();
         boolean isSlow = duration >= properties.getSlowRequestThresholdMs();
 
-        // 로그 레벨 결정
-        String logLevel = determineLogLevel(status, isSlow);
+        long t = overhead.start();
+        HttpLogMarker httpMarker = HttpLogMarker.inbound(record.method(), record.uri())
+                .normalizedPath(record.normalizedUri())
+                .query(record.queryString())
+                .clientIp(record.clientIp())
+                .status(status)
+                .durationMs(duration)
+                .timings(record.timings())
+                .slow(isSlow)
+                .requestHeaders(record.headers());
+        overhead.lap(Component.HTTP, Stage.MARKER, t);
+
+        // 본문은 별도 줄 대신 구조화된 필드로 포함 (요청: DEBUG, 응답: 에러 또는 DEBUG)
+        String requestBody = decodeBody(record, true);
+        if (!requestBody.isEmpty()) {
+            httpMarker.requestBody(maskBody(requestBody));
+        }
+        String responseBody = decodeBody(record, false);
+        if (!responseBody.isEmpty()) {
+            httpMarker.responseBody(maskBody(responseBody));
+        }
 
-        // 메시지 구성
-        String message = String.format("HTTP Response: %s %s | status=%d | duration=%dms%s",
-                method, uri, status, duration, isSlow ? " [SLOW]" : "");
+        t = overhead.start();
+        logAtStatusLevel(status, isSlow, httpMarker, "HTTP Access: {} {}{} | status={} | duration={}ms{}",
+                record.method(), record.uri(), querySuffix(record.queryString()), status, duration, slowSuffix(isSlow));
+        overhead.lap(Component.HTTP, Stage.LOG, t);
+    }
 
-        // 컨텍스트 추가 (MDC)
-        TraceIdHolder.addContext("http.status", String.valueOf(status));
-        TraceIdHolder.addContext("http.duration", String.valueOf(duration));
+    private void emitResponse(AccessLogRecord record) {
+        String method = record.method();
+        String uri = record.uri();
+        int status = record.status();
+        long duration = record.durationMs();
 
-        // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
-        Marker httpMarker = createResponseMarker(method, uri, normalizedUri, status, duration, isSlow);
+        // 느린 요청 여부 판단
+        boolean isSlow = duration >= properties.getSlowRequestThresholdMs();
 
-        // 로그 레벨에 따라 출력
-        switch (logLevel) {
-            case "ERROR" -> log.error(httpMarker, "{}", message);
-            case "WARN" -> log.warn(httpMarker, "{}", message);
-            default -> log.info(httpMarker, "{}", message);
+        // 요청 Body 로깅 (DEBUG 레벨)
+        String requestBody = decodeBody(record, true);
+        if (!requestBody.isEmpty()) {
+            String maskedBody = maskBody(requestBody);
+            long t = overhead.start();
+            log.debug("Request Body: {}", maskedBody);
+            overhead.lap(Component.HTTP, Stage.LOG, t);
         }
 
+        // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
+        long t = overhead.start();
+        HttpLogMarker httpMarker = HttpLogMarker.inbound(method, uri)
+                .normalizedPath(record.normalizedUri())
+                .status(status)
+                .durationMs(duration)
+                .timings(record.timings())
+                .slow(isSlow);
+        t = overhead.lap(Component.HTTP, Stage.MARKER, t);
+
+        // 상태 코드에 따른 로그 레벨로 출력 (메시지는 출력되는 경우에만 포맷됨)
+        logAtStatusLevel(status, isSlow, httpMarker, "HTTP Response: {} {} | status={} | duration={}ms{}",
+                method, uri, status, duration, slowSuffix(isSlow));
+        overhead.lap(Component.HTTP, Stage.LOG, t);
+
         // Body 로깅 (DEBUG 레벨, 에러 시 INFO)
-        if (properties.isLogResponseBody() && response instanceof CachedBodyResponseWrapper wrapper) {
-            String body = wrapper.getBodyAsString(properties.getMaxBodyLength());
-            if (!body.isEmpty()) {
-                String maskedBody = logMasker.mask(body);
-                if (status >= 400) {
-                    log.info("Response Body: {}", maskedBody);
-                } else if (log.isDebugEnabled()) {
-                    log.debug("Response Body: {}", maskedBody);
-                }
+        String body = decodeBody(record, false);
+        if (!body.isEmpty()) {
+            String maskedBody = maskBody(body);
+            t = overhead.start();
+            if (status >= 400) {
+                log.info("Response Body: {}", maskedBody);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Response Body: {}", maskedBody);
             }
+            overhead.lap(Component.HTTP, Stage.LOG, t);
         }
     }
 
-    private Marker createResponseMarker(String method, String uri, String normalizedUri,
-                                         int status, long duration, boolean isSlow) {
-        Map<String, Object> fields = new LinkedHashMap<>();
-        fields.put("http_method", method);
-        fields.put("http_path", uri);
-        fields.put("http_path_normalized", normalizedUri);
-        fields.put("http_status", status);
-        fields.put("http_duration_ms", duration);
-        fields.put("http_direction", "inbound");
-        if (isSlow) {
-            fields.put("http_slow", true);
+    /**
+     * 복사해 둔 요청/응답 본문을 문자열로 변환합니다 (본문이 없으면 빈 문자열).
+     */
+    private String decodeBody(AccessLogRecord record, boolean request) {
+        long t = overhead.start();
+        String body = request ? record.requestBodyAsString() : record.responseBodyAsString();
+        if (!body.isEmpty()) {
+            overhead.lap(Component.HTTP, Stage.BODY_CAPTURE, t);
         }
-        return Markers.appendEntries(fields);
+        return body;
     }
 
-    private String determineLogLevel(int status, boolean isSlow) {
+    private String maskBody(String body) {
+        long t = overhead.start();
+        String masked = logMasker.mask(body, properties.getMaxBodyLength(), TRUNCATED_SUFFIX);
+        overhead.lap(Component.HTTP, Stage.MASK, t);
+        overhead.addMaskedChars(Component.HTTP, body.length());
+        return masked;
+    }
+
+    /**
+     * 5xx는 ERROR, 4xx와 느린 요청은 WARN, 나머지는 INFO로 출력합니다.
+     */
+    private void logAtStatusLevel(int status, boolean isSlow, Marker marker, String format, Object... args) {
         if (status >= 500) {
-            return "ERROR";
+            log.error(marker, format, args);
         } else if (status >= 400 || isSlow) {
-            return "WARN";
+            log.warn(marker, format, args);
+        } else {
+            log.info(marker, format, args);
         }
-        return "INFO";
+    }
+
+    private static String querySuffix(String queryString) {
+        return queryString != null ? "?" + queryString : "";
+    }
+
+    private static String slowSuffix(boolean isSlow) {
+        return isSlow ? " [SLOW]" : "";
     }
 
     private Map<String, String> getFilteredHeaders(HttpServletRequest request) {
@@ -1,5 +1,7 @@
 package com.ryuqq.observability.web.http;
 
+import com.ryuqq.observability.core.path.SegmentPathNormalizer;
+import com.ryuqq.observability.core.support.BoundedCache;
 import com.ryuqq.observability.web.config.HttpLoggingProperties;
 
 import java.util.ArrayList;
@@ -14,10 +16,24 @@ import java.util.regex.Pattern;
  *   <li>/api/users/12345 → /api/users/{id}</li>
  *   <li>/api/orders/ORD-ABC-123 → /api/orders/{orderId}</li>
  * </ul>
+ *
+ * <p>대부분의 트래픽은 소수의 경로에 집중되므로 정규화 결과를 원본 경로 기준으로 캐싱합니다.
+ * 캐시는 크기가 제한되어 있고 한 번만 나타나는 경로는 저장하지 않으므로,
+ * 랜덤 ID가 포함된 대량의 요청이 들어와도 메모리가 늘어나지 않습니다.</p>
+ *
+ * <p>{@link #segmentBased}로 생성하면 기본 패턴 대신 {@link SegmentPathNormalizer}로
+ * 경로 템플릿 트라이 조회와 세그먼트 분류를 수행하여, 등록된 템플릿 수와 무관하게 세그먼트 수에 비례하는 비용으로 정규화합니다.</p>
  */
 public class PathNormalizer {
 
-    private final List<PatternReplacement> customPatterns = new ArrayList<>();
+    /**
+     * 기본 정규화 결과 캐시 크기.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final int cacheSize;
+    private volatile Snapshot snapshot;
+    private final SegmentPathNormalizer segmentNormalizer;
 
     // 기본 패턴들
     private static final List<PatternReplacement> DEFAULT_PATTERNS = List.of(
@@ -39,9 +55,26 @@ public class PathNormalizer {
     );
 
     public PathNormalizer() {
+        this(null, DEFAULT_CACHE_SIZE);
     }
 
     public PathNormalizer(List<HttpLoggingProperties.PathPattern> patterns) {
+        this(patterns, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param patterns  커스텀 정규화 패턴 목록
+     * @param cacheSize 정규화 결과 캐시 크기 (0 이하이면 캐시 사용 안 함)
+     */
+    public PathNormalizer(List<HttpLoggingProperties.PathPattern> patterns, int cacheSize) {
+        this(patterns, cacheSize, null);
+    }
+
+    private PathNormalizer(List<HttpLoggingProperties.PathPattern> patterns, int cacheSize,
+                           SegmentPathNormalizer segmentNormalizer) {
+        this.cacheSize = cacheSize;
+        this.snapshot = new Snapshot(List.of(), newCache());
+        this.segmentNormalizer = segmentNormalizer;
         if (patterns != null) {
             for (HttpLoggingProperties.PathPattern pattern : patterns) {
                 addPattern(pattern.getPattern(), pattern.getReplacement());
@@ -49,14 +82,36 @@ public class PathNormalizer {
         }
     }
 
+    /**
+     * 경로 템플릿 트라이와 세그먼트 분류로 정규화하는 PathNormalizer를 생성합니다.
+     *
+     * <p>템플릿과 일치하지 않는 경로는 세그먼트 전체가 UUID, 숫자, 32자 이상의 16진수인 경우에만
+     * 플레이스홀더로 바뀝니다 (세그먼트 일부만 일치하는 경우는 정규화하지 않음).
+     * 커스텀 정규표현식 패턴이 있으면 세그먼트 정규화 전에 먼저 적용됩니다.</p>
+     *
+     * @param patterns  커스텀 정규화 패턴 목록 (null 허용)
+     * @param templates 경로 템플릿 목록 (예: {@code /api/orders/{orderId}}, null 허용)
+     * @param cacheSize 정규화 결과 캐시 크기 (0 이하이면 캐시 사용 안 함)
+     * @return 세그먼트 기반 PathNormalizer
+     */
+    public static PathNormalizer segmentBased(List<HttpLoggingProperties.PathPattern> patterns,
+                                              List<String> templates,
+                                              int cacheSize) {
+        return new PathNormalizer(patterns, cacheSize, new SegmentPathNormalizer(templates, false));
+    }
+
     /**
      * 커스텀 정규화 패턴을 추가합니다.
      *
      * @param pattern     정규표현식 패턴
      * @param replacement 대체 문자열
      */
-    public void addPattern(String pattern, String replacement) {
-        customPatterns.add(new PatternReplacement(Pattern.compile(pattern), replacement));
+    public synchronized void addPattern(String pattern, String replacement) {
+        List<PatternReplacement> patterns = new ArrayList<>(snapshot.patterns());
+        patterns.add(new PatternReplacement(Pattern.compile(pattern), replacement));
+        // 기존 캐시는 새 패턴을 반영하지 않으므로 패턴 목록과 함께 새 캐시로 교체
+        // (이전 목록으로 계산 중인 요청의 결과는 버려지는 이전 캐시에만 저장됨)
+        snapshot = new Snapshot(List.copyOf(patterns), newCache());
     }
 
     /**
@@ -69,7 +124,17 @@ public class PathNormalizer {
         if (path == null || path.isEmpty()) {
             return path;
         }
+        Snapshot current = snapshot;
+        return current.cache() != null
+                ? current.cache().get(path, key -> doNormalize(key, current.patterns()))
+                : doNormalize(path, current.patterns());
+    }
 
+    private BoundedCache<String, String> newCache() {
+        return cacheSize > 0 ? new BoundedCache<>(cacheSize) : null;
+    }
+
+    private String doNormalize(String path, List<PatternReplacement> customPatterns) {
         String result = path;
 
         // 커스텀 패턴 먼저 적용
@@ -77,6 +142,10 @@ public class PathNormalizer {
             result = pr.pattern.matcher(result).replaceAll(pr.replacement);
         }
 
+        if (segmentNormalizer != null) {
+            return segmentNormalizer.normalize(result);
+        }
+
         // 기본 패턴 적용
         for (PatternReplacement pr : DEFAULT_PATTERNS) {
             result = pr.pattern.matcher(result).replaceAll(pr.replacement);
@@ -88,4 +157,13 @@ public class PathNormalizer {
 
     private record PatternReplacement(Pattern pattern, String replacement) {
     }
+
+    /**
+     * 커스텀 패턴 목록과 그 목록으로 계산한 결과 캐시.
+     *
+     * <p>{@link #addPattern}은 목록을 복사해 새 스냅샷으로 교체하므로, 정규화 중인 스레드는
+     * 변경 중인 목록을 순회하지 않고 이전 목록의 결과가 새 캐시에 들어가지도 않습니다.</p>
+     */
+    private record Snapshot(List<PatternReplacement> patterns, BoundedCache<String, String> cache) {
+    }
 }
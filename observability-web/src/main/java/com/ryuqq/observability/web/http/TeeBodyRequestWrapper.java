@@ -0,0 +1,200 @@
+package com.ryuqq.observability.web.http;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 애플리케이션이 읽는 Request Body의 앞부분만 복사해 두는 Wrapper.
+ *
+ * <p>{@link CachedBodyRequestWrapper}처럼 본문 전체를 미리 읽어 두지 않고, 애플리케이션이 원본 스트림을
+ * 그대로 읽는 동안 최대 {@code maxCaptureBytes}까지만 작은 버퍼에 복사합니다.
+ * 대용량 업로드도 메모리를 두 배로 쓰지 않으며, 컨트롤러가 시작되기 전에 본문을 기다리지 않습니다.</p>
+ *
+ * <p>복사된 본문은 애플리케이션이 실제로 읽은 만큼만 남으므로 필터 체인이 끝난 뒤에 조회해야 합니다.
+ * 애플리케이션이 본문을 읽지 않았거나 서블릿 컨테이너가 폼 파라미터를 직접 파싱한 경우에는 비어 있습니다.</p>
+ */
+public class TeeBodyRequestWrapper extends HttpServletRequestWrapper {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final int maxCaptureBytes;
+    private final Charset charset;
+
+    private byte[] captured = new byte[0];
+    private int capturedLength;
+    private long bodyLength;
+
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    /**
+     * @param request         원본 요청
+     * @param maxCaptureBytes 복사해 둘 최대 바이트 수
+     */
+    public TeeBodyRequestWrapper(HttpServletRequest request, int maxCaptureBytes) {
+        super(request);
+        this.maxCaptureBytes = Math.max(0, maxCaptureBytes);
+        this.charset = determineCharset(request);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new TeeServletInputStream(super.getInputStream());
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    /**
+     * 지금까지 복사된 Body를 원본 바이트로 반환합니다.
+     *
+     * @return 복사된 Body 바이트 (최대 {@code maxCaptureBytes})
+     */
+    public byte[] getCapturedBody() {
+        return Arrays.copyOf(captured, capturedLength);
+    }
+
+    /**
+     * 지금까지 복사된 Body를 문자열로 반환합니다.
+     *
+     * @return 복사된 Body 문자열
+     */
+    public String getCapturedBodyAsString() {
+        return new String(captured, 0, capturedLength, charset);
+    }
+
+    /**
+     * 애플리케이션이 읽은 Body 길이를 반환합니다.
+     *
+     * @return 읽은 바이트 수 (복사 한도와 무관)
+     */
+    public long getBodyLength() {
+        return bodyLength;
+    }
+
+    /**
+     * 읽은 Body가 복사 한도를 넘어 잘렸는지 확인합니다.
+     *
+     * @return 잘렸으면 true
+     */
+    public boolean isTruncated() {
+        return bodyLength > capturedLength;
+    }
+
+    /**
+     * Body 문자셋을 반환합니다.
+     *
+     * @return 요청의 문자셋, 없으면 UTF-8
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        bodyLength += len;
+        int room = maxCaptureBytes - capturedLength;
+        if (room <= 0) {
+            return;
+        }
+        int count = Math.min(room, len);
+        ensureCapacity(capturedLength + count);
+        System.arraycopy(b, off, captured, capturedLength, count);
+        capturedLength += count;
+    }
+
+    private void capture(int b) {
+        bodyLength++;
+        if (capturedLength < maxCaptureBytes) {
+            ensureCapacity(capturedLength + 1);
+            captured[capturedLength++] = (byte) b;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > captured.length) {
+            int grown = Math.max(INITIAL_BUFFER_SIZE, captured.length * 2);
+            captured = Arrays.copyOf(captured, Math.min(maxCaptureBytes, Math.max(grown, required)));
+        }
+    }
+
+    private Charset determineCharset(HttpServletRequest request) {
+        String encoding = request.getCharacterEncoding();
+        if (encoding != null) {
+            try {
+                return Charset.forName(encoding);
+            } catch (Exception ignored) {
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+
+    private class TeeServletInputStream extends ServletInputStream {
+
+        private final ServletInputStream originalStream;
+
+        public TeeServletInputStream(ServletInputStream originalStream) {
+            this.originalStream = originalStream;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = originalStream.read();
+            if (b != -1) {
+                capture(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = originalStream.read(b, off, len);
+            if (count > 0) {
+                capture(b, off, count);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return originalStream.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return originalStream.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            originalStream.setReadListener(listener);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return originalStream.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            originalStream.close();
+        }
+    }
+}
@@ -1,28 +1,38 @@
 package com.ryuqq.observability.web.trace;
 
+import com.ryuqq.observability.core.trace.TraceIdGenerator;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
  * 기본 TraceIdProvider 구현체.
  *
- * <p>UUID 기반으로 TraceId를 생성하고, 설정된 헤더 목록에서
+ * <p>{@link TraceIdGenerator}로 TraceId를 생성하고 (기본: 32자리 hex 난수), 설정된 헤더 목록에서
  * 순서대로 TraceId를 추출합니다.</p>
  */
 public class DefaultTraceIdProvider implements TraceIdProvider {
 
     private final List<String> headerNames;
+    private final TraceIdGenerator traceIdGenerator;
 
     public DefaultTraceIdProvider(List<String> headerNames) {
+        this(headerNames, TraceIdGenerator.RANDOM);
+    }
+
+    /**
+     * @param headerNames      TraceId를 추출할 헤더 목록 (우선순위 순)
+     * @param traceIdGenerator 새 TraceId 생성기
+     */
+    public DefaultTraceIdProvider(List<String> headerNames, TraceIdGenerator traceIdGenerator) {
         this.headerNames = headerNames;
+        this.traceIdGenerator = traceIdGenerator != null ? traceIdGenerator : TraceIdGenerator.RANDOM;
     }
 
     @Override
     public String generate() {
-        return UUID.randomUUID().toString().replace("-", "");
+        return traceIdGenerator.generate();
     }
 
     @Override
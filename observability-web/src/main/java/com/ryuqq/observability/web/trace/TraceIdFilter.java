@@ -2,6 +2,7 @@ package com.ryuqq.observability.web.trace;
 
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
+import com.ryuqq.observability.core.trace.TraceParent;
 import com.ryuqq.observability.web.config.TraceProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,6 +25,7 @@ import java.io.IOException;
  * <ol>
  *   <li>요청 헤더에서 TraceId 추출 시도</li>
  *   <li>없으면 새로운 TraceId 생성</li>
+ *   <li>이 홉의 SpanId 발급, traceparent의 parent-id를 ParentSpanId로 기록</li>
  *   <li>Gateway 사용자 컨텍스트 헤더 추출 (X-User-Id, X-Tenant-Id 등)</li>
  *   <li>MDC에 TraceId 및 사용자 컨텍스트 설정</li>
  *   <li>요청 처리 (chain.doFilter)</li>
@@ -73,9 +75,12 @@ public class TraceIdFilter extends OncePerRequestFilter implements Ordered {
                 log.debug("Generated new TraceId: {}", traceId);
             }
 
-            // 3. MDC에 TraceId 설정
+            // 3. MDC에 TraceId 설정, 이 홉의 SpanId 발급
             if (traceId != null) {
                 TraceIdHolder.set(traceId);
+                TraceIdHolder.setSpanId(TraceParent.newSpanId());
+                TraceIdHolder.setParentSpanId(
+                        TraceParent.parseParentId(request.getHeader(TraceIdHeaders.TRACEPARENT)));
             }
 
             // 4. 서비스 이름 설정
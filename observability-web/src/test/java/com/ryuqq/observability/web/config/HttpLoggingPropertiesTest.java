@@ -83,6 +83,13 @@ class HttpLoggingPropertiesTest {
             HttpLoggingProperties properties = new HttpLoggingProperties();
             assertThat(properties.getPathPatterns()).isEmpty();
         }
+
+        @Test
+        @DisplayName("pathNormalization 기본값은 REGEX이다")
+        void shouldHaveRegexPathNormalizationByDefault() {
+            HttpLoggingProperties properties = new HttpLoggingProperties();
+            assertThat(properties.getPathNormalization()).isEqualTo(HttpLoggingProperties.PathNormalization.REGEX);
+        }
     }
 
     @Nested
@@ -11,6 +11,7 @@ import java.io.IOException;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+@SuppressWarnings("removal")
 @DisplayName("CachedBodyRequestWrapper 테스트")
 class CachedBodyRequestWrapperTest {
 
@@ -8,6 +8,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -153,23 +154,6 @@ class CachedBodyResponseWrapperTest {
         void shouldReturnEmptyForNoContent() {
             assertThat(wrapper.getBodyAsString()).isEmpty();
         }
-
-        @Test
-        @DisplayName("최대 길이를 초과하면 잘라서 반환한다")
-        void shouldTruncateIfExceedsMaxLength() throws IOException {
-            wrapper.getOutputStream().write("this is a very long response body".getBytes());
-
-            String truncated = wrapper.getBodyAsString(15);
-            assertThat(truncated).isEqualTo("this is a very ... (truncated)");
-        }
-
-        @Test
-        @DisplayName("최대 길이 이하면 그대로 반환한다")
-        void shouldReturnFullIfBelowMaxLength() throws IOException {
-            wrapper.getOutputStream().write("short".getBytes());
-
-            assertThat(wrapper.getBodyAsString(100)).isEqualTo("short");
-        }
     }
 
     @Nested
@@ -190,4 +174,112 @@ class CachedBodyResponseWrapperTest {
             assertThat(wrapper.getBodyLength()).isZero();
         }
     }
+
+    @Nested
+    @DisplayName("복사 한도 테스트")
+    class CaptureLimitTest {
+
+        @Test
+        @DisplayName("복사 한도까지만 보관하고 전체 길이는 따로 기록한다")
+        void shouldCaptureOnlyUpToLimit() throws IOException {
+            CachedBodyResponseWrapper limited = new CachedBodyResponseWrapper(mockResponse, 8);
+            mockResponse.setContentType("text/csv");
+
+            byte[] csv = "id,name\n".repeat(10_000).getBytes();
+            limited.getOutputStream().write(csv);
+            limited.flushBuffer();
+
+            assertThat(limited.getCapturedBody()).hasSize(8);
+            assertThat(limited.getBodyLength()).isEqualTo(csv.length);
+            assertThat(limited.isTruncated()).isTrue();
+            assertThat(mockResponse.getContentAsByteArray()).hasSize(csv.length);
+        }
+
+        @Test
+        @DisplayName("잘린 본문은 복사한 앞부분만 반환하고 잘림으로 표시한다")
+        void shouldMarkTruncatedBody() throws IOException {
+            CachedBodyResponseWrapper limited = new CachedBodyResponseWrapper(mockResponse, 5);
+
+            limited.getOutputStream().write("12345678".getBytes());
+
+            assertThat(limited.getBodyAsString()).isEqualTo("12345");
+            assertThat(limited.isTruncated()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Content-Type 필터링 테스트")
+    class ContentTypeGatingTest {
+
+        @Test
+        @DisplayName("바이너리 응답은 복사하지 않는다")
+        void shouldSkipBinaryResponse() throws IOException {
+            mockResponse.setContentType("application/octet-stream");
+
+            wrapper.getOutputStream().write(new byte[]{1, 2, 3});
+
+            assertThat(wrapper.isCaptureSkipped()).isTrue();
+            assertThat(wrapper.getCapturedBody()).isEmpty();
+            assertThat(wrapper.getBodyLength()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("SSE 스트리밍 응답은 복사하지 않는다")
+        void shouldSkipEventStream() throws IOException {
+            mockResponse.setContentType("text/event-stream");
+
+            wrapper.getOutputStream().write("data: hello\n\n".getBytes());
+
+            assertThat(wrapper.isCaptureSkipped()).isTrue();
+            assertThat(wrapper.getBodyAsString()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("첨부 파일 다운로드는 복사하지 않는다")
+        void shouldSkipAttachment() throws IOException {
+            mockResponse.setContentType("text/csv");
+            mockResponse.setHeader("Content-Disposition", "attachment; filename=report.csv");
+
+            wrapper.getOutputStream().write("id,name".getBytes());
+
+            assertThat(wrapper.isCaptureSkipped()).isTrue();
+        }
+
+        @Test
+        @DisplayName("JSON 응답은 복사한다")
+        void shouldCaptureJson() throws IOException {
+            mockResponse.setContentType("application/json");
+
+            wrapper.getOutputStream().write("{\"ok\":true}".getBytes());
+
+            assertThat(wrapper.isCaptureSkipped()).isFalse();
+            assertThat(wrapper.getBodyAsString()).isEqualTo("{\"ok\":true}");
+        }
+    }
+
+    @Nested
+    @DisplayName("문자셋 테스트")
+    class CharsetTest {
+
+        @Test
+        @DisplayName("Content-Type에 charset이 없으면 UTF-8로 디코딩한다")
+        void shouldDecodeAsUtf8ByDefault() throws IOException {
+            mockResponse.setContentType("application/json");
+
+            wrapper.getOutputStream().write("{\"name\":\"홍길동\"}".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(wrapper.getBodyAsString()).isEqualTo("{\"name\":\"홍길동\"}");
+        }
+
+        @Test
+        @DisplayName("Content-Type의 charset으로 디코딩한다")
+        void shouldDecodeWithContentTypeCharset() throws IOException {
+            mockResponse.setContentType("text/plain;charset=UTF-16");
+
+            wrapper.getOutputStream().write("응답".getBytes(StandardCharsets.UTF_16));
+
+            assertThat(wrapper.getCharset()).isEqualTo(StandardCharsets.UTF_16);
+            assertThat(wrapper.getBodyAsString()).isEqualTo("응답");
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.ryuqq.observability.web.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HttpLogMarker 테스트")
+class HttpLogMarkerTest {
+
+    @Test
+    @DisplayName("값이 있는 필드만 고정된 순서로 출력한다")
+    void shouldWriteOnlyPresentFieldsInOrder() throws IOException {
+        HttpLogMarker marker = HttpLogMarker.inbound("GET", "/api/users/123")
+                .normalizedPath("/api/users/{id}")
+                .query("")
+                .status(200)
+                .durationMs(12);
+
+        assertThat(toJson(marker)).isEqualTo("{\"http_method\":\"GET\",\"http_path\":\"/api/users/123\","
+                + "\"http_path_normalized\":\"/api/users/{id}\",\"http_status\":200,"
+                + "\"http_duration_ms\":12,\"http_direction\":\"inbound\"}");
+    }
+
+    @Test
+    @DisplayName("에러, 헤더, 바디 필드를 출력한다")
+    void shouldWriteErrorHeadersAndBodies() throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+
+        HttpLogMarker marker = HttpLogMarker.inbound("POST", "/api/orders")
+                .error(new IllegalStateException("boom"))
+                .requestHeaders(headers)
+                .requestBody("{\"id\":1}")
+                .responseBody("ok");
+
+        assertThat(toJson(marker)).isEqualTo("{\"http_method\":\"POST\",\"http_path\":\"/api/orders\","
+                + "\"http_direction\":\"inbound\",\"http_error\":true,"
+                + "\"http_error_type\":\"IllegalStateException\",\"http_error_message\":\"boom\","
+                + "\"http_request_headers\":{\"Content-Type\":\"application/json\"},"
+                + "\"http_request_body\":\"{\\\"id\\\":1}\",\"http_response_body\":\"ok\"}");
+    }
+
+    @Test
+    @DisplayName("텍스트 표현은 JSON과 같은 필드를 담는다")
+    void shouldRenderSameFieldsAsText() {
+        HttpLogMarker marker = HttpLogMarker.inbound("GET", "/health")
+                .status(503)
+                .slow(true);
+
+        assertThat(marker.toString())
+                .contains("http_method=GET", "http_path=/health", "http_status=503", "http_slow=true")
+                .doesNotContain("http_duration_ms");
+    }
+
+    private static String toJson(HttpLogMarker marker) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            marker.writeTo(generator);
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+}
@@ -1,8 +1,18 @@
 package com.ryuqq.observability.web.http;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
+import com.ryuqq.observability.core.metrics.RouteCardinalityGuard;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
 import com.ryuqq.observability.web.config.HttpLoggingProperties;
+import com.ryuqq.observability.web.metrics.MicrometerHttpMetricsRecorder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.AfterEach;
@@ -10,17 +20,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("HttpLoggingFilter 테스트")
 class HttpLoggingFilterTest {
@@ -172,7 +187,33 @@ class HttpLoggingFilterTest {
             filter.doFilter(request, response, filterChain);
 
             // 필터 체인에서 래핑된 요청을 확인
-            assertThat(filterChain.getRequest()).isInstanceOf(CachedBodyRequestWrapper.class);
+            assertThat(filterChain.getRequest()).isInstanceOf(TeeBodyRequestWrapper.class);
+        }
+
+        @Test
+        @DisplayName("애플리케이션은 요청 바디 전체를 읽고 필터는 앞부분만 복사한다")
+        void shouldCaptureOnlyPrefixWhileApplicationReadsWholeBody() throws ServletException, IOException {
+            properties.setLogRequestBody(true);
+            properties.setMaxBodyLength(10);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+
+            request.setMethod("POST");
+            request.setRequestURI("/api/upload");
+            request.setContentType("text/plain");
+            request.setContent("x".repeat(10_000).getBytes());
+
+            final int[] readLength = new int[1];
+            final TeeBodyRequestWrapper[] wrapper = new TeeBodyRequestWrapper[1];
+            FilterChain readingChain = (req, res) -> {
+                readLength[0] = req.getInputStream().readAllBytes().length;
+                wrapper[0] = (TeeBodyRequestWrapper) req;
+            };
+
+            filter.doFilter(request, response, readingChain);
+
+            assertThat(readLength[0]).isEqualTo(10_000);
+            assertThat(wrapper[0].getBodyLength()).isEqualTo(10_000);
+            assertThat(wrapper[0].getCapturedBody().length).isLessThan(1_000);
         }
 
         @Test
@@ -188,7 +229,7 @@ class HttpLoggingFilterTest {
 
             filter.doFilter(request, response, filterChain);
 
-            assertThat(filterChain.getRequest()).isInstanceOf(CachedBodyRequestWrapper.class);
+            assertThat(filterChain.getRequest()).isInstanceOf(TeeBodyRequestWrapper.class);
         }
 
         @Test
@@ -204,7 +245,7 @@ class HttpLoggingFilterTest {
 
             filter.doFilter(request, response, filterChain);
 
-            assertThat(filterChain.getRequest()).isInstanceOf(CachedBodyRequestWrapper.class);
+            assertThat(filterChain.getRequest()).isInstanceOf(TeeBodyRequestWrapper.class);
         }
 
         @Test
@@ -220,7 +261,7 @@ class HttpLoggingFilterTest {
 
             filter.doFilter(request, response, filterChain);
 
-            assertThat(filterChain.getRequest()).isInstanceOf(CachedBodyRequestWrapper.class);
+            assertThat(filterChain.getRequest()).isInstanceOf(TeeBodyRequestWrapper.class);
         }
 
         @Test
@@ -237,7 +278,7 @@ class HttpLoggingFilterTest {
             filter.doFilter(request, response, filterChain);
 
             // 바이너리는 원본 요청 사용
-            assertThat(filterChain.getRequest()).isNotInstanceOf(CachedBodyRequestWrapper.class);
+            assertThat(filterChain.getRequest()).isNotInstanceOf(TeeBodyRequestWrapper.class);
         }
 
         @Test
@@ -252,7 +293,7 @@ class HttpLoggingFilterTest {
 
             filter.doFilter(request, response, filterChain);
 
-            assertThat(filterChain.getRequest()).isNotInstanceOf(CachedBodyRequestWrapper.class);
+            assertThat(filterChain.getRequest()).isNotInstanceOf(TeeBodyRequestWrapper.class);
         }
 
         @Test
@@ -268,7 +309,7 @@ class HttpLoggingFilterTest {
 
             filter.doFilter(request, response, filterChain);
 
-            assertThat(filterChain.getRequest()).isNotInstanceOf(CachedBodyRequestWrapper.class);
+            assertThat(filterChain.getRequest()).isNotInstanceOf(TeeBodyRequestWrapper.class);
         }
     }
 
@@ -590,4 +631,514 @@ class HttpLoggingFilterTest {
             assertThat(response.getStatus()).isEqualTo(200);
         }
     }
+
+    @Nested
+    @DisplayName("경로 템플릿 정규화 모드 테스트")
+    class RoutePatternNormalizationTest {
+
+        @BeforeEach
+        void setUp() {
+            properties.setPathNormalization(HttpLoggingProperties.PathNormalization.ROUTE_PATTERN);
+        }
+
+        @Test
+        @DisplayName("핸들러가 매칭한 경로 템플릿을 정규화 경로로 사용한다")
+        void shouldUseMatchedRoutePattern() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+
+            FilterChain dispatchingChain = (req, res) ->
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users/{userId}");
+
+            filter.doFilter(request, response, dispatchingChain);
+
+            assertThat(TraceIdHolder.getContext("http.normalizedUri")).isEqualTo("/api/users/{userId}");
+        }
+
+        @Test
+        @DisplayName("매칭된 핸들러가 없으면 PathNormalizer로 정규화한다")
+        void shouldFallBackToPathNormalizerWhenUnmatched() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/unknown/123");
+
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(TraceIdHolder.getContext("http.normalizedUri")).isEqualTo("/api/unknown/{id}");
+        }
+
+        @Test
+        @DisplayName("정적 리소스의 catch-all 패턴은 PathNormalizer로 정규화한다")
+        void shouldFallBackForCatchAllPattern() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/files/123");
+
+            FilterChain resourceChain = (req, res) ->
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/**");
+
+            filter.doFilter(request, response, resourceChain);
+
+            assertThat(TraceIdHolder.getContext("http.normalizedUri")).isEqualTo("/files/{id}");
+        }
+
+        @Test
+        @DisplayName("요청 단계에서는 정규화 경로를 계산하지 않는다")
+        void shouldNotNormalizeBeforeDispatch() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+
+            final String[] captured = new String[1];
+            FilterChain capturingChain = (req, res) ->
+                    captured[0] = TraceIdHolder.getContext("http.normalizedUri");
+
+            filter.doFilter(request, response, capturingChain);
+
+            assertThat(captured[0]).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 로깅 테스트")
+    class AsyncLoggingTest {
+
+        private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+        private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+        @BeforeEach
+        void setUp() {
+            properties.getAsync().setEnabled(true);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+            appender.start();
+            httpLogger.addAppender(appender);
+        }
+
+        @AfterEach
+        void tearDown() {
+            filter.destroy();
+            httpLogger.detachAppender(appender);
+        }
+
+        @Test
+        @DisplayName("기본 설정에서는 동기 모드로 동작한다")
+        void shouldBeSynchronousByDefault() {
+            HttpLoggingFilter syncFilter = new HttpLoggingFilter(new HttpLoggingProperties(), pathNormalizer, logMasker);
+
+            assertThat(syncFilter.getAsyncDispatcher()).isNull();
+        }
+
+        @Test
+        @DisplayName("요청/응답 로그를 로그 처리 스레드에서 출력한다")
+        void shouldEmitOnLoggingThread() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+
+            filter.doFilter(request, response, filterChain);
+            filter.destroy();
+
+            assertThat(filter.getAsyncDispatcher().getProcessed()).isEqualTo(2);
+            assertThat(appender.list).hasSize(2);
+            assertThat(appender.list).extracting(ILoggingEvent::getThreadName)
+                    .containsOnly("observability-http-log");
+            assertThat(appender.list.get(1).getFormattedMessage())
+                    .startsWith("HTTP Response: GET /api/users/123 | status=200");
+        }
+
+        @Test
+        @DisplayName("요청 스레드의 MDC를 복원하여 출력한다")
+        void shouldRestoreRequestMdc() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+            TraceIdHolder.set("trace-async-1");
+
+            filter.doFilter(request, response, filterChain);
+            filter.destroy();
+
+            assertThat(appender.list).allSatisfy(event ->
+                    assertThat(event.getMDCPropertyMap()).containsEntry("traceId", "trace-async-1"));
+            assertThat(appender.list.get(1).getMDCPropertyMap()).containsEntry("ctx.http.status", "200");
+        }
+
+        @Test
+        @DisplayName("에러 응답 본문을 로그 처리 스레드에서 마스킹한다")
+        void shouldMaskResponseBodyOnLoggingThread() throws ServletException, IOException {
+            properties.setLogResponseBody(true);
+            filter.destroy();
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+            request.setMethod("POST");
+            request.setRequestURI("/api/login");
+
+            FilterChain failingChain = (req, res) -> {
+                HttpServletResponse httpResponse = (HttpServletResponse) res;
+                httpResponse.setStatus(400);
+                httpResponse.getOutputStream().write("{\"password\":\"secret123\"}".getBytes());
+            };
+
+            filter.doFilter(request, response, failingChain);
+            filter.destroy();
+
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .anySatisfy(message -> assertThat(message).startsWith("Response Body:")
+                            .doesNotContain("secret123"));
+        }
+    }
+
+    @Nested
+    @DisplayName("샘플링 테스트")
+    class SamplingTest {
+
+        private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+        private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+        @BeforeEach
+        void setUp() {
+            properties.getSampling().setEnabled(true);
+            properties.getSampling().setDefaultRate(0.0);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+            appender.start();
+            httpLogger.addAppender(appender);
+        }
+
+        @AfterEach
+        void tearDown() {
+            httpLogger.detachAppender(appender);
+        }
+
+        @Test
+        @DisplayName("샘플링되지 않은 요청은 요청/응답 로그를 모두 출력하지 않는다")
+        void shouldDropRequestAndResponseLogs() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(appender.list).isEmpty();
+            assertThat(filter.getSampler().getStats().get("/api/users/{id}").dropped()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("에러 응답은 보류했던 요청 로그와 함께 출력한다")
+        void shouldEmitDeferredRequestLogForErrors() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+
+            FilterChain failingChain = (req, res) -> ((HttpServletResponse) res).setStatus(503);
+
+            filter.doFilter(request, response, failingChain);
+
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .hasSize(2)
+                    .satisfiesExactly(
+                            message -> assertThat(message).startsWith("HTTP Request: GET /api/users/123"),
+                            message -> assertThat(message).startsWith("HTTP Response: GET /api/users/123 | status=503"));
+            assertThat(filter.getSampler().getStats().get("/api/users/{id}").sampled()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("기본 설정에서는 샘플링하지 않는다")
+        void shouldNotSampleByDefault() {
+            HttpLoggingFilter defaultFilter = new HttpLoggingFilter(new HttpLoggingProperties(), pathNormalizer, logMasker);
+
+            assertThat(defaultFilter.getSampler()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("통합 로그 모드 테스트")
+    class CombinedModeTest {
+
+        private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+        private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+        @BeforeEach
+        void setUp() {
+            properties.setLogMode(HttpLoggingProperties.LogMode.COMBINED);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+            appender.start();
+            httpLogger.addAppender(appender);
+        }
+
+        @AfterEach
+        void tearDown() {
+            httpLogger.detachAppender(appender);
+            filter.destroy();
+        }
+
+        @Test
+        @DisplayName("완료 시 요청/응답 정보를 담은 한 줄만 출력한다")
+        void shouldEmitSingleLine() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+            request.setQueryString("page=1");
+
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .singleElement()
+                    .satisfies(message -> assertThat(message)
+                            .startsWith("HTTP Access: GET /api/users/123?page=1 | status=200 | duration="));
+        }
+
+        @Test
+        @DisplayName("에러 응답 본문은 별도 줄 없이 같은 줄의 필드로 출력한다")
+        void shouldIncludeErrorBodyInSameEvent() throws ServletException, IOException {
+            properties.setLogResponseBody(true);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+            request.setMethod("POST");
+            request.setRequestURI("/api/orders");
+
+            FilterChain failingChain = (req, res) -> {
+                HttpServletResponse httpResponse = (HttpServletResponse) res;
+                httpResponse.setStatus(500);
+                httpResponse.setContentType("application/json");
+                httpResponse.getOutputStream().write("{\"error\":\"failed\"}".getBytes());
+            };
+
+            filter.doFilter(request, response, failingChain);
+
+            assertThat(appender.list).singleElement().satisfies(event -> {
+                assertThat(event.getFormattedMessage()).startsWith("HTTP Access: POST /api/orders | status=500");
+                assertThat(event.getMarkerList()).singleElement()
+                        .satisfies(marker -> assertThat(marker.toString()).contains("failed"));
+            });
+        }
+
+        @Test
+        @DisplayName("처리 중 임계값을 넘긴 요청은 요청 로그를 먼저 출력한다")
+        void shouldEmitInFlightRequestLog() throws ServletException, IOException {
+            properties.setInFlightThresholdMs(20);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+            request.setMethod("GET");
+            request.setRequestURI("/api/reports");
+
+            FilterChain slowChain = (req, res) -> {
+                long deadline = System.currentTimeMillis() + 5000;
+                while (appender.list.isEmpty() && System.currentTimeMillis() < deadline) {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            };
+
+            filter.doFilter(request, response, slowChain);
+
+            assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                    .satisfiesExactly(
+                            message -> assertThat(message).isEqualTo("HTTP Request: GET /api/reports | in-flight>=20ms"),
+                            message -> assertThat(message).startsWith("HTTP Access: GET /api/reports | status=200"));
+        }
+
+        @Test
+        @DisplayName("기본 설정은 요청/응답 두 줄 모드이다")
+        void shouldUseSplitModeByDefault() {
+            assertThat(new HttpLoggingProperties().getLogMode()).isEqualTo(HttpLoggingProperties.LogMode.SPLIT);
+        }
+    }
+
+    @Nested
+    @DisplayName("RED 메트릭 테스트")
+    class MetricsTest {
+
+        private SimpleMeterRegistry registry;
+
+        @BeforeEach
+        void setUp() {
+            registry = new SimpleMeterRegistry();
+            properties.getMetrics().setMaxRoutes(1);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker,
+                    new MicrometerHttpMetricsRecorder(registry, properties.getMetrics()));
+        }
+
+        @Test
+        @DisplayName("정규화 경로, 메서드, 상태 코드 그룹 태그로 요청 수와 지연 시간을 기록한다")
+        void shouldRecordLatencyByRoute() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+
+            filter.doFilter(request, response, filterChain);
+
+            Timer timer = registry.get("observability.http.server.requests")
+                    .tags("method", "GET", "route", "/api/users/{id}", "status", "2xx")
+                    .timer();
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(registry.find("observability.http.server.errors").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("체인에서 예외가 전파되면 5xx 에러로 기록한다")
+        void shouldRecordUnhandledExceptionAsError() {
+            request.setMethod("POST");
+            request.setRequestURI("/api/orders");
+
+            FilterChain failingChain = (req, res) -> {
+                throw new IllegalStateException("boom");
+            };
+
+            assertThatThrownBy(() -> filter.doFilter(request, response, failingChain))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(registry.get("observability.http.server.errors")
+                    .tags("route", "/api/orders", "status", "5xx")
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("허용 경로 수를 넘은 경로는 하나의 route 태그로 묶는다")
+        void shouldCollapseRoutesBeyondLimit() throws ServletException, IOException {
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+            filter.doFilter(request, response, new MockFilterChain());
+
+            MockHttpServletRequest other = new MockHttpServletRequest("GET", "/api/products/slug-abc");
+            filter.doFilter(other, new MockHttpServletResponse(), new MockFilterChain());
+
+            assertThat(registry.get("observability.http.server.requests")
+                    .tag("route", RouteCardinalityGuard.OTHER_ROUTE)
+                    .timer().count()).isEqualTo(1);
+            assertThat(registry.get("observability.http.server.route.overflow")
+                    .functionCounter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("로그 샘플링으로 버려진 요청도 메트릭에는 기록한다")
+        void shouldRecordSampledOutRequests() throws ServletException, IOException {
+            properties.getSampling().setEnabled(true);
+            properties.getSampling().setDefaultRate(0.0);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker,
+                    new MicrometerHttpMetricsRecorder(registry, properties.getMetrics()));
+            request.setMethod("GET");
+            request.setRequestURI("/api/users/123");
+
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(registry.get("observability.http.server.requests").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("단계별 처리 시간 테스트")
+    class PhaseTimingsTest {
+
+        private final Logger httpLogger = (Logger) LoggerFactory.getLogger("observability.http");
+        private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+        @BeforeEach
+        void setUp() {
+            appender.start();
+            httpLogger.addAppender(appender);
+            request.setMethod("GET");
+            request.setRequestURI("/api/reports");
+        }
+
+        @AfterEach
+        void tearDown() {
+            httpLogger.detachAppender(appender);
+        }
+
+        @Test
+        @DisplayName("기본 설정에서는 마이크로초 처리 시간만 출력한다")
+        void shouldEmitMicrosecondDurationByDefault() throws ServletException, IOException {
+            filter.doFilter(request, response, filterChain);
+
+            String fields = responseMarker();
+            assertThat(fields).contains("http_duration_ms=", "http_duration_us=");
+            assertThat(fields).doesNotContain("http_ttfb_us", "http_write_us");
+        }
+
+        @Test
+        @DisplayName("phase-timings를 켜면 첫 바이트까지의 시간과 본문 전송 시간을 나눠 출력한다")
+        void shouldSplitHandlerAndWriteTime() throws ServletException, IOException {
+            properties.setPhaseTimings(true);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+
+            FilterChain slowHandler = (req, res) -> {
+                sleep(30);
+                res.getOutputStream().write("first".getBytes());
+                sleep(20);
+                res.getOutputStream().write("rest".getBytes());
+            };
+
+            filter.doFilter(request, response, slowHandler);
+
+            String fields = responseMarker();
+            assertThat(field(fields, "http_ttfb_us")).isGreaterThanOrEqualTo(30_000);
+            assertThat(field(fields, "http_write_us")).isGreaterThanOrEqualTo(20_000);
+            assertThat(field(fields, "http_log_overhead_us")).isGreaterThanOrEqualTo(0);
+            assertThat(field(fields, "http_duration_us"))
+                    .isGreaterThanOrEqualTo(field(fields, "http_ttfb_us") + field(fields, "http_write_us"));
+            assertThat(response.getContentAsString()).isEqualTo("firstrest");
+        }
+
+        @Test
+        @DisplayName("본문이 없는 응답은 완료 시각을 첫 바이트 시각으로 간주한다")
+        void shouldTreatEmptyResponseAsCommittedAtEnd() throws ServletException, IOException {
+            properties.setPhaseTimings(true);
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker);
+
+            filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+            assertThat(field(responseMarker(), "http_write_us")).isZero();
+        }
+
+        private String responseMarker() {
+            return appender.list.stream()
+                    .filter(event -> event.getFormattedMessage().startsWith("HTTP Response"))
+                    .findFirst()
+                    .map(event -> event.getMarkerList().get(0).toString())
+                    .orElseThrow();
+        }
+
+        private long field(String fields, String name) {
+            Matcher matcher = Pattern.compile(name + "=(-?\\d+)").matcher(fields);
+            assertThat(matcher.find()).as(name).isTrue();
+            return Long.parseLong(matcher.group(1));
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("자체 오버헤드 측정 테스트")
+    class OverheadTest {
+
+        @Test
+        @DisplayName("경로 정규화, 본문 수집, 마스킹, 마커 생성, 로거 호출 시간과 본문 크기를 누적한다")
+        void shouldAccumulateStageTimesAndBodySize() throws ServletException, IOException {
+            properties.setLogResponseBody(true);
+            OverheadStats overhead = new OverheadStats();
+            filter = new HttpLoggingFilter(properties, pathNormalizer, logMasker, null, overhead);
+            request.setMethod("POST");
+            request.setRequestURI("/api/users/123");
+            String body = "{\"error\":\"invalid\"}";
+
+            filter.doFilter(request, response, (req, res) -> {
+                ((HttpServletResponse) res).setStatus(400);
+                res.getOutputStream().write(body.getBytes());
+            });
+
+            assertThat(overhead.getCount(Component.HTTP, Stage.NORMALIZE)).isEqualTo(1);
+            assertThat(overhead.getCount(Component.HTTP, Stage.BODY_CAPTURE)).isGreaterThanOrEqualTo(1);
+            assertThat(overhead.getCount(Component.HTTP, Stage.MASK)).isEqualTo(1);
+            assertThat(overhead.getCount(Component.HTTP, Stage.MARKER)).isEqualTo(2);
+            assertThat(overhead.getCount(Component.HTTP, Stage.LOG)).isEqualTo(3);
+            assertThat(overhead.getCapturedBytes(Component.HTTP)).isEqualTo(body.length());
+            assertThat(overhead.getMaskedChars(Component.HTTP)).isEqualTo(body.length());
+        }
+
+        @Test
+        @DisplayName("오버헤드 통계를 지정하지 않으면 아무것도 기록하지 않는다")
+        void shouldNotRecordByDefault() throws ServletException, IOException {
+            request.setRequestURI("/api/users/123");
+
+            filter.doFilter(request, response, filterChain);
+
+            assertThat(OverheadStats.DISABLED.getCount(Component.HTTP, Stage.NORMALIZE)).isZero();
+        }
+    }
 }
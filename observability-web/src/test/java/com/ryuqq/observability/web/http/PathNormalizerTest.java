@@ -6,7 +6,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -206,4 +209,111 @@ class PathNormalizerTest {
             assertThat(result).isEqualTo("/api/users");
         }
     }
+
+    @Nested
+    @DisplayName("정규화 캐시 테스트")
+    class CacheTest {
+
+        @Test
+        @DisplayName("반복 조회해도 같은 정규화 결과를 반환한다")
+        void shouldReturnSameResultForRepeatedPath() {
+            String path = "/api/users/123/orders/456";
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(normalizer.normalize(path)).isEqualTo("/api/users/{id}/orders/{id}");
+            }
+        }
+
+        @Test
+        @DisplayName("패턴을 추가하면 캐시된 결과 대신 새 패턴이 적용된다")
+        void shouldApplyNewPatternAfterCaching() {
+            String path = "/api/orders/ORD-ABC-123";
+            normalizer.normalize(path);
+            normalizer.normalize(path);
+
+            normalizer.addPattern("/api/orders/ORD-[A-Z]+-\\d+", "/api/orders/{orderId}");
+
+            assertThat(normalizer.normalize(path)).isEqualTo("/api/orders/{orderId}");
+        }
+
+        @Test
+        @DisplayName("캐시 크기가 0이면 캐시 없이 정규화한다")
+        void shouldNormalizeWithoutCache() {
+            PathNormalizer uncached = new PathNormalizer(null, 0);
+
+            assertThat(uncached.normalize("/api/users/123")).isEqualTo("/api/users/{id}");
+            assertThat(uncached.normalize("/api/users/123")).isEqualTo("/api/users/{id}");
+        }
+
+        @Test
+        @DisplayName("정규화 중에 패턴을 추가해도 예외가 없고 이전 패턴의 결과가 남지 않는다")
+        void shouldAddPatternWhileNormalizing() throws InterruptedException {
+            String path = "/api/orders/ORD-ABC-123";
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            List<Thread> readers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread reader = new Thread(() -> {
+                    try {
+                        while (running.get()) {
+                            normalizer.normalize(path);
+                        }
+                    } catch (Throwable e) {
+                        failure.set(e);
+                    }
+                });
+                reader.start();
+                readers.add(reader);
+            }
+
+            for (int i = 0; i < 200; i++) {
+                normalizer.addPattern("/api/unused" + i, "/api/{unused}");
+            }
+            normalizer.addPattern("/api/orders/ORD-[A-Z]+-\\d+", "/api/orders/{orderId}");
+            for (int i = 0; i < 1000; i++) {
+                assertThat(normalizer.normalize(path)).isEqualTo("/api/orders/{orderId}");
+            }
+
+            running.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+            assertThat(failure.get()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("세그먼트 기반 정규화 테스트")
+    class SegmentBasedTest {
+
+        @Test
+        @DisplayName("경로 템플릿과 일치하면 템플릿으로 정규화된다")
+        void shouldNormalizeWithTemplate() {
+            PathNormalizer segment = PathNormalizer.segmentBased(
+                    null, List.of("/api/orders/{orderId}"), PathNormalizer.DEFAULT_CACHE_SIZE);
+
+            assertThat(segment.normalize("/api/orders/ORD-ABC-123")).isEqualTo("/api/orders/{orderId}");
+        }
+
+        @Test
+        @DisplayName("템플릿이 없으면 기본 규칙과 같은 결과를 반환한다")
+        void shouldMatchDefaultRulesWithoutTemplate() {
+            PathNormalizer segment = PathNormalizer.segmentBased(null, null, 0);
+
+            assertThat(segment.normalize("/api/users/550e8400-e29b-41d4-a716-446655440000/orders/123"))
+                    .isEqualTo(normalizer.normalize("/api/users/550e8400-e29b-41d4-a716-446655440000/orders/123"));
+            assertThat(segment.normalize("/api/files/d41d8cd98f00b204e9800998ecf8427e"))
+                    .isEqualTo("/api/files/{hash}");
+        }
+
+        @Test
+        @DisplayName("커스텀 패턴이 세그먼트 정규화보다 먼저 적용된다")
+        void shouldApplyCustomPatternsFirst() {
+            PathNormalizer segment = PathNormalizer.segmentBased(
+                    List.of(new HttpLoggingProperties.PathPattern("/api/orders/ORD-[A-Z]+-\\d+", "/api/orders/{orderId}")),
+                    null, 0);
+
+            assertThat(segment.normalize("/api/orders/ORD-ABC-123")).isEqualTo("/api/orders/{orderId}");
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.ryuqq.observability.web.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeeBodyRequestWrapper 테스트")
+class TeeBodyRequestWrapperTest {
+
+    @Nested
+    @DisplayName("본문 복사 테스트")
+    class CaptureTest {
+
+        @Test
+        @DisplayName("생성 시점에는 본문을 읽지 않는다")
+        void shouldNotReadBodyOnConstruction() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setContent("test body".getBytes());
+
+            TeeBodyRequestWrapper wrapper = new TeeBodyRequestWrapper(request, 100);
+
+            assertThat(wrapper.getCapturedBody()).isEmpty();
+            assertThat(wrapper.getBodyLength()).isZero();
+        }
+
+        @Test
+        @DisplayName("애플리케이션이 읽은 본문을 그대로 전달하면서 복사한다")
+        void shouldPassThroughAndCapture() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setContent("{\"name\":\"test\"}".getBytes());
+
+            TeeBodyRequestWrapper wrapper = new TeeBodyRequestWrapper(request, 100);
+            byte[] read = wrapper.getInputStream().readAllBytes();
+
+            assertThat(new String(read)).isEqualTo("{\"name\":\"test\"}");
+            assertThat(wrapper.getCapturedBodyAsString()).isEqualTo("{\"name\":\"test\"}");
+            assertThat(wrapper.isTruncated()).isFalse();
+        }
+
+        @Test
+        @DisplayName("복사 한도를 넘는 본문은 앞부분만 복사하고 애플리케이션에는 전체를 전달한다")
+        void shouldCaptureOnlyUpToLimit() throws IOException {
+            byte[] upload = new byte[1024 * 1024];
+            Arrays.fill(upload, (byte) 'a');
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setContent(upload);
+
+            TeeBodyRequestWrapper wrapper = new TeeBodyRequestWrapper(request, 16);
+            byte[] read = wrapper.getInputStream().readAllBytes();
+
+            assertThat(read).hasSize(upload.length);
+            assertThat(wrapper.getCapturedBody()).hasSize(16);
+            assertThat(wrapper.getBodyLength()).isEqualTo(upload.length);
+            assertThat(wrapper.isTruncated()).isTrue();
+        }
+
+        @Test
+        @DisplayName("한 바이트씩 읽어도 복사된다")
+        void shouldCaptureSingleByteReads() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setContent("abc".getBytes());
+
+            TeeBodyRequestWrapper wrapper = new TeeBodyRequestWrapper(request, 2);
+            var inputStream = wrapper.getInputStream();
+            while (inputStream.read() != -1) {
+                // 끝까지 읽기
+            }
+
+            assertThat(wrapper.getCapturedBodyAsString()).isEqualTo("ab");
+            assertThat(wrapper.getBodyLength()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("읽은 만큼만 복사된다")
+        void shouldCaptureOnlyWhatWasRead() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setContent("0123456789".getBytes());
+
+            TeeBodyRequestWrapper wrapper = new TeeBodyRequestWrapper(request, 100);
+            wrapper.getInputStream().readNBytes(4);
+
+            assertThat(wrapper.getCapturedBodyAsString()).isEqualTo("0123");
+        }
+    }
+
+    @Nested
+    @DisplayName("getReader 테스트")
+    class GetReaderTest {
+
+        @Test
+        @DisplayName("요청의 문자 인코딩으로 읽고 복사한다")
+        void shouldReadWithRequestCharset() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCharacterEncoding("UTF-8");
+            request.setContent("안녕하세요".getBytes(StandardCharsets.UTF_8));
+
+            TeeBodyRequestWrapper wrapper = new TeeBodyRequestWrapper(request, 100);
+
+            assertThat(wrapper.getReader().readLine()).isEqualTo("안녕하세요");
+            assertThat(wrapper.getCapturedBodyAsString()).isEqualTo("안녕하세요");
+            assertThat(wrapper.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("잘못된 인코딩은 UTF-8로 대체된다")
+        void shouldFallbackToUtf8ForInvalidEncoding() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCharacterEncoding("INVALID-ENCODING");
+
+            TeeBodyRequestWrapper wrapper = new TeeBodyRequestWrapper(request, 100);
+
+            assertThat(wrapper.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+        }
+    }
+}
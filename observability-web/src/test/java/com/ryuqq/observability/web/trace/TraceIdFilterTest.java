@@ -99,6 +99,47 @@ class TraceIdFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("SpanId 테스트")
+    class SpanIdTest {
+
+        @Test
+        @DisplayName("요청마다 새 SpanId를 발급하고 traceparent의 parent-id를 ParentSpanId로 기록한다")
+        void shouldIssueSpanIdAndRecordParent() throws ServletException, IOException {
+            request.addHeader(TraceIdHeaders.TRACEPARENT,
+                    "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+            final String[] captured = new String[3];
+            FilterChain capturingChain = (req, res) -> {
+                captured[0] = TraceIdHolder.get();
+                captured[1] = TraceIdHolder.getSpanId();
+                captured[2] = TraceIdHolder.getParentSpanId();
+            };
+
+            filter.doFilter(request, response, capturingChain);
+
+            assertThat(captured[0]).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+            assertThat(captured[1]).matches("[0-9a-f]{16}").isNotEqualTo("00f067aa0ba902b7");
+            assertThat(captured[2]).isEqualTo("00f067aa0ba902b7");
+            assertThat(TraceIdHolder.getSpanId()).isNull();
+        }
+
+        @Test
+        @DisplayName("traceparent가 없으면 ParentSpanId 없이 SpanId만 발급한다")
+        void shouldIssueSpanIdWithoutParent() throws ServletException, IOException {
+            final String[] captured = new String[2];
+            FilterChain capturingChain = (req, res) -> {
+                captured[0] = TraceIdHolder.getSpanId();
+                captured[1] = TraceIdHolder.getParentSpanId();
+            };
+
+            filter.doFilter(request, response, capturingChain);
+
+            assertThat(captured[0]).matches("[0-9a-f]{16}");
+            assertThat(captured[1]).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("응답 헤더 테스트")
     class ResponseHeaderTest {
@@ -1,5 +1,8 @@
 package com.ryuqq.observability.webflux.config;
 
+import com.ryuqq.observability.core.metrics.HttpMetricsProperties;
+import com.ryuqq.observability.core.support.AsyncLogDispatcher;
+import com.ryuqq.observability.core.sampling.SamplingProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.ArrayList;
@@ -25,6 +28,19 @@ import java.util.List;
  *       - Authorization
  *       - Cookie
  *     slow-request-threshold-ms: 3000
+ *     log-mode: combined
+ *     in-flight-threshold-ms: 5000
+ *     phase-timings: true
+ *     fused: true
+ *     async:
+ *       enabled: true
+ *       queue-capacity: 8192
+ *       overflow-policy: drop
+ *     sampling:
+ *       enabled: true
+ *       default-rate: 0.1
+ *     metrics:
+ *       enabled: true
  * </pre>
  */
 @ConfigurationProperties(prefix = "observability.reactive-http")
@@ -43,12 +59,13 @@ public class ReactiveHttpLoggingProperties {
 
     /**
      * 응답 본문 로깅 여부 (민감정보 주의).
-     * WebFlux에서는 DataBuffer를 캐싱해야 하므로 메모리 사용량 증가에 유의.
+     * 응답 버퍼는 그대로 전달하고 최대 길이를 로깅하는 데 필요한 앞부분 바이트만 복사하며,
+     * 스트리밍 타입(SSE, NDJSON, octet-stream)은 복사 없이 전송 바이트 수만 기록.
      */
     private boolean logResponseBody = false;
 
     /**
-     * 본문 로깅 시 최대 길이 (bytes).
+     * 본문 로깅 시 최대 길이 (문자 수).
      * 초과 시 잘림 처리.
      */
     private int maxBodyLength = 1000;
@@ -85,12 +102,55 @@ public class ReactiveHttpLoggingProperties {
      */
     private List<PathPattern> pathPatterns = new ArrayList<>();
 
+    /**
+     * 경로 정규화 방식.
+     * SEGMENT는 정규표현식 없이 경로 템플릿 트라이와 세그먼트 분류로 정규화하여 패턴 수가 많을 때 유리.
+     */
+    private PathNormalizerType pathNormalizer = PathNormalizerType.REGEX;
+
+    /**
+     * 경로 템플릿 목록 (SEGMENT 방식에서 사용).
+     * 예: /api/orders/{orderId}/items/{itemId}
+     */
+    private List<String> pathTemplates = new ArrayList<>();
+
+    /**
+     * 경로 정규화 결과 캐시 크기.
+     * 원본 경로 기준으로 캐싱하며, 0이면 캐시를 사용하지 않음.
+     */
+    private int pathCacheSize = 1024;
+
     /**
      * 느린 요청으로 판단할 임계값 (ms).
      * 이 시간을 초과하면 WARN 레벨로 [SLOW] 태그와 함께 로깅.
      */
     private long slowRequestThresholdMs = 3000;
 
+    /**
+     * 접근 로그 출력 방식 (요청/응답 두 줄 또는 완료 시 한 줄)
+     */
+    private LogMode logMode = LogMode.SPLIT;
+
+    /**
+     * COMBINED 모드에서 처리 중 요청 로그를 먼저 출력할 임계값 (ms, 0이면 출력하지 않음)
+     */
+    private long inFlightThresholdMs = 0;
+
+    /**
+     * 응답 로그에 단계별 처리 시간(첫 바이트까지, 본문 전송, 로깅 필터 자체) 필드 추가 여부
+     */
+    private boolean phaseTimings = false;
+
+    /**
+     * TraceId 필터와 로깅 필터를 하나의 WebFilter로 합쳐 등록할지 여부 (교환 객체 변형/필터 단계 1회)
+     */
+    private boolean fused = false;
+
+    /**
+     * 비동기 로깅 설정 (Netty 이벤트 루프 밖에서 마스킹/로그 출력 수행)
+     */
+    private Async async = new Async();
+
     /**
      * Content-Type별 본문 로깅 허용 목록.
      * 지정하지 않으면 기본값 사용 (json, xml, text, form-urlencoded).
@@ -104,6 +164,17 @@ public class ReactiveHttpLoggingProperties {
             "application/x-www-form-urlencoded"
     ));
 
+    /**
+     * 접근 로그 샘플링 설정.
+     * 경로별 비율, 경로별 초당 제한, 에러/느린 요청 항상 로깅을 지원합니다.
+     */
+    private SamplingProperties sampling = new SamplingProperties();
+
+    /**
+     * RED 메트릭 설정 (요청 수, 에러 수, 지연 시간 - MeterRegistry 빈이 있을 때만 동작)
+     */
+    private HttpMetricsProperties metrics = new HttpMetricsProperties();
+
 
     public boolean isEnabled() {
         return enabled;
@@ -161,6 +232,30 @@ public class ReactiveHttpLoggingProperties {
         this.pathPatterns = pathPatterns;
     }
 
+    public PathNormalizerType getPathNormalizer() {
+        return pathNormalizer;
+    }
+
+    public void setPathNormalizer(PathNormalizerType pathNormalizer) {
+        this.pathNormalizer = pathNormalizer;
+    }
+
+    public List<String> getPathTemplates() {
+        return pathTemplates;
+    }
+
+    public void setPathTemplates(List<String> pathTemplates) {
+        this.pathTemplates = pathTemplates;
+    }
+
+    public int getPathCacheSize() {
+        return pathCacheSize;
+    }
+
+    public void setPathCacheSize(int pathCacheSize) {
+        this.pathCacheSize = pathCacheSize;
+    }
+
     public long getSlowRequestThresholdMs() {
         return slowRequestThresholdMs;
     }
@@ -169,6 +264,38 @@ public class ReactiveHttpLoggingProperties {
         this.slowRequestThresholdMs = slowRequestThresholdMs;
     }
 
+    public LogMode getLogMode() {
+        return logMode;
+    }
+
+    public void setLogMode(LogMode logMode) {
+        this.logMode = logMode;
+    }
+
+    public long getInFlightThresholdMs() {
+        return inFlightThresholdMs;
+    }
+
+    public void setInFlightThresholdMs(long inFlightThresholdMs) {
+        this.inFlightThresholdMs = inFlightThresholdMs;
+    }
+
+    public boolean isPhaseTimings() {
+        return phaseTimings;
+    }
+
+    public void setPhaseTimings(boolean phaseTimings) {
+        this.phaseTimings = phaseTimings;
+    }
+
+    public boolean isFused() {
+        return fused;
+    }
+
+    public void setFused(boolean fused) {
+        this.fused = fused;
+    }
+
     public List<String> getLoggableContentTypes() {
         return loggableContentTypes;
     }
@@ -177,6 +304,113 @@ public class ReactiveHttpLoggingProperties {
         this.loggableContentTypes = loggableContentTypes;
     }
 
+    public Async getAsync() {
+        return async;
+    }
+
+    public void setAsync(Async async) {
+        this.async = async;
+    }
+
+    public SamplingProperties getSampling() {
+        return sampling;
+    }
+
+    public void setSampling(SamplingProperties sampling) {
+        this.sampling = sampling;
+    }
+
+    public HttpMetricsProperties getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(HttpMetricsProperties metrics) {
+        this.metrics = metrics;
+    }
+
+
+    /**
+     * 접근 로그 출력 방식.
+     */
+    public enum LogMode {
+
+        /**
+         * 요청 시작 시 "HTTP Request", 완료 시 "HTTP Response" 두 줄을 출력합니다.
+         */
+        SPLIT,
+
+        /**
+         * 완료 시 요청 정보, 상태, 처리 시간, 본문(선택)을 담은 "HTTP Access" 한 줄만 출력합니다.
+         * 처리 중 임계값(inFlightThresholdMs)을 넘긴 요청만 요청 로그를 먼저 출력합니다.
+         */
+        COMBINED
+    }
+
+    /**
+     * 경로 정규화 방식.
+     */
+    public enum PathNormalizerType {
+
+        /**
+         * 커스텀 패턴과 기본 패턴을 정규표현식으로 순차 적용합니다.
+         */
+        REGEX,
+
+        /**
+         * 경로 템플릿 트라이와 세그먼트 분류로 정규화합니다 (기본 규칙에 정규표현식 미사용).
+         */
+        SEGMENT
+    }
+
+    /**
+     * 비동기 로깅 설정.
+     *
+     * <p>활성화하면 이벤트 루프 스레드는 처리 시간과 MDC만 확정해 버퍼에 넣고,
+     * 전용 스레드가 본문 디코딩/마스킹/마커 생성/로그 출력을 수행합니다.
+     * 느린 어펜더나 마스킹이 같은 이벤트 루프의 다른 연결을 막지 않습니다.</p>
+     */
+    public static class Async {
+
+        /**
+         * 비동기 로깅 활성화 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 버퍼 크기 (2의 거듭제곱으로 올림)
+         */
+        private int queueCapacity = 8192;
+
+        /**
+         * 버퍼가 가득 찼을 때의 동작 (DROP: 버림, BLOCK: 대기).
+         * BLOCK은 이벤트 루프 스레드를 멈추게 하므로 WebFlux에서는 DROP을 권장합니다.
+         */
+        private AsyncLogDispatcher.OverflowPolicy overflowPolicy = AsyncLogDispatcher.OverflowPolicy.DROP;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public AsyncLogDispatcher.OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(AsyncLogDispatcher.OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+    }
 
     /**
      * 경로 정규화 패턴 정의.
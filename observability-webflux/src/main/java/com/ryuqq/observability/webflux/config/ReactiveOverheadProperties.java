@@ -0,0 +1,21 @@
+package com.ryuqq.observability.webflux.config;
+
+import com.ryuqq.observability.core.metrics.OverheadProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WebFlux용 로깅 자체 오버헤드 측정 설정.
+ *
+ * <p>observability-core의 OverheadProperties를 상속하여
+ * Spring Boot ConfigurationProperties로 바인딩합니다.</p>
+ *
+ * <pre>
+ * observability:
+ *   overhead:
+ *     enabled: true
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "observability.overhead")
+public class ReactiveOverheadProperties extends OverheadProperties {
+    // OverheadProperties의 모든 필드와 메서드를 그대로 상속
+}
@@ -1,17 +1,31 @@
 package com.ryuqq.observability.webflux.config;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.HttpMetricsRecorder;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
 import com.ryuqq.observability.webflux.http.ReactiveHttpLoggingFilter;
+import com.ryuqq.observability.webflux.http.ReactiveObservabilityFilter;
 import com.ryuqq.observability.webflux.http.ReactivePathNormalizer;
+import com.ryuqq.observability.webflux.metrics.ReactiveMicrometerAsyncLogMetrics;
+import com.ryuqq.observability.webflux.metrics.ReactiveMicrometerHttpMetricsRecorder;
+import com.ryuqq.observability.webflux.metrics.ReactiveMicrometerOverheadMetrics;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
 import org.springframework.web.server.WebFilter;
 
@@ -21,8 +35,15 @@ import org.springframework.web.server.WebFilter;
  * <p>Spring WebFlux 환경에서만 활성화되며, 다음 기능을 제공합니다:</p>
  * <ul>
  *   <li>ReactiveHttpLoggingFilter - HTTP 요청/응답 로깅 WebFilter</li>
+ *   <li>ReactiveObservabilityFilter - TraceId 처리와 로깅을 합친 WebFilter ({@code fused=true}일 때,
+ *       ReactiveHttpLoggingFilter/ReactiveTraceIdFilter 대신 등록)</li>
  *   <li>ReactivePathNormalizer - URL 경로 정규화</li>
  *   <li>LogMasker - 민감정보 마스킹 (observability-core 의존)</li>
+ *   <li>HttpMetricsRecorder - RED 메트릭 (metrics.enabled=true이고 MeterRegistry 빈이 있을 때)</li>
+ *   <li>OverheadStats - 필터 자체 소요 시간 ({@code observability.overhead.enabled=true}일 때,
+ *       MeterRegistry 빈이 있으면 메트릭으로 노출)</li>
+ *   <li>비동기 로깅 버퍼 메트릭 - 제출/버림/실패 건수와 대기 건수
+ *       ({@code async.enabled=true}이고 MeterRegistry 빈이 있을 때)</li>
  * </ul>
  *
  * <p>설정 예시:</p>
@@ -34,16 +55,24 @@ import org.springframework.web.server.WebFilter;
  *     log-response-body: false
  *     max-body-length: 1000
  *     slow-request-threshold-ms: 3000
+ *     async:
+ *       enabled: true
+ *     metrics:
+ *       enabled: true
  * </pre>
  *
  * <p>이 설정은 {@link WebFluxTraceAutoConfiguration} 이후에 적용되어야 합니다.
  * HTTP 로깅 필터는 TraceId 필터 다음에 실행됩니다.</p>
  */
-@AutoConfiguration(after = WebFluxTraceAutoConfiguration.class)
+@AutoConfiguration(after = WebFluxTraceAutoConfiguration.class, afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+})
 @ConditionalOnClass({WebFilter.class, WebFluxConfigurer.class})
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
 @ConditionalOnProperty(prefix = "observability.reactive-http", name = "enabled", havingValue = "true", matchIfMissing = false)
-@EnableConfigurationProperties({ReactiveHttpLoggingProperties.class, ReactiveMaskingProperties.class})
+@EnableConfigurationProperties({ReactiveHttpLoggingProperties.class, ReactiveMaskingProperties.class,
+        ReactiveOverheadProperties.class})
 public class WebFluxHttpLoggingAutoConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(WebFluxHttpLoggingAutoConfiguration.class);
@@ -59,9 +88,14 @@ public class WebFluxHttpLoggingAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public ReactivePathNormalizer reactivePathNormalizer(ReactiveHttpLoggingProperties properties) {
-        log.debug("Creating ReactivePathNormalizer with {} custom patterns",
-                properties.getPathPatterns().size());
-        return new ReactivePathNormalizer(properties.getPathPatterns());
+        log.debug("Creating ReactivePathNormalizer ({}) with {} custom patterns, {} templates",
+                properties.getPathNormalizer(), properties.getPathPatterns().size(),
+                properties.getPathTemplates().size());
+        if (properties.getPathNormalizer() == ReactiveHttpLoggingProperties.PathNormalizerType.SEGMENT) {
+            return ReactivePathNormalizer.segmentBased(properties.getPathPatterns(),
+                    properties.getPathTemplates(), properties.getPathCacheSize());
+        }
+        return new ReactivePathNormalizer(properties.getPathPatterns(), properties.getPathCacheSize());
     }
 
     /**
@@ -88,20 +122,182 @@ public class WebFluxHttpLoggingAutoConfiguration {
      * @param properties     HTTP 로깅 설정
      * @param pathNormalizer 경로 정규화기
      * @param logMasker      민감정보 마스킹 유틸리티
+     * @param metricsRecorder RED 메트릭 기록기 (없으면 기록하지 않음)
+     * @param overheadStats  필터 자체 소요 시간 통계 (없으면 측정하지 않음)
      * @return ReactiveHttpLoggingFilter 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "observability.reactive-http", name = "fused", havingValue = "false", matchIfMissing = true)
     public ReactiveHttpLoggingFilter reactiveHttpLoggingFilter(ReactiveHttpLoggingProperties properties,
                                                                ReactivePathNormalizer pathNormalizer,
-                                                               LogMasker logMasker) {
+                                                               LogMasker logMasker,
+                                                               ObjectProvider<HttpMetricsRecorder> metricsRecorder,
+                                                               ObjectProvider<OverheadStats> overheadStats) {
         log.info("Registering ReactiveHttpLoggingFilter for WebFlux application. " +
-                        "logRequestBody={}, logResponseBody={}, maxBodyLength={}, slowThreshold={}ms",
+                        "logRequestBody={}, logResponseBody={}, maxBodyLength={}, slowThreshold={}ms, async={}",
                 properties.isLogRequestBody(),
                 properties.isLogResponseBody(),
                 properties.getMaxBodyLength(),
-                properties.getSlowRequestThresholdMs());
+                properties.getSlowRequestThresholdMs(),
+                properties.getAsync().isEnabled());
 
-        return new ReactiveHttpLoggingFilter(properties, pathNormalizer, logMasker);
+        return createLoggingFilter(properties, pathNormalizer, logMasker, metricsRecorder, overheadStats);
+    }
+
+    /**
+     * TraceId 처리와 HTTP 로깅을 합친 ReactiveObservabilityFilter를 등록합니다.
+     *
+     * <p>요청마다 교환 객체를 한 번만 변형하고 필터 단계도 하나만 거칩니다.
+     * ReactiveTraceIdFilter 자동 설정이 비활성화되어 있으면 로깅만 수행합니다.</p>
+     *
+     * @param properties      HTTP 로깅 설정
+     * @param pathNormalizer  경로 정규화기
+     * @param logMasker       민감정보 마스킹 유틸리티
+     * @param metricsRecorder RED 메트릭 기록기 (없으면 기록하지 않음)
+     * @param overheadStats   필터 자체 소요 시간 통계 (없으면 측정하지 않음)
+     * @param traceIdProvider TraceId 생성/추출 전략 (TraceId 자동 설정이 없으면 없음)
+     * @param traceProperties TraceId 설정 (TraceId 자동 설정이 없으면 없음)
+     * @param applicationName 서비스 이름
+     * @return ReactiveObservabilityFilter 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "observability.reactive-http", name = "fused", havingValue = "true")
+    public ReactiveObservabilityFilter reactiveObservabilityFilter(ReactiveHttpLoggingProperties properties,
+                                                                   ReactivePathNormalizer pathNormalizer,
+                                                                   LogMasker logMasker,
+                                                                   ObjectProvider<HttpMetricsRecorder> metricsRecorder,
+                                                                   ObjectProvider<OverheadStats> overheadStats,
+                                                                   ObjectProvider<ReactiveTraceIdProvider> traceIdProvider,
+                                                                   ObjectProvider<ReactiveTraceProperties> traceProperties,
+                                                                   @Value("${spring.application.name:unknown}") String applicationName) {
+        ReactiveTraceIdProvider provider = traceIdProvider.getIfAvailable();
+        ReactiveTraceProperties traceProps = traceProperties.getIfAvailable();
+        ReactiveTraceIdFilter traceIdFilter = provider != null && traceProps != null
+                ? new ReactiveTraceIdFilter(provider, traceProps, applicationName)
+                : null;
+
+        log.info("Registering fused ReactiveObservabilityFilter for WebFlux application: {} (trace={}, async={})",
+                applicationName, traceIdFilter != null, properties.getAsync().isEnabled());
+
+        return new ReactiveObservabilityFilter(traceIdFilter,
+                createLoggingFilter(properties, pathNormalizer, logMasker, metricsRecorder, overheadStats));
+    }
+
+    private static ReactiveHttpLoggingFilter createLoggingFilter(ReactiveHttpLoggingProperties properties,
+                                                                 ReactivePathNormalizer pathNormalizer,
+                                                                 LogMasker logMasker,
+                                                                 ObjectProvider<HttpMetricsRecorder> metricsRecorder,
+                                                                 ObjectProvider<OverheadStats> overheadStats) {
+        return new ReactiveHttpLoggingFilter(properties, pathNormalizer, logMasker,
+                metricsRecorder.getIfAvailable(() -> HttpMetricsRecorder.NOOP),
+                overheadStats.getIfAvailable(() -> OverheadStats.DISABLED));
+    }
+
+    /**
+     * 필터 자체 소요 시간 통계를 등록합니다.
+     *
+     * <p>observability-starter와 함께 사용하면 한쪽에서 등록한 빈을 공유합니다.</p>
+     *
+     * @return OverheadStats 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "observability.overhead", name = "enabled", havingValue = "true")
+    public OverheadStats overheadStats() {
+        return new OverheadStats();
+    }
+
+    /**
+     * Micrometer가 있을 때만 로드되는 RED 메트릭 설정.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "observability.reactive-http.metrics", name = "enabled", havingValue = "true")
+    static class ReactiveHttpMetricsConfiguration {
+
+        /**
+         * 요청 수/에러 수/지연 시간 메트릭 기록기를 등록합니다.
+         *
+         * <p>커스텀 구현이 있으면 대체됩니다.</p>
+         *
+         * @param meterRegistry Micrometer MeterRegistry
+         * @param properties    HTTP 로깅 설정
+         * @return HttpMetricsRecorder 인스턴스
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public HttpMetricsRecorder reactiveHttpMetricsRecorder(MeterRegistry meterRegistry,
+                                                               ReactiveHttpLoggingProperties properties) {
+            log.debug("Creating ReactiveMicrometerHttpMetricsRecorder with maxRoutes={}",
+                    properties.getMetrics().getMaxRoutes());
+            return new ReactiveMicrometerHttpMetricsRecorder(meterRegistry, properties.getMetrics());
+        }
+    }
+
+    /**
+     * Micrometer가 있을 때만 로드되는 오버헤드 메트릭 설정.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "observability.overhead", name = "enabled", havingValue = "true")
+    static class ReactiveOverheadMetricsConfiguration {
+
+        /**
+         * 오버헤드 통계를 메트릭으로 노출합니다.
+         *
+         * @param meterRegistry Micrometer MeterRegistry
+         * @param overheadStats 필터 자체 소요 시간 통계
+         * @param properties    오버헤드 메트릭 설정
+         * @return ReactiveMicrometerOverheadMetrics 인스턴스
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "observabilityOverheadMetrics")
+        public ReactiveMicrometerOverheadMetrics observabilityOverheadMetrics(MeterRegistry meterRegistry,
+                                                                              OverheadStats overheadStats,
+                                                                              ReactiveOverheadProperties properties) {
+            ReactiveMicrometerOverheadMetrics metrics = new ReactiveMicrometerOverheadMetrics(overheadStats, properties);
+            metrics.bindTo(meterRegistry);
+            return metrics;
+        }
+    }
+
+    /**
+     * Micrometer가 있을 때만 로드되는 비동기 로깅 버퍼 메트릭 설정.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "observability.reactive-http.async", name = "enabled", havingValue = "true")
+    static class ReactiveAsyncLogMetricsConfiguration {
+
+        /**
+         * 비동기 로깅 디스패처의 카운터를 메트릭으로 노출합니다.
+         *
+         * <p>커스텀 필터가 비동기 디스패처를 사용하지 않으면 빈은 등록되지만 메트릭은 등록하지 않습니다.</p>
+         *
+         * @param meterRegistry Micrometer MeterRegistry
+         * @param filter        HTTP 로깅 필터 (통합 필터를 사용하면 없음)
+         * @param fusedFilter   통합 필터 (fused=true일 때)
+         * @return ReactiveMicrometerAsyncLogMetrics 인스턴스
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveMicrometerAsyncLogMetrics reactiveAsyncLogMetrics(MeterRegistry meterRegistry,
+                                                                        ObjectProvider<ReactiveHttpLoggingFilter> filter,
+                                                                        ObjectProvider<ReactiveObservabilityFilter> fusedFilter) {
+            ReactiveHttpLoggingFilter loggingFilter = filter.getIfAvailable(() -> {
+                ReactiveObservabilityFilter fused = fusedFilter.getIfAvailable();
+                return fused != null ? fused.getLoggingFilter() : null;
+            });
+            ReactiveMicrometerAsyncLogMetrics metrics = new ReactiveMicrometerAsyncLogMetrics(
+                    loggingFilter != null ? loggingFilter.getAsyncDispatcher() : null,
+                    Component.REACTIVE_HTTP.getTagValue());
+            metrics.bindTo(meterRegistry);
+            return metrics;
+        }
     }
 }
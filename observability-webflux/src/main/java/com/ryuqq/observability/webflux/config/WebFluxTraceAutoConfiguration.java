@@ -1,5 +1,6 @@
 package com.ryuqq.observability.webflux.config;
 
+import com.ryuqq.observability.core.trace.TraceIdGenerator;
 import com.ryuqq.observability.webflux.context.propagation.ContextPropagationConfiguration;
 import com.ryuqq.observability.webflux.trace.DefaultReactiveTraceIdProvider;
 import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
@@ -8,14 +9,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
 import org.springframework.web.server.WebFilter;
 
@@ -59,19 +63,24 @@ public class WebFluxTraceAutoConfiguration implements InitializingBean, Disposab
     /**
      * ReactiveTraceIdProvider 기본 구현체를 등록합니다.
      * 커스텀 구현이 있으면 대체됩니다.
+     * TraceIdGenerator 빈이 있으면 새 TraceId 생성에 사용합니다.
      */
     @Bean
     @ConditionalOnMissingBean
-    public ReactiveTraceIdProvider reactiveTraceIdProvider() {
+    public ReactiveTraceIdProvider reactiveTraceIdProvider(ObjectProvider<TraceIdGenerator> traceIdGenerator) {
         log.debug("Creating default ReactiveTraceIdProvider");
-        return new DefaultReactiveTraceIdProvider();
+        return new DefaultReactiveTraceIdProvider(traceIdGenerator.getIfAvailable(() -> TraceIdGenerator.RANDOM));
     }
 
     /**
      * ReactiveTraceIdFilter를 등록합니다.
+     *
+     * <p>HTTP 로깅의 통합 필터({@code observability.reactive-http.fused=true})를 사용하면
+     * 통합 필터가 TraceId 처리를 함께 수행하므로 등록하지 않습니다.</p>
      */
     @Bean
     @ConditionalOnMissingBean
+    @Conditional(NotFusedCondition.class)
     public ReactiveTraceIdFilter reactiveTraceIdFilter(ReactiveTraceIdProvider traceIdProvider,
                                                         ReactiveTraceProperties properties) {
         log.info("Registering ReactiveTraceIdFilter for WebFlux application: {}", applicationName);
@@ -94,4 +103,18 @@ public class WebFluxTraceAutoConfiguration implements InitializingBean, Disposab
     public void destroy() {
         ContextPropagationConfiguration.uninstall();
     }
+
+    /**
+     * HTTP 로깅이 활성화되어 있고 통합 필터를 사용하는 경우가 아닐 때 일치하는 조건.
+     */
+    static class NotFusedCondition extends NoneNestedConditions {
+
+        NotFusedCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "observability.reactive-http", name = {"enabled", "fused"}, havingValue = "true")
+        static class FusedHttpLogging {
+        }
+    }
 }
@@ -112,6 +112,13 @@ public class MdcContextLifter<T> implements CoreSubscriber<T>, Scannable {
             Optional<String> traceId = ctx.getOrEmpty(ReactiveTraceIdFilter.TRACE_ID_CONTEXT_KEY);
             traceId.ifPresent(TraceIdHolder::set);
 
+            // SpanId
+            Optional<String> spanId = ctx.getOrEmpty(ReactiveTraceIdFilter.SPAN_ID_CONTEXT_KEY);
+            spanId.ifPresent(TraceIdHolder::setSpanId);
+
+            Optional<String> parentSpanId = ctx.getOrEmpty(ReactiveTraceIdFilter.PARENT_SPAN_ID_CONTEXT_KEY);
+            parentSpanId.ifPresent(TraceIdHolder::setParentSpanId);
+
             // Service Name
             Optional<String> serviceName = ctx.getOrEmpty(ReactiveTraceIdFilter.SERVICE_NAME_CONTEXT_KEY);
             serviceName.ifPresent(TraceIdHolder::setServiceName);
@@ -163,6 +170,12 @@ public class MdcContextLifter<T> implements CoreSubscriber<T>, Scannable {
                 Optional<String> traceId = ctx.getOrEmpty(ReactiveTraceIdFilter.TRACE_ID_CONTEXT_KEY);
                 traceId.ifPresent(TraceIdHolder::set);
 
+                Optional<String> spanId = ctx.getOrEmpty(ReactiveTraceIdFilter.SPAN_ID_CONTEXT_KEY);
+                spanId.ifPresent(TraceIdHolder::setSpanId);
+
+                Optional<String> parentSpanId = ctx.getOrEmpty(ReactiveTraceIdFilter.PARENT_SPAN_ID_CONTEXT_KEY);
+                parentSpanId.ifPresent(TraceIdHolder::setParentSpanId);
+
                 Optional<String> serviceName = ctx.getOrEmpty(ReactiveTraceIdFilter.SERVICE_NAME_CONTEXT_KEY);
                 serviceName.ifPresent(TraceIdHolder::setServiceName);
 
@@ -55,6 +55,8 @@ public final class ContextPropagationConfiguration {
 
         // ThreadLocalAccessor 등록
         registry.registerThreadLocalAccessor(new TraceContextThreadLocalAccessor());
+        registry.registerThreadLocalAccessor(new SpanIdThreadLocalAccessor());
+        registry.registerThreadLocalAccessor(new ParentSpanIdThreadLocalAccessor());
         registry.registerThreadLocalAccessor(new UserIdThreadLocalAccessor());
         registry.registerThreadLocalAccessor(new TenantIdThreadLocalAccessor());
         registry.registerThreadLocalAccessor(new OrganizationIdThreadLocalAccessor());
@@ -65,7 +67,7 @@ public final class ContextPropagationConfiguration {
         Hooks.enableAutomaticContextPropagation();
 
         installed = true;
-        log.info("Context Propagation installed successfully with {} ThreadLocalAccessors", 6);
+        log.info("Context Propagation installed successfully with {} ThreadLocalAccessors", 8);
     }
 
     /**
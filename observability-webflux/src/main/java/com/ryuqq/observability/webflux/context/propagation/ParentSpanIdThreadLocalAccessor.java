@@ -0,0 +1,45 @@
+package com.ryuqq.observability.webflux.context.propagation;
+
+import com.ryuqq.observability.core.trace.TraceIdHolder;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * ParentSpanId용 ThreadLocalAccessor.
+ *
+ * <p>수신한 traceparent 헤더의 parent-id를 Reactor Context와
+ * ThreadLocal(MDC) 간에 자동으로 동기화합니다.</p>
+ */
+public class ParentSpanIdThreadLocalAccessor implements ThreadLocalAccessor<String> {
+
+    public static final String KEY = ReactiveTraceIdFilter.PARENT_SPAN_ID_CONTEXT_KEY;
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public String getValue() {
+        return TraceIdHolder.getParentSpanId();
+    }
+
+    @Override
+    public void setValue(String value) {
+        if (value != null && !value.isEmpty()) {
+            TraceIdHolder.setParentSpanId(value);
+        }
+    }
+
+    @Override
+    public void setValue() {
+        // 기본값 없음
+    }
+
+    @Override
+    public void restore(String previousValue) {
+        if (previousValue != null) {
+            TraceIdHolder.setParentSpanId(previousValue);
+        }
+    }
+}
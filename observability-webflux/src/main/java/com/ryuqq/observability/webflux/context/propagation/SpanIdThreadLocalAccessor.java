@@ -0,0 +1,45 @@
+package com.ryuqq.observability.webflux.context.propagation;
+
+import com.ryuqq.observability.core.trace.TraceIdHolder;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * SpanId용 ThreadLocalAccessor.
+ *
+ * <p>ReactiveTraceIdFilter가 요청마다 발급한 SpanId를 Reactor Context와
+ * ThreadLocal(MDC) 간에 자동으로 동기화합니다.</p>
+ */
+public class SpanIdThreadLocalAccessor implements ThreadLocalAccessor<String> {
+
+    public static final String KEY = ReactiveTraceIdFilter.SPAN_ID_CONTEXT_KEY;
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public String getValue() {
+        return TraceIdHolder.getSpanId();
+    }
+
+    @Override
+    public void setValue(String value) {
+        if (value != null && !value.isEmpty()) {
+            TraceIdHolder.setSpanId(value);
+        }
+    }
+
+    @Override
+    public void setValue() {
+        // 기본값 없음
+    }
+
+    @Override
+    public void restore(String previousValue) {
+        if (previousValue != null) {
+            TraceIdHolder.setSpanId(previousValue);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.ryuqq.observability.webflux.http;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 스트림으로 지나가는 DataBuffer 본문의 앞부분만 복사해 두는 로깅용 버퍼.
+ *
+ * <p>청크마다 {@code byte[]}와 문자열을 만들지 않고, 최대 {@code maxCaptureBytes}까지 하나의 배열에
+ * 원본 바이트를 그대로 복사한 뒤 로그를 남길 때 {@link CharsetDecoder}로 한 번만 디코딩합니다.
+ * 멀티바이트 문자가 청크 경계에 걸쳐도 깨지지 않으며, 한도에 도달한 뒤에는 버퍼 내용을 읽지 않고 길이만 셉니다.</p>
+ *
+ * <p>DataBuffer의 읽기 위치는 바꾸지 않으므로 다운스트림은 원본 버퍼를 그대로 소비합니다.
+ * Reactive Streams 신호 순서대로 한 스레드씩 호출된다고 가정합니다 (onNext는 동시에 호출되지 않음).</p>
+ */
+public class DataBufferBodyCapture {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int maxCaptureBytes;
+    private final Charset charset;
+
+    private byte[] captured = EMPTY;
+    private volatile int capturedLength;
+    private volatile long totalBytes;
+    private String decoded;
+
+    /**
+     * @param maxCaptureBytes 복사해 둘 최대 바이트 수
+     * @param charset         본문 문자셋 (null이면 UTF-8)
+     */
+    public DataBufferBodyCapture(int maxCaptureBytes, Charset charset) {
+        this.maxCaptureBytes = Math.max(0, maxCaptureBytes);
+        this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * 버퍼의 읽을 수 있는 구간을 한도까지 복사합니다.
+     *
+     * @param buffer 다운스트림으로 전달될 버퍼 (읽기 위치는 변경하지 않음)
+     * @return 이번 호출에서 복사한 바이트 수
+     */
+    public int capture(DataBuffer buffer) {
+        int readable = buffer.readableByteCount();
+        totalBytes += readable;
+        int length = capturedLength;
+        int count = Math.min(maxCaptureBytes - length, readable);
+        if (count <= 0) {
+            return 0;
+        }
+        ensureCapacity(length + count);
+        buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(captured), length, count);
+        capturedLength = length + count;
+        decoded = null;
+        return count;
+    }
+
+    /**
+     * 복사된 본문을 한 번에 디코딩해 반환합니다 (결과는 캐싱됨).
+     *
+     * <p>한도에서 잘리며 끝에 남은 불완전한 멀티바이트 문자는 버리고, 그 외 잘못된 바이트는 대체 문자로 바꿉니다.</p>
+     *
+     * @return 디코딩된 본문, 복사된 내용이 없으면 빈 문자열
+     */
+    public String decode() {
+        String result = decoded;
+        if (result == null) {
+            result = decodeCaptured();
+            decoded = result;
+        }
+        return result;
+    }
+
+    private String decodeCaptured() {
+        int length = capturedLength;
+        if (length == 0) {
+            return "";
+        }
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer in = ByteBuffer.wrap(captured, 0, length);
+        CharBuffer out = CharBuffer.allocate((int) Math.ceil(length * (double) decoder.maxCharsPerByte()));
+        boolean endOfInput = !isTruncated();
+        decoder.decode(in, out, endOfInput);
+        if (endOfInput) {
+            decoder.flush(out);
+        }
+        out.flip();
+        return out.toString();
+    }
+
+    /**
+     * @return 복사된 바이트 수 (최대 {@code maxCaptureBytes})
+     */
+    public int getCapturedLength() {
+        return capturedLength;
+    }
+
+    /**
+     * @return 지나간 전체 본문 바이트 수 (복사 한도와 무관)
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @return 본문이 한도를 넘어 잘렸으면 true
+     */
+    public boolean isTruncated() {
+        return totalBytes > capturedLength;
+    }
+
+    /**
+     * @return 복사된 내용이 없으면 true
+     */
+    public boolean isEmpty() {
+        return capturedLength == 0;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > captured.length) {
+            int grown = Math.max(INITIAL_BUFFER_SIZE, captured.length * 2);
+            captured = Arrays.copyOf(captured, Math.min(maxCaptureBytes, Math.max(grown, required)));
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.ryuqq.observability.webflux.http;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ryuqq.observability.core.support.RequestTimings;
+import net.logstash.logback.marker.LogstashMarker;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * WebFlux HTTP 접근 로그의 구조화 필드를 담는 고정 스키마 마커.
+ *
+ * <p>{@code Markers.appendEntries(Map)}는 로그마다 {@code LinkedHashMap}과 엔트리,
+ * 상태 코드/처리 시간의 박싱 객체를 만듭니다. 이 마커는 필드를 고정 슬롯(원시 타입 포함)에 보관하고
+ * JSON 인코더가 {@link #writeTo(JsonGenerator)}를 호출할 때 생성기에 직접 씁니다.</p>
+ *
+ * <p>값이 없는 슬롯(null, 상태 코드/처리 시간 음수, false 플래그)은 출력하지 않으며,
+ * 필드 순서는 항상 동일합니다.</p>
+ *
+ * <pre>
+ * {@code
+ * ReactiveHttpLogMarker marker = ReactiveHttpLogMarker.inbound("GET", "/api/users/123")
+ *         .normalizedPath("/api/users/{id}")
+ *         .status(200)
+ *         .durationMs(12);
+ * log.info(marker, "HTTP Response: {} {} | status={} | duration={}ms", ...);
+ * }
+ * </pre>
+ *
+ * <p>Spring MVC의 HttpLogMarker와 같은 필드를 같은 순서로 출력합니다.
+ * 응답 본문 바이트 수({@code http_response_bytes})는 WebFlux에서만 출력합니다.</p>
+ *
+ * <p>로그 이벤트가 비동기 어펜더에 보관될 수 있으므로 재사용하지 말고 로그마다 새로 만들어야 합니다.</p>
+ */
+public final class ReactiveHttpLogMarker extends LogstashMarker {
+
+    public static final String MARKER_NAME = LogstashMarker.MARKER_NAME_PREFIX + "HTTP_FIELDS";
+
+    private static final String DIRECTION_INBOUND = "inbound";
+
+    private final String method;
+    private final String path;
+    private String normalizedPath;
+    private String query;
+    private String clientIp;
+    private int status = -1;
+    private long durationMs = -1;
+    private RequestTimings timings;
+    private boolean slow;
+    private boolean inFlight;
+    private String errorType;
+    private String errorMessage;
+    private Map<String, String> requestHeaders;
+    private String requestBody;
+    private String responseBody;
+    private long responseBytes = -1;
+
+    private ReactiveHttpLogMarker(String method, String path) {
+        super(MARKER_NAME);
+        this.method = method;
+        this.path = path;
+    }
+
+    /**
+     * 인바운드 요청의 마커를 만듭니다.
+     *
+     * @param method HTTP Method
+     * @param path   요청 경로
+     * @return 마커
+     */
+    public static ReactiveHttpLogMarker inbound(String method, String path) {
+        return new ReactiveHttpLogMarker(method, path);
+    }
+
+    public ReactiveHttpLogMarker normalizedPath(String normalizedPath) {
+        this.normalizedPath = normalizedPath;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker query(String query) {
+        this.query = query != null && !query.isEmpty() ? query : null;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker clientIp(String clientIp) {
+        this.clientIp = clientIp;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker status(int status) {
+        this.status = status;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker durationMs(long durationMs) {
+        this.durationMs = durationMs;
+        return this;
+    }
+
+    /**
+     * 나노초 단위 처리 시간(선택적으로 단계별 시간 포함)을 설정합니다.
+     *
+     * @param timings 처리 시간
+     * @return 이 마커
+     */
+    public ReactiveHttpLogMarker timings(RequestTimings timings) {
+        this.timings = timings;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker slow(boolean slow) {
+        this.slow = slow;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker inFlight(boolean inFlight) {
+        this.inFlight = inFlight;
+        return this;
+    }
+
+    /**
+     * 처리되지 않은 에러 정보를 설정합니다.
+     *
+     * @param error 에러
+     * @return 이 마커
+     */
+    public ReactiveHttpLogMarker error(Throwable error) {
+        this.errorType = error.getClass().getSimpleName();
+        this.errorMessage = error.getMessage();
+        return this;
+    }
+
+    public ReactiveHttpLogMarker requestHeaders(Map<String, String> requestHeaders) {
+        this.requestHeaders = requestHeaders;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker requestBody(String requestBody) {
+        this.requestBody = requestBody;
+        return this;
+    }
+
+    public ReactiveHttpLogMarker responseBody(String responseBody) {
+        this.responseBody = responseBody;
+        return this;
+    }
+
+    /**
+     * 다운스트림으로 전달된 응답 본문 바이트 수 (본문 복사 여부와 무관).
+     */
+    public ReactiveHttpLogMarker responseBytes(long responseBytes) {
+        this.responseBytes = responseBytes;
+        return this;
+    }
+
+    @Override
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStringField("http_method", method);
+        generator.writeStringField("http_path", path);
+        if (normalizedPath != null) {
+            generator.writeStringField("http_path_normalized", normalizedPath);
+        }
+        if (query != null) {
+            generator.writeStringField("http_query", query);
+        }
+        if (clientIp != null) {
+            generator.writeStringField("http_client_ip", clientIp);
+        }
+        if (status >= 0) {
+            generator.writeNumberField("http_status", status);
+        }
+        if (durationMs >= 0) {
+            generator.writeNumberField("http_duration_ms", durationMs);
+        }
+        if (timings != null) {
+            generator.writeNumberField("http_duration_us", RequestTimings.toMicros(timings.durationNanos()));
+            if (timings.hasPhases()) {
+                generator.writeNumberField("http_ttfb_us", RequestTimings.toMicros(timings.firstByteNanos()));
+                generator.writeNumberField("http_write_us", RequestTimings.toMicros(timings.writeNanos()));
+                generator.writeNumberField("http_log_overhead_us", RequestTimings.toMicros(timings.overheadNanos()));
+            }
+        }
+        generator.writeStringField("http_direction", DIRECTION_INBOUND);
+        if (slow) {
+            generator.writeBooleanField("http_slow", true);
+        }
+        if (inFlight) {
+            generator.writeBooleanField("http_in_flight", true);
+        }
+        if (errorType != null) {
+            generator.writeBooleanField("http_error", true);
+            generator.writeStringField("http_error_type", errorType);
+            generator.writeStringField("http_error_message", errorMessage);
+        }
+        if (requestHeaders != null) {
+            generator.writeObjectFieldStart("http_request_headers");
+            for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+                generator.writeStringField(header.getKey(), header.getValue());
+            }
+            generator.writeEndObject();
+        }
+        if (requestBody != null) {
+            generator.writeStringField("http_request_body", requestBody);
+        }
+        if (responseBody != null) {
+            generator.writeStringField("http_response_body", responseBody);
+        }
+        if (responseBytes >= 0) {
+            generator.writeNumberField("http_response_bytes", responseBytes);
+        }
+    }
+
+    /**
+     * 텍스트 레이아웃({@code %marker})과 디버깅용 표현 (JSON 출력과 같은 필드/순서).
+     */
+    @Override
+    protected String toStringSelf() {
+        StringBuilder sb = new StringBuilder(128).append('{');
+        append(sb, "http_method", method);
+        append(sb, "http_path", path);
+        append(sb, "http_path_normalized", normalizedPath);
+        append(sb, "http_query", query);
+        append(sb, "http_client_ip", clientIp);
+        if (status >= 0) {
+            append(sb, "http_status", status);
+        }
+        if (durationMs >= 0) {
+            append(sb, "http_duration_ms", durationMs);
+        }
+        if (timings != null) {
+            append(sb, "http_duration_us", RequestTimings.toMicros(timings.durationNanos()));
+            if (timings.hasPhases()) {
+                append(sb, "http_ttfb_us", RequestTimings.toMicros(timings.firstByteNanos()));
+                append(sb, "http_write_us", RequestTimings.toMicros(timings.writeNanos()));
+                append(sb, "http_log_overhead_us", RequestTimings.toMicros(timings.overheadNanos()));
+            }
+        }
+        append(sb, "http_direction", DIRECTION_INBOUND);
+        if (slow) {
+            append(sb, "http_slow", true);
+        }
+        if (inFlight) {
+            append(sb, "http_in_flight", true);
+        }
+        if (errorType != null) {
+            append(sb, "http_error", true);
+            append(sb, "http_error_type", errorType);
+            append(sb, "http_error_message", String.valueOf(errorMessage));
+        }
+        append(sb, "http_request_headers", requestHeaders);
+        append(sb, "http_request_body", requestBody);
+        append(sb, "http_response_body", responseBody);
+        if (responseBytes >= 0) {
+            append(sb, "http_response_bytes", responseBytes);
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void append(StringBuilder sb, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (sb.length() > 1) {
+            sb.append(", ");
+        }
+        sb.append(name).append('=').append(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
@@ -1,39 +1,48 @@
 package com.ryuqq.observability.webflux.http;
 
 import com.ryuqq.observability.core.masking.LogMasker;
+import com.ryuqq.observability.core.metrics.HttpMetricsRecorder;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
+import com.ryuqq.observability.core.sampling.LogSampler;
+import com.ryuqq.observability.core.support.AsyncLogDispatcher;
+import com.ryuqq.observability.core.support.BodyCaptureLimits;
+import com.ryuqq.observability.core.support.ExcludePathMatcher;
+import com.ryuqq.observability.core.support.InFlightMonitor;
+import com.ryuqq.observability.core.support.RequestTimings;
 import com.ryuqq.observability.webflux.config.ReactiveHttpLoggingProperties;
-import net.logstash.logback.marker.Markers;
+import com.ryuqq.observability.webflux.config.ReactiveHttpLoggingProperties.LogMode;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.slf4j.Marker;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferFactory;
-import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -48,12 +57,19 @@ import java.util.stream.Collectors;
  *   <li>느린 요청 감지 및 [SLOW] 태그</li>
  *   <li>민감정보 마스킹 (LogMasker 연동)</li>
  *   <li>경로 정규화 (메트릭 폭발 방지)</li>
+ *   <li>샘플링 (선택, 응답 결과를 보고 요청/응답 로그를 함께 출력할지 결정)</li>
+ *   <li>통합 로그 모드 (선택, 완료 시 "HTTP Access" 한 줄만 출력)</li>
+ *   <li>RED 메트릭 (선택, 로그 샘플링과 무관하게 모든 요청을 기록)</li>
  * </ul>
  *
+ * <p>비동기 모드({@code observability.reactive-http.async.enabled=true})에서는 이벤트 루프 스레드가
+ * 처리 시간, MDC, 교환 객체에서 읽을 값(상태 코드, 헤더, 클라이언트 IP)을 불변 스냅샷으로 확정해 버퍼에 넣고,
+ * 본문 디코딩/마스킹/마커 생성/로그 출력은 전용 스레드에서 수행합니다.</p>
+ *
  * <p>WebFlux/Netty 환경에서 DataBuffer 기반으로 구현되어 있으며,
  * 본문 로깅 시 메모리 사용량에 주의해야 합니다.</p>
  */
-public class ReactiveHttpLoggingFilter implements WebFilter, Ordered {
+public class ReactiveHttpLoggingFilter implements WebFilter, Ordered, DisposableBean {
 
     private static final Logger log = LoggerFactory.getLogger("observability.http");
     private static final Logger internalLog = LoggerFactory.getLogger(ReactiveHttpLoggingFilter.class);
@@ -63,13 +79,28 @@ public class ReactiveHttpLoggingFilter implements WebFilter, Ordered {
      */
     public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
 
+    /**
+     * 본문을 복사하지 않고 전송 바이트 수만 기록하는 스트리밍 응답 타입.
+     */
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(
+            MediaType.TEXT_EVENT_STREAM,
+            MediaType.APPLICATION_NDJSON,
+            MediaType.parseMediaType("application/stream+json"),
+            MediaType.APPLICATION_OCTET_STREAM);
+
     private final ReactiveHttpLoggingProperties properties;
     private final ReactivePathNormalizer pathNormalizer;
     private final LogMasker logMasker;
-    private final AntPathMatcher pathMatcher;
+    private final ExcludePathMatcher excludePathMatcher;
     private final Set<String> excludeHeadersLower;
     private final Set<String> loggableContentTypesLower;
-    private final DataBufferFactory bufferFactory;
+    private final LogSampler sampler;
+    private final boolean combined;
+    private final InFlightMonitor<Runnable> inFlightMonitor;
+    private final HttpMetricsRecorder metricsRecorder;
+    private final boolean phaseTimings;
+    private final OverheadStats overhead;
+    private final AsyncLogDispatcher<Runnable> dispatcher;
 
     /**
      * ReactiveHttpLoggingFilter를 생성합니다.
@@ -81,11 +112,61 @@ public class ReactiveHttpLoggingFilter implements WebFilter, Ordered {
     public ReactiveHttpLoggingFilter(ReactiveHttpLoggingProperties properties,
                                      ReactivePathNormalizer pathNormalizer,
                                      LogMasker logMasker) {
+        this(properties, pathNormalizer, logMasker, HttpMetricsRecorder.NOOP);
+    }
+
+    /**
+     * RED 메트릭 기록기를 지정해 ReactiveHttpLoggingFilter를 생성합니다.
+     *
+     * @param properties      HTTP 로깅 설정
+     * @param pathNormalizer  경로 정규화기
+     * @param logMasker       민감정보 마스킹 유틸리티
+     * @param metricsRecorder 접근 로그와 같은 측정값으로 메트릭을 기록할 기록기
+     */
+    public ReactiveHttpLoggingFilter(ReactiveHttpLoggingProperties properties,
+                                     ReactivePathNormalizer pathNormalizer,
+                                     LogMasker logMasker,
+                                     HttpMetricsRecorder metricsRecorder) {
+        this(properties, pathNormalizer, logMasker, metricsRecorder, OverheadStats.DISABLED);
+    }
+
+    /**
+     * RED 메트릭 기록기와 자체 오버헤드 통계를 지정해 ReactiveHttpLoggingFilter를 생성합니다.
+     *
+     * @param properties      HTTP 로깅 설정
+     * @param pathNormalizer  경로 정규화기
+     * @param logMasker       민감정보 마스킹 유틸리티
+     * @param metricsRecorder 접근 로그와 같은 측정값으로 메트릭을 기록할 기록기
+     * @param overhead        필터 자체 소요 시간(정규화, 본문 수집, 마스킹, 마커 생성, 로거 호출)을 누적할 통계
+     */
+    public ReactiveHttpLoggingFilter(ReactiveHttpLoggingProperties properties,
+                                     ReactivePathNormalizer pathNormalizer,
+                                     LogMasker logMasker,
+                                     HttpMetricsRecorder metricsRecorder,
+                                     OverheadStats overhead) {
         this.properties = properties;
+        this.metricsRecorder = metricsRecorder != null ? metricsRecorder : HttpMetricsRecorder.NOOP;
+        this.overhead = overhead != null ? overhead : OverheadStats.DISABLED;
+        this.phaseTimings = properties.isPhaseTimings();
         this.pathNormalizer = pathNormalizer;
         this.logMasker = logMasker;
-        this.pathMatcher = new AntPathMatcher();
-        this.bufferFactory = new DefaultDataBufferFactory();
+        // 제외 경로는 시작 시 한 번 분류 (정확히 일치/접두사는 AntPathMatcher를 거치지 않음)
+        this.excludePathMatcher = new ExcludePathMatcher(properties.getExcludePaths(), new AntPathMatcher()::match);
+        this.sampler = properties.getSampling().isEnabled() ? new LogSampler(properties.getSampling()) : null;
+
+        ReactiveHttpLoggingProperties.Async async = properties.getAsync();
+        this.dispatcher = async.isEnabled()
+                ? new AsyncLogDispatcher<>("observability-reactive-http-log", async.getQueueCapacity(),
+                        async.getOverflowPolicy(), Runnable::run)
+                : null;
+        if (dispatcher != null && dispatcher.getOverflowPolicy() == AsyncLogDispatcher.OverflowPolicy.BLOCK) {
+            internalLog.warn("Async HTTP logging with overflow-policy=BLOCK parks Netty event-loop threads " +
+                    "when the buffer is full; DROP is recommended for WebFlux");
+        }
+        this.combined = properties.getLogMode() == LogMode.COMBINED;
+        this.inFlightMonitor = combined && properties.getInFlightThresholdMs() > 0
+                ? new InFlightMonitor<>("observability-http-inflight", properties.getInFlightThresholdMs(), Runnable::run)
+                : null;
 
         // 제외 헤더를 소문자로 변환하여 Set에 저장 (대소문자 무관 비교)
         this.excludeHeadersLower = properties.getExcludeHeaders().stream()
@@ -103,230 +184,564 @@ public class ReactiveHttpLoggingFilter implements WebFilter, Ordered {
                 properties.getMaxBodyLength(), properties.getExcludePaths());
     }
 
+    /**
+     * 접근 로그 샘플러를 반환합니다 (경로별 로깅/버림 건수 확인용).
+     *
+     * @return 샘플러, 샘플링이 비활성화되어 있으면 null
+     */
+    public LogSampler getSampler() {
+        return sampler;
+    }
+
+    /**
+     * 비동기 로깅 디스패처를 반환합니다 (버림/처리 건수 확인용).
+     *
+     * @return 디스패처, 비동기 모드가 아니면 null
+     */
+    public AsyncLogDispatcher<Runnable> getAsyncDispatcher() {
+        return dispatcher;
+    }
+
     @Override
     public int getOrder() {
         return ORDER;
     }
 
+    @Override
+    public void destroy() {
+        if (inFlightMonitor != null) {
+            inFlightMonitor.close();
+        }
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return filter(exchange, chain, null);
+    }
+
+    /**
+     * 요청 헤더 변경을 본문 데코레이터와 함께 한 번의 교환 객체 변형으로 적용하고 체인을 실행합니다.
+     *
+     * <p>{@link ReactiveObservabilityFilter}가 TraceId 전파 헤더를 넘길 때 사용합니다.</p>
+     *
+     * @param requestHeaders 요청 헤더 변경 (없으면 null)
+     */
+    Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain, Consumer<HttpHeaders> requestHeaders) {
         // 비활성화된 경우 바로 통과
         if (!properties.isEnabled()) {
-            return chain.filter(exchange);
+            return chain.filter(mutateHeaders(exchange, requestHeaders));
         }
 
         // 제외 경로인 경우 바로 통과
         String path = exchange.getRequest().getURI().getPath();
         if (shouldExclude(path)) {
-            return chain.filter(exchange);
+            return chain.filter(mutateHeaders(exchange, requestHeaders));
         }
 
-        long startTime = System.currentTimeMillis();
+        RequestClock clock = new RequestClock(phaseTimings);
+
+        // 정규화 경로는 요청/응답/에러 로그에서 함께 사용하므로 한 번만 계산
+        long t = overhead.start();
+        String normalizedUri = pathNormalizer.normalize(path);
+        overhead.lap(Component.REACTIVE_HTTP, Stage.NORMALIZE, t);
 
         // 요청/응답 데코레이터 생성
-        ServerWebExchange decoratedExchange = decorateExchange(exchange, startTime);
+        ServerWebExchange decoratedExchange = decorateExchange(exchange, requestHeaders);
+        if (phaseTimings) {
+            // 응답 헤더가 나가기 직전 = 첫 바이트 시각
+            decoratedExchange.getResponse().beforeCommit(() -> {
+                clock.markFirstByte();
+                return Mono.empty();
+            });
+        }
 
-        // 요청 로깅 (비동기)
-        return logRequest(decoratedExchange.getRequest())
-                .then(chain.filter(decoratedExchange))
-                .doOnSuccess(aVoid -> logResponse(decoratedExchange, startTime))
-                .doOnError(error -> logError(decoratedExchange, startTime, error));
+        // 통합 모드: 처리 중 임계값을 넘긴 요청만 요청 로그를 먼저 출력
+        InFlightMonitor.Ticket<Runnable> ticket = null;
+        if (inFlightMonitor != null) {
+            // 모니터 스레드에서 출력하므로 MDC를 복사해 둠
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            AccessSnapshot request = snapshotRequest(decoratedExchange.getRequest(), normalizedUri);
+            ticket = inFlightMonitor.register(() -> logInFlight(request, mdc));
+        }
+        InFlightMonitor.Ticket<Runnable> inFlightTicket = ticket;
+
+        // 완료/에러 신호 하나로 로그와 메트릭을 처리 (모드별 연산자를 따로 붙이지 않음)
+        Mono<Void> result = subscribeChain(chain, decoratedExchange, normalizedUri, clock)
+                .doOnEach(signal -> {
+                    if (signal.isOnComplete()) {
+                        onTerminate(decoratedExchange, normalizedUri, clock, null, inFlightTicket);
+                    } else if (signal.isOnError()) {
+                        onTerminate(decoratedExchange, normalizedUri, clock, signal.getThrowable(), inFlightTicket);
+                    }
+                });
+        // 취소(클라이언트 연결 끊김)된 요청도 모니터에서 해제
+        return inFlightTicket != null
+                ? result.doOnCancel(() -> completeInFlight(inFlightTicket))
+                : result;
     }
 
     /**
-     * 제외 경로 여부를 확인합니다.
+     * 다음 필터를 실행합니다.
+     *
+     * <p>기본 모드의 요청 로그와 단계별 시간의 체인 시작 시각은 구독 시점에 한 번의 {@link Mono#defer}로 처리하고,
+     * 둘 다 필요 없으면 체인을 그대로 반환합니다.</p>
      */
-    private boolean shouldExclude(String path) {
-        for (String pattern : properties.getExcludePaths()) {
-            if (pathMatcher.match(pattern, path)) {
-                return true;
+    private Mono<Void> subscribeChain(WebFilterChain chain, ServerWebExchange exchange,
+                                      String normalizedUri, RequestClock clock) {
+        // 샘플링 시에는 요청 로그를 응답 결과를 볼 때까지 보류 (tail-based)
+        boolean logRequestFirst = !combined && sampler == null;
+        if (!logRequestFirst && !phaseTimings) {
+            return chain.filter(exchange);
+        }
+        return Mono.defer(() -> {
+            if (logRequestFirst) {
+                AccessSnapshot request = snapshotRequest(exchange.getRequest(), normalizedUri);
+                publish(null, () -> emitRequestLog(request));
+            }
+            if (phaseTimings) {
+                // 체인을 구독하는 시점까지를 로깅 필터 자체 소요 시간으로 기록
+                clock.markChainStart();
             }
+            return chain.filter(exchange);
+        });
+    }
+
+    /**
+     * 완료 또는 에러 시 모드에 맞는 로그를 출력하고 메트릭을 기록합니다.
+     *
+     * @param error 처리되지 않은 에러 (정상 완료면 null)
+     */
+    private void onTerminate(ServerWebExchange exchange, String normalizedUri, RequestClock clock,
+                             Throwable error, InFlightMonitor.Ticket<Runnable> inFlightTicket) {
+        // 처리 스레드가 교환 객체를 읽지 않도록 로그에 필요한 값을 이벤트 루프 스레드에서 확정
+        AccessSnapshot snapshot = snapshot(exchange, normalizedUri, error);
+        if (combined) {
+            completeInFlight(inFlightTicket);
+            publish(clock, () -> logExchange(snapshot, clock));
+        } else if (sampler != null) {
+            publish(clock, error == null
+                    ? () -> logSampledResponse(snapshot, clock)
+                    : () -> logSampledError(snapshot, clock));
+        } else {
+            publish(clock, error == null
+                    ? () -> logResponse(snapshot, clock)
+                    : () -> logError(snapshot, clock));
+        }
+
+        // 메트릭은 샘플링/로그 레벨과 무관하게 모든 요청을 같은 측정값으로 기록
+        if (metricsRecorder != HttpMetricsRecorder.NOOP) {
+            recordMetrics(exchange, normalizedUri, clock, error);
         }
-        return false;
     }
 
     /**
-     * 본문 로깅이 필요한 경우 요청/응답을 데코레이팅합니다.
+     * 비동기 모드면 처리 스레드로 넘기고, 아니면 이벤트 루프 스레드에서 바로 출력합니다.
+     *
+     * <p>처리 스레드에서 측정값이 달라지지 않도록 종료 시각({@link RequestClock#timings()}은 첫 호출 값을 유지)과
+     * MDC를 넘기기 전에 확정합니다. 작업은 교환 객체 대신 {@link AccessSnapshot}만 참조해야 합니다.</p>
+     *
+     * @param clock 요청 시각 (요청 시작 로그처럼 종료 시각이 없으면 null)
+     * @param task  로그 출력 작업
+     */
+    private void publish(RequestClock clock, Runnable task) {
+        if (dispatcher == null) {
+            task.run();
+            return;
+        }
+        if (clock != null) {
+            clock.timings();
+        }
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        dispatcher.dispatch(() -> runWithMdc(mdc, task));
+    }
+
+    /**
+     * 처리 스레드에서 MDC를 복원하고 작업을 실행합니다.
+     */
+    private static void runWithMdc(Map<String, String> mdc, Runnable task) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            task.run();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void recordMetrics(ServerWebExchange exchange, String normalizedUri, RequestClock clock, Throwable error) {
+        try {
+            metricsRecorder.record(exchange.getRequest().getMethod().name(), normalizedUri,
+                    resolveStatus(exchange.getResponse(), error), clock.timings().durationNanos(), error);
+        } catch (RuntimeException e) {
+            internalLog.debug("Failed to record HTTP metrics: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 응답 상태 코드를 결정합니다.
+     *
+     * <p>처리되지 않은 에러가 있으면 상태 코드를 지정한 예외(ResponseStatusException)가 아닌 한 500으로 간주합니다.</p>
+     */
+    private static int resolveStatus(ServerHttpResponse response, Throwable error) {
+        if (error == null) {
+            HttpStatusCode statusCode = response.getStatusCode();
+            return statusCode != null ? statusCode.value() : 0;
+        }
+        return error instanceof ResponseStatusException statusException
+                ? statusException.getStatusCode().value()
+                : 500;
+    }
+
+    private void completeInFlight(InFlightMonitor.Ticket<Runnable> ticket) {
+        if (ticket != null) {
+            inFlightMonitor.complete(ticket);
+        }
+    }
+
+    /**
+     * 처리 중 임계값을 넘긴 요청의 요청 로그를 완료 전에 출력합니다.
+     */
+    private void logInFlight(AccessSnapshot request, Map<String, String> mdc) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            long t = overhead.start();
+            ReactiveHttpLogMarker httpMarker = ReactiveHttpLogMarker.inbound(request.method(), request.uri())
+                    .normalizedPath(request.normalizedUri())
+                    .clientIp(request.clientIp())
+                    .inFlight(true);
+            t = overhead.lap(Component.REACTIVE_HTTP, Stage.MARKER, t);
+
+            log.warn(httpMarker, "HTTP Request: {} {} | in-flight>={}ms",
+                    request.method(), request.uri(), properties.getInFlightThresholdMs());
+            overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 요청 정보, 응답 결과, 본문(선택)을 한 줄로 출력합니다.
+     */
+    private void logExchange(AccessSnapshot exchange, RequestClock clock) {
+        long duration = clock.timings().durationMillis();
+        int status = exchange.status();
+        boolean isSlow = duration >= properties.getSlowRequestThresholdMs();
+        if (sampler != null && !sampler.shouldLog(exchange.normalizedUri(), status, isSlow)) {
+            return;
+        }
+
+        String method = exchange.method();
+        String uri = exchange.uri();
+        String query = exchange.query();
+
+        long t = overhead.start();
+        ReactiveHttpLogMarker httpMarker = ReactiveHttpLogMarker.inbound(method, uri)
+                .normalizedPath(exchange.normalizedUri())
+                .query(query)
+                .clientIp(exchange.clientIp())
+                .status(status)
+                .durationMs(duration)
+                .timings(clock.timings())
+                .slow(isSlow);
+        if (exchange.error() != null) {
+            httpMarker.error(exchange.error());
+        }
+        overhead.lap(Component.REACTIVE_HTTP, Stage.MARKER, t);
+
+        // 헤더/본문은 별도 줄 대신 구조화된 필드로 포함 (요청: DEBUG, 응답: 에러 또는 DEBUG)
+        if (log.isDebugEnabled()) {
+            if (exchange.requestHeaders() != null) {
+                httpMarker.requestHeaders(exchange.requestHeaders());
+            }
+            String body = maskBody(exchange.requestBody());
+            if (body != null) {
+                httpMarker.requestBody(body);
+            }
+        }
+        if (exchange.responseBytes() >= 0) {
+            httpMarker.responseBytes(exchange.responseBytes());
+            if (status >= 400 || log.isDebugEnabled()) {
+                String body = maskBody(exchange.responseBody());
+                if (body != null) {
+                    httpMarker.responseBody(body);
+                }
+            }
+        }
+
+        t = overhead.start();
+        logAtStatusLevel(status, isSlow, httpMarker, "HTTP Access: {} {}{} | status={} | duration={}ms{}",
+                method, uri, querySuffix(query), status, duration, slowSuffix(isSlow));
+        overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
+    }
+
+    /**
+     * 5xx는 ERROR, 4xx와 느린 요청은 WARN, 나머지는 INFO로 출력합니다.
      */
-    private ServerWebExchange decorateExchange(ServerWebExchange exchange, long startTime) {
-        ServerHttpRequest decoratedRequest = exchange.getRequest();
+    private void logAtStatusLevel(int status, boolean isSlow, Marker marker, String format, Object... args) {
+        if (status >= 500) {
+            log.error(marker, format, args);
+        } else if (status >= 400 || isSlow) {
+            log.warn(marker, format, args);
+        } else {
+            log.info(marker, format, args);
+        }
+    }
+
+    private static String querySuffix(String query) {
+        return query != null && !query.isEmpty() ? "?" + query : "";
+    }
+
+    private static String slowSuffix(boolean isSlow) {
+        return isSlow ? " [SLOW]" : "";
+    }
+
+    /**
+     * 제외 경로 여부를 확인합니다.
+     */
+    private boolean shouldExclude(String path) {
+        return excludePathMatcher.matches(path);
+    }
+
+    /**
+     * 요청 헤더 변경과 본문 로깅용 데코레이터를 한 번의 교환 객체 변형으로 적용합니다.
+     *
+     * <p>변경할 것이 없으면 원래 교환 객체를 그대로 반환합니다.</p>
+     */
+    private ServerWebExchange decorateExchange(ServerWebExchange exchange, Consumer<HttpHeaders> requestHeaders) {
+        ServerHttpRequest request = requestHeaders != null
+                ? exchange.getRequest().mutate().headers(requestHeaders).build()
+                : exchange.getRequest();
+        ServerHttpRequest decoratedRequest = request;
         ServerHttpResponse decoratedResponse = exchange.getResponse();
 
         // 요청 본문 로깅 필요 시 데코레이터 적용
-        if (properties.isLogRequestBody() && isLoggableContentType(exchange.getRequest().getHeaders().getContentType())) {
-            decoratedRequest = new LoggingRequestDecorator(exchange.getRequest());
+        if (properties.isLogRequestBody() && isLoggableContentType(request.getHeaders().getContentType())) {
+            decoratedRequest = new LoggingRequestDecorator(request);
         }
 
         // 응답 본문 로깅 필요 시 데코레이터 적용
         if (properties.isLogResponseBody()) {
-            decoratedResponse = new LoggingResponseDecorator(exchange.getResponse(), startTime);
+            decoratedResponse = new LoggingResponseDecorator(exchange.getResponse());
         }
 
+        if (decoratedRequest == exchange.getRequest() && decoratedResponse == exchange.getResponse()) {
+            return exchange;
+        }
         return exchange.mutate()
                 .request(decoratedRequest)
                 .response(decoratedResponse)
                 .build();
     }
 
+    private static ServerWebExchange mutateHeaders(ServerWebExchange exchange, Consumer<HttpHeaders> requestHeaders) {
+        return requestHeaders != null
+                ? exchange.mutate().request(request -> request.headers(requestHeaders)).build()
+                : exchange;
+    }
+
     /**
      * 요청 정보를 로깅합니다.
      */
-    private Mono<Void> logRequest(ServerHttpRequest request) {
-        return Mono.fromRunnable(() -> {
-            String method = request.getMethod().name();
-            String uri = request.getURI().getPath();
-            String query = request.getURI().getQuery();
-            String normalizedUri = pathNormalizer.normalize(uri);
-            String clientIp = getClientIp(request);
-
-            // 기본 요청 정보 (메시지)
-            StringBuilder message = new StringBuilder();
-            message.append("HTTP Request: ").append(method).append(" ").append(uri);
-            if (query != null && !query.isEmpty()) {
-                message.append("?").append(query);
-            }
+    private void emitRequestLog(AccessSnapshot request) {
+        String method = request.method();
+        String uri = request.uri();
+        String query = request.query();
 
-            // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
-            Marker httpMarker = createRequestMarker(method, uri, normalizedUri, query, clientIp);
-            log.info(httpMarker, "{}", message);
+        // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
+        long t = overhead.start();
+        ReactiveHttpLogMarker httpMarker = ReactiveHttpLogMarker.inbound(method, uri)
+                .normalizedPath(request.normalizedUri())
+                .query(query)
+                .clientIp(request.clientIp());
+        t = overhead.lap(Component.REACTIVE_HTTP, Stage.MARKER, t);
+        log.info(httpMarker, "HTTP Request: {} {}{}", method, uri, querySuffix(query));
+        overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
+
+        // 헤더 로깅 (DEBUG 레벨)
+        if (log.isDebugEnabled() && request.requestHeaders() != null) {
+            log.debug("Request Headers: {}", request.requestHeaders());
+        }
 
-            // 헤더 로깅 (DEBUG 레벨)
-            if (log.isDebugEnabled()) {
-                Map<String, String> filteredHeaders = getFilteredHeaders(request.getHeaders());
-                log.debug("Request Headers: {}", filteredHeaders);
-            }
+        // 클라이언트 IP 정보 (DEBUG 레벨)
+        if (log.isDebugEnabled()) {
+            log.debug("Client IP: {}, Normalized URI: {}", request.clientIp(), request.normalizedUri());
+        }
+    }
 
-            // 클라이언트 IP 정보 (DEBUG 레벨)
-            if (log.isDebugEnabled()) {
-                log.debug("Client IP: {}, Normalized URI: {}", clientIp, normalizedUri);
-            }
-        });
+    /**
+     * 샘플러가 결정한 경우에만 보류했던 요청 로그와 응답 로그를 함께 출력합니다.
+     */
+    private void logSampledResponse(AccessSnapshot exchange, RequestClock clock) {
+        long duration = clock.timings().durationMillis();
+        boolean isSlow = duration >= properties.getSlowRequestThresholdMs();
+        if (sampler.shouldLog(exchange.normalizedUri(), exchange.status(), isSlow)) {
+            emitRequestLog(exchange);
+            logDeferredRequestBody(exchange);
+            logResponse(exchange, clock);
+        }
+    }
+
+    /**
+     * 에러의 상태 코드(ResponseStatusException이 아니면 500)로 샘플러가 결정한 경우에만
+     * 보류했던 요청 로그와 에러 로그를 출력합니다.
+     */
+    private void logSampledError(AccessSnapshot exchange, RequestClock clock) {
+        if (sampler.shouldLog(exchange.normalizedUri(), exchange.status(), false)) {
+            emitRequestLog(exchange);
+            logDeferredRequestBody(exchange);
+            logError(exchange, clock);
+        }
     }
 
-    private Marker createRequestMarker(String method, String uri, String normalizedUri,
-                                        String query, String clientIp) {
-        Map<String, Object> fields = new LinkedHashMap<>();
-        fields.put("http_method", method);
-        fields.put("http_path", uri);
-        fields.put("http_path_normalized", normalizedUri);
-        if (query != null && !query.isEmpty()) {
-            fields.put("http_query", query);
+    /**
+     * 샘플링으로 보류했던 요청 본문을 로깅합니다 (DEBUG 레벨).
+     */
+    private void logDeferredRequestBody(AccessSnapshot exchange) {
+        String maskedBody = maskBody(exchange.requestBody());
+        if (maskedBody != null) {
+            long t = overhead.start();
+            log.debug("Request Body: {}", maskedBody);
+            overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
         }
-        fields.put("http_client_ip", clientIp);
-        fields.put("http_direction", "inbound");
-        return Markers.appendEntries(fields);
     }
 
     /**
      * 응답 정보를 로깅합니다.
      */
-    private void logResponse(ServerWebExchange exchange, long startTime) {
-        long duration = System.currentTimeMillis() - startTime;
-        ServerHttpRequest request = exchange.getRequest();
-        ServerHttpResponse response = exchange.getResponse();
-
-        String method = request.getMethod().name();
-        String uri = request.getURI().getPath();
-        String normalizedUri = pathNormalizer.normalize(uri);
-        Integer statusCode = response.getStatusCode() != null ? response.getStatusCode().value() : 0;
+    private void logResponse(AccessSnapshot exchange, RequestClock clock) {
+        long duration = clock.timings().durationMillis();
+        String method = exchange.method();
+        String uri = exchange.uri();
+        int statusCode = exchange.status();
 
         // 느린 요청 여부 판단
         boolean isSlow = duration >= properties.getSlowRequestThresholdMs();
 
-        // 메시지 구성
-        String message = String.format("HTTP Response: %s %s | status=%d | duration=%dms%s",
-                method, uri, statusCode, duration, isSlow ? " [SLOW]" : "");
-
         // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
-        Marker httpMarker = createResponseMarker(method, uri, normalizedUri, statusCode, duration, isSlow);
-
-        // 상태 코드에 따른 로그 레벨 결정
-        if (statusCode >= 500) {
-            log.error(httpMarker, "{}", message);
-        } else if (statusCode >= 400 || isSlow) {
-            log.warn(httpMarker, "{}", message);
-        } else {
-            log.info(httpMarker, "{}", message);
+        long t = overhead.start();
+        ReactiveHttpLogMarker httpMarker = ReactiveHttpLogMarker.inbound(method, uri)
+                .normalizedPath(exchange.normalizedUri())
+                .status(statusCode)
+                .durationMs(duration)
+                .timings(clock.timings())
+                .slow(isSlow);
+        if (exchange.responseBytes() >= 0) {
+            httpMarker.responseBytes(exchange.responseBytes());
         }
+        t = overhead.lap(Component.REACTIVE_HTTP, Stage.MARKER, t);
 
-        // 응답 헤더 로깅 (DEBUG 레벨) - LoggingResponseDecorator에서 캐싱된 헤더 사용
-        if (log.isDebugEnabled()) {
-            if (response instanceof LoggingResponseDecorator decorator) {
-                Map<String, String> cachedHeaders = decorator.getCachedHeaders();
-                if (cachedHeaders != null) {
-                    log.debug("Response Headers: {}", cachedHeaders);
-                }
-            } else {
-                // 데코레이터가 없는 경우 안전하게 시도 (예외 발생 가능)
-                try {
-                    Map<String, String> filteredHeaders = getFilteredHeaders(response.getHeaders());
-                    log.debug("Response Headers: {}", filteredHeaders);
-                } catch (Exception e) {
-                    internalLog.debug("Cannot log response headers after commit: {}", e.getMessage());
-                }
-            }
-        }
+        // 상태 코드에 따른 로그 레벨로 출력 (메시지는 출력되는 경우에만 포맷됨)
+        logAtStatusLevel(statusCode, isSlow, httpMarker, "HTTP Response: {} {} | status={} | duration={}ms{}",
+                method, uri, statusCode, duration, slowSuffix(isSlow));
+        overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
 
-        // 응답 본문 로깅 (LoggingResponseDecorator에서 처리)
-        if (response instanceof LoggingResponseDecorator decorator) {
-            String body = decorator.getCachedBody();
-            if (body != null && !body.isEmpty()) {
-                String maskedBody = logMasker.mask(truncateBody(body));
-                if (statusCode >= 400) {
-                    log.info("Response Body: {}", maskedBody);
-                } else if (log.isDebugEnabled()) {
-                    log.debug("Response Body: {}", maskedBody);
-                }
-            }
+        // 응답 헤더 로깅 (DEBUG 레벨) - 이벤트 루프 스레드에서 확정한 헤더 사용
+        if (log.isDebugEnabled() && exchange.responseHeaders() != null) {
+            log.debug("Response Headers: {}", exchange.responseHeaders());
         }
-    }
 
-    private Marker createResponseMarker(String method, String uri, String normalizedUri,
-                                         int status, long duration, boolean isSlow) {
-        Map<String, Object> fields = new LinkedHashMap<>();
-        fields.put("http_method", method);
-        fields.put("http_path", uri);
-        fields.put("http_path_normalized", normalizedUri);
-        fields.put("http_status", status);
-        fields.put("http_duration_ms", duration);
-        fields.put("http_direction", "inbound");
-        if (isSlow) {
-            fields.put("http_slow", true);
+        // 응답 본문 로깅 (LoggingResponseDecorator가 복사해 둔 본문)
+        String maskedBody = maskBody(exchange.responseBody());
+        if (maskedBody != null) {
+            t = overhead.start();
+            if (statusCode >= 400) {
+                log.info("Response Body: {}", maskedBody);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Response Body: {}", maskedBody);
+            }
+            overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
         }
-        return Markers.appendEntries(fields);
     }
 
     /**
      * 에러 발생 시 로깅합니다.
      */
-    private void logError(ServerWebExchange exchange, long startTime, Throwable error) {
-        long duration = System.currentTimeMillis() - startTime;
-        ServerHttpRequest request = exchange.getRequest();
-
-        String method = request.getMethod().name();
-        String uri = request.getURI().getPath();
-        String normalizedUri = pathNormalizer.normalize(uri);
+    private void logError(AccessSnapshot exchange, RequestClock clock) {
+        long duration = clock.timings().durationMillis();
+        String method = exchange.method();
+        String uri = exchange.uri();
+        Throwable error = exchange.error();
 
         // 구조화된 필드 (JSON 로그에서 별도 필드로 출력)
-        Marker httpMarker = createErrorMarker(method, uri, normalizedUri, duration, error);
+        long t = overhead.start();
+        ReactiveHttpLogMarker httpMarker = ReactiveHttpLogMarker.inbound(method, uri)
+                .normalizedPath(exchange.normalizedUri())
+                .status(exchange.status())
+                .durationMs(duration)
+                .timings(clock.timings())
+                .error(error);
+        t = overhead.lap(Component.REACTIVE_HTTP, Stage.MARKER, t);
 
         log.error(httpMarker, "HTTP Error: {} {} | duration={}ms | error={}",
                 method, uri, duration, error.getMessage());
+        overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
     }
 
-    private Marker createErrorMarker(String method, String uri, String normalizedUri,
-                                      long duration, Throwable error) {
-        Map<String, Object> fields = new LinkedHashMap<>();
-        fields.put("http_method", method);
-        fields.put("http_path", uri);
-        fields.put("http_path_normalized", normalizedUri);
-        fields.put("http_status", 500);
-        fields.put("http_duration_ms", duration);
-        fields.put("http_direction", "inbound");
-        fields.put("http_error", true);
-        fields.put("http_error_type", error.getClass().getSimpleName());
-        fields.put("http_error_message", error.getMessage());
-        return Markers.appendEntries(fields);
+    /**
+     * 요청 로그(요청 시작, 처리 중 로그)에 필요한 값을 확정합니다.
+     */
+    private AccessSnapshot snapshotRequest(ServerHttpRequest request, String normalizedUri) {
+        return new AccessSnapshot(request.getMethod().name(), request.getURI().getPath(), request.getURI().getQuery(),
+                normalizedUri, getClientIp(request),
+                log.isDebugEnabled() ? getFilteredHeaders(request.getHeaders()) : null, null,
+                0, null, -1, null, null);
+    }
+
+    /**
+     * 완료 로그에 필요한 값을 이벤트 루프 스레드에서 확정합니다.
+     *
+     * <p>요청 정보(클라이언트 IP, 요청 헤더, 요청 본문)는 완료 시 요청 로그를 함께 출력하는 경우
+     * (통합 모드, 샘플링)에만 담습니다.</p>
+     *
+     * @param error 처리되지 않은 에러 (정상 완료면 null)
+     */
+    private AccessSnapshot snapshot(ServerWebExchange exchange, String normalizedUri, Throwable error) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        boolean debug = log.isDebugEnabled();
+        boolean withRequest = combined || sampler != null;
+
+        DataBufferBodyCapture requestBody = null;
+        if (withRequest && debug && request instanceof LoggingRequestDecorator decorator) {
+            requestBody = decorator.getCapture();
+        }
+        long responseBytes = -1;
+        DataBufferBodyCapture responseBody = null;
+        if (response instanceof LoggingResponseDecorator decorator) {
+            responseBytes = decorator.getBytesWritten();
+            responseBody = decorator.getCapture();
+        }
+
+        return new AccessSnapshot(request.getMethod().name(), request.getURI().getPath(), request.getURI().getQuery(),
+                normalizedUri,
+                withRequest ? getClientIp(request) : null,
+                withRequest && debug ? getFilteredHeaders(request.getHeaders()) : null,
+                requestBody,
+                resolveStatus(response, error), error, responseBytes,
+                !combined && debug ? getResponseHeaders(response) : null,
+                responseBody);
+    }
+
+    /**
+     * 응답 헤더를 반환합니다 (LoggingResponseDecorator가 커밋 전에 캐싱한 헤더 우선).
+     */
+    private Map<String, String> getResponseHeaders(ServerHttpResponse response) {
+        if (response instanceof LoggingResponseDecorator decorator) {
+            return decorator.getCachedHeaders();
+        }
+        // 데코레이터가 없는 경우 안전하게 시도 (예외 발생 가능)
+        try {
+            return getFilteredHeaders(response.getHeaders());
+        } catch (Exception e) {
+            internalLog.debug("Cannot log response headers after commit: {}", e.getMessage());
+            return null;
+        }
     }
 
     /**
@@ -386,58 +801,112 @@ public class ReactiveHttpLoggingFilter implements WebFilter, Ordered {
     }
 
     /**
-     * 본문을 최대 길이로 자릅니다.
+     * 스트리밍 응답(SSE, NDJSON, 바이너리 스트림)인지 확인합니다.
+     *
+     * <p>연결이 오래 유지되거나 본문이 매우 클 수 있으므로 본문을 복사하지 않습니다.</p>
      */
-    private String truncateBody(String body) {
+    private static boolean isStreamingContentType(MediaType contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        for (MediaType streaming : STREAMING_MEDIA_TYPES) {
+            if (streaming.isCompatibleWith(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 복사해 둘 본문 원본 바이트 수 (Servlet 필터와 같은 한도).
+     */
+    private int bodyCaptureLimit() {
+        return BodyCaptureLimits.captureBytes(properties.getMaxBodyLength());
+    }
+
+    /**
+     * 복사해 둔 본문을 마스킹해 반환합니다 (최대 길이까지).
+     *
+     * @return 마스킹된 본문, 복사하지 않았거나 비어 있으면 null
+     */
+    private String maskBody(DataBufferBodyCapture capture) {
+        return capture == null || capture.isEmpty() ? null : maskCapturedBody(capture);
+    }
+
+    /**
+     * 복사해 둔 본문을 디코딩해 마스킹하고 최대 길이로 자릅니다.
+     *
+     * <p>마스킹과 자르기를 한 번에 수행하여 중간 문자열을 만들지 않습니다.
+     * 잘림 표시는 한 번만 붙이며, 복사 한도에서 잘린 본문은 원본 바이트 수를, 그 외에는 문자 수를 표시합니다.</p>
+     */
+    private String maskCapturedBody(DataBufferBodyCapture capture) {
+        long t = overhead.start();
+        String body = capture.decode();
+        t = overhead.lap(Component.REACTIVE_HTTP, Stage.BODY_CAPTURE, t);
+
         int maxLength = properties.getMaxBodyLength();
-        if (body.length() > maxLength) {
-            return body.substring(0, maxLength) + "... [TRUNCATED, total=" + body.length() + "]";
+        StringBuilder out = new StringBuilder(Math.min(body.length(), maxLength) + 48);
+        boolean cut = logMasker.mask(body, maxLength, out);
+        if (capture.isTruncated()) {
+            out.append("... [TRUNCATED, total=").append(capture.getTotalBytes()).append(" bytes]");
+        } else if (cut) {
+            out.append(body.length() > maxLength ? "... [TRUNCATED, total=" + body.length() + "]" : "... [TRUNCATED]");
         }
-        return body;
+        overhead.lap(Component.REACTIVE_HTTP, Stage.MASK, t);
+        overhead.addMaskedChars(Component.REACTIVE_HTTP, body.length());
+        return out.toString();
     }
 
 
     /**
      * 요청 본문을 캐싱하는 데코레이터.
+     *
+     * <p>본문 앞부분 {@link #bodyCaptureLimit()} 바이트만 {@link DataBufferBodyCapture}에 복사하고,
+     * 로그를 남길 때 한 번만 디코딩합니다.</p>
      */
     private class LoggingRequestDecorator extends ServerHttpRequestDecorator {
 
-        private final StringBuilder cachedBody = new StringBuilder();
+        private final DataBufferBodyCapture capture;
 
         LoggingRequestDecorator(ServerHttpRequest delegate) {
             super(delegate);
+            this.capture = new DataBufferBodyCapture(bodyCaptureLimit(), getCharset(delegate));
         }
 
         @Override
         public Flux<DataBuffer> getBody() {
             return super.getBody()
                     .doOnNext(buffer -> {
-                        // 본문을 캐싱 (최대 길이까지만)
-                        if (cachedBody.length() < properties.getMaxBodyLength()) {
-                            byte[] content = new byte[buffer.readableByteCount()];
-                            buffer.read(content);
-                            buffer.readPosition(0); // 읽기 위치 복구
-                            String chunk = new String(content, getCharset());
-                            int remaining = properties.getMaxBodyLength() - cachedBody.length();
-                            if (chunk.length() > remaining) {
-                                cachedBody.append(chunk, 0, remaining);
-                            } else {
-                                cachedBody.append(chunk);
-                            }
+                        // 본문을 캐싱 (최대 길이까지만, 한도 이후에는 길이만 기록)
+                        long t = overhead.start();
+                        int copied = capture.capture(buffer);
+                        if (copied > 0) {
+                            overhead.lap(Component.REACTIVE_HTTP, Stage.BODY_CAPTURE, t);
+                            overhead.addCapturedBytes(Component.REACTIVE_HTTP, copied);
                         }
                     })
                     .doOnComplete(() -> {
-                        if (cachedBody.length() > 0) {
-                            String maskedBody = logMasker.mask(truncateBody(cachedBody.toString()));
-                            if (log.isDebugEnabled()) {
+                        // 통합 모드에서는 "HTTP Access" 로그의 필드로, 샘플링 시에는 샘플러가 결정한 뒤 출력
+                        if (!combined && sampler == null && !capture.isEmpty() && log.isDebugEnabled()) {
+                            publish(null, () -> {
+                                String maskedBody = maskCapturedBody(capture);
+                                long t = overhead.start();
                                 log.debug("Request Body: {}", maskedBody);
-                            }
+                                overhead.lap(Component.REACTIVE_HTTP, Stage.LOG, t);
+                            });
                         }
                     });
         }
 
-        private Charset getCharset() {
-            MediaType contentType = getDelegate().getHeaders().getContentType();
+        /**
+         * @return 요청 본문 복사 버퍼
+         */
+        DataBufferBodyCapture getCapture() {
+            return capture;
+        }
+
+        private static Charset getCharset(ServerHttpRequest request) {
+            MediaType contentType = request.getHeaders().getContentType();
             if (contentType != null && contentType.getCharset() != null) {
                 return contentType.getCharset();
             }
@@ -449,30 +918,24 @@ public class ReactiveHttpLoggingFilter implements WebFilter, Ordered {
     /**
      * 응답 본문을 캐싱하는 데코레이터.
      *
-     * <p>버퍼를 직접 수정하지 않고 안전하게 복사하여 캐싱합니다.
-     * 이는 ReadOnlyHttpHeaders 예외를 방지합니다.</p>
+     * <p>응답 버퍼를 모으거나 복사하지 않고 그대로 다운스트림에 흘려보내면서,
+     * 앞부분 {@link #bodyCaptureLimit()} 바이트만 {@link DataBufferBodyCapture}에 복사합니다.
+     * 스트리밍 미디어 타입(SSE, NDJSON, octet-stream)은 본문을 복사하지 않고 전송 바이트 수만 셉니다.</p>
      */
     private class LoggingResponseDecorator extends ServerHttpResponseDecorator {
 
-        private final ByteArrayOutputStream cachedBodyStream = new ByteArrayOutputStream();
-        private final long startTime;
-        private volatile Charset cachedCharset = StandardCharsets.UTF_8;
+        private volatile DataBufferBodyCapture capture;
+        private volatile long bytesWritten;
         private volatile Map<String, String> cachedHeaders = null;
 
-        LoggingResponseDecorator(ServerHttpResponse delegate, long startTime) {
+        LoggingResponseDecorator(ServerHttpResponse delegate) {
             super(delegate);
-            this.startTime = startTime;
 
             // beforeCommit 콜백에서 헤더 정보를 캐싱 (응답 커밋 전에 저장)
             delegate.beforeCommit(() -> {
                 try {
-                    HttpHeaders headers = delegate.getHeaders();
-                    MediaType contentType = headers.getContentType();
-                    if (contentType != null && contentType.getCharset() != null) {
-                        cachedCharset = contentType.getCharset();
-                    }
                     // 헤더를 미리 캐싱 (응답 커밋 후에는 ReadOnlyHttpHeaders가 됨)
-                    cachedHeaders = getFilteredHeaders(headers);
+                    cachedHeaders = getFilteredHeaders(delegate.getHeaders());
                 } catch (Exception e) {
                     internalLog.debug("Failed to cache response headers: {}", e.getMessage());
                 }
@@ -488,71 +951,127 @@ public class ReactiveHttpLoggingFilter implements WebFilter, Ordered {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
-            // DataBufferUtils.join()을 사용하여 전체 본문을 안전하게 버퍼링
-            // 이렇게 하면 Spring의 응답 파이프라인 타이밍을 방해하지 않음
-            return DataBufferUtils.join(Flux.from(body))
-                    .flatMap(dataBuffer -> {
-                        try {
-                            // 버퍼 캐싱 (로깅용)
-                            cacheBuffer(dataBuffer);
-
-                            // 새 버퍼 생성 - 원본 버퍼의 내용을 복사
-                            byte[] content = new byte[dataBuffer.readableByteCount()];
-                            dataBuffer.read(content);
-
-                            // 원본 버퍼 해제
-                            DataBufferUtils.release(dataBuffer);
-
-                            // 새 버퍼로 응답 작성
-                            DataBuffer newBuffer = bufferFactory.wrap(content);
-                            return getDelegate().writeWith(Mono.just(newBuffer));
-                        } catch (Exception e) {
-                            DataBufferUtils.release(dataBuffer);
-                            return Mono.error(e);
-                        }
-                    })
-                    .switchIfEmpty(getDelegate().writeWith(Mono.empty()));
+            MediaType contentType = getDelegate().getHeaders().getContentType();
+            if (!isStreamingContentType(contentType)) {
+                Charset charset = contentType != null && contentType.getCharset() != null
+                        ? contentType.getCharset() : StandardCharsets.UTF_8;
+                capture = new DataBufferBodyCapture(bodyCaptureLimit(), charset);
+            }
+            // Mono는 Mono로 유지 (단일 버퍼 응답의 Content-Length 처리 보존)
+            if (body instanceof Mono<?> mono) {
+                return getDelegate().writeWith(((Mono<? extends DataBuffer>) mono).doOnNext(this::onBuffer));
+            }
+            return getDelegate().writeWith(Flux.from(body).doOnNext(this::onBuffer));
         }
 
-        /**
-         * 버퍼 내용을 안전하게 캐싱합니다.
-         */
-        private void cacheBuffer(DataBuffer buffer) {
-            try {
-                if (cachedBodyStream.size() >= properties.getMaxBodyLength()) {
-                    return;
-                }
-
-                java.nio.ByteBuffer byteBuffer = buffer.toByteBuffer();
-                int readable = byteBuffer.remaining();
-                int remaining = properties.getMaxBodyLength() - cachedBodyStream.size();
-                int toRead = Math.min(readable, remaining);
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // 스트리밍 응답은 본문을 복사하지 않고 전송 바이트 수만 기록
+            return getDelegate().writeAndFlushWith(Flux.from(body)
+                    .map(chunk -> Flux.from(chunk).doOnNext(this::countBytes)));
+        }
 
-                if (toRead > 0) {
-                    byte[] content = new byte[toRead];
-                    byteBuffer.get(content, 0, toRead);
-                    cachedBodyStream.write(content, 0, toRead);
+        private void onBuffer(DataBuffer buffer) {
+            countBytes(buffer);
+            DataBufferBodyCapture current = capture;
+            if (current != null) {
+                long t = overhead.start();
+                int copied = current.capture(buffer);
+                if (copied > 0) {
+                    overhead.lap(Component.REACTIVE_HTTP, Stage.BODY_CAPTURE, t);
+                    overhead.addCapturedBytes(Component.REACTIVE_HTTP, copied);
                 }
-            } catch (Exception e) {
-                internalLog.debug("Failed to cache response body: {}", e.getMessage());
             }
         }
 
-        @Override
-        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
-            // 스트리밍 응답의 경우, 캐싱 없이 원본 그대로 전달
-            return getDelegate().writeAndFlushWith(body);
+        private void countBytes(DataBuffer buffer) {
+            bytesWritten += buffer.readableByteCount();
         }
 
         /**
-         * 캐싱된 응답 본문을 반환합니다.
+         * @return 응답 본문 복사 버퍼, 스트리밍 응답이거나 아직 쓰지 않았으면 null
          */
-        String getCachedBody() {
-            if (cachedBodyStream.size() == 0) {
-                return null;
+        DataBufferBodyCapture getCapture() {
+            return capture;
+        }
+
+        /**
+         * @return 다운스트림으로 전달된 응답 본문 바이트 수
+         */
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+    }
+
+    /**
+     * 이벤트 루프 스레드에서 확정한 접근 로그 값.
+     *
+     * <p>비동기 모드에서 처리 스레드가 교환 객체(상태 코드, 헤더, 원격 주소)를 읽지 않도록 로그에 필요한 값만 담습니다.
+     * 본문은 완료 후 더 이상 쓰이지 않는 복사 버퍼를 그대로 넘기고, 디코딩과 마스킹은 처리 스레드에서 수행합니다.</p>
+     *
+     * @param clientIp        클라이언트 IP (요청 로그를 출력하지 않으면 null)
+     * @param requestHeaders  필터링된 요청 헤더 (DEBUG 비활성화 또는 요청 로그를 출력하지 않으면 null)
+     * @param requestBody     요청 본문 복사 버퍼 (통합 모드에서 DEBUG일 때만, 그 외 null)
+     * @param status          응답 상태 코드 (요청 로그는 0)
+     * @param error           처리되지 않은 에러 (없으면 null)
+     * @param responseBytes   응답 본문 바이트 수 (응답 데코레이터가 없으면 -1)
+     * @param responseHeaders 필터링된 응답 헤더 (DEBUG 비활성화 또는 통합 모드면 null)
+     * @param responseBody    응답 본문 복사 버퍼 (복사하지 않으면 null)
+     */
+    private record AccessSnapshot(
+            String method,
+            String uri,
+            String query,
+            String normalizedUri,
+            String clientIp,
+            Map<String, String> requestHeaders,
+            DataBufferBodyCapture requestBody,
+            int status,
+            Throwable error,
+            long responseBytes,
+            Map<String, String> responseHeaders,
+            DataBufferBodyCapture responseBody
+    ) {
+    }
+
+    /**
+     * 요청 한 건의 시각을 기록하고, 완료 시 처리 시간을 한 번만 계산해 로그와 메트릭이 같은 값을 쓰게 합니다.
+     */
+    private static final class RequestClock {
+
+        private final long startNanos = System.nanoTime();
+        private final boolean phases;
+        private volatile long firstByteNanos;
+        private volatile long chainStartNanos;
+        private volatile RequestTimings timings;
+
+        RequestClock(boolean phases) {
+            this.phases = phases;
+        }
+
+        void markFirstByte() {
+            if (firstByteNanos == 0) {
+                firstByteNanos = System.nanoTime();
+            }
+        }
+
+        void markChainStart() {
+            chainStartNanos = System.nanoTime();
+        }
+
+        RequestTimings timings() {
+            RequestTimings result = timings;
+            if (result == null) {
+                long endNanos = System.nanoTime();
+                result = phases
+                        ? RequestTimings.phases(startNanos, firstByteNanos, endNanos,
+                                chainStartNanos != 0 ? chainStartNanos - startNanos : 0)
+                        : RequestTimings.total(startNanos, endNanos);
+                timings = result;
             }
-            return cachedBodyStream.toString(cachedCharset);
+            return result;
         }
     }
 }
@@ -0,0 +1,73 @@
+package com.ryuqq.observability.webflux.http;
+
+import com.ryuqq.observability.core.trace.TraceIdHolder;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceContext;
+import com.ryuqq.observability.webflux.trace.ReactiveTraceIdFilter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * TraceId 전파와 HTTP 접근 로깅을 하나로 합친 WebFilter.
+ *
+ * <p>{@link ReactiveTraceIdFilter}와 {@link ReactiveHttpLoggingFilter}를 따로 등록하면 요청마다
+ * 교환 객체를 두 번 변형하고(TraceId 헤더, 본문 데코레이터) 필터 체인 단계와 연산자도 두 벌 생깁니다.
+ * 이 필터는 다음을 한 단계에서 처리합니다.</p>
+ * <ol>
+ *   <li>요청 헤더를 한 번 읽어 TraceId/SpanId/사용자 컨텍스트 확정 ({@link ReactiveTraceIdFilter#resolve})</li>
+ *   <li>TraceId 전파 헤더와 본문 데코레이터를 한 번의 교환 객체 변형으로 적용</li>
+ *   <li>접근 로깅 (로깅 연산자는 Context 기록 안쪽에서 실행되므로 MDC에 TraceId가 포함됨)</li>
+ *   <li>Reactor Context 기록, 종료 시 MDC 정리</li>
+ * </ol>
+ *
+ * <p>{@code observability.reactive-http.fused=true}로 활성화하며, 이때 두 필터는 빈으로 등록되지 않습니다.
+ * TraceId 필터 위치({@link ReactiveTraceIdFilter#ORDER})에서 실행되므로, 그 사이에 있던 필터도
+ * 접근 로그 측정 구간에 포함됩니다.</p>
+ */
+public class ReactiveObservabilityFilter implements WebFilter, Ordered, DisposableBean {
+
+    private final ReactiveTraceIdFilter traceIdFilter;
+    private final ReactiveHttpLoggingFilter loggingFilter;
+
+    /**
+     * @param traceIdFilter TraceId 추출/생성 (null이면 접근 로깅만 수행)
+     * @param loggingFilter HTTP 접근 로깅
+     */
+    public ReactiveObservabilityFilter(ReactiveTraceIdFilter traceIdFilter, ReactiveHttpLoggingFilter loggingFilter) {
+        this.traceIdFilter = traceIdFilter;
+        this.loggingFilter = loggingFilter;
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveTraceIdFilter.ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ReactiveTraceContext traceContext = traceIdFilter != null ? traceIdFilter.resolve(exchange) : null;
+        if (traceContext == null) {
+            return loggingFilter.filter(exchange, chain);
+        }
+        return loggingFilter.filter(exchange, chain, traceContext::applyTo)
+                .contextWrite(traceContext::writeTo)
+                .doFinally(signalType -> TraceIdHolder.clear());
+    }
+
+    @Override
+    public void destroy() {
+        loggingFilter.destroy();
+    }
+
+    /**
+     * 접근 로깅 필터를 반환합니다 (샘플러, 비동기 디스패처 확인용).
+     *
+     * @return 접근 로깅 필터
+     */
+    public ReactiveHttpLoggingFilter getLoggingFilter() {
+        return loggingFilter;
+    }
+}
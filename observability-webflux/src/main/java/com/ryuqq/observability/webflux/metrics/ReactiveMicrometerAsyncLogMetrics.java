@@ -0,0 +1,70 @@
+package com.ryuqq.observability.webflux.metrics;
+
+import com.ryuqq.observability.core.support.AsyncLogDispatcher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link AsyncLogDispatcher}의 카운터를 Micrometer 메트릭으로 노출합니다.
+ *
+ * <p>태그는 {@code component}(reactive-http)입니다.</p>
+ * <ul>
+ *   <li>{@code observability.log.async.dispatched} - 버퍼에 들어간 로그 이벤트 수</li>
+ *   <li>{@code observability.log.async.dropped} - 버퍼가 가득 차 버려진 로그 이벤트 수</li>
+ *   <li>{@code observability.log.async.failed} - 처리 중 예외가 발생한 로그 이벤트 수</li>
+ *   <li>{@code observability.log.async.queue.size} - 버퍼에 대기 중인 로그 이벤트 수</li>
+ *   <li>{@code observability.log.async.queue.capacity} - 버퍼 크기</li>
+ * </ul>
+ *
+ * <p>요청 경로에서는 디스패처의 누적값만 갱신하고, 메트릭 수집 시점에 누적값을 읽습니다.</p>
+ *
+ * <p>디스패처가 없으면(비동기 모드를 사용하지 않는 커스텀 필터) 아무 메트릭도 등록하지 않습니다.</p>
+ */
+public class ReactiveMicrometerAsyncLogMetrics {
+
+    private static final String PREFIX = "observability.log.async";
+
+    private final AsyncLogDispatcher<?> dispatcher;
+    private final String component;
+
+    /**
+     * @param dispatcher 노출할 디스패처 (없으면 null)
+     * @param component  component 태그 값
+     */
+    public ReactiveMicrometerAsyncLogMetrics(AsyncLogDispatcher<?> dispatcher, String component) {
+        this.dispatcher = dispatcher;
+        this.component = component;
+    }
+
+    /**
+     * 디스패처 메트릭을 등록합니다. 디스패처가 없으면 아무것도 등록하지 않습니다.
+     *
+     * @param registry Micrometer MeterRegistry
+     */
+    public void bindTo(MeterRegistry registry) {
+        if (dispatcher == null) {
+            return;
+        }
+        FunctionCounter.builder(PREFIX + ".dispatched", dispatcher, AsyncLogDispatcher::getDispatched)
+                .description("Log events handed to the async log dispatcher")
+                .tag("component", component)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".dropped", dispatcher, AsyncLogDispatcher::getDropped)
+                .description("Log events dropped because the async log buffer was full")
+                .tag("component", component)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".failed", dispatcher, AsyncLogDispatcher::getFailed)
+                .description("Log events that failed on the async log thread")
+                .tag("component", component)
+                .register(registry);
+        Gauge.builder(PREFIX + ".queue.size", dispatcher, AsyncLogDispatcher::getQueueSize)
+                .description("Log events waiting in the async log buffer")
+                .tag("component", component)
+                .register(registry);
+        Gauge.builder(PREFIX + ".queue.capacity", dispatcher, AsyncLogDispatcher::getCapacity)
+                .description("Capacity of the async log buffer")
+                .tag("component", component)
+                .register(registry);
+    }
+}
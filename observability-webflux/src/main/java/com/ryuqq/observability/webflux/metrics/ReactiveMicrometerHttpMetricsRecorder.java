@@ -0,0 +1,110 @@
+package com.ryuqq.observability.webflux.metrics;
+
+import com.ryuqq.observability.core.metrics.HttpMetricsProperties;
+import com.ryuqq.observability.core.metrics.HttpMetricsRecorder;
+import com.ryuqq.observability.core.metrics.RouteCardinalityGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer 기반 HTTP RED 메트릭 기록기.
+ *
+ * <p>ReactiveHttpLoggingFilter가 측정한 값으로 다음 메트릭을 기록합니다.
+ * 태그는 {@code method}, {@code route}(정규화 경로), {@code status}(상태 코드 그룹)입니다.</p>
+ * <ul>
+ *   <li>{@code {prefix}.requests} - 처리 시간 Timer (count가 요청 수, SLO 버킷 포함)</li>
+ *   <li>{@code {prefix}.errors} - 5xx 응답 또는 처리되지 않은 예외 수</li>
+ *   <li>{@code {prefix}.route.overflow} - 허용 경로 수를 넘어 route 태그가 묶인 요청 수</li>
+ * </ul>
+ *
+ * <p>태그 조합별 Meter를 캐시하므로 요청마다 Meter 조회/등록 비용이 들지 않습니다.
+ * route 태그는 {@link RouteCardinalityGuard}로 제한됩니다.</p>
+ *
+ * <p>Spring MVC의 MicrometerHttpMetricsRecorder와 같은 메트릭 이름과 태그를 사용합니다.</p>
+ */
+public class ReactiveMicrometerHttpMetricsRecorder implements HttpMetricsRecorder {
+
+    private final MeterRegistry registry;
+    private final String requestsName;
+    private final String errorsName;
+    private final Duration[] sloBoundaries;
+    private final RouteCardinalityGuard routeGuard;
+    private final ConcurrentHashMap<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry   Micrometer MeterRegistry
+     * @param properties 메트릭 설정
+     */
+    public ReactiveMicrometerHttpMetricsRecorder(MeterRegistry registry, HttpMetricsProperties properties) {
+        this.registry = registry;
+        this.requestsName = properties.getPrefix() + ".requests";
+        this.errorsName = properties.getPrefix() + ".errors";
+        this.sloBoundaries = toDurations(properties.getSloBoundariesMs());
+        this.routeGuard = new RouteCardinalityGuard(properties.getMaxRoutes());
+
+        FunctionCounter.builder(properties.getPrefix() + ".route.overflow", routeGuard,
+                        RouteCardinalityGuard::getOverflowCount)
+                .description("Requests whose route tag was collapsed by the cardinality guard")
+                .register(registry);
+    }
+
+    @Override
+    public void record(String method, String route, int status, long durationNanos, Throwable error) {
+        MeterKey key = new MeterKey(method, routeGuard.resolve(route), HttpMetricsRecorder.statusClass(status));
+        Meters handles = meters.get(key);
+        if (handles == null) {
+            handles = meters.computeIfAbsent(key, this::register);
+        }
+        handles.timer.record(durationNanos, TimeUnit.NANOSECONDS);
+        if (error != null || status >= 500) {
+            handles.errors.increment();
+        }
+    }
+
+    private Meters register(MeterKey key) {
+        Timer timer = Timer.builder(requestsName)
+                .description("HTTP server request latency")
+                .tag("method", key.method)
+                .tag("route", key.route)
+                .tag("status", key.status)
+                .serviceLevelObjectives(sloBoundaries)
+                .register(registry);
+        Counter errors = Counter.builder(errorsName)
+                .description("HTTP server requests that ended with 5xx or an unhandled exception")
+                .tag("method", key.method)
+                .tag("route", key.route)
+                .tag("status", key.status)
+                .register(registry);
+        return new Meters(timer, errors);
+    }
+
+    private static Duration[] toDurations(List<Long> boundariesMs) {
+        if (boundariesMs == null) {
+            return new Duration[0];
+        }
+        return boundariesMs.stream()
+                .filter(ms -> ms != null && ms > 0)
+                .map(Duration::ofMillis)
+                .toArray(Duration[]::new);
+    }
+
+    /**
+     * @return route 태그 카디널리티 제한기
+     */
+    public RouteCardinalityGuard getRouteGuard() {
+        return routeGuard;
+    }
+
+    private record MeterKey(String method, String route, String status) {
+    }
+
+    private record Meters(Timer timer, Counter errors) {
+    }
+}
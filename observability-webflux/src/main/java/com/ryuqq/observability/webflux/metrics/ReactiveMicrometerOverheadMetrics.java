@@ -0,0 +1,71 @@
+package com.ryuqq.observability.webflux.metrics;
+
+import com.ryuqq.observability.core.metrics.OverheadProperties;
+import com.ryuqq.observability.core.metrics.OverheadStats;
+import com.ryuqq.observability.core.metrics.OverheadStats.Component;
+import com.ryuqq.observability.core.metrics.OverheadStats.Stage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OverheadStats}를 Micrometer 메트릭으로 노출합니다.
+ *
+ * <p>태그는 {@code component}(http, message, loggable 등)와 {@code stage}(mask, normalize 등)입니다.</p>
+ * <ul>
+ *   <li>{@code {prefix}.stage} - 단계별 누적 소요 시간과 횟수 (FunctionTimer)</li>
+ *   <li>{@code {prefix}.captured.bytes} - 로깅을 위해 복사한 본문 바이트 수</li>
+ *   <li>{@code {prefix}.masked.chars} - 마스킹에 넘긴 문자 수</li>
+ * </ul>
+ *
+ * <p>요청 경로에서는 {@link OverheadStats}의 누적값만 갱신하고, 메트릭 수집 시점에 누적값을 읽습니다.
+ * 초당 바이트 수와 단계별 평균 시간은 수집 백엔드에서 구간 차이({@code rate()})로 계산합니다.</p>
+ *
+ * <p>스타터의 MicrometerOverheadMetrics와 같은 메트릭 이름과 태그를 사용합니다.
+ * observability-webflux는 스타터 없이 단독으로도 자동 설정되므로 별도로 둡니다.</p>
+ */
+public class ReactiveMicrometerOverheadMetrics {
+
+    private final OverheadStats stats;
+    private final String prefix;
+
+    /**
+     * @param stats      노출할 오버헤드 통계
+     * @param properties 오버헤드 메트릭 설정
+     */
+    public ReactiveMicrometerOverheadMetrics(OverheadStats stats, OverheadProperties properties) {
+        this.stats = stats;
+        this.prefix = properties.getPrefix();
+    }
+
+    /**
+     * 모든 컴포넌트/단계의 메트릭을 등록합니다.
+     *
+     * @param registry Micrometer MeterRegistry
+     */
+    public void bindTo(MeterRegistry registry) {
+        for (Component component : Component.values()) {
+            for (Stage stage : Stage.values()) {
+                FunctionTimer.builder(prefix + ".stage", stats,
+                                s -> s.getCount(component, stage),
+                                s -> s.getTotalNanos(component, stage),
+                                TimeUnit.NANOSECONDS)
+                        .description("Time spent by the observability logging components themselves")
+                        .tag("component", component.getTagValue())
+                        .tag("stage", stage.getTagValue())
+                        .register(registry);
+            }
+            FunctionCounter.builder(prefix + ".captured.bytes", stats, s -> s.getCapturedBytes(component))
+                    .description("Body bytes copied for logging")
+                    .baseUnit("bytes")
+                    .tag("component", component.getTagValue())
+                    .register(registry);
+            FunctionCounter.builder(prefix + ".masked.chars", stats, s -> s.getMaskedChars(component))
+                    .description("Characters passed through the log masker")
+                    .tag("component", component.getTagValue())
+                    .register(registry);
+        }
+    }
+}
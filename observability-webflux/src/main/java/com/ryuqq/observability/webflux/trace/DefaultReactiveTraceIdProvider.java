@@ -1,11 +1,10 @@
 package com.ryuqq.observability.webflux.trace;
 
+import com.ryuqq.observability.core.trace.TraceIdGenerator;
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.util.UUID;
-
 /**
  * 기본 Reactive TraceId 제공자.
  *
@@ -17,13 +16,26 @@ import java.util.UUID;
  *   <li>AWS X-Amzn-Trace-Id 헤더</li>
  * </ol>
  *
- * <p>새 TraceId 생성 시 UUID 형식을 사용합니다.</p>
+ * <p>새 TraceId는 {@link TraceIdGenerator}로 생성합니다 (기본: 32자리 hex 난수).</p>
  */
 public class DefaultReactiveTraceIdProvider implements ReactiveTraceIdProvider {
 
+    private final TraceIdGenerator traceIdGenerator;
+
+    public DefaultReactiveTraceIdProvider() {
+        this(TraceIdGenerator.RANDOM);
+    }
+
+    /**
+     * @param traceIdGenerator 새 TraceId 생성기
+     */
+    public DefaultReactiveTraceIdProvider(TraceIdGenerator traceIdGenerator) {
+        this.traceIdGenerator = traceIdGenerator != null ? traceIdGenerator : TraceIdGenerator.RANDOM;
+    }
+
     @Override
     public String generate() {
-        return UUID.randomUUID().toString().replace("-", "");
+        return traceIdGenerator.generate();
     }
 
     @Override
@@ -0,0 +1,110 @@
+package com.ryuqq.observability.webflux.trace;
+
+import com.ryuqq.observability.core.trace.TraceIdHeaders;
+import org.springframework.http.HttpHeaders;
+import reactor.util.context.Context;
+
+/**
+ * 요청 한 건에 대해 확정된 추적 정보.
+ *
+ * <p>{@link ReactiveTraceIdFilter#resolve(org.springframework.web.server.ServerWebExchange)}가 요청 헤더를
+ * 한 번 읽어 만들며, downstream 전파용 요청 헤더({@link #applyTo(HttpHeaders)})와
+ * Reactor Context({@link #writeTo(Context)})에 같은 값을 씁니다.</p>
+ *
+ * <p>요청 헤더 변경을 호출하는 쪽에 맡기므로, 다른 데코레이터와 함께 교환 객체를 한 번만 변형할 수 있습니다.</p>
+ */
+public final class ReactiveTraceContext {
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String traceparent;
+    private final String serviceName;
+    private final String userId;
+    private final String tenantId;
+    private final String organizationId;
+    private final String userRoles;
+
+    ReactiveTraceContext(String traceId, String spanId, String parentSpanId, String traceparent,
+                         String serviceName, HttpHeaders requestHeaders) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.traceparent = traceparent;
+        this.serviceName = serviceName;
+        this.userId = requestHeaders.getFirst(TraceIdHeaders.X_USER_ID);
+        this.tenantId = requestHeaders.getFirst(TraceIdHeaders.X_TENANT_ID);
+        this.organizationId = requestHeaders.getFirst(TraceIdHeaders.X_ORGANIZATION_ID);
+        this.userRoles = requestHeaders.getFirst(TraceIdHeaders.X_USER_ROLES);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    /**
+     * downstream 전파용 헤더를 씁니다.
+     *
+     * <p>W3C 형식 TraceId면 이 홉을 parent로 하는 traceparent로 교체합니다.</p>
+     *
+     * @param headers 변경 가능한 요청 헤더
+     */
+    public void applyTo(HttpHeaders headers) {
+        headers.set(TraceIdHeaders.X_TRACE_ID, traceId);
+        if (traceparent != null) {
+            headers.set(TraceIdHeaders.TRACEPARENT, traceparent);
+        }
+    }
+
+    /**
+     * Reactor Context에 TraceId와 사용자 컨텍스트를 추가합니다.
+     *
+     * @param ctx 기존 Context
+     * @return 추적 정보가 추가된 Context
+     */
+    public Context writeTo(Context ctx) {
+        Context newCtx = ctx;
+
+        if (traceId != null && !traceId.isEmpty()) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.TRACE_ID_CONTEXT_KEY, traceId);
+        }
+
+        if (spanId != null) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.SPAN_ID_CONTEXT_KEY, spanId);
+        }
+
+        if (parentSpanId != null) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.PARENT_SPAN_ID_CONTEXT_KEY, parentSpanId);
+        }
+
+        if (serviceName != null && !serviceName.isEmpty()) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.SERVICE_NAME_CONTEXT_KEY, serviceName);
+        }
+
+        if (userId != null && !userId.isEmpty()) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.USER_ID_CONTEXT_KEY, userId);
+        }
+
+        if (tenantId != null && !tenantId.isEmpty()) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.TENANT_ID_CONTEXT_KEY, tenantId);
+        }
+
+        if (organizationId != null && !organizationId.isEmpty()) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.ORGANIZATION_ID_CONTEXT_KEY, organizationId);
+        }
+
+        if (userRoles != null && !userRoles.isEmpty()) {
+            newCtx = newCtx.put(ReactiveTraceIdFilter.USER_ROLES_CONTEXT_KEY, userRoles);
+        }
+
+        return newCtx;
+    }
+}
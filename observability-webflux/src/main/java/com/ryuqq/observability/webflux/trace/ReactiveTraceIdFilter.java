@@ -2,18 +2,17 @@ package com.ryuqq.observability.webflux.trace;
 
 import com.ryuqq.observability.core.trace.TraceIdHeaders;
 import com.ryuqq.observability.core.trace.TraceIdHolder;
+import com.ryuqq.observability.core.trace.TraceParent;
 import com.ryuqq.observability.webflux.config.ReactiveTraceProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
-import reactor.util.context.Context;
 
 /**
  * Reactive TraceId WebFilter.
@@ -28,6 +27,7 @@ import reactor.util.context.Context;
  * <ol>
  *   <li>요청 헤더에서 TraceId 추출 시도</li>
  *   <li>없으면 새로운 TraceId 생성</li>
+ *   <li>이 홉의 SpanId 발급, traceparent의 parent-id를 ParentSpanId로 기록</li>
  *   <li>Gateway 사용자 컨텍스트 헤더 추출</li>
  *   <li>Reactor Context에 TraceId 및 사용자 컨텍스트 저장</li>
  *   <li>요청 처리</li>
@@ -47,6 +47,8 @@ public class ReactiveTraceIdFilter implements WebFilter, Ordered {
      * Reactor Context 키
      */
     public static final String TRACE_ID_CONTEXT_KEY = "traceId";
+    public static final String SPAN_ID_CONTEXT_KEY = "spanId";
+    public static final String PARENT_SPAN_ID_CONTEXT_KEY = "parentSpanId";
     public static final String USER_ID_CONTEXT_KEY = "userId";
     public static final String TENANT_ID_CONTEXT_KEY = "tenantId";
     public static final String ORGANIZATION_ID_CONTEXT_KEY = "organizationId";
@@ -72,95 +74,64 @@ public class ReactiveTraceIdFilter implements WebFilter, Ordered {
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-        return resolveTraceId(exchange)
-                .flatMap(traceId -> processRequest(exchange, chain, traceId))
-                .switchIfEmpty(Mono.defer(() -> chain.filter(exchange)));  // traceId가 없어도 체인 진행
-    }
-
-    /**
-     * TraceId를 추출하거나 생성합니다.
-     */
-    private Mono<String> resolveTraceId(ServerWebExchange exchange) {
-        String traceId = traceIdProvider.extractFromExchange(exchange);
-
-        if (traceId == null && properties.isGenerateIfMissing()) {
-            traceId = traceIdProvider.generate();
-            log.debug("Generated new TraceId: {}", traceId);
+        ReactiveTraceContext traceContext = resolve(exchange);
+        if (traceContext == null) {
+            return chain.filter(exchange);  // traceId가 없어도 체인 진행
         }
 
-        return Mono.justOrEmpty(traceId);
+        // 요청 헤더에 TraceId 추가 (downstream 전파용)
+        ServerWebExchange mutatedExchange = exchange.mutate()
+                .request(request -> request.headers(traceContext::applyTo))
+                .build();
+
+        return chain.filter(mutatedExchange)
+                .contextWrite(traceContext::writeTo)
+                // 요청 완료/에러/취소 시 MDC 정리 (신호마다 람다를 거치지 않고 종료 시 한 번만 실행)
+                .doFinally(signalType -> TraceIdHolder.clear());
     }
 
     /**
-     * 요청을 처리하고 Reactor Context에 TraceId와 사용자 컨텍스트를 전파합니다.
+     * 요청의 추적 정보를 확정합니다.
+     *
+     * <p>TraceId 추출/생성, SpanId 발급, 사용자 컨텍스트 추출을 요청 헤더 한 번 순회로 처리하고,
+     * 설정된 경우 응답 헤더에 TraceId를 추가합니다. 요청 헤더 변경과 Context 기록은 호출하는 쪽에서
+     * {@link ReactiveTraceContext}로 수행합니다.</p>
+     *
+     * @param exchange 현재 교환 객체
+     * @return 추적 정보, TraceId가 없으면 null
      */
-    private Mono<Void> processRequest(ServerWebExchange exchange, WebFilterChain chain, String traceId) {
-        // 응답 헤더에 TraceId 추가 (beforeCommit 콜백으로 안전하게 추가)
-        if (properties.isIncludeInResponse() && traceId != null) {
-            addTraceIdToResponse(exchange.getResponse(), traceId);
+    public ReactiveTraceContext resolve(ServerWebExchange exchange) {
+        String traceId = resolveTraceId(exchange);
+        if (traceId == null) {
+            return null;
         }
 
-        // 요청 헤더에 TraceId 추가 (downstream 전파용)
-        ServerWebExchange mutatedExchange = exchange;
-        if (traceId != null) {
-            ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
-                    .header(TraceIdHeaders.X_TRACE_ID, traceId)
-                    .build();
-            mutatedExchange = exchange.mutate().request(mutatedRequest).build();
+        // 응답 헤더에 TraceId 추가 (beforeCommit 콜백으로 안전하게 추가)
+        if (properties.isIncludeInResponse()) {
+            addTraceIdToResponse(exchange.getResponse(), traceId);
         }
 
-        // 사용자 컨텍스트 추출
+        // 이 홉의 SpanId 발급, 상위 홉의 SpanId 기록
         HttpHeaders headers = exchange.getRequest().getHeaders();
-        String userId = headers.getFirst(TraceIdHeaders.X_USER_ID);
-        String tenantId = headers.getFirst(TraceIdHeaders.X_TENANT_ID);
-        String organizationId = headers.getFirst(TraceIdHeaders.X_ORGANIZATION_ID);
-        String userRoles = headers.getFirst(TraceIdHeaders.X_USER_ROLES);
-
-        final String finalTraceId = traceId;
-        final ServerWebExchange finalExchange = mutatedExchange;
-
-        return chain.filter(finalExchange)
-                .contextWrite(ctx -> buildContext(ctx, finalTraceId, userId, tenantId, organizationId, userRoles))
-                .doOnEach(signal -> {
-                    if (signal.isOnComplete() || signal.isOnError()) {
-                        // 요청 완료 시 MDC 정리 (WebFlux에서는 onEach로 처리)
-                        TraceIdHolder.clear();
-                    }
-                });
+        String spanId = TraceParent.newSpanId();
+        String parentSpanId = TraceParent.parseParentId(headers.getFirst(TraceIdHeaders.TRACEPARENT));
+
+        return new ReactiveTraceContext(traceId, spanId, parentSpanId, TraceParent.format(traceId, spanId),
+                serviceName, headers);
     }
 
     /**
-     * Reactor Context를 구성합니다.
+     * TraceId를 추출하거나 생성합니다.
      */
-    private Context buildContext(Context ctx, String traceId, String userId,
-                                  String tenantId, String organizationId, String userRoles) {
-        Context newCtx = ctx;
-
-        if (traceId != null && !traceId.isEmpty()) {
-            newCtx = newCtx.put(TRACE_ID_CONTEXT_KEY, traceId);
-        }
-
-        if (serviceName != null && !serviceName.isEmpty()) {
-            newCtx = newCtx.put(SERVICE_NAME_CONTEXT_KEY, serviceName);
-        }
-
-        if (userId != null && !userId.isEmpty()) {
-            newCtx = newCtx.put(USER_ID_CONTEXT_KEY, userId);
-        }
-
-        if (tenantId != null && !tenantId.isEmpty()) {
-            newCtx = newCtx.put(TENANT_ID_CONTEXT_KEY, tenantId);
-        }
-
-        if (organizationId != null && !organizationId.isEmpty()) {
-            newCtx = newCtx.put(ORGANIZATION_ID_CONTEXT_KEY, organizationId);
-        }
+    private String resolveTraceId(ServerWebExchange exchange) {
+        String traceId = traceIdProvider.extractFromExchange(exchange);
 
-        if (userRoles != null && !userRoles.isEmpty()) {
-            newCtx = newCtx.put(USER_ROLES_CONTEXT_KEY, userRoles);
+        if (traceId == null && properties.isGenerateIfMissing()) {
+            traceId = traceIdProvider.generate();
+            log.debug("Generated new TraceId: {}", traceId);
         }
 
-        return newCtx;
+        return traceId;
     }
 
     /**